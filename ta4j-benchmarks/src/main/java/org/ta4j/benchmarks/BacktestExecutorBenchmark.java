@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ta4j.benchmarks.BenchmarkData.NumType;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.backtest.BacktestExecutor;
+import org.ta4j.core.reports.TradingStatement;
+
+/**
+ * Benchmarks how {@link BacktestExecutor#execute(List, org.ta4j.core.num.Num)}
+ * scales with the number of strategies.
+ *
+ * <p>
+ * The strategies cycle through all {@link BenchmarkStrategies} with growing
+ * parameters. Each operation creates new strategies (with empty indicator
+ * caches) and executes them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BacktestExecutorBenchmark {
+
+    @Param({ "DoubleNum" })
+    public NumType numType;
+
+    @Param({ "1", "10", "100" })
+    public int strategyCount;
+
+    private BarSeries series;
+    private BacktestExecutor executor;
+
+    @Setup
+    public void setUp() {
+        series = BenchmarkData.randomWalk(numType);
+        executor = new BacktestExecutor(series);
+    }
+
+    @Benchmark
+    public List<TradingStatement> execute() {
+        BenchmarkStrategies[] types = BenchmarkStrategies.values();
+        List<Strategy> strategies = new ArrayList<>(strategyCount);
+        for (int i = 0; i < strategyCount; i++) {
+            strategies.add(types[i % types.length].create(series, 10 + i / types.length * 2));
+        }
+        return executor.execute(strategies, series.numOf(1));
+    }
+}
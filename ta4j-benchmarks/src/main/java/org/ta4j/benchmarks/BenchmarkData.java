@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.Num;
+
+/**
+ * Deterministic datasets for the benchmarks.
+ *
+ * <p>
+ * All series are generated from a fixed seed, so that every run (and every
+ * fork) benchmarks exactly the same bars.
+ */
+public final class BenchmarkData {
+
+    /** The default number of bars of a benchmark series. */
+    public static final int BAR_COUNT = 10_000;
+
+    private static final long SEED = 20_240_515L;
+    private static final ZonedDateTime START = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    /** The {@link Num} types to benchmark. */
+    public enum NumType {
+
+        DoubleNum(org.ta4j.core.num.DoubleNum::valueOf),
+
+        DecimalNum(org.ta4j.core.num.DecimalNum::valueOf),
+
+        FixedNum(org.ta4j.core.num.FixedNum::valueOf);
+
+        private final Function<Number, Num> numFunction;
+
+        NumType(Function<Number, Num> numFunction) {
+            this.numFunction = numFunction;
+        }
+
+        /** @return the function to create a {@link Num} of this type */
+        public Function<Number, Num> numFunction() {
+            return numFunction;
+        }
+    }
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @param numType the {@link Num} type of the series
+     * @return a random walk series of {@link #BAR_COUNT} one-minute bars
+     */
+    public static BarSeries randomWalk(NumType numType) {
+        return randomWalk(numType, BAR_COUNT);
+    }
+
+    /**
+     * Generates a random walk of one-minute bars, starting at a price of 100.
+     *
+     * @param numType  the {@link Num} type of the series
+     * @param barCount the number of bars
+     * @return the series
+     */
+    public static BarSeries randomWalk(NumType numType, int barCount) {
+        BarSeries series = new BaseBarSeriesBuilder().withName("random walk " + numType)
+                .withNumTypeOf(numType.numFunction())
+                .build();
+        Random random = new Random(SEED);
+        double close = 100;
+        for (int i = 0; i < barCount; i++) {
+            double open = close;
+            close = Math.max(1, open * (1 + 0.002 * random.nextGaussian()));
+            double high = Math.max(open, close) * (1 + 0.001 * Math.abs(random.nextGaussian()));
+            double low = Math.min(open, close) * (1 - 0.001 * Math.abs(random.nextGaussian()));
+            double volume = 1000 + random.nextInt(9000);
+            series.addBar(START.plusMinutes(i + 1), round(open), round(high), round(low), round(close), volume);
+        }
+        return series;
+    }
+
+    /** Rounds a price to cents, like real quotes. */
+    private static double round(double price) {
+        return Math.round(price * 100) / 100d;
+    }
+}
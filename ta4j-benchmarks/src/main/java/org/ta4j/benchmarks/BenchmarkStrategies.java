@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandFacade;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighPriceIndicator;
+import org.ta4j.core.indicators.helpers.LowPriceIndicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.IsHighestRule;
+import org.ta4j.core.rules.IsLowestRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.StopGainRule;
+import org.ta4j.core.rules.StopLossRule;
+import org.ta4j.core.rules.TrailingStopLossRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
+
+/**
+ * Typical strategies for the backtest benchmarks.
+ */
+public enum BenchmarkStrategies {
+
+    /** Enters when the short SMA crosses up the long SMA, exits on cross down. */
+    SMA_CROSSOVER {
+        @Override
+        public Strategy create(BarSeries series, int parameter) {
+            ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+            SMAIndicator shortSma = new SMAIndicator(closePrice, parameter);
+            SMAIndicator longSma = new SMAIndicator(closePrice, parameter * 4);
+            return new BaseStrategy(name() + "(" + parameter + ")", new CrossedUpIndicatorRule(shortSma, longSma),
+                    new CrossedDownIndicatorRule(shortSma, longSma), parameter * 4);
+        }
+    },
+
+    /** Enters on an oversold RSI above the long trend, exits on overbought RSI. */
+    RSI {
+        @Override
+        public Strategy create(BarSeries series, int parameter) {
+            ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+            RSIIndicator rsi = new RSIIndicator(closePrice, parameter);
+            SMAIndicator trend = new SMAIndicator(closePrice, 200);
+            return new BaseStrategy(name() + "(" + parameter + ")",
+                    new UnderIndicatorRule(rsi, 30).and(new OverIndicatorRule(closePrice, trend)),
+                    new OverIndicatorRule(rsi, 70).or(new StopLossRule(closePrice, 3)), 200);
+        }
+    },
+
+    /** Enters on MACD cross up, exits on cross down or stop gain. */
+    MACD {
+        @Override
+        public Strategy create(BarSeries series, int parameter) {
+            ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+            MACDIndicator macd = new MACDIndicator(closePrice, parameter, parameter * 2);
+            Indicator<Num> signal = macd.getSignalLine(9);
+            return new BaseStrategy(name() + "(" + parameter + ")", new CrossedUpIndicatorRule(macd, signal),
+                    new CrossedDownIndicatorRule(macd, signal).or(new StopGainRule(closePrice, 5)), parameter * 2);
+        }
+    },
+
+    /** Enters on a lower Bollinger band touch, exits on the upper band. */
+    BOLLINGER {
+        @Override
+        public Strategy create(BarSeries series, int parameter) {
+            BollingerBandFacade bollinger = new BollingerBandFacade(series, parameter, 2);
+            ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+            return new BaseStrategy(name() + "(" + parameter + ")",
+                    new CrossedDownIndicatorRule(closePrice, bollinger.lower()),
+                    new CrossedUpIndicatorRule(closePrice, bollinger.upper()), parameter);
+        }
+    },
+
+    /** Enters on a new high (breakout), exits on a new low or trailing stop. */
+    BREAKOUT {
+        @Override
+        public Strategy create(BarSeries series, int parameter) {
+            ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+            return new BaseStrategy(name() + "(" + parameter + ")",
+                    new IsHighestRule(new HighPriceIndicator(series), parameter),
+                    new IsLowestRule(new LowPriceIndicator(series), parameter / 2)
+                            .or(new TrailingStopLossRule(closePrice, series.numOf(2), parameter)),
+                    parameter);
+        }
+    };
+
+    /**
+     * @param series    the bar series
+     * @param parameter the main time frame of the strategy
+     * @return a new strategy (with new indicators)
+     */
+    public abstract Strategy create(BarSeries series, int parameter);
+}
@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.benchmarks.BenchmarkData.NumType;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Benchmarks the hit and miss paths of
+ * {@link org.ta4j.core.indicators.CachedIndicator CachedIndicator}.
+ *
+ * <p>
+ * Each operation reads all the values of the series.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CachedIndicatorBenchmark {
+
+    private BarSeries series;
+    private Indicator<Num> closePrice;
+    private SMAIndicator cached;
+
+    @Setup
+    public void setUp() {
+        series = BenchmarkData.randomWalk(NumType.DoubleNum);
+        closePrice = new ClosePriceIndicator(series);
+        cached = new SMAIndicator(closePrice, 20);
+        readAll(cached, null);
+    }
+
+    /** All values are already cached. */
+    @Benchmark
+    public void hit(Blackhole blackhole) {
+        readAll(cached, blackhole);
+    }
+
+    /** All values are already cached, read by 4 threads at once. */
+    @Benchmark
+    @Threads(4)
+    public void hitConcurrent(Blackhole blackhole) {
+        readAll(cached, blackhole);
+    }
+
+    /** No value is cached yet: calculates and caches every value. */
+    @Benchmark
+    public void miss(Blackhole blackhole) {
+        readAll(new SMAIndicator(closePrice, 20), blackhole);
+    }
+
+    private void readAll(Indicator<Num> indicator, Blackhole blackhole) {
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            Num value = indicator.getValue(i);
+            if (blackhole != null) {
+                blackhole.consume(value);
+            }
+        }
+    }
+}
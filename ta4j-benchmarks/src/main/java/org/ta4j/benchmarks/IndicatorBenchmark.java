@@ -0,0 +1,176 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.benchmarks.BenchmarkData.NumType;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.StochasticOscillatorKIndicator;
+import org.ta4j.core.indicators.adx.ADXIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandFacade;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.indicators.volume.VWAPIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Benchmarks the calculation of all values of the major indicators, for each
+ * {@link NumType}.
+ *
+ * <p>
+ * Each operation creates a new indicator (with empty caches) and reads all the
+ * values of the series.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IndicatorBenchmark {
+
+    /** The benchmarked indicators. */
+    public enum IndicatorType {
+
+        SMA {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new SMAIndicator(new ClosePriceIndicator(series), 50);
+            }
+        },
+
+        EMA {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new EMAIndicator(new ClosePriceIndicator(series), 50);
+            }
+        },
+
+        RSI {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new RSIIndicator(new ClosePriceIndicator(series), 14);
+            }
+        },
+
+        MACD {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new MACDIndicator(new ClosePriceIndicator(series), 12, 26);
+            }
+        },
+
+        ATR {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new ATRIndicator(series, 14);
+            }
+        },
+
+        ADX {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new ADXIndicator(series, 14);
+            }
+        },
+
+        BOLLINGER_UPPER {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new BollingerBandFacade(series, 20, 2).upper();
+            }
+        },
+
+        STANDARD_DEVIATION {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new StandardDeviationIndicator(new ClosePriceIndicator(series), 200);
+            }
+        },
+
+        HIGHEST_VALUE {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new HighestValueIndicator(new ClosePriceIndicator(series), 200);
+            }
+        },
+
+        STOCHASTIC_K {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new StochasticOscillatorKIndicator(series, 14);
+            }
+        },
+
+        VWAP {
+            @Override
+            Indicator<Num> create(BarSeries series) {
+                return new VWAPIndicator(series, 200);
+            }
+        };
+
+        abstract Indicator<Num> create(BarSeries series);
+    }
+
+    @Param
+    public NumType numType;
+
+    @Param
+    public IndicatorType indicator;
+
+    private BarSeries series;
+
+    @Setup
+    public void setUp() {
+        series = BenchmarkData.randomWalk(numType);
+    }
+
+    @Benchmark
+    public void calculateAll(Blackhole blackhole) {
+        Indicator<Num> created = indicator.create(series);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            blackhole.consume(created.getValue(i));
+        }
+    }
+}
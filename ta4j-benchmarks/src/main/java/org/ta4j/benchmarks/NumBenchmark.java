@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.benchmarks.BenchmarkData.NumType;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.num.Num;
+
+/**
+ * Benchmarks the arithmetic of the {@link Num} types on the close prices of a
+ * series, like the inner loops of indicators and criteria.
+ *
+ * <p>
+ * Each operation processes all the close prices of the series.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class NumBenchmark {
+
+    @Param
+    public NumType numType;
+
+    private Num[] prices;
+
+    @Setup
+    public void setUp() {
+        BarSeries series = BenchmarkData.randomWalk(numType);
+        prices = new Num[series.getBarCount()];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = series.getClosePrice(series.getBeginIndex() + i);
+        }
+    }
+
+    /** Sum of the prices. */
+    @Benchmark
+    public Num plus() {
+        Num sum = prices[0].zero();
+        for (Num price : prices) {
+            sum = sum.plus(price);
+        }
+        return sum;
+    }
+
+    /** Returns of consecutive prices (a division and a subtraction per price). */
+    @Benchmark
+    public void returns(Blackhole blackhole) {
+        Num one = prices[0].one();
+        for (int i = 1; i < prices.length; i++) {
+            blackhole.consume(prices[i].dividedBy(prices[i - 1]).minus(one));
+        }
+    }
+
+    /** Exponential moving average (a multiplication and two additions per price). */
+    @Benchmark
+    public Num ema() {
+        Num multiplier = prices[0].numOf(2.0 / 21);
+        Num ema = prices[0];
+        for (Num price : prices) {
+            ema = ema.plus(price.minus(ema).multipliedBy(multiplier));
+        }
+        return ema;
+    }
+
+    /** Comparisons of consecutive prices. */
+    @Benchmark
+    public int compare() {
+        int rising = 0;
+        for (int i = 1; i < prices.length; i++) {
+            if (prices[i].isGreaterThan(prices[i - 1])) {
+                rising++;
+            }
+        }
+        return rising;
+    }
+}
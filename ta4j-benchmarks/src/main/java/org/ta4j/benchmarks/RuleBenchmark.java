@@ -0,0 +1,228 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.benchmarks.BenchmarkData.NumType;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Rule;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.FixedRule;
+import org.ta4j.core.rules.InPipeRule;
+import org.ta4j.core.rules.InSlopeRule;
+import org.ta4j.core.rules.IsEqualRule;
+import org.ta4j.core.rules.IsFallingRule;
+import org.ta4j.core.rules.IsHighestRule;
+import org.ta4j.core.rules.IsLowestRule;
+import org.ta4j.core.rules.IsRisingRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.StopGainRule;
+import org.ta4j.core.rules.StopLossRule;
+import org.ta4j.core.rules.TrailingStopLossRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
+
+/**
+ * Benchmarks the evaluation of common {@link Rule rules} over all bars of a
+ * series.
+ *
+ * <p>
+ * Each operation creates a new rule (with empty indicator caches) and
+ * evaluates it at every index, with a long position opened at the first bar
+ * (for the rules using the trading record).
+ *
+ * <p>
+ * {@link RuleType#IS_HIGHEST_NEW_INDICATOR IS_HIGHEST_NEW_INDICATOR} creates
+ * its highest value indicator on every evaluation, as {@link IsHighestRule}
+ * used to: compared to {@link RuleType#IS_HIGHEST IS_HIGHEST} (with a shared
+ * cached indicator), the {@code gc.alloc.rate.norm} of the gc profiler shows
+ * the allocations saved per evaluated bar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RuleBenchmark {
+
+    /** The benchmarked rules. */
+    public enum RuleType {
+        OVER_INDICATOR {
+            @Override
+            Rule create(BarSeries series) {
+                ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+                return new OverIndicatorRule(closePrice, new SMAIndicator(closePrice, 50));
+            }
+        },
+        UNDER_INDICATOR {
+            @Override
+            Rule create(BarSeries series) {
+                ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+                return new UnderIndicatorRule(closePrice, new SMAIndicator(closePrice, 50));
+            }
+        },
+        IS_EQUAL {
+            @Override
+            Rule create(BarSeries series) {
+                ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+                return new IsEqualRule(closePrice, new SMAIndicator(closePrice, 50));
+            }
+        },
+        CROSSED_UP {
+            @Override
+            Rule create(BarSeries series) {
+                ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+                return new CrossedUpIndicatorRule(closePrice, new SMAIndicator(closePrice, 50));
+            }
+        },
+        CROSSED_DOWN {
+            @Override
+            Rule create(BarSeries series) {
+                ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+                return new CrossedDownIndicatorRule(closePrice, new SMAIndicator(closePrice, 50));
+            }
+        },
+        IN_PIPE {
+            @Override
+            Rule create(BarSeries series) {
+                ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+                return new InPipeRule(closePrice, closePrice.getValue(0).multipliedBy(series.numOf(1.1)),
+                        closePrice.getValue(0).multipliedBy(series.numOf(0.9)));
+            }
+        },
+        IN_SLOPE {
+            @Override
+            Rule create(BarSeries series) {
+                return new InSlopeRule(new ClosePriceIndicator(series), 5, series.zero(), series.one());
+            }
+        },
+        IS_HIGHEST {
+            @Override
+            Rule create(BarSeries series) {
+                return new IsHighestRule(new ClosePriceIndicator(series), 50);
+            }
+        },
+        IS_HIGHEST_NEW_INDICATOR {
+            @Override
+            Rule create(BarSeries series) {
+                ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+                return (index, tradingRecord) -> closePrice.getValue(index)
+                        .equals(new HighestValueIndicator(closePrice, 50).getValue(index));
+            }
+        },
+        IS_LOWEST {
+            @Override
+            Rule create(BarSeries series) {
+                return new IsLowestRule(new ClosePriceIndicator(series), 50);
+            }
+        },
+        IS_RISING {
+            @Override
+            Rule create(BarSeries series) {
+                return new IsRisingRule(new ClosePriceIndicator(series), 20, 0.6);
+            }
+        },
+        IS_FALLING {
+            @Override
+            Rule create(BarSeries series) {
+                return new IsFallingRule(new ClosePriceIndicator(series), 20, 0.6);
+            }
+        },
+        STOP_LOSS {
+            @Override
+            Rule create(BarSeries series) {
+                return new StopLossRule(new ClosePriceIndicator(series), 5);
+            }
+        },
+        STOP_GAIN {
+            @Override
+            Rule create(BarSeries series) {
+                return new StopGainRule(new ClosePriceIndicator(series), 5);
+            }
+        },
+        TRAILING_STOP_LOSS {
+            @Override
+            Rule create(BarSeries series) {
+                return new TrailingStopLossRule(new ClosePriceIndicator(series), series.numOf(5), 50);
+            }
+        },
+        FIXED {
+            @Override
+            Rule create(BarSeries series) {
+                int[] indexes = new int[100];
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = i * 10;
+                }
+                return new FixedRule(indexes);
+            }
+        };
+
+        abstract Rule create(BarSeries series);
+    }
+
+    @Param
+    public NumType numType;
+
+    @Param
+    public RuleType rule;
+
+    private BarSeries series;
+
+    private TradingRecord tradingRecord;
+
+    @Setup
+    public void setUp() {
+        series = BenchmarkData.randomWalk(numType);
+        tradingRecord = new BaseTradingRecord();
+        tradingRecord.enter(series.getBeginIndex(), series.getBar(series.getBeginIndex()).getClosePrice(),
+                series.one());
+    }
+
+    @Benchmark
+    public void evaluateAll(Blackhole blackhole) {
+        Rule newRule = rule.create(series);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            blackhole.consume(newRule.isSatisfied(i, tradingRecord));
+        }
+    }
+}
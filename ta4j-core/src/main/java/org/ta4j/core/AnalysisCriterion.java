@@ -26,6 +26,7 @@ package org.ta4j.core;
 import java.util.List;
 
 import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.backtest.BarSeriesManager;
 import org.ta4j.core.num.Num;
 
@@ -61,6 +62,17 @@ public interface AnalysisCriterion {
      */
     Num calculate(BarSeries series, TradingRecord tradingRecord);
 
+    /**
+     * Calculates the criterion on a shared analysis of a trading record, reusing
+     * its intermediate results (e.g. its cash flow) if the criterion supports it.
+     *
+     * @param analysis the analysis of the trading record, not null
+     * @return the criterion value for the positions
+     */
+    default Num calculate(TradingRecordAnalysis analysis) {
+        return calculate(analysis.getBarSeries(), analysis.getTradingRecord());
+    }
+
     /**
      * @param manager    the bar series manager with entry type of BUY
      * @param strategies a list of strategies
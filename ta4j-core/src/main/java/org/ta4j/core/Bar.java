@@ -129,6 +129,22 @@ public interface Bar extends Serializable {
         return (openPrice != null) && (closePrice != null) && openPrice.isLessThan(closePrice);
     }
 
+    /**
+     * Returns the modification count of this bar.
+     *
+     * <p>
+     * The count changes each time this bar is updated in place (e.g. by
+     * {@link #addTrade(Num, Num)} or {@link #addPrice(Num)}). It is folded into
+     * {@link BarSeries#getModificationCount()} so that cached results of the last
+     * bar are calculated again after direct changes to the bar.
+     *
+     * @return the modification count of this bar, or {@code 0} if this bar does
+     *         not track it
+     */
+    default long getModificationCount() {
+        return 0;
+    }
+
     /**
      * Adds a trade and updates the close price at the end of the bar period.
      *
@@ -97,7 +97,7 @@ public interface BarSeries extends Serializable {
      * @return the corresponding value as a Num implementing object
      */
     default Num numOf(Number number) {
-        return num().function().apply(number);
+        return num().numOf(number);
     }
 
     /**
@@ -130,6 +130,69 @@ public interface BarSeries extends Serializable {
         return getBar(getEndIndex());
     }
 
+    /**
+     * @param i the index
+     * @return the open price of the bar at the i-th position
+     * @see #getBar(int)
+     */
+    default Num getOpenPrice(int i) {
+        return getBar(i).getOpenPrice();
+    }
+
+    /**
+     * @param i the index
+     * @return the high price of the bar at the i-th position
+     * @see #getBar(int)
+     */
+    default Num getHighPrice(int i) {
+        return getBar(i).getHighPrice();
+    }
+
+    /**
+     * @param i the index
+     * @return the low price of the bar at the i-th position
+     * @see #getBar(int)
+     */
+    default Num getLowPrice(int i) {
+        return getBar(i).getLowPrice();
+    }
+
+    /**
+     * @param i the index
+     * @return the close price of the bar at the i-th position
+     * @see #getBar(int)
+     */
+    default Num getClosePrice(int i) {
+        return getBar(i).getClosePrice();
+    }
+
+    /**
+     * @param i the index
+     * @return the volume of the bar at the i-th position
+     * @see #getBar(int)
+     */
+    default Num getVolume(int i) {
+        return getBar(i).getVolume();
+    }
+
+    /**
+     * @param i the index
+     * @return the amount of the bar at the i-th position
+     * @see #getBar(int)
+     */
+    default Num getAmount(int i) {
+        return getBar(i).getAmount();
+    }
+
+    /**
+     * @param i the index
+     * @return the number of trades of the bar at the i-th position
+     * @see #getBar(int)
+     */
+    default long getTrades(int i) {
+        return getBar(i).getTrades();
+    }
+
     /**
      * @return the number of bars in the series
      */
@@ -206,6 +269,40 @@ public interface BarSeries extends Serializable {
      */
     int getRemovedBarsCount();
 
+    /**
+     * Returns the modification count of the last bar.
+     *
+     * <p>
+     * The count changes each time the last bar of the series is updated in place,
+     * i.e. by {@link #addTrade(Num, Num)}, {@link #addPrice(Num)} or
+     * {@link #addBar(Bar, boolean) addBar(bar, true)}. Adding a new bar does not
+     * need to change it, as the end index changes instead. Cached indicators use it
+     * to reuse the result of the last bar until the bar changes.
+     *
+     * <p>
+     * Changes made directly to the last {@link Bar} (e.g. by
+     * {@code getLastBar().addTrade(..)}) are counted by its own
+     * {@link Bar#getModificationCount() modification count}; call
+     * {@link #lastBarModified()} after changes to a bar that does not track it.
+     *
+     * @return the modification count of the last bar, or {@code -1} if the series
+     *         does not track it (then the result of the last bar is never cached)
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
+    /**
+     * Signals that the last bar has been modified outside of this series (e.g.
+     * directly through {@link Bar#addTrade(Num, Num)}), so that cached results of
+     * the last bar are calculated again.
+     *
+     * @see #getModificationCount()
+     */
+    default void lastBarModified() {
+        // Nothing to invalidate if the modification count is not tracked
+    }
+
     /**
      * Adds the {@code bar} at the end of the series.
      *
@@ -70,6 +70,9 @@ public class BaseBar implements Bar {
     /** The number of trades of the bar period. */
     private long trades = 0;
 
+    /** The modification count of the bar. */
+    private long modificationCount = 0;
+
     /**
      * Constructor.
      *
@@ -385,6 +388,11 @@ public class BaseBar implements Bar {
         return trades;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public void addTrade(Num tradeVolume, Num tradePrice) {
         addPrice(tradePrice);
@@ -406,6 +414,7 @@ public class BaseBar implements Bar {
         if (lowPrice == null || lowPrice.isGreaterThan(price)) {
             lowPrice = price;
         }
+        modificationCount++;
     }
 
     @Override
@@ -71,6 +71,9 @@ public class BaseBarSeries implements BarSeries {
     /** The number of removed bars. */
     private int removedBarsCount = 0;
 
+    /** The modification count of the last bar. */
+    private long modificationCount = 0;
+
     /**
      * True if the current bar series is constrained (i.e. its indexes cannot
      * change), false otherwise.
@@ -351,6 +354,16 @@ public class BaseBarSeries implements BarSeries {
         return removedBarsCount;
     }
 
+    @Override
+    public long getModificationCount() {
+        return bars.isEmpty() ? modificationCount : modificationCount + getLastBar().getModificationCount();
+    }
+
+    @Override
+    public void lastBarModified() {
+        modificationCount++;
+    }
+
     /**
      * @apiNote to add bar data direclty you can use
      *          {@link #addBar(Duration, ZonedDateTime, Num, Num, Num, Num, Num)}
@@ -365,8 +378,11 @@ public class BaseBarSeries implements BarSeries {
                             bar.getClosePrice().getClass(), one().getClass()));
         }
         if (!bars.isEmpty()) {
+            // Keeps the count increasing when the last bar (and its own count) changes
+            modificationCount += getLastBar().getModificationCount();
             if (replace) {
                 bars.set(bars.size() - 1, bar);
+                lastBarModified();
                 return;
             }
             final int lastBarIndex = bars.size() - 1;
@@ -430,11 +446,13 @@ public class BaseBarSeries implements BarSeries {
     @Override
     public void addTrade(Num tradeVolume, Num tradePrice) {
         getLastBar().addTrade(tradeVolume, tradePrice);
+        lastBarModified();
     }
 
     @Override
     public void addPrice(Num price) {
         getLastBar().addPrice(price);
+        lastBarModified();
     }
 
     /**
@@ -29,6 +29,7 @@ import java.util.function.Function;
 
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedNum;
 import org.ta4j.core.num.Num;
 
 /**
@@ -158,6 +159,9 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
         } else if (clazz == DoubleNum.class) {
             this.num = DoubleNum.ZERO;
             return this;
+        } else if (clazz == FixedNum.class) {
+            this.num = FixedNum.ZERO;
+            return this;
         }
         this.num = defaultNum;
         return this;
@@ -26,6 +26,7 @@ package org.ta4j.core;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.ta4j.core.Trade.TradeType;
 import org.ta4j.core.analysis.cost.CostModel;
@@ -78,6 +79,9 @@ public class BaseTradingRecord implements TradingRecord {
     /** The cost model for holding asset (e.g. borrowing). */
     private final transient CostModel holdingCostModel;
 
+    /** The listeners (created on demand). */
+    private transient List<TradingRecordListener> listeners;
+
     /** Constructor with {@link #startingType} = BUY. */
     public BaseTradingRecord() {
         this(TradeType.BUY);
@@ -284,6 +288,22 @@ public class BaseTradingRecord implements TradingRecord {
         return null;
     }
 
+    @Override
+    public void addListener(TradingRecordListener listener) {
+        Objects.requireNonNull(listener, "Listener should not be null");
+        if (listeners == null) {
+            listeners = new CopyOnWriteArrayList<>();
+        }
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(TradingRecordListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
     @Override
     public Integer getStartIndex() {
         return startIndex;
@@ -322,10 +342,21 @@ public class BaseTradingRecord implements TradingRecord {
         }
 
         // Storing the position if closed
+        Position closedPosition = null;
         if (currentPosition.isClosed()) {
+            closedPosition = currentPosition;
             positions.add(currentPosition);
             currentPosition = new Position(startingType, transactionCostModel, holdingCostModel);
         }
+
+        if (listeners != null) {
+            for (TradingRecordListener listener : listeners) {
+                listener.onTrade(this, trade, isEntry);
+                if (closedPosition != null) {
+                    listener.onPositionClosed(this, closedPosition);
+                }
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,689 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * A {@link BarSeries} that stores its bars column by column in primitive
+ * arrays.
+ *
+ * <p>
+ * A {@link BaseBarSeries} holds a {@link BaseBar} per bar, i.e. about ten
+ * objects per bar (prices, volume, amount, times and time period). This series
+ * holds one {@code long} (end time, time period, trades) or {@code double}
+ * (prices, volume, amount) per bar and column, so a long history takes a
+ * fraction of the heap, and reading a price (e.g. by a
+ * {@link org.ta4j.core.indicators.helpers.ClosePriceIndicator}) reads a single
+ * array element instead of following pointers.
+ *
+ * <p>
+ * Values are converted to {@link Num} with the {@link #function() Num function}
+ * of the series when they are read:
+ * <ul>
+ * <li>Values with up to 15 significant digits are stored exactly, values with
+ * more digits (e.g. a {@link DecimalNum} with a high precision) are rounded to
+ * the nearest {@code double}.
+ * <li>Prices that have not been set yet (e.g. of a bar added by
+ * {@link #addBar(Duration, ZonedDateTime)}) are {@code NaN} instead of
+ * {@code null}.
+ * <li>All end times are stored as nanoseconds of the epoch and returned in the
+ * time zone of the first bar added to the series.
+ * </ul>
+ *
+ * <p>
+ * {@link #getBar(int)} and {@link #getBarData()} return views of the columns:
+ * they are created on demand and read (and, by
+ * {@link Bar#addTrade(Num, Num)}/{@link Bar#addPrice(Num)}, write) the columns
+ * of their bar index.
+ */
+public class ColumnarBarSeries implements BarSeries {
+
+    private static final long serialVersionUID = 6171591183934542637L;
+
+    /** The {@link #name} for an unnamed bar series. */
+    private static final String UNNAMED_SERIES_NAME = "unnamed_series";
+
+    /** The initial capacity of the columns. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** Any instance of Num to determine its Num type. */
+    private final Num num;
+
+    /** The name of the bar series. */
+    private final String name;
+
+    /** The time zone of the end times (of the first bar). */
+    private ZoneId zone;
+
+    // the columns, the bars are stored from offset (inclusive) to offset + size
+    // (exclusive)
+    private long[] endTimes = new long[0];
+    private long[] timePeriods = new long[0];
+    private double[] openPrices = new double[0];
+    private double[] highPrices = new double[0];
+    private double[] lowPrices = new double[0];
+    private double[] closePrices = new double[0];
+    private double[] volumes = new double[0];
+    private double[] amounts = new double[0];
+    private long[] trades = new long[0];
+    private int offset;
+    private int size;
+
+    /** The begin index of the bar series */
+    private int seriesBeginIndex = -1;
+
+    /** The end index of the bar series. */
+    private int seriesEndIndex = -1;
+
+    /** The maximum number of bars for the bar series. */
+    private int maximumBarCount = Integer.MAX_VALUE;
+
+    /** The number of removed bars. */
+    private int removedBarsCount = 0;
+
+    /** The modification count of the last bar. */
+    private long modificationCount = 0;
+
+    /** Constructor with {@link #name} = {@link #UNNAMED_SERIES_NAME}. */
+    public ColumnarBarSeries() {
+        this(UNNAMED_SERIES_NAME);
+    }
+
+    /**
+     * Constructor with {@link DecimalNum} as type for the data and all operations
+     * on it.
+     *
+     * @param name the name of the bar series
+     */
+    public ColumnarBarSeries(String name) {
+        this(name, DecimalNum.ZERO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name the name of the bar series
+     * @param num  any instance of Num to determine its Num function; with this, we
+     *             can convert a {@link Number} to a {@link Num Num implementation}
+     */
+    public ColumnarBarSeries(String name, Num num) {
+        this.name = name;
+        this.num = num;
+    }
+
+    /**
+     * Constructor.
+     *
+     * <p>
+     * Copies the bars into columns, e.g. to convert an existing series with
+     * {@code new ColumnarBarSeries(series.getName(), series.getBarData())}.
+     *
+     * @param name the name of the bar series
+     * @param bars the list of bars of the bar series
+     */
+    public ColumnarBarSeries(String name, List<Bar> bars) {
+        this(name, bars.isEmpty() ? DecimalNum.ZERO : bars.get(0).getClosePrice());
+        ensureCapacity(bars.size());
+        for (Bar bar : bars) {
+            checkBar(bar);
+            append(bar.getTimePeriod(), bar.getEndTime(), bar.getOpenPrice(), bar.getHighPrice(), bar.getLowPrice(),
+                    bar.getClosePrice(), bar.getVolume(), bar.getAmount(), bar.getTrades());
+        }
+    }
+
+    /**
+     * Constructor of a sub-series.
+     *
+     * @param series     the bar series
+     * @param startIndex the first index (inclusive) within the columns
+     * @param endIndex   the last index (exclusive) within the columns
+     */
+    private ColumnarBarSeries(ColumnarBarSeries series, int startIndex, int endIndex) {
+        this(series.name, series.num);
+        this.zone = series.zone;
+        this.endTimes = Arrays.copyOfRange(series.endTimes, startIndex, endIndex);
+        this.timePeriods = Arrays.copyOfRange(series.timePeriods, startIndex, endIndex);
+        this.openPrices = Arrays.copyOfRange(series.openPrices, startIndex, endIndex);
+        this.highPrices = Arrays.copyOfRange(series.highPrices, startIndex, endIndex);
+        this.lowPrices = Arrays.copyOfRange(series.lowPrices, startIndex, endIndex);
+        this.closePrices = Arrays.copyOfRange(series.closePrices, startIndex, endIndex);
+        this.volumes = Arrays.copyOfRange(series.volumes, startIndex, endIndex);
+        this.amounts = Arrays.copyOfRange(series.amounts, startIndex, endIndex);
+        this.trades = Arrays.copyOfRange(series.trades, startIndex, endIndex);
+        this.size = endIndex - startIndex;
+        if (size > 0) {
+            this.seriesBeginIndex = 0;
+            this.seriesEndIndex = size - 1;
+        }
+    }
+
+    @Override
+    public ColumnarBarSeries getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        if (size == 0) {
+            return new ColumnarBarSeries(name, num);
+        }
+        final int start = Math.min(Math.max(startIndex - removedBarsCount, 0), size);
+        final int end = Math.max(Math.min(endIndex - removedBarsCount, size), start);
+        return new ColumnarBarSeries(this, offset + start, offset + end);
+    }
+
+    @Override
+    public Num num() {
+        return num;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Bar getBar(int i) {
+        slot(i);
+        return new ColumnarBar(i);
+    }
+
+    @Override
+    public Num getOpenPrice(int i) {
+        return toNum(openPrices[slot(i)]);
+    }
+
+    @Override
+    public Num getHighPrice(int i) {
+        return toNum(highPrices[slot(i)]);
+    }
+
+    @Override
+    public Num getLowPrice(int i) {
+        return toNum(lowPrices[slot(i)]);
+    }
+
+    @Override
+    public Num getClosePrice(int i) {
+        return toNum(closePrices[slot(i)]);
+    }
+
+    @Override
+    public Num getVolume(int i) {
+        return toNum(volumes[slot(i)]);
+    }
+
+    @Override
+    public Num getAmount(int i) {
+        return toNum(amounts[slot(i)]);
+    }
+
+    @Override
+    public long getTrades(int i) {
+        return trades[slot(i)];
+    }
+
+    @Override
+    public int getBarCount() {
+        if (seriesEndIndex < 0) {
+            return 0;
+        }
+        final int startIndex = Math.max(removedBarsCount, seriesBeginIndex);
+        return seriesEndIndex - startIndex + 1;
+    }
+
+    /**
+     * @return an unmodifiable list of views of the bars
+     */
+    @Override
+    public List<Bar> getBarData() {
+        return new BarList();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return seriesBeginIndex;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return seriesEndIndex;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return maximumBarCount;
+    }
+
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        if (maximumBarCount <= 0) {
+            throw new IllegalArgumentException("Maximum bar count must be strictly positive");
+        }
+        this.maximumBarCount = maximumBarCount;
+        removeExceedingBars();
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return removedBarsCount;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public void lastBarModified() {
+        modificationCount++;
+    }
+
+    /**
+     * Copies the values of {@code bar} into the columns.
+     *
+     * @throws NullPointerException if {@code bar} is {@code null}
+     */
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        Objects.requireNonNull(bar, "bar must not be null");
+        checkBar(bar);
+        if (replace && size > 0) {
+            final int slot = offset + size - 1;
+            set(slot, bar.getTimePeriod(), bar.getEndTime(), bar.getOpenPrice(), bar.getHighPrice(),
+                    bar.getLowPrice(), bar.getClosePrice(), bar.getVolume(), bar.getAmount(), bar.getTrades());
+            lastBarModified();
+            return;
+        }
+        addBar(bar.getTimePeriod(), bar.getEndTime(), bar.getOpenPrice(), bar.getHighPrice(), bar.getLowPrice(),
+                bar.getClosePrice(), bar.getVolume(), bar.getAmount(), bar.getTrades());
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime) {
+        addBar(timePeriod, endTime, NaN, NaN, NaN, NaN, zero(), zero(), 0);
+    }
+
+    @Override
+    public void addBar(ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice, Num closePrice, Num volume) {
+        addBar(Duration.ofDays(1), endTime, openPrice, highPrice, lowPrice, closePrice, volume, zero(), 0);
+    }
+
+    @Override
+    public void addBar(ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice, Num closePrice, Num volume,
+            Num amount) {
+        addBar(Duration.ofDays(1), endTime, openPrice, highPrice, lowPrice, closePrice, volume, amount, 0);
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume) {
+        addBar(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, zero(), 0);
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume, Num amount) {
+        addBar(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, amount, 0);
+    }
+
+    private void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume, Num amount, long tradeCount) {
+        Objects.requireNonNull(timePeriod, "Time period cannot be null");
+        Objects.requireNonNull(endTime, "End time cannot be null");
+        if (size > 0) {
+            final long seriesEndTime = endTimes[offset + size - 1];
+            if (toEpochNanos(endTime) <= seriesEndTime) {
+                throw new IllegalArgumentException(
+                        String.format("Cannot add a bar with end time:%s that is <= to series end time: %s", endTime,
+                                toZonedDateTime(seriesEndTime)));
+            }
+        }
+        append(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, amount, tradeCount);
+        removeExceedingBars();
+    }
+
+    @Override
+    public void addTrade(Num tradeVolume, Num tradePrice) {
+        addTrade(offset + getLastSlot(), tradeVolume, tradePrice);
+    }
+
+    @Override
+    public void addPrice(Num price) {
+        addPrice(offset + getLastSlot(), price);
+    }
+
+    private int getLastSlot() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(seriesEndIndex));
+        }
+        return size - 1;
+    }
+
+    private void addTrade(int slot, Num tradeVolume, Num tradePrice) {
+        addPrice(slot, tradePrice);
+        volumes[slot] = toNum(volumes[slot]).plus(tradeVolume).doubleValue();
+        amounts[slot] = toNum(amounts[slot]).plus(tradeVolume.multipliedBy(tradePrice)).doubleValue();
+        trades[slot]++;
+        lastBarModified();
+    }
+
+    private void addPrice(int slot, Num price) {
+        final double value = price.doubleValue();
+        if (Double.isNaN(openPrices[slot])) {
+            openPrices[slot] = value;
+        }
+        closePrices[slot] = value;
+        if (Double.isNaN(highPrices[slot]) || highPrices[slot] < value) {
+            highPrices[slot] = value;
+        }
+        if (Double.isNaN(lowPrices[slot]) || lowPrices[slot] > value) {
+            lowPrices[slot] = value;
+        }
+        lastBarModified();
+    }
+
+    /**
+     * Appends a bar to the columns (without checking its end time).
+     */
+    private void append(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume, Num amount, long tradeCount) {
+        if (zone == null) {
+            zone = endTime.getZone();
+        }
+        ensureCapacity(size + 1);
+        set(offset + size, timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, amount,
+                tradeCount);
+        size++;
+        if (seriesBeginIndex == -1) {
+            // The begin index is set to 0 if not already initialized:
+            seriesBeginIndex = 0;
+        }
+        seriesEndIndex++;
+    }
+
+    private void set(int slot, Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice,
+            Num lowPrice, Num closePrice, Num volume, Num amount, long tradeCount) {
+        endTimes[slot] = toEpochNanos(endTime);
+        timePeriods[slot] = timePeriod.toNanos();
+        openPrices[slot] = toDouble(openPrice);
+        highPrices[slot] = toDouble(highPrice);
+        lowPrices[slot] = toDouble(lowPrice);
+        closePrices[slot] = toDouble(closePrice);
+        volumes[slot] = toDouble(volume);
+        amounts[slot] = toDouble(amount);
+        trades[slot] = tradeCount;
+    }
+
+    /**
+     * Makes room for {@code minimumSize} bars from {@code offset}, either by
+     * moving the bars to the start of the columns (if at least half of the columns
+     * is taken by removed bars) or by growing the columns.
+     *
+     * @param minimumSize the minimum number of bars
+     */
+    private void ensureCapacity(int minimumSize) {
+        final int capacity = endTimes.length;
+        if (offset + minimumSize <= capacity) {
+            return;
+        }
+        final int newCapacity = minimumSize <= capacity / 2 ? capacity
+                : Math.max(INITIAL_CAPACITY, Math.max(minimumSize, capacity << 1));
+        endTimes = copy(endTimes, newCapacity);
+        timePeriods = copy(timePeriods, newCapacity);
+        openPrices = copy(openPrices, newCapacity);
+        highPrices = copy(highPrices, newCapacity);
+        lowPrices = copy(lowPrices, newCapacity);
+        closePrices = copy(closePrices, newCapacity);
+        volumes = copy(volumes, newCapacity);
+        amounts = copy(amounts, newCapacity);
+        trades = copy(trades, newCapacity);
+        offset = 0;
+    }
+
+    private long[] copy(long[] column, int newCapacity) {
+        final long[] newColumn = newCapacity == column.length ? column : new long[newCapacity];
+        System.arraycopy(column, offset, newColumn, 0, size);
+        return newColumn;
+    }
+
+    private double[] copy(double[] column, int newCapacity) {
+        final double[] newColumn = newCapacity == column.length ? column : new double[newCapacity];
+        System.arraycopy(column, offset, newColumn, 0, size);
+        return newColumn;
+    }
+
+    /**
+     * Removes the first N bars that exceed the {@link #maximumBarCount}.
+     */
+    private void removeExceedingBars() {
+        if (size > maximumBarCount) {
+            final int nbBarsToRemove = size - maximumBarCount;
+            offset += nbBarsToRemove;
+            size -= nbBarsToRemove;
+            removedBarsCount += nbBarsToRemove;
+            seriesBeginIndex = Math.max(seriesBeginIndex, removedBarsCount);
+        }
+    }
+
+    /**
+     * @param i the bar index
+     * @return the index of the bar within the columns (see {@link #getBar(int)}
+     *         for removed bars)
+     * @throws IndexOutOfBoundsException if there is no bar at {@code i}
+     */
+    private int slot(int i) {
+        int innerIndex = i - removedBarsCount;
+        if (innerIndex < 0) {
+            if (i < 0 || size == 0) {
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(i));
+            }
+            innerIndex = 0;
+        } else if (innerIndex >= size) {
+            throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(i));
+        }
+        return offset + innerIndex;
+    }
+
+    /**
+     * @param index an out of bounds bar index
+     * @return a message for an OutOfBoundsException
+     */
+    private String buildOutOfBoundsMessage(int index) {
+        return String.format("Size of series: %s bars, %s bars removed, index = %s", size, removedBarsCount, index);
+    }
+
+    /**
+     * Checks if the {@link Num} implementation of a {@link Bar} fits to the
+     * NumFunction used by this bar series.
+     *
+     * @param bar a Bar object.
+     * @throws IllegalArgumentException if another Num implementation is used than
+     *                                  by this bar series
+     */
+    private void checkBar(Bar bar) {
+        final Num closePrice = bar.getClosePrice();
+        if (closePrice != null && closePrice.getClass() != num.getClass() && !closePrice.isNaN()) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot add Bar with data type: %s to series with data" + "type: %s",
+                            closePrice.getClass(), num.getClass()));
+        }
+    }
+
+    private Num toNum(double value) {
+        return Double.isNaN(value) ? NaN : num.function().apply(value);
+    }
+
+    private static double toDouble(Num value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+
+    private static long toEpochNanos(ZonedDateTime time) {
+        final Instant instant = time.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    private ZonedDateTime toZonedDateTime(long epochNanos) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(0, epochNanos), zone == null ? ZoneOffset.UTC : zone);
+    }
+
+    /** A view of the columns of a bar. */
+    private final class ColumnarBar implements Bar {
+
+        private static final long serialVersionUID = -2958093472307428389L;
+
+        /** The bar index. */
+        private final int index;
+
+        private ColumnarBar(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return Duration.ofNanos(timePeriods[slot(index)]);
+        }
+
+        @Override
+        public ZonedDateTime getBeginTime() {
+            final int slot = slot(index);
+            return toZonedDateTime(endTimes[slot] - timePeriods[slot]);
+        }
+
+        @Override
+        public ZonedDateTime getEndTime() {
+            return toZonedDateTime(endTimes[slot(index)]);
+        }
+
+        @Override
+        public Num getOpenPrice() {
+            return ColumnarBarSeries.this.getOpenPrice(index);
+        }
+
+        @Override
+        public Num getHighPrice() {
+            return ColumnarBarSeries.this.getHighPrice(index);
+        }
+
+        @Override
+        public Num getLowPrice() {
+            return ColumnarBarSeries.this.getLowPrice(index);
+        }
+
+        @Override
+        public Num getClosePrice() {
+            return ColumnarBarSeries.this.getClosePrice(index);
+        }
+
+        @Override
+        public Num getVolume() {
+            return ColumnarBarSeries.this.getVolume(index);
+        }
+
+        @Override
+        public Num getAmount() {
+            return ColumnarBarSeries.this.getAmount(index);
+        }
+
+        @Override
+        public long getTrades() {
+            return ColumnarBarSeries.this.getTrades(index);
+        }
+
+        @Override
+        public void addTrade(Num tradeVolume, Num tradePrice) {
+            ColumnarBarSeries.this.addTrade(slot(index), tradeVolume, tradePrice);
+        }
+
+        @Override
+        public void addPrice(Num price) {
+            ColumnarBarSeries.this.addPrice(slot(index), price);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("{end time: %1s, close price: %2$f, open price: %3$f, low price: %4$f, "
+                    + "high price: %5$f, volume: %6$f}",
+                    getEndTime().withZoneSameInstant(ZoneId.systemDefault()), getClosePrice().doubleValue(),
+                    getOpenPrice().doubleValue(), getLowPrice().doubleValue(), getHighPrice().doubleValue(),
+                    getVolume().doubleValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(ColumnarBarSeries.this) + index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof ColumnarBar))
+                return false;
+            final ColumnarBar other = (ColumnarBar) obj;
+            return other.series() == ColumnarBarSeries.this && other.index == index;
+        }
+
+        private ColumnarBarSeries series() {
+            return ColumnarBarSeries.this;
+        }
+    }
+
+    /** An unmodifiable list of views of the bars. */
+    private final class BarList extends AbstractList<Bar> implements RandomAccess, Serializable {
+
+        private static final long serialVersionUID = 4620618104154366025L;
+
+        @Override
+        public Bar get(int index) {
+            Objects.checkIndex(index, size);
+            return new ColumnarBar(removedBarsCount + index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
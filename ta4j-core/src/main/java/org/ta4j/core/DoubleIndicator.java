@@ -0,0 +1,129 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.ta4j.core.indicators.primitive.DoubleToNumIndicator;
+import org.ta4j.core.indicators.primitive.NumToDoubleIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Primitive indicator over a {@link BarSeries bar series}.
+ *
+ * <p>
+ * Returns a primitive {@code double} for each index of the bar series. Unlike
+ * {@link Indicator Indicator&lt;Num&gt;}, no {@link Num} is allocated per value
+ * or per arithmetic step. Missing or undefined values are returned as
+ * {@link Double#NaN}.
+ *
+ * <p>
+ * Use {@link #of(Indicator)} and {@link #toNumIndicator()} to mix primitive and
+ * {@code Num}-based indicators within the same strategy.
+ */
+public interface DoubleIndicator {
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator
+     */
+    double getDouble(int index);
+
+    /**
+     * Returns the number of bars up to which {@code this} Indicator calculates
+     * wrong values.
+     *
+     * @return unstable bars
+     */
+    int getUnstableBars();
+
+    /**
+     * @return the related bar series
+     */
+    BarSeries getBarSeries();
+
+    /**
+     * Writes the values of a range of indexes into {@code values}.
+     *
+     * <p>
+     * Indicators which can calculate a range of values in one pass override this
+     * method; by default, it calls {@link #getDouble(int)} for each index.
+     *
+     * @param beginIndex the first index (inclusive)
+     * @param endIndex   the last index (inclusive)
+     * @param values     the array receiving the values
+     * @param offset     the position of the value of {@code beginIndex} in
+     *                   {@code values}
+     */
+    default void getDoubles(int beginIndex, int endIndex, double[] values, int offset) {
+        for (int i = beginIndex; i <= endIndex; i++) {
+            values[offset + i - beginIndex] = getDouble(i);
+        }
+    }
+
+    /**
+     * @param beginIndex the first index (inclusive)
+     * @param endIndex   the last index (inclusive)
+     * @return the values from {@code beginIndex} to {@code endIndex}
+     * @see #getDoubles(int, int, double[], int)
+     */
+    default double[] getDoubles(int beginIndex, int endIndex) {
+        double[] values = new double[Math.max(endIndex - beginIndex + 1, 0)];
+        getDoubles(beginIndex, endIndex, values, 0);
+        return values;
+    }
+
+    /**
+     * @return all values from {@code this} Indicator over {@link #getBarSeries()}
+     *         as a DoubleStream
+     */
+    default DoubleStream doubleStream() {
+        return IntStream.range(getBarSeries().getBeginIndex(), getBarSeries().getEndIndex() + 1)
+                .mapToDouble(this::getDouble);
+    }
+
+    /**
+     * Wraps {@code this} Indicator into an {@link Indicator Indicator&lt;Num&gt;}
+     * using the {@link Num} type of {@link #getBarSeries()}.
+     *
+     * @return the {@code Num}-based view of {@code this} Indicator
+     */
+    default Indicator<Num> toNumIndicator() {
+        return new DoubleToNumIndicator(this);
+    }
+
+    /**
+     * Wraps a {@code Num}-based indicator into a {@code DoubleIndicator}.
+     *
+     * @param indicator the {@link Indicator}
+     * @return the primitive view of {@code indicator}
+     */
+    static DoubleIndicator of(Indicator<Num> indicator) {
+        if (indicator instanceof DoubleToNumIndicator) {
+            return ((DoubleToNumIndicator) indicator).getDoubleIndicator();
+        }
+        return new NumToDoubleIndicator(indicator);
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core;
 
+import java.util.function.ObjIntConsumer;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -85,6 +86,25 @@ public interface Indicator<T> {
         return getBarSeries().numOf(number);
     }
 
+    /**
+     * Passes the values of a range of indexes to {@code sink}, in ascending order
+     * of the indexes.
+     *
+     * <p>
+     * Indicators which can calculate a range of values in one pass (e.g. cached
+     * indicators calculating their missing values in order) override this
+     * method; by default, it calls {@link #getValue(int)} for each index.
+     *
+     * @param beginIndex the first index (inclusive)
+     * @param endIndex   the last index (inclusive)
+     * @param sink       receives each value together with its index
+     */
+    default void getValues(int beginIndex, int endIndex, ObjIntConsumer<? super T> sink) {
+        for (int i = beginIndex; i <= endIndex; i++) {
+            sink.accept(getValue(i), i);
+        }
+    }
+
     /**
      * @return all values from {@code this} Indicator over {@link #getBarSeries()}
      *         as a Stream
@@ -0,0 +1,683 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * A read-only {@link BarSeries} backed by a memory-mapped bar file.
+ *
+ * <p>
+ * {@link #open(Path, Num)} maps the columns of the file into memory without
+ * reading them: opening a history of several gigabytes takes about as long as
+ * opening a small one, and the operating system pages the bars in on demand
+ * (and shares them between processes). {@link #write(BarSeries, Path)} converts
+ * any bar series into a bar file, e.g. a series loaded once from a CSV file.
+ *
+ * <p>
+ * A bar file stores the bars column by column in little-endian order:
+ *
+ * <pre>
+ * header:  magic "TA4JBARS" (8 bytes), version (int), bar count (int),
+ *          name length (int), zone length (int), name (UTF-8), zone id (UTF-8),
+ *          padding to a multiple of 8 bytes
+ * columns: end time (epoch nanos, long), time period (nanos, long),
+ *          open, high, low, close, volume, amount (double),
+ *          trades (long); bar count values each
+ * </pre>
+ *
+ * <p>
+ * Like in a {@link ColumnarBarSeries}, values are converted to {@link Num} with
+ * the {@link #function() Num function} of the series when they are read, unset
+ * prices are {@code NaN} and the end times are returned in the time zone of the
+ * file. Each column is mapped separately, so a file holds at most
+ * {@code Integer.MAX_VALUE / 8} bars.
+ *
+ * <p>
+ * The series and its {@link #getSubSeries(int, int) sub-series} share the
+ * mapped columns, so a sub-series doesn't copy anything. Adding bars, trades or
+ * prices and changing the maximum bar count is not supported.
+ */
+public final class MappedBarSeries implements BarSeries {
+
+    private static final long serialVersionUID = 2216364407823411652L;
+
+    /** The magic number of a bar file. */
+    private static final byte[] MAGIC = "TA4JBARS".getBytes(StandardCharsets.US_ASCII);
+
+    /** The version of the bar file format. */
+    private static final int VERSION = 1;
+
+    /** The byte order of a bar file. */
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /** The size of the fixed part of the header. */
+    private static final int FIXED_HEADER_SIZE = 24;
+
+    /** The maximum number of bars of a bar file. */
+    private static final int MAXIMUM_BAR_COUNT = Integer.MAX_VALUE / Long.BYTES;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** Any instance of Num to determine its Num type. */
+    private final Num num;
+
+    /** The bar file. */
+    private final String file;
+
+    /** The name of the bar series. */
+    private final String name;
+
+    /** The time zone of the end times. */
+    private final ZoneId zone;
+
+    /** The first bar of the series within the columns. */
+    private final int from;
+
+    /** The number of bars of the series. */
+    private final int barCount;
+
+    // the mapped columns
+    private final transient LongBuffer endTimes;
+    private final transient LongBuffer timePeriods;
+    private final transient DoubleBuffer openPrices;
+    private final transient DoubleBuffer highPrices;
+    private final transient DoubleBuffer lowPrices;
+    private final transient DoubleBuffer closePrices;
+    private final transient DoubleBuffer volumes;
+    private final transient DoubleBuffer amounts;
+    private final transient LongBuffer trades;
+
+    /**
+     * Constructor of a sub-series.
+     *
+     * @param series   the bar series
+     * @param from     the first bar of the sub-series within the columns
+     * @param barCount the number of bars of the sub-series
+     */
+    private MappedBarSeries(MappedBarSeries series, int from, int barCount) {
+        this.num = series.num;
+        this.file = series.file;
+        this.name = series.name;
+        this.zone = series.zone;
+        this.from = from;
+        this.barCount = barCount;
+        this.endTimes = series.endTimes;
+        this.timePeriods = series.timePeriods;
+        this.openPrices = series.openPrices;
+        this.highPrices = series.highPrices;
+        this.lowPrices = series.lowPrices;
+        this.closePrices = series.closePrices;
+        this.volumes = series.volumes;
+        this.amounts = series.amounts;
+        this.trades = series.trades;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param file    the bar file
+     * @param num     any instance of Num to determine its Num function
+     * @param channel the channel of the bar file
+     * @throws IOException if the file cannot be read or is not a bar file
+     */
+    private MappedBarSeries(Path file, Num num, FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(FIXED_HEADER_SIZE).order(ORDER);
+        readFully(channel, header, 0);
+        final byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(String.format("%s is not a bar file", file));
+        }
+        final int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported version %s of bar file %s", version, file));
+        }
+        final int count = header.getInt();
+        final int nameLength = header.getInt();
+        final int zoneLength = header.getInt();
+        if (count < 0 || count > MAXIMUM_BAR_COUNT || nameLength < 0 || zoneLength < 0) {
+            throw new IOException(String.format("Corrupt header of bar file %s", file));
+        }
+        final ByteBuffer strings = ByteBuffer.allocate(nameLength + zoneLength);
+        readFully(channel, strings, FIXED_HEADER_SIZE);
+        final long dataOffset = dataOffset(nameLength + zoneLength);
+        if (channel.size() < dataOffset + 9L * count * Long.BYTES) {
+            throw new IOException(String.format("Truncated bar file %s", file));
+        }
+
+        this.num = num;
+        this.file = file.toString();
+        this.name = new String(strings.array(), 0, nameLength, StandardCharsets.UTF_8);
+        this.zone = ZoneId.of(new String(strings.array(), nameLength, zoneLength, StandardCharsets.UTF_8));
+        this.from = 0;
+        this.barCount = count;
+        final long columnSize = (long) count * Long.BYTES;
+        this.endTimes = map(channel, dataOffset, columnSize).asLongBuffer();
+        this.timePeriods = map(channel, dataOffset + columnSize, columnSize).asLongBuffer();
+        this.openPrices = map(channel, dataOffset + 2 * columnSize, columnSize).asDoubleBuffer();
+        this.highPrices = map(channel, dataOffset + 3 * columnSize, columnSize).asDoubleBuffer();
+        this.lowPrices = map(channel, dataOffset + 4 * columnSize, columnSize).asDoubleBuffer();
+        this.closePrices = map(channel, dataOffset + 5 * columnSize, columnSize).asDoubleBuffer();
+        this.volumes = map(channel, dataOffset + 6 * columnSize, columnSize).asDoubleBuffer();
+        this.amounts = map(channel, dataOffset + 7 * columnSize, columnSize).asDoubleBuffer();
+        this.trades = map(channel, dataOffset + 8 * columnSize, columnSize).asLongBuffer();
+    }
+
+    /**
+     * Opens a bar file with {@link DecimalNum} as type for the data and all
+     * operations on it.
+     *
+     * @param file the bar file
+     * @return the bar series of the file
+     * @throws IOException if the file cannot be read or is not a bar file
+     */
+    public static MappedBarSeries open(Path file) throws IOException {
+        return open(file, DecimalNum.ZERO);
+    }
+
+    /**
+     * Opens a bar file.
+     *
+     * @param file the bar file
+     * @param num  any instance of Num to determine its Num function; with this, we
+     *             can convert a {@link Number} to a {@link Num Num implementation}
+     * @return the bar series of the file
+     * @throws IOException if the file cannot be read or is not a bar file
+     */
+    public static MappedBarSeries open(Path file, Num num) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedBarSeries(file, num, channel);
+        }
+    }
+
+    /**
+     * Writes the bars of a series into a bar file.
+     *
+     * <p>
+     * Only the bars from the {@link BarSeries#getBeginIndex() begin index} to the
+     * {@link BarSeries#getEndIndex() end index} are written. The time zone of the
+     * file is the time zone of the first bar.
+     *
+     * @param series the bar series
+     * @param file   the bar file (replaced if it exists)
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(BarSeries series, Path file) throws IOException {
+        final int count = series.getBarCount();
+        if (count > MAXIMUM_BAR_COUNT) {
+            throw new IllegalArgumentException(
+                    String.format("A bar file holds at most %s bars: %s", MAXIMUM_BAR_COUNT, count));
+        }
+        final int begin = series.getEndIndex() - count + 1;
+        final byte[] nameBytes = Objects.toString(series.getName(), "").getBytes(StandardCharsets.UTF_8);
+        final byte[] zoneBytes = (count == 0 ? ZoneId.of("UTC") : series.getBar(begin).getEndTime().getZone()).getId()
+                .getBytes(StandardCharsets.UTF_8);
+        final long dataOffset = dataOffset(nameBytes.length + zoneBytes.length);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024).order(ORDER);
+            buffer.put(MAGIC).putInt(VERSION).putInt(count).putInt(nameBytes.length).putInt(zoneBytes.length);
+            buffer.put(nameBytes).put(zoneBytes);
+            while (buffer.position() < dataOffset) {
+                buffer.put((byte) 0);
+            }
+            for (int column = 0; column < 9; column++) {
+                for (int i = begin; i < begin + count; i++) {
+                    if (!buffer.hasRemaining()) {
+                        flush(channel, buffer);
+                    }
+                    switch (column) {
+                    case 0:
+                        buffer.putLong(toEpochNanos(series.getBar(i).getEndTime()));
+                        break;
+                    case 1:
+                        buffer.putLong(series.getBar(i).getTimePeriod().toNanos());
+                        break;
+                    case 2:
+                        buffer.putDouble(toDouble(series.getOpenPrice(i)));
+                        break;
+                    case 3:
+                        buffer.putDouble(toDouble(series.getHighPrice(i)));
+                        break;
+                    case 4:
+                        buffer.putDouble(toDouble(series.getLowPrice(i)));
+                        break;
+                    case 5:
+                        buffer.putDouble(toDouble(series.getClosePrice(i)));
+                        break;
+                    case 6:
+                        buffer.putDouble(toDouble(series.getVolume(i)));
+                        break;
+                    case 7:
+                        buffer.putDouble(toDouble(series.getAmount(i)));
+                        break;
+                    default:
+                        buffer.putLong(series.getTrades(i));
+                    }
+                }
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    @Override
+    public MappedBarSeries getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        final int start = Math.min(startIndex, barCount);
+        final int end = Math.min(endIndex, barCount);
+        return new MappedBarSeries(this, from + start, end - start);
+    }
+
+    @Override
+    public Num num() {
+        return num;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Bar getBar(int i) {
+        return new MappedBar(slot(i));
+    }
+
+    @Override
+    public Num getOpenPrice(int i) {
+        return toNum(openPrices.get(slot(i)));
+    }
+
+    @Override
+    public Num getHighPrice(int i) {
+        return toNum(highPrices.get(slot(i)));
+    }
+
+    @Override
+    public Num getLowPrice(int i) {
+        return toNum(lowPrices.get(slot(i)));
+    }
+
+    @Override
+    public Num getClosePrice(int i) {
+        return toNum(closePrices.get(slot(i)));
+    }
+
+    @Override
+    public Num getVolume(int i) {
+        return toNum(volumes.get(slot(i)));
+    }
+
+    @Override
+    public Num getAmount(int i) {
+        return toNum(amounts.get(slot(i)));
+    }
+
+    @Override
+    public long getTrades(int i) {
+        return trades.get(slot(i));
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * @return an unmodifiable list of views of the bars
+     */
+    @Override
+    public List<Bar> getBarData() {
+        return new BarList();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return barCount == 0 ? -1 : 0;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return barCount - 1;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * @throws UnsupportedOperationException always (the series is read-only)
+     */
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        throw readOnly();
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return 0;
+    }
+
+    /**
+     * @return always {@code 0} (the bars never change)
+     */
+    @Override
+    public long getModificationCount() {
+        return 0;
+    }
+
+    /**
+     * @throws UnsupportedOperationException always (the series is read-only)
+     */
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        throw readOnly();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always (the series is read-only)
+     */
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime) {
+        throw readOnly();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always (the series is read-only)
+     */
+    @Override
+    public void addBar(ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice, Num closePrice, Num volume,
+            Num amount) {
+        throw readOnly();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always (the series is read-only)
+     */
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume) {
+        throw readOnly();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always (the series is read-only)
+     */
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Num openPrice, Num highPrice, Num lowPrice,
+            Num closePrice, Num volume, Num amount) {
+        throw readOnly();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always (the series is read-only)
+     */
+    @Override
+    public void addTrade(Num tradeVolume, Num tradePrice) {
+        throw readOnly();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always (the series is read-only)
+     */
+    @Override
+    public void addPrice(Num price) {
+        throw readOnly();
+    }
+
+    /**
+     * Maps the file again when the series is deserialized.
+     *
+     * @return the deserialized series
+     * @throws ObjectStreamException if the file cannot be mapped
+     */
+    private Object readResolve() throws ObjectStreamException {
+        try {
+            final MappedBarSeries series = open(Paths.get(file), num);
+            return new MappedBarSeries(series, from, Math.min(barCount, series.barCount - from));
+        } catch (IOException e) {
+            final InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    /**
+     * @param i the bar index
+     * @return the index of the bar within the columns
+     * @throws IndexOutOfBoundsException if there is no bar at {@code i}
+     */
+    private int slot(int i) {
+        if (i < 0 || i >= barCount) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Size of series: %s bars, 0 bars removed, index = %s", barCount, i));
+        }
+        return from + i;
+    }
+
+    private Num toNum(double value) {
+        return Double.isNaN(value) ? NaN : num.function().apply(value);
+    }
+
+    private ZonedDateTime toZonedDateTime(long epochNanos) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(0, epochNanos), zone);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("A mapped bar series is read-only");
+    }
+
+    private static double toDouble(Num value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+
+    private static long toEpochNanos(ZonedDateTime time) {
+        final Instant instant = time.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    /**
+     * @param stringsLength the length of the name and zone id
+     * @return the offset of the columns (aligned to 8 bytes)
+     */
+    private static long dataOffset(int stringsLength) {
+        final long headerSize = (long) FIXED_HEADER_SIZE + stringsLength;
+        return (headerSize + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ORDER);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of bar file");
+            }
+        }
+        buffer.flip();
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** A read-only view of the columns of a bar. */
+    private final class MappedBar implements Bar {
+
+        private static final long serialVersionUID = -5381932547395716420L;
+
+        /** The index of the bar within the columns. */
+        private final int slot;
+
+        private MappedBar(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return Duration.ofNanos(timePeriods.get(slot));
+        }
+
+        @Override
+        public ZonedDateTime getBeginTime() {
+            return toZonedDateTime(endTimes.get(slot) - timePeriods.get(slot));
+        }
+
+        @Override
+        public ZonedDateTime getEndTime() {
+            return toZonedDateTime(endTimes.get(slot));
+        }
+
+        @Override
+        public Num getOpenPrice() {
+            return toNum(openPrices.get(slot));
+        }
+
+        @Override
+        public Num getHighPrice() {
+            return toNum(highPrices.get(slot));
+        }
+
+        @Override
+        public Num getLowPrice() {
+            return toNum(lowPrices.get(slot));
+        }
+
+        @Override
+        public Num getClosePrice() {
+            return toNum(closePrices.get(slot));
+        }
+
+        @Override
+        public Num getVolume() {
+            return toNum(volumes.get(slot));
+        }
+
+        @Override
+        public Num getAmount() {
+            return toNum(amounts.get(slot));
+        }
+
+        @Override
+        public long getTrades() {
+            return trades.get(slot);
+        }
+
+        /**
+         * @throws UnsupportedOperationException always (the series is read-only)
+         */
+        @Override
+        public void addTrade(Num tradeVolume, Num tradePrice) {
+            throw readOnly();
+        }
+
+        /**
+         * @throws UnsupportedOperationException always (the series is read-only)
+         */
+        @Override
+        public void addPrice(Num price) {
+            throw readOnly();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("{end time: %1s, close price: %2$f, open price: %3$f, low price: %4$f, "
+                    + "high price: %5$f, volume: %6$f}", getEndTime().withZoneSameInstant(ZoneId.systemDefault()),
+                    getClosePrice().doubleValue(), getOpenPrice().doubleValue(), getLowPrice().doubleValue(),
+                    getHighPrice().doubleValue(), getVolume().doubleValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(endTimes) + slot;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof MappedBar))
+                return false;
+            final MappedBar other = (MappedBar) obj;
+            return other.endTimes() == endTimes && other.slot == slot;
+        }
+
+        private LongBuffer endTimes() {
+            return endTimes;
+        }
+    }
+
+    /** An unmodifiable list of views of the bars. */
+    private final class BarList extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(int index) {
+            return getBar(index);
+        }
+
+        @Override
+        public int size() {
+            return barCount;
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package org.ta4j.core;
 
 import org.ta4j.core.rules.AndRule;
+import org.ta4j.core.rules.MemoizedRule;
 import org.ta4j.core.rules.NotRule;
 import org.ta4j.core.rules.OrRule;
 import org.ta4j.core.rules.XorRule;
@@ -67,6 +68,16 @@ public interface Rule {
         return new NotRule(this);
     }
 
+    /**
+     * @param series the bar series this rule is evaluated on
+     * @return a rule which remembers the result of this rule per bar index (only
+     *         for rules which do not use the trading record)
+     * @see MemoizedRule
+     */
+    default Rule memoized(BarSeries series) {
+        return new MemoizedRule(this, series);
+    }
+
     /**
      * @param index the bar index
      * @return true if this rule is satisfied for the provided index, false
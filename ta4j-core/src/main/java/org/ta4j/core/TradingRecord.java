@@ -213,4 +213,23 @@ public interface TradingRecord extends Serializable {
     default int getEndIndex(BarSeries series) {
         return getEndIndex() == null ? series.getEndIndex() : Math.min(getEndIndex(), series.getEndIndex());
     }
+
+    /**
+     * Adds a listener, which is notified of each trade recorded afterwards.
+     *
+     * @param listener the listener
+     * @throws UnsupportedOperationException if the trading record does not support
+     *                                       listeners
+     */
+    default void addListener(TradingRecordListener listener) {
+        throw new UnsupportedOperationException("Listeners are not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     */
+    default void removeListener(TradingRecordListener listener) {
+    }
 }
@@ -0,0 +1,51 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+/**
+ * Listener of the trades recorded by a {@link TradingRecord}.
+ *
+ * @see TradingRecord#addListener(TradingRecordListener)
+ */
+public interface TradingRecordListener {
+
+    /**
+     * Called after a trade has been recorded.
+     *
+     * @param tradingRecord the trading record
+     * @param trade         the recorded trade
+     * @param isEntry       true if the trade is an entry, false if it is an exit
+     */
+    default void onTrade(TradingRecord tradingRecord, Trade trade, boolean isEntry) {
+    }
+
+    /**
+     * Called after a position has been closed, i.e. after
+     * {@link #onTrade(TradingRecord, Trade, boolean)} of its exit.
+     *
+     * @param tradingRecord the trading record
+     * @param position      the closed position
+     */
+    void onPositionClosed(TradingRecord tradingRecord, Position position);
+}
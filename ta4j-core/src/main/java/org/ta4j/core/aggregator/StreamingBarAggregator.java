@@ -0,0 +1,274 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.aggregator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.num.Num;
+
+/**
+ * Aggregates ticks or bars one at a time into the bars of a {@link BarSeries}
+ * (e.g. for live trading), in O(1) per input.
+ *
+ * <p>
+ * Each input updates the last bar of the series (by
+ * {@link BarSeries#addBar(Bar, boolean) replacing} it) until the bar is
+ * complete; the next input then adds a new bar. A bar is complete:
+ * <ul>
+ * <li>{@link #ofDuration(BarSeries, Duration) by duration}: at the end of its
+ * time period; the time periods are aligned to the epoch (e.g. 1 hour bars
+ * begin at full hours in UTC) and periods without input are skipped
+ * <li>{@link #ofTickCount(BarSeries, long) by tick count}: when it contains
+ * the given number of trades
+ * <li>{@link #ofVolume(BarSeries, Number) by volume}: when its volume reaches
+ * the given volume
+ * <li>{@link #ofAmount(BarSeries, Number) by amount}: when its amount
+ * (price&nbsp;&times;&nbsp;volume, i.e. "dollar bars") reaches the given amount
+ * </ul>
+ *
+ * <p>
+ * The bars of the series must end before the first input. Inputs must be
+ * passed in chronological order; a late tick is added to the current bar.
+ */
+public class StreamingBarAggregator {
+
+    private enum Type {
+        DURATION, TICK_COUNT, VOLUME, AMOUNT
+    }
+
+    /** The series to which the aggregated bars are added. */
+    private final BarSeries series;
+
+    private final Type type;
+
+    /** The time period of the bars (if {@link Type#DURATION}). */
+    private final Duration timePeriod;
+
+    /** The threshold at which a bar is complete (if not {@link Type#DURATION}). */
+    private final Num threshold;
+
+    /** True if the last bar of the series is aggregated by this instance. */
+    private boolean hasBar;
+
+    private ZonedDateTime beginTime;
+    private ZonedDateTime endTime;
+    private Num openPrice;
+    private Num highPrice;
+    private Num lowPrice;
+    private Num closePrice;
+    private Num volume;
+    private Num amount;
+    private long trades;
+
+    private StreamingBarAggregator(BarSeries series, Type type, Duration timePeriod, Num threshold) {
+        this.series = Objects.requireNonNull(series, "Bar series must not be null");
+        this.type = type;
+        this.timePeriod = timePeriod;
+        this.threshold = threshold;
+    }
+
+    /**
+     * @param series     the series to which the aggregated bars are added
+     * @param timePeriod the time period of the aggregated bars (at least one
+     *                   millisecond)
+     * @return an aggregator of bars with the same time period
+     */
+    public static StreamingBarAggregator ofDuration(BarSeries series, Duration timePeriod) {
+        if (timePeriod.toMillis() <= 0) {
+            throw new IllegalArgumentException("Time period must be at least one millisecond");
+        }
+        return new StreamingBarAggregator(series, Type.DURATION, timePeriod, null);
+    }
+
+    /**
+     * @param series    the series to which the aggregated bars are added
+     * @param tickCount the number of trades of each aggregated bar
+     * @return an aggregator of bars with the same number of trades
+     */
+    public static StreamingBarAggregator ofTickCount(BarSeries series, long tickCount) {
+        if (tickCount <= 0) {
+            throw new IllegalArgumentException("Tick count must be positive");
+        }
+        return new StreamingBarAggregator(series, Type.TICK_COUNT, null, series.numOf(tickCount));
+    }
+
+    /**
+     * @param series the series to which the aggregated bars are added
+     * @param volume the volume of each aggregated bar
+     * @return an aggregator of bars with (at least) the same volume
+     */
+    public static StreamingBarAggregator ofVolume(BarSeries series, Number volume) {
+        return new StreamingBarAggregator(series, Type.VOLUME, null, positiveThreshold(series, volume));
+    }
+
+    /**
+     * @param series the series to which the aggregated bars are added
+     * @param amount the amount (price&nbsp;&times;&nbsp;volume) of each aggregated
+     *               bar
+     * @return an aggregator of bars with (at least) the same amount
+     */
+    public static StreamingBarAggregator ofAmount(BarSeries series, Number amount) {
+        return new StreamingBarAggregator(series, Type.AMOUNT, null, positiveThreshold(series, amount));
+    }
+
+    private static Num positiveThreshold(BarSeries series, Number threshold) {
+        Num value = series.numOf(threshold);
+        if (!value.isPositive()) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        return value;
+    }
+
+    /**
+     * @return the series to which the aggregated bars are added
+     */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /**
+     * Adds a trade (tick).
+     *
+     * @param time   the time of the trade
+     * @param price  the price
+     * @param volume the traded volume
+     */
+    public void addTrade(ZonedDateTime time, Number price, Number volume) {
+        addTrade(time, series.numOf(price), series.numOf(volume));
+    }
+
+    /**
+     * Adds a trade (tick).
+     *
+     * @param time   the time of the trade
+     * @param price  the price
+     * @param volume the traded volume
+     */
+    public void addTrade(ZonedDateTime time, Num price, Num volume) {
+        aggregate(time, time, price, price, price, price, volume, price.multipliedBy(volume), 1);
+    }
+
+    /**
+     * Adds a bar of a shorter time period.
+     *
+     * @param bar the bar
+     * @throws IllegalArgumentException if aggregated by duration and the bar ends
+     *                                  after the end of the time period in which
+     *                                  it begins
+     */
+    public void addBar(Bar bar) {
+        if (type == Type.DURATION) {
+            ZonedDateTime periodEndTime = getPeriodBeginTime(bar.getBeginTime()).plus(timePeriod);
+            if (bar.getEndTime().isAfter(periodEndTime)) {
+                throw new IllegalArgumentException(String.format(
+                        "Cannot aggregate bar ending at %s into a bar ending at %s: time period too long",
+                        bar.getEndTime(), periodEndTime));
+            }
+        }
+        Num barVolume = bar.getVolume() == null ? series.zero() : bar.getVolume();
+        Num barAmount = bar.getAmount() == null ? series.zero() : bar.getAmount();
+        aggregate(bar.getBeginTime(), bar.getEndTime(), bar.getOpenPrice(), bar.getHighPrice(), bar.getLowPrice(),
+                bar.getClosePrice(), barVolume, barAmount, bar.getTrades());
+    }
+
+    /**
+     * @return true if the last bar of the series is complete, i.e. the next input
+     *         adds a new bar (always false if aggregated by duration, as the end
+     *         of a time period is only known by the next input)
+     */
+    public boolean isBarComplete() {
+        if (!hasBar) {
+            return true;
+        }
+        switch (type) {
+        case TICK_COUNT:
+            return series.numOf(trades).isGreaterThanOrEqual(threshold);
+        case VOLUME:
+            return volume.isGreaterThanOrEqual(threshold);
+        case AMOUNT:
+            return amount.isGreaterThanOrEqual(threshold);
+        default:
+            return false;
+        }
+    }
+
+    private void aggregate(ZonedDateTime inputBeginTime, ZonedDateTime inputEndTime, Num open, Num high, Num low,
+            Num close, Num inputVolume, Num inputAmount, long inputTrades) {
+        boolean newBar = isBarComplete() || (type == Type.DURATION && !inputBeginTime.isBefore(endTime));
+        if (newBar) {
+            if (type == Type.DURATION) {
+                beginTime = getPeriodBeginTime(inputBeginTime);
+                endTime = beginTime.plus(timePeriod);
+            } else {
+                beginTime = inputBeginTime;
+                endTime = inputEndTime;
+                if (!series.isEmpty() && !endTime.isAfter(series.getLastBar().getEndTime())) {
+                    // bars must have distinct end times, even with simultaneous ticks
+                    endTime = series.getLastBar().getEndTime().plusNanos(1);
+                }
+            }
+            openPrice = open;
+            highPrice = high;
+            lowPrice = low;
+            volume = inputVolume;
+            amount = inputAmount;
+            trades = inputTrades;
+        } else {
+            if (high.isGreaterThan(highPrice)) {
+                highPrice = high;
+            }
+            if (low.isLessThan(lowPrice)) {
+                lowPrice = low;
+            }
+            volume = volume.plus(inputVolume);
+            amount = amount.plus(inputAmount);
+            trades += inputTrades;
+            if (type != Type.DURATION && inputEndTime.isAfter(endTime)) {
+                endTime = inputEndTime;
+            }
+        }
+        closePrice = close;
+
+        Duration barPeriod = type == Type.DURATION ? timePeriod : Duration.between(beginTime, endTime);
+        series.addBar(new BaseBar(barPeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, amount,
+                trades), !newBar);
+        hasBar = true;
+    }
+
+    /**
+     * @param time the time
+     * @return the begin time of the time period containing {@code time}
+     */
+    private ZonedDateTime getPeriodBeginTime(ZonedDateTime time) {
+        long periodMillis = timePeriod.toMillis();
+        long beginMillis = Math.floorDiv(time.toInstant().toEpochMilli(), periodMillis) * periodMillis;
+        return Instant.ofEpochMilli(beginMillis).atZone(time.getZone());
+    }
+}
@@ -27,6 +27,7 @@
  * <p>
  * This package can be used to aggregate {@link org.ta4j.core.Bar bars} by
  * various conditions, e.g. by
- * {@link org.ta4j.core.aggregator.DurationBarAggregator duration}.
+ * {@link org.ta4j.core.aggregator.DurationBarAggregator duration}, or
+ * {@link org.ta4j.core.aggregator.StreamingBarAggregator one input at a time}.
  */
 package org.ta4j.core.aggregator;
\ No newline at end of file
@@ -23,8 +23,7 @@
  */
 package org.ta4j.core.analysis;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
 
 import org.ta4j.core.BarSeries;
@@ -36,14 +35,22 @@ import org.ta4j.core.num.Num;
 /**
  * Allows to follow the money cash flow involved by a list of positions over a
  * bar series.
+ *
+ * <p>
+ * Only the values of the bars within the positions are calculated and stored.
+ * Between two positions (and after the last one), the cash flow stays at the
+ * value of the last exit; before the first position, it is one.
  */
 public class CashFlow implements Indicator<Num> {
 
     /** The bar series. */
     private final BarSeries barSeries;
 
-    /** The (accrued) cash flow sequence (without trading costs). */
-    private final List<Num> values;
+    /** The value before the first position. */
+    private final Num initialValue;
+
+    /** The (accrued) cash flow values within the positions. */
+    private final SegmentedValues values = new SegmentedValues();
 
     /**
      * Constructor for cash flows of a closed position.
@@ -53,10 +60,9 @@ public class CashFlow implements Indicator<Num> {
      */
     public CashFlow(BarSeries barSeries, Position position) {
         this.barSeries = barSeries;
-        values = new ArrayList<>(Collections.singletonList(numOf(1)));
+        this.initialValue = numOf(1);
 
         calculate(position);
-        fillToTheEnd(barSeries.getEndIndex());
     }
 
     /**
@@ -79,10 +85,25 @@ public class CashFlow implements Indicator<Num> {
      */
     public CashFlow(BarSeries barSeries, TradingRecord tradingRecord, int finalIndex) {
         this.barSeries = barSeries;
-        values = new ArrayList<>(Collections.singletonList(one()));
+        this.initialValue = one();
 
         calculate(tradingRecord, finalIndex);
-        fillToTheEnd(finalIndex);
+    }
+
+    /**
+     * Constructor for the cash flow of a value series (e.g. the equity of a
+     * portfolio), i.e. the close price of each bar relative to an initial value.
+     *
+     * @param valueSeries  the series of the values
+     * @param initialValue the initial value (e.g. the initial cash)
+     */
+    public CashFlow(BarSeries valueSeries, Num initialValue) {
+        this.barSeries = valueSeries;
+        this.initialValue = one();
+        values.startSegment(0);
+        for (int i = 0; i <= valueSeries.getEndIndex(); i++) {
+            values.add(valueSeries.getClosePrice(i).dividedBy(initialValue));
+        }
     }
 
     /**
@@ -91,7 +112,45 @@ public class CashFlow implements Indicator<Num> {
      */
     @Override
     public Num getValue(int index) {
-        return values.get(index);
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative index: " + index);
+        }
+        int segment = values.findSegment(index);
+        if (segment < 0) {
+            return initialValue;
+        }
+        if (index > values.getEndIndex(segment)) {
+            return values.getLast(segment);
+        }
+        return values.get(segment, index);
+    }
+
+    /**
+     * Returns a view of the cash flow values over a range of bar indexes. The
+     * values are not copied: they are looked up when they are accessed.
+     *
+     * @param beginIndex the first bar index (inclusive)
+     * @param endIndex   the last bar index (inclusive)
+     * @return the cash flow values from {@code beginIndex} to {@code endIndex}
+     */
+    public List<Num> getValues(int beginIndex, int endIndex) {
+        if (beginIndex < 0 || endIndex < beginIndex - 1) {
+            throw new IndexOutOfBoundsException("Invalid range: " + beginIndex + " to " + endIndex);
+        }
+        return new AbstractList<Num>() {
+            @Override
+            public Num get(int i) {
+                if (i < 0 || i >= size()) {
+                    throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size());
+                }
+                return getValue(beginIndex + i);
+            }
+
+            @Override
+            public int size() {
+                return endIndex - beginIndex + 1;
+            }
+        };
     }
 
     @Override
@@ -140,14 +199,13 @@ public class CashFlow implements Indicator<Num> {
         boolean isLongTrade = position.getEntry().isBuy();
         int endIndex = determineEndIndex(position, finalIndex, barSeries.getEndIndex());
         final int entryIndex = position.getEntry().getIndex();
-        int begin = entryIndex + 1;
-        if (begin > values.size()) {
-            Num lastValue = values.get(values.size() - 1);
-            values.addAll(Collections.nCopies(begin - values.size(), lastValue));
-        }
+        // the values are appended after the ones of the previous positions
+        int startingIndex = Math.max(entryIndex + 1, values.getEndIndex() + 1);
+        startingIndex = Math.max(startingIndex, 1);
         // Trade is not valid if net balance at the entryIndex is negative
-        if (values.get(values.size() - 1).isGreaterThan(values.get(0).numOf(0))) {
-            int startingIndex = Math.max(begin, 1);
+        if (getValue(startingIndex - 1).isGreaterThan(initialValue.numOf(0))) {
+            Num entryValue = getValue(entryIndex);
+            values.startSegment(startingIndex);
 
             int nPeriods = endIndex - entryIndex;
             Num holdingCost = position.getHoldingCost(endIndex);
@@ -158,7 +216,7 @@ public class CashFlow implements Indicator<Num> {
             for (int i = startingIndex; i < endIndex; i++) {
                 Num intermediateNetPrice = addCost(barSeries.getBar(i).getClosePrice(), avgCost, isLongTrade);
                 Num ratio = getIntermediateRatio(isLongTrade, netEntryPrice, intermediateNetPrice);
-                values.add(values.get(entryIndex).multipliedBy(ratio));
+                values.add(entryValue.multipliedBy(ratio));
             }
 
             // add net cash flow at exit position
@@ -169,7 +227,7 @@ public class CashFlow implements Indicator<Num> {
                 exitPrice = barSeries.getBar(endIndex).getClosePrice();
             }
             Num ratio = getIntermediateRatio(isLongTrade, netEntryPrice, addCost(exitPrice, avgCost, isLongTrade));
-            values.add(values.get(entryIndex).multipliedBy(ratio));
+            values.add(entryValue.multipliedBy(ratio));
         }
     }
 
@@ -235,18 +293,6 @@ public class CashFlow implements Indicator<Num> {
         return netPrice;
     }
 
-    /**
-     * Pads {@link #values} with its last value up until {@code endIndex}.
-     * 
-     * @param endIndex the end index
-     */
-    private void fillToTheEnd(int endIndex) {
-        if (endIndex >= values.size()) {
-            Num lastValue = values.get(values.size() - 1);
-            values.addAll(Collections.nCopies(barSeries.getEndIndex() - values.size() + 1, lastValue));
-        }
-    }
-
     /**
      * Determines the valid final index to be considered.
      *
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.analysis;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +37,11 @@ import org.ta4j.core.num.Num;
 
 /**
  * Allows to compute the return rate of a price time-series.
+ *
+ * <p>
+ * Only the return rates of the bars within the positions are calculated and
+ * stored. The return rate of all other bars is zero (except at index 0, where
+ * there is no return).
  */
 public class Returns implements Indicator<Num> {
 
@@ -66,8 +72,8 @@ public class Returns implements Indicator<Num> {
     /** The bar series. */
     private final BarSeries barSeries;
 
-    /** The return rates. */
-    private final List<Num> values;
+    /** The return rates within the positions. */
+    private final SegmentedValues values = new SegmentedValues();
 
     /** Unit element for efficient arithmetic return computation. */
     private static Num one;
@@ -83,11 +89,7 @@ public class Returns implements Indicator<Num> {
         one = barSeries.one();
         this.barSeries = barSeries;
         this.type = type;
-        // at index 0, there is no return
-        values = new ArrayList<>(Collections.singletonList(NaN.NaN));
         calculate(position, barSeries.getEndIndex());
-
-        fillToTheEnd(barSeries.getEndIndex());
     }
 
     /**
@@ -101,18 +103,129 @@ public class Returns implements Indicator<Num> {
         one = barSeries.one();
         this.barSeries = barSeries;
         this.type = type;
-        // at index 0, there is no return
-        values = new ArrayList<>(Collections.singletonList(NaN.NaN));
         calculate(tradingRecord);
+    }
 
-        fillToTheEnd(tradingRecord.getEndIndex(barSeries));
+    /**
+     * Constructor for the returns of a value series (e.g. the equity of a
+     * portfolio) from bar to bar.
+     *
+     * @param valueSeries  the series of the values (close prices)
+     * @param initialValue the value before the first bar (e.g. the initial cash),
+     *                     from which the return of the first bar is calculated
+     * @param type         the ReturnType
+     */
+    public Returns(BarSeries valueSeries, Num initialValue, ReturnType type) {
+        one = valueSeries.one();
+        this.barSeries = valueSeries;
+        this.type = type;
+        values.startSegment(0);
+        Num previousValue = initialValue;
+        for (int i = 0; i <= valueSeries.getEndIndex(); i++) {
+            Num value = valueSeries.getClosePrice(i);
+            values.add(type.calculate(value, previousValue));
+            previousValue = value;
+        }
     }
 
     /**
+     * Returns a view of the return rates of all bars, i.e. up to the end of the
+     * bar series (or the end of the last position, if later). The return rates
+     * are not copied: they are looked up when they are accessed.
+     *
      * @return the return rates
      */
     public List<Num> getValues() {
-        return values;
+        return getValues(0, Math.max(barSeries.getEndIndex(), values.getEndIndex()));
+    }
+
+    /**
+     * Returns a view of the return rates over a range of bar indexes. The return
+     * rates are not copied: they are looked up when they are accessed.
+     *
+     * @param beginIndex the first bar index (inclusive)
+     * @param endIndex   the last bar index (inclusive)
+     * @return the return rates from {@code beginIndex} to {@code endIndex}
+     */
+    public List<Num> getValues(int beginIndex, int endIndex) {
+        if (beginIndex < 0 || endIndex < beginIndex - 1) {
+            throw new IndexOutOfBoundsException("Invalid range: " + beginIndex + " to " + endIndex);
+        }
+        return new AbstractList<Num>() {
+            @Override
+            public Num get(int i) {
+                if (i < 0 || i >= size()) {
+                    throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size());
+                }
+                return getValue(beginIndex + i);
+            }
+
+            @Override
+            public int size() {
+                return endIndex - beginIndex + 1;
+            }
+        };
+    }
+
+    /**
+     * Returns the return rates over a range of bar indexes, sorted in ascending
+     * order. Only the return rates within the positions are sorted; the zero
+     * return rates of the other bars are inserted as a block.
+     *
+     * @param beginIndex the first bar index (inclusive)
+     * @param endIndex   the last bar index (inclusive)
+     * @return the sorted return rates from {@code beginIndex} to
+     *         {@code endIndex}; must not be modified
+     */
+    public List<Num> getSortedValues(int beginIndex, int endIndex) {
+        if (beginIndex < 0 || endIndex < beginIndex - 1) {
+            throw new IndexOutOfBoundsException("Invalid range: " + beginIndex + " to " + endIndex);
+        }
+        List<Num> rates = new ArrayList<>();
+        if (beginIndex == 0 && values.findSegment(0) < 0) {
+            rates.add(NaN.NaN);
+        }
+        int firstSegment = Math.max(values.findSegment(beginIndex), 0);
+        for (int segment = firstSegment; segment < values.getSegmentCount(); segment++) {
+            if (values.getBeginIndex(segment) > endIndex) {
+                break;
+            }
+            int from = Math.max(beginIndex, values.getBeginIndex(segment));
+            int to = Math.min(endIndex, values.getEndIndex(segment));
+            for (int i = from; i <= to; i++) {
+                rates.add(values.get(segment, i));
+            }
+        }
+        Collections.sort(rates);
+
+        Num zero = barSeries.zero();
+        int nZeros = endIndex - beginIndex + 1 - rates.size();
+        int firstZero = 0;
+        while (firstZero < rates.size() && rates.get(firstZero).isLessThan(zero)) {
+            firstZero++;
+        }
+        int size = rates.size() + nZeros;
+        int zeroBegin = firstZero;
+        return new AbstractList<Num>() {
+            @Override
+            public Num get(int i) {
+                if (i < 0 || i >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+                }
+                if (i < zeroBegin) {
+                    return rates.get(i);
+                }
+                if (i < zeroBegin + nZeros) {
+                    return zero;
+                }
+                return rates.get(i - nZeros);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     /**
@@ -121,7 +234,15 @@ public class Returns implements Indicator<Num> {
      */
     @Override
     public Num getValue(int index) {
-        return values.get(index);
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative index: " + index);
+        }
+        int segment = values.findSegment(index);
+        if (segment >= 0 && index <= values.getEndIndex(segment)) {
+            return values.get(segment, index);
+        }
+        // at index 0, there is no return
+        return index == 0 ? NaN.NaN : barSeries.zero();
     }
 
     @Override
@@ -159,12 +280,10 @@ public class Returns implements Indicator<Num> {
         Num minusOne = barSeries.numOf(-1);
         int endIndex = CashFlow.determineEndIndex(position, finalIndex, barSeries.getEndIndex());
         final int entryIndex = position.getEntry().getIndex();
-        int begin = entryIndex + 1;
-        if (begin > values.size()) {
-            values.addAll(Collections.nCopies(begin - values.size(), barSeries.zero()));
-        }
-
-        int startingIndex = Math.max(begin, 1);
+        // the return rates are appended after the ones of the previous positions
+        int startingIndex = Math.max(entryIndex + 1, values.getEndIndex() + 1);
+        startingIndex = Math.max(startingIndex, 1);
+        values.startSegment(startingIndex);
         int nPeriods = endIndex - entryIndex;
         Num holdingCost = position.getHoldingCost(endIndex);
         Num avgCost = holdingCost.dividedBy(holdingCost.numOf(nPeriods));
@@ -215,15 +334,4 @@ public class Returns implements Indicator<Num> {
         // For each position...
         tradingRecord.getPositions().forEach(p -> calculate(p, endIndex));
     }
-
-    /**
-     * Pads {@link #values} with zeros up until {@code endIndex}.
-     * 
-     * @param endIndex the end index
-     */
-    private void fillToTheEnd(int endIndex) {
-        if (endIndex >= values.size()) {
-            values.addAll(Collections.nCopies(barSeries.getEndIndex() - values.size() + 1, barSeries.zero()));
-        }
-    }
-}
\ No newline at end of file
+}
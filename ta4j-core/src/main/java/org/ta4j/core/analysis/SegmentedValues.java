@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * The values of a {@link CashFlow} or of {@link Returns} within the positions
+ * of a trading record.
+ *
+ * <p>
+ * Each position adds a segment of consecutive bar indexes with a value per
+ * bar. The bars between two segments are not stored: their value is derived
+ * from the previous segment (e.g. the cash flow stays at the value of the last
+ * exit). The memory used is therefore proportional to the number of bars in
+ * positions, not to the length of the bar series.
+ */
+final class SegmentedValues {
+
+    /** The values of all segments, in order. */
+    private final List<Num> values = new ArrayList<>();
+
+    /** The first bar index of each segment. */
+    private int[] beginIndexes = new int[4];
+
+    /** The offset in {@link #values} of the first value of each segment. */
+    private int[] offsets = new int[4];
+
+    /** The number of segments. */
+    private int segmentCount;
+
+    /**
+     * Starts a new segment, whose values are added by {@link #add(Num)}.
+     *
+     * @param beginIndex the bar index of the first value of the segment
+     */
+    void startSegment(int beginIndex) {
+        if (segmentCount == beginIndexes.length) {
+            beginIndexes = Arrays.copyOf(beginIndexes, segmentCount * 2);
+            offsets = Arrays.copyOf(offsets, segmentCount * 2);
+        }
+        beginIndexes[segmentCount] = beginIndex;
+        offsets[segmentCount] = values.size();
+        segmentCount++;
+    }
+
+    /**
+     * Adds the value of the next bar to the current segment.
+     *
+     * @param value the value
+     */
+    void add(Num value) {
+        values.add(value);
+    }
+
+    /**
+     * @return the number of segments
+     */
+    int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * @return the number of stored values (of all segments)
+     */
+    int getValueCount() {
+        return values.size();
+    }
+
+    /**
+     * @param segment the segment
+     * @return the bar index of the first value of the segment
+     */
+    int getBeginIndex(int segment) {
+        return beginIndexes[segment];
+    }
+
+    /**
+     * @param segment the segment
+     * @return the bar index of the last value of the segment
+     */
+    int getEndIndex(int segment) {
+        int end = segment + 1 < segmentCount ? offsets[segment + 1] : values.size();
+        return beginIndexes[segment] + end - offsets[segment] - 1;
+    }
+
+    /**
+     * @return the bar index of the last value of the last segment, -1 if there is
+     *         no segment
+     */
+    int getEndIndex() {
+        return segmentCount == 0 ? -1 : getEndIndex(segmentCount - 1);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the last segment beginning at or before {@code index}, -1 if there
+     *         is none
+     */
+    int findSegment(int index) {
+        int low = 0;
+        int high = segmentCount - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (beginIndexes[middle] <= index) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @param segment the segment
+     * @param index   the bar index, between the begin and the end index of the
+     *                segment
+     * @return the value of the bar
+     */
+    Num get(int segment, int index) {
+        return values.get(offsets[segment] + index - beginIndexes[segment]);
+    }
+
+    /**
+     * @param segment the segment
+     * @return the value of the last bar of the segment
+     */
+    Num getLast(int segment) {
+        return get(segment, getEndIndex(segment));
+    }
+
+    /**
+     * @return the values of all segments, in order; must not be modified
+     */
+    List<Num> getValues() {
+        return values;
+    }
+}
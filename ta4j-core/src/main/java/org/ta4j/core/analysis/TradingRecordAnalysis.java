@@ -0,0 +1,191 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.Returns.ReturnType;
+import org.ta4j.core.num.Num;
+
+/**
+ * The analysis of a trading record over a bar series, shared by the criteria
+ * evaluated on it.
+ *
+ * <p>
+ * Many criteria need the same intermediate results, e.g. the {@link CashFlow}
+ * (maximum drawdown, return over maximum drawdown), the {@link Returns} (value
+ * at risk, expected shortfall) or the profit of each position (profit, loss,
+ * number of winning positions). Evaluated one by one, each criterion builds
+ * them again. A {@code TradingRecordAnalysis} builds each of them once, on
+ * first use, and can {@link #calculate(List) calculate} a set of criteria
+ * with them.
+ *
+ * <p>
+ * An analysis is not thread-safe; it is meant to be used for one trading
+ * record by one thread (e.g. to generate its
+ * {@link org.ta4j.core.reports.TradingStatement TradingStatement}).
+ */
+public class TradingRecordAnalysis {
+
+    private final BarSeries series;
+    private final TradingRecord tradingRecord;
+
+    private CashFlow cashFlow;
+    private final Map<ReturnType, Returns> returns = new EnumMap<>(ReturnType.class);
+    private final Map<ReturnType, List<Num>> sortedReturnRates = new EnumMap<>(ReturnType.class);
+    private List<Num> profits;
+    private List<Num> grossProfits;
+
+    /** The values calculated by {@link #getOrCalculate(Object, Function)}. */
+    private final Map<Object, Num> values = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param series        the bar series
+     * @param tradingRecord the trading record
+     */
+    public TradingRecordAnalysis(BarSeries series, TradingRecord tradingRecord) {
+        this.series = series;
+        this.tradingRecord = tradingRecord;
+    }
+
+    /** @return {@link #series} */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /** @return {@link #tradingRecord} */
+    public TradingRecord getTradingRecord() {
+        return tradingRecord;
+    }
+
+    /**
+     * @return the cash flow of the trading record (see
+     *         {@link CashFlow#CashFlow(BarSeries, TradingRecord)})
+     */
+    public CashFlow getCashFlow() {
+        if (cashFlow == null) {
+            cashFlow = new CashFlow(series, tradingRecord);
+        }
+        return cashFlow;
+    }
+
+    /**
+     * @param type the return type
+     * @return the returns of the trading record (see
+     *         {@link Returns#Returns(BarSeries, TradingRecord, ReturnType)})
+     */
+    public Returns getReturns(ReturnType type) {
+        return returns.computeIfAbsent(type, t -> new Returns(series, tradingRecord, t));
+    }
+
+    /**
+     * @param type the return type
+     * @return the return rates of the trading record without the first (NaN) one,
+     *         sorted in ascending order; must not be modified
+     */
+    public List<Num> getSortedReturnRates(ReturnType type) {
+        return sortedReturnRates.computeIfAbsent(type, t -> {
+            Returns typeReturns = getReturns(t);
+            return typeReturns.getSortedValues(1, typeReturns.getSize());
+        });
+    }
+
+    /**
+     * @return the {@link Position#getProfit() profit} (with trading costs) of each
+     *         position of the trading record, in the order of
+     *         {@link TradingRecord#getPositions()}
+     */
+    public List<Num> getProfits() {
+        if (profits == null) {
+            List<Position> positions = tradingRecord.getPositions();
+            List<Num> positionProfits = new ArrayList<>(positions.size());
+            for (Position position : positions) {
+                positionProfits.add(position.getProfit());
+            }
+            profits = Collections.unmodifiableList(positionProfits);
+        }
+        return profits;
+    }
+
+    /**
+     * @return the {@link Position#getGrossProfit() gross profit} (without trading
+     *         costs) of each position of the trading record, in the order of
+     *         {@link TradingRecord#getPositions()}
+     */
+    public List<Num> getGrossProfits() {
+        if (grossProfits == null) {
+            List<Position> positions = tradingRecord.getPositions();
+            List<Num> positionProfits = new ArrayList<>(positions.size());
+            for (Position position : positions) {
+                positionProfits.add(position.getGrossProfit());
+            }
+            grossProfits = Collections.unmodifiableList(positionProfits);
+        }
+        return grossProfits;
+    }
+
+    /**
+     * Returns the value calculated for {@code key}, calculating it on first use.
+     * Criteria use it to share a value between them (e.g. the maximum drawdown
+     * with the return over maximum drawdown).
+     *
+     * @param key         the key of the value (e.g. the criterion class)
+     * @param calculation the calculation of the value
+     * @return the value
+     */
+    public Num getOrCalculate(Object key, Function<TradingRecordAnalysis, Num> calculation) {
+        Num value = values.get(key);
+        if (value == null) {
+            value = calculation.apply(this);
+            values.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Calculates the criteria on this analysis.
+     *
+     * @param criteria the criteria
+     * @return the value of each criterion, in the order of {@code criteria}
+     */
+    public List<Num> calculate(List<? extends AnalysisCriterion> criteria) {
+        List<Num> criteriaValues = new ArrayList<>(criteria.size());
+        for (AnalysisCriterion criterion : criteria) {
+            criteriaValues.add(criterion.calculate(this));
+        }
+        return criteriaValues;
+    }
+}
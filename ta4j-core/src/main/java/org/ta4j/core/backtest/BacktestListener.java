@@ -0,0 +1,59 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+/**
+ * Listener of the results of a {@link PortfolioBacktestExecutor}.
+ *
+ * <p>
+ * The methods are called from the threads running the tasks, but never
+ * concurrently for the same run.
+ */
+public interface BacktestListener {
+
+    /**
+     * Called for each task that has been backtested, in order of completion.
+     *
+     * @param result the result of the task
+     */
+    void onResult(BacktestResult result);
+
+    /**
+     * Called for each task that has failed. The other tasks are still run.
+     *
+     * @param task  the failed task
+     * @param error the error thrown by the task
+     */
+    default void onFailure(BacktestTask task, Throwable error) {
+    }
+
+    /**
+     * Called after each finished (backtested or failed) task.
+     *
+     * @param finished  the number of finished tasks
+     * @param submitted the number of tasks submitted so far
+     */
+    default void onProgress(long finished, long submitted) {
+    }
+}
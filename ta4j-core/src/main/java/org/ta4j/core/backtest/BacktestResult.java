@@ -0,0 +1,82 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.reports.TradingStatement;
+
+/**
+ * The result of a {@link BacktestTask} of a {@link PortfolioBacktestExecutor}.
+ */
+public class BacktestResult {
+
+    private final BacktestTask task;
+    private final TradingRecord tradingRecord;
+    private final TradingStatement tradingStatement;
+    private final long durationNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param task             the backtested task
+     * @param tradingRecord    the {@link TradingRecord} of the backtest
+     * @param tradingStatement the {@link TradingStatement} of the backtest
+     * @param durationNanos    the time spent on the task, in nanoseconds
+     */
+    public BacktestResult(BacktestTask task, TradingRecord tradingRecord, TradingStatement tradingStatement,
+            long durationNanos) {
+        this.task = task;
+        this.tradingRecord = tradingRecord;
+        this.tradingStatement = tradingStatement;
+        this.durationNanos = durationNanos;
+    }
+
+    /** @return {@link #task} */
+    public BacktestTask getTask() {
+        return task;
+    }
+
+    /** @return {@link #tradingRecord} */
+    public TradingRecord getTradingRecord() {
+        return tradingRecord;
+    }
+
+    /** @return {@link #tradingStatement} */
+    public TradingStatement getTradingStatement() {
+        return tradingStatement;
+    }
+
+    /**
+     * @return the time spent on the backtest and the trading statement of the
+     *         task, in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{task: %s, durationNanos: %d}", task, durationNanos);
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.reports.TradingStatement;
+import org.ta4j.core.reports.TradingStatementGenerator;
+
+/**
+ * A run of a {@link PortfolioBacktestExecutor}.
+ *
+ * <p>
+ * Submits the tasks to the executor, keeping at most {@code maxPendingTasks}
+ * of them submitted and not finished, and passes their results to the
+ * listener.
+ */
+public class BacktestRun {
+
+    /** The logger */
+    private static final Logger log = LoggerFactory.getLogger(BacktestRun.class);
+
+    private final Executor executor;
+    private final int maxPendingTasks;
+    private final Iterator<? extends BacktestTask> tasks;
+    private final Function<BacktestTask, TradingRecord> backtest;
+    private final TradingStatementGenerator tradingStatementGenerator;
+    private final BacktestListener listener;
+
+    /** The permits for the pending tasks. */
+    private final Semaphore permits;
+
+    /** The submitted tasks that have not finished yet. */
+    private final Set<FutureTask<?>> pendingTasks = ConcurrentHashMap.newKeySet();
+
+    /** Released once all submitted tasks have finished. */
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private volatile boolean cancelled;
+    private volatile long submittedCount;
+    private long finishedCount;
+    private long failedCount;
+
+    /**
+     * Constructor.
+     *
+     * @param executor                  the executor running the tasks
+     * @param maxPendingTasks           the maximum number of tasks submitted to
+     *                                  the executor and not finished yet
+     * @param tasks                     the tasks
+     * @param backtest                  the backtest of a task
+     * @param tradingStatementGenerator the TradingStatementGenerator
+     * @param listener                  the listener of the results
+     */
+    BacktestRun(Executor executor, int maxPendingTasks, Iterator<? extends BacktestTask> tasks,
+            Function<BacktestTask, TradingRecord> backtest, TradingStatementGenerator tradingStatementGenerator,
+            BacktestListener listener) {
+        this.executor = executor;
+        this.maxPendingTasks = maxPendingTasks;
+        this.tasks = tasks;
+        this.backtest = backtest;
+        this.tradingStatementGenerator = tradingStatementGenerator;
+        this.listener = listener;
+        this.permits = new Semaphore(maxPendingTasks);
+    }
+
+    /**
+     * Submits all tasks and waits until they have finished.
+     */
+    void run() {
+        try {
+            while (!cancelled && tasks.hasNext()) {
+                permits.acquireUninterruptibly();
+                if (cancelled) {
+                    permits.release();
+                    break;
+                }
+                submit(tasks.next());
+            }
+        } catch (RuntimeException e) {
+            log.error("Cannot read the next backtest task", e);
+            cancel();
+        } finally {
+            // Wait for the pending tasks
+            permits.acquireUninterruptibly(maxPendingTasks);
+            permits.release(maxPendingTasks);
+            finished.countDown();
+        }
+    }
+
+    private void submit(BacktestTask task) {
+        // The permit is released by the task once it has run, or by done() if the
+        // task has been cancelled before it started (done() is also called when a
+        // running task is cancelled, which must keep its permit until it stops)
+        final AtomicBoolean started = new AtomicBoolean();
+        FutureTask<Void> future = new FutureTask<>(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                runTask(task);
+            } finally {
+                permits.release();
+            }
+        }, null) {
+            @Override
+            protected void done() {
+                pendingTasks.remove(this);
+                if (started.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        };
+        pendingTasks.add(future);
+        submittedCount++;
+        if (cancelled) {
+            future.cancel(false);
+            return;
+        }
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            future.cancel(false);
+            fail(task, e);
+            cancel();
+        }
+    }
+
+    private void runTask(BacktestTask task) {
+        if (cancelled) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final BacktestResult result;
+        try {
+            TradingRecord tradingRecord = backtest.apply(task);
+            TradingStatement tradingStatement = tradingStatementGenerator.generate(task.getStrategy(),
+                    tradingRecord, task.getSeries());
+            result = new BacktestResult(task, tradingRecord, tradingStatement, System.nanoTime() - start);
+        } catch (Throwable e) {
+            fail(task, e);
+            return;
+        }
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            finishedCount++;
+            try {
+                listener.onResult(result);
+                listener.onProgress(finishedCount, submittedCount);
+            } catch (RuntimeException e) {
+                log.warn("Backtest listener failed on result of {}", task, e);
+            }
+        }
+    }
+
+    private synchronized void fail(BacktestTask task, Throwable error) {
+        if (cancelled) {
+            return;
+        }
+        finishedCount++;
+        failedCount++;
+        try {
+            listener.onFailure(task, error);
+            listener.onProgress(finishedCount, submittedCount);
+        } catch (RuntimeException e) {
+            log.warn("Backtest listener failed on failure of {}", task, e);
+        }
+    }
+
+    /**
+     * Cancels the run: no more tasks are submitted, the pending tasks that have
+     * not started are cancelled and the results of the running tasks are
+     * discarded.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (FutureTask<?> pendingTask : pendingTasks) {
+            pendingTask.cancel(false);
+        }
+    }
+
+    /**
+     * @return true if the run has been cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return true if all submitted tasks have finished (or the run has been
+     *         cancelled and its running tasks have stopped)
+     */
+    public boolean isDone() {
+        return finished.getCount() == 0;
+    }
+
+    /**
+     * Waits until the run is done.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting
+     */
+    public void await() throws InterruptedException {
+        finished.await();
+    }
+
+    /**
+     * Waits until the run is done, at most {@code timeout}.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return true if the run is done, false if the timeout elapsed
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    /**
+     * @return the number of tasks submitted so far
+     */
+    public long getSubmittedCount() {
+        return submittedCount;
+    }
+
+    /**
+     * @return the number of finished (backtested or failed) tasks whose result
+     *         has been passed to the listener
+     */
+    public synchronized long getFinishedCount() {
+        return finishedCount;
+    }
+
+    /**
+     * @return the number of failed tasks
+     */
+    public synchronized long getFailedCount() {
+        return failedCount;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.Objects;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+
+/**
+ * A work item of a {@link PortfolioBacktestExecutor}: a strategy to backtest on
+ * a bar series.
+ */
+public class BacktestTask {
+
+    private final BarSeries series;
+    private final Strategy strategy;
+
+    /**
+     * Constructor.
+     *
+     * @param series   the bar series
+     * @param strategy the strategy (with indicators of {@code series})
+     */
+    public BacktestTask(BarSeries series, Strategy strategy) {
+        this.series = Objects.requireNonNull(series, "series must not be null");
+        this.strategy = Objects.requireNonNull(strategy, "strategy must not be null");
+    }
+
+    /** @return {@link #series} */
+    public BarSeries getSeries() {
+        return series;
+    }
+
+    /** @return {@link #strategy} */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{series: %s, strategy: %s}", series.getName(), strategy.getName());
+    }
+}
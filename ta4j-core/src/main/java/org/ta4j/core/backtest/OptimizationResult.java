@@ -0,0 +1,82 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.num.Num;
+
+/**
+ * The result of a strategy variant of a {@link ParameterOptimizer parameter
+ * optimization}.
+ *
+ * @param <P> the type of the parameters
+ */
+public class OptimizationResult<P> {
+
+    private final P parameters;
+    private final Strategy strategy;
+    private final TradingRecord tradingRecord;
+    private final Num value;
+
+    /**
+     * Constructor.
+     *
+     * @param parameters    the parameters of the variant
+     * @param strategy      the {@link Strategy} of the variant
+     * @param tradingRecord the {@link TradingRecord} of the backtest
+     * @param value         the value of the criterion
+     */
+    public OptimizationResult(P parameters, Strategy strategy, TradingRecord tradingRecord, Num value) {
+        this.parameters = parameters;
+        this.strategy = strategy;
+        this.tradingRecord = tradingRecord;
+        this.value = value;
+    }
+
+    /** @return {@link #parameters} */
+    public P getParameters() {
+        return parameters;
+    }
+
+    /** @return {@link #strategy} */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /** @return {@link #tradingRecord} */
+    public TradingRecord getTradingRecord() {
+        return tradingRecord;
+    }
+
+    /** @return {@link #value} */
+    public Num getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{parameters: %s, strategy: %s, value: %s}", parameters, strategy.getName(), value);
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.IndicatorPool;
+import org.ta4j.core.num.Num;
+
+/**
+ * Finds the best parameters of a strategy by backtesting a variant of the
+ * strategy for each parameter of a parameter space (e.g. a grid of bar counts).
+ *
+ * <p>
+ * All variants are created with the same {@link IndicatorPool}, so
+ * structurally equal indicators of different variants (e.g. the same moving
+ * average of the close price) are shared and calculate their values only once.
+ * A grid sweep then costs about the number of distinct indicators instead of
+ * the number of variants. The variants are backtested in parallel.
+ */
+public class ParameterOptimizer {
+
+    /** The logger */
+    private static final Logger log = LoggerFactory.getLogger(ParameterOptimizer.class);
+
+    private final BarSeriesManager seriesManager;
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series
+     */
+    public ParameterOptimizer(BarSeries series) {
+        this(new BarSeriesManager(series));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param seriesManager the manager running the backtests (with its cost and
+     *                      trade execution models)
+     */
+    public ParameterOptimizer(BarSeriesManager seriesManager) {
+        this.seriesManager = seriesManager;
+    }
+
+    /**
+     * Backtests a strategy variant for each of the parameters, opening the
+     * positions with a {@link TradeType#BUY BUY} trade.
+     *
+     * @param <P>             the type of the parameters
+     * @param parameters      the parameter space
+     * @param strategyFactory the factory creating the strategy of a parameter;
+     *                        it should create its indicators with
+     *                        {@link IndicatorPool#share(org.ta4j.core.Indicator)}
+     * @param criterion       the criterion to rank the variants
+     * @return the results of the variants, from the best to the worst
+     */
+    public <P> List<OptimizationResult<P>> optimize(Collection<P> parameters,
+            BiFunction<P, IndicatorPool, Strategy> strategyFactory, AnalysisCriterion criterion) {
+        return optimize(parameters, strategyFactory, criterion, TradeType.BUY);
+    }
+
+    /**
+     * Backtests a strategy variant for each of the parameters.
+     *
+     * @param <P>             the type of the parameters
+     * @param parameters      the parameter space
+     * @param strategyFactory the factory creating the strategy of a parameter;
+     *                        it should create its indicators with
+     *                        {@link IndicatorPool#share(org.ta4j.core.Indicator)}
+     * @param criterion       the criterion to rank the variants
+     * @param tradeType       the {@link TradeType} used to open the positions
+     * @return the results of the variants, from the best to the worst
+     */
+    public <P> List<OptimizationResult<P>> optimize(Collection<P> parameters,
+            BiFunction<P, IndicatorPool, Strategy> strategyFactory, AnalysisCriterion criterion,
+            TradeType tradeType) {
+        final IndicatorPool pool = new IndicatorPool();
+        final List<P> variantParameters = new ArrayList<>(parameters);
+        final List<Strategy> strategies = new ArrayList<>(variantParameters.size());
+        for (P parameter : variantParameters) {
+            strategies.add(strategyFactory.apply(parameter, pool));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Optimizing {} variants sharing {} indicators", strategies.size(), pool.size());
+        }
+
+        final BarSeries series = seriesManager.getBarSeries();
+        final Comparator<Num> ranking = (value1, value2) -> criterion.betterThan(value1, value2) ? -1
+                : criterion.betterThan(value2, value1) ? 1 : 0;
+        return IntStream.range(0, strategies.size()).parallel().mapToObj(i -> {
+            final Strategy strategy = strategies.get(i);
+            final TradingRecord tradingRecord = seriesManager.run(strategy, tradeType);
+            return new OptimizationResult<>(variantParameters.get(i), strategy, tradingRecord,
+                    criterion.calculate(series, tradingRecord));
+        }).sorted((result1, result2) -> ranking.compare(result1.getValue(), result2.getValue()))
+                .collect(Collectors.toList());
+    }
+}
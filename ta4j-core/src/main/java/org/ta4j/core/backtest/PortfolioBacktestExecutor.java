@@ -0,0 +1,223 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.analysis.cost.CostModel;
+import org.ta4j.core.analysis.cost.ZeroCostModel;
+import org.ta4j.core.reports.TradingStatementGenerator;
+
+/**
+ * Backtests strategies on many bar series (e.g. a universe of symbols).
+ *
+ * <p>
+ * Unlike the {@link BacktestExecutor}, which backtests strategies on a single
+ * bar series and collects all trading statements into a list, this executor
+ * runs {@link BacktestTask (series, strategy) work items} on a configurable
+ * {@link Executor} (e.g. a {@link ForkJoinPool}, which balances the tasks
+ * between its workers by work-stealing, or an executor of virtual threads) and
+ * passes each {@link BacktestResult result} to a {@link BacktestListener} as
+ * soon as it is available.
+ *
+ * <p>
+ * The tasks are read lazily from their {@link Iterable} and at most
+ * {@code maxPendingTasks} of them are submitted to the executor at once, so
+ * that the memory used by a run is bounded even for millions of tasks (see
+ * {@link #tasks(Iterable, Function)} to create the strategies of each series
+ * only when its tasks are reached). A {@link BacktestRun run} can be
+ * cancelled, and reports its progress and the duration of each task.
+ */
+public class PortfolioBacktestExecutor {
+
+    private final Executor executor;
+    private final int maxPendingTasks;
+    private final TradingStatementGenerator tradingStatementGenerator;
+    private final CostModel transactionCostModel;
+    private final CostModel holdingCostModel;
+    private final TradeExecutionModel tradeExecutionModel;
+
+    /**
+     * Constructor running the tasks on the {@link ForkJoinPool#commonPool()
+     * common pool}.
+     */
+    public PortfolioBacktestExecutor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor with up to four pending tasks per thread of the executor.
+     *
+     * @param executor the executor running the tasks
+     */
+    public PortfolioBacktestExecutor(Executor executor) {
+        this(executor, 4 * parallelism(executor));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor        the executor running the tasks
+     * @param maxPendingTasks the maximum number of tasks submitted to the
+     *                        executor and not finished yet
+     */
+    public PortfolioBacktestExecutor(Executor executor, int maxPendingTasks) {
+        this(executor, maxPendingTasks, new TradingStatementGenerator(), new ZeroCostModel(), new ZeroCostModel(),
+                new TradeOnNextOpenModel());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor                  the executor running the tasks
+     * @param maxPendingTasks           the maximum number of tasks submitted to
+     *                                  the executor and not finished yet
+     * @param tradingStatementGenerator the TradingStatementGenerator
+     * @param transactionCostModel      the cost model for transactions of the
+     *                                  assets
+     * @param holdingCostModel          the cost model for holding the assets
+     *                                  (e.g. borrowing)
+     * @param tradeExecutionModel       the trade execution model
+     */
+    public PortfolioBacktestExecutor(Executor executor, int maxPendingTasks,
+            TradingStatementGenerator tradingStatementGenerator, CostModel transactionCostModel,
+            CostModel holdingCostModel, TradeExecutionModel tradeExecutionModel) {
+        if (maxPendingTasks <= 0) {
+            throw new IllegalArgumentException("Maximum pending task count must be strictly positive");
+        }
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.maxPendingTasks = maxPendingTasks;
+        this.tradingStatementGenerator = tradingStatementGenerator;
+        this.transactionCostModel = transactionCostModel;
+        this.holdingCostModel = holdingCostModel;
+        this.tradeExecutionModel = tradeExecutionModel;
+    }
+
+    /**
+     * Backtests the tasks, opening the positions with a {@link TradeType#BUY BUY}
+     * trade, and returns once all of them are finished.
+     *
+     * @param tasks    the tasks
+     * @param amount   the amount used to open/close the positions
+     * @param listener the listener of the results
+     * @return the finished run
+     */
+    public BacktestRun execute(Iterable<? extends BacktestTask> tasks, Number amount, BacktestListener listener) {
+        return execute(tasks, amount, TradeType.BUY, listener);
+    }
+
+    /**
+     * Backtests the tasks and returns once all of them are finished. The tasks
+     * are submitted from the calling thread; use
+     * {@link #start(Iterable, Number, TradeType, BacktestListener) start} to be
+     * able to cancel the run.
+     *
+     * @param tasks     the tasks
+     * @param amount    the amount used to open/close the positions
+     * @param tradeType the {@link TradeType} used to open the positions
+     * @param listener  the listener of the results
+     * @return the finished run
+     */
+    public BacktestRun execute(Iterable<? extends BacktestTask> tasks, Number amount, TradeType tradeType,
+            BacktestListener listener) {
+        BacktestRun run = newRun(tasks, amount, tradeType, listener);
+        run.run();
+        return run;
+    }
+
+    /**
+     * Starts to backtest the tasks, opening the positions with a
+     * {@link TradeType#BUY BUY} trade.
+     *
+     * @param tasks    the tasks
+     * @param amount   the amount used to open/close the positions
+     * @param listener the listener of the results
+     * @return the started run
+     */
+    public BacktestRun start(Iterable<? extends BacktestTask> tasks, Number amount, BacktestListener listener) {
+        return start(tasks, amount, TradeType.BUY, listener);
+    }
+
+    /**
+     * Starts to backtest the tasks and returns immediately. The tasks are
+     * submitted from a new (daemon) thread.
+     *
+     * @param tasks     the tasks
+     * @param amount    the amount used to open/close the positions
+     * @param tradeType the {@link TradeType} used to open the positions
+     * @param listener  the listener of the results
+     * @return the started run, to {@link BacktestRun#await() await} or
+     *         {@link BacktestRun#cancel() cancel} it
+     */
+    public BacktestRun start(Iterable<? extends BacktestTask> tasks, Number amount, TradeType tradeType,
+            BacktestListener listener) {
+        BacktestRun run = newRun(tasks, amount, tradeType, listener);
+        Thread submitter = new Thread(run::run, "ta4j-backtest-submitter");
+        submitter.setDaemon(true);
+        submitter.start();
+        return run;
+    }
+
+    /**
+     * Creates the tasks of each bar series with each of its strategies. The
+     * strategies of a series are created when the first task of the series is
+     * read, so that only the strategies of the pending tasks are kept in memory.
+     *
+     * @param series          the bar series
+     * @param strategyFactory the factory creating the strategies of a series
+     * @return the tasks, series by series
+     */
+    public static Iterable<BacktestTask> tasks(Iterable<? extends BarSeries> series,
+            Function<? super BarSeries, ? extends Iterable<Strategy>> strategyFactory) {
+        return () -> StreamSupport.stream(series.spliterator(), false)
+                .flatMap(barSeries -> StreamSupport.stream(strategyFactory.apply(barSeries).spliterator(), false)
+                        .map(strategy -> new BacktestTask(barSeries, strategy)))
+                .iterator();
+    }
+
+    private BacktestRun newRun(Iterable<? extends BacktestTask> tasks, Number amount, TradeType tradeType,
+            BacktestListener listener) {
+        Iterator<? extends BacktestTask> iterator = tasks.iterator();
+        return new BacktestRun(executor, maxPendingTasks, iterator, task -> {
+            BarSeriesManager seriesManager = new BarSeriesManager(task.getSeries(), transactionCostModel,
+                    holdingCostModel, tradeExecutionModel);
+            return seriesManager.run(task.getStrategy(), tradeType, task.getSeries().numOf(amount));
+        }, tradingStatementGenerator, Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
+    private static int parallelism(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
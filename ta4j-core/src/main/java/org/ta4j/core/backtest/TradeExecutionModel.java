@@ -45,4 +45,18 @@ public interface TradeExecutionModel {
      */
     void execute(int index, TradingRecord tradingRecord, BarSeries barSeries, Num amount);
 
+    /**
+     * Returns the price at which a trade decided at the given index is executed,
+     * e.g. to size the trade before executing it. Defaults to the close price of
+     * the bar at {@code index}.
+     *
+     * @param index     the trade index from {@code barSeries}
+     * @param barSeries the bar series
+     * @return the execution price, or {@code null} if the trade would not be
+     *         executed (e.g. there is no next bar)
+     */
+    default Num getExecutionPrice(int index, BarSeries barSeries) {
+        return barSeries.getBar(index).getClosePrice();
+    }
+
 }
@@ -46,4 +46,11 @@ public class TradeOnNextOpenModel implements TradeExecutionModel {
         }
     }
 
+    @Override
+    public Num getExecutionPrice(int index, BarSeries barSeries) {
+        int indexOfExecutedBar = index + 1;
+        return indexOfExecutedBar <= barSeries.getEndIndex() ? barSeries.getBar(indexOfExecutedBar).getOpenPrice()
+                : null;
+    }
+
 }
@@ -23,13 +23,13 @@
  */
 package org.ta4j.core.criteria;
 
-import java.util.Collections;
 import java.util.List;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.analysis.Returns;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.num.Num;
 
 /**
@@ -62,42 +62,48 @@ public class ExpectedShortfallCriterion extends AbstractAnalysisCriterion {
             return series.zero();
         }
         Returns returns = new Returns(series, position, Returns.ReturnType.LOG);
-        return calculateES(returns, confidence);
+        // select non-NaN returns
+        List<Num> returnRates = returns.getSortedValues(1, returns.getSize());
+        return calculateES(returnRates, series, confidence);
     }
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        Returns returns = new Returns(series, tradingRecord, Returns.ReturnType.LOG);
-        return calculateES(returns, confidence);
+        return calculate(new TradingRecordAnalysis(series, tradingRecord));
+    }
+
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        return calculateES(analysis.getSortedReturnRates(Returns.ReturnType.LOG), analysis.getBarSeries(),
+                confidence);
     }
 
     /**
-     * Calculates the Expected Shortfall on the return series.
+     * Calculates the Expected Shortfall on the return rates.
      *
-     * @param returns    the corresponding returns
-     * @param confidence the confidence level
+     * @param returnRates the return rates (without NaN), sorted in ascending
+     *                    order
+     * @param series      the bar series
+     * @param confidence  the confidence level
      * @return the relative Expected Shortfall
      */
-    private static Num calculateES(Returns returns, double confidence) {
-        // select non-NaN returns
-        List<Num> returnRates = returns.getValues().subList(1, returns.getSize() + 1);
-        Num zero = returns.zero();
+    private static Num calculateES(List<Num> returnRates, BarSeries series, double confidence) {
+        Num zero = series.zero();
         if (returnRates.isEmpty()) {
             return zero;
         }
         Num expectedShortfall = zero;
         // F(x_var) >= alpha (=1-confidence)
-        int nInBody = (int) (returns.getSize() * confidence);
-        int nInTail = returns.getSize() - nInBody;
+        int nInBody = (int) (returnRates.size() * confidence);
+        int nInTail = returnRates.size() - nInBody;
 
         // calculate average tail loss
-        Collections.sort(returnRates);
         List<Num> tailEvents = returnRates.subList(0, nInTail);
         Num sum = zero;
         for (int i = 0; i < nInTail; i++) {
             sum = sum.plus(tailEvents.get(i));
         }
-        expectedShortfall = sum.dividedBy(returns.numOf(nInTail));
+        expectedShortfall = sum.dividedBy(series.numOf(nInTail));
 
         // ES is non-positive
         if (expectedShortfall.isGreaterThan(zero)) {
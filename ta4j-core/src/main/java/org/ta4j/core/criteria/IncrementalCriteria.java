@@ -0,0 +1,262 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.TradingRecordListener;
+import org.ta4j.core.criteria.pnl.LossCriterion;
+import org.ta4j.core.criteria.pnl.ProfitCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossPercentageCriterion;
+import org.ta4j.core.num.Num;
+
+/**
+ * Criteria of a trading record which are updated in O(1) per closed position,
+ * instead of being recalculated from all positions (e.g. for live trading).
+ *
+ * <p>
+ * Register it with {@link TradingRecord#addListener(TradingRecordListener)}
+ * (or use {@link #IncrementalCriteria(BarSeries, TradingRecord)}); the values
+ * can be read from any thread at any time.
+ *
+ * <p>
+ * The values correspond to {@link NumberOfPositionsCriterion},
+ * {@link NumberOfWinningPositionsCriterion},
+ * {@link NumberOfLosingPositionsCriterion},
+ * {@link NumberOfBreakEvenPositionsCriterion}, {@link ProfitLossCriterion},
+ * {@link ProfitCriterion}, {@link LossCriterion},
+ * {@link ProfitLossPercentageCriterion} and {@link SqnCriterion} (with the
+ * population standard deviation of the profits). The maximum drawdown is
+ * calculated on the equity compounded at the exit of each position (i.e. the
+ * drawdowns within a position are not included), whereas
+ * {@link MaximumDrawdownCriterion} uses the cash flow of each bar.
+ */
+public class IncrementalCriteria implements TradingRecordListener {
+
+    private final BarSeries series;
+
+    private int numberOfPositions;
+    private int numberOfWinningPositions;
+    private int numberOfLosingPositions;
+    private int numberOfBreakEvenPositions;
+
+    private Num profit;
+    private Num loss;
+    private Num profitLossPercentage;
+
+    /** The running mean of the profits (Welford's algorithm). */
+    private Num meanProfit;
+
+    /** The running sum of the squared deviations of the profits from the mean. */
+    private Num squaredDeviations;
+
+    /** The equity (starting at one) after the last closed position. */
+    private Num equity;
+
+    /** The highest equity so far. */
+    private Num peakEquity;
+
+    private Num maximumDrawdown;
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series (used to create the numbers)
+     */
+    public IncrementalCriteria(BarSeries series) {
+        this.series = series;
+        Num zero = series.zero();
+        this.profit = zero;
+        this.loss = zero;
+        this.profitLossPercentage = zero;
+        this.meanProfit = zero;
+        this.squaredDeviations = zero;
+        this.equity = series.one();
+        this.peakEquity = equity;
+        this.maximumDrawdown = zero;
+    }
+
+    /**
+     * Constructor, which adds the closed positions of the trading record and
+     * listens to its further positions.
+     *
+     * @param series        the bar series (used to create the numbers)
+     * @param tradingRecord the trading record
+     */
+    public IncrementalCriteria(BarSeries series, TradingRecord tradingRecord) {
+        this(series);
+        synchronized (this) {
+            tradingRecord.getPositions().forEach(this::add);
+            tradingRecord.addListener(this);
+        }
+    }
+
+    @Override
+    public void onPositionClosed(TradingRecord tradingRecord, Position position) {
+        add(position);
+    }
+
+    /**
+     * Adds a position to the criteria.
+     *
+     * @param position the position (ignored if it is not closed)
+     */
+    public synchronized void add(Position position) {
+        if (!position.isClosed()) {
+            return;
+        }
+        Num positionProfit = position.getProfit();
+        numberOfPositions++;
+        if (positionProfit.isPositive()) {
+            numberOfWinningPositions++;
+            profit = profit.plus(positionProfit);
+        } else if (positionProfit.isNegative()) {
+            numberOfLosingPositions++;
+            loss = loss.plus(positionProfit);
+        } else {
+            numberOfBreakEvenPositions++;
+        }
+
+        Num positionReturn = positionProfit.dividedBy(position.getEntry().getValue());
+        profitLossPercentage = profitLossPercentage.plus(positionReturn.multipliedBy(series.hundred()));
+
+        Num deviation = positionProfit.minus(meanProfit);
+        meanProfit = meanProfit.plus(deviation.dividedBy(series.numOf(numberOfPositions)));
+        squaredDeviations = squaredDeviations.plus(deviation.multipliedBy(positionProfit.minus(meanProfit)));
+
+        equity = equity.plus(equity.multipliedBy(positionReturn));
+        if (equity.isGreaterThan(peakEquity)) {
+            peakEquity = equity;
+        } else {
+            Num drawdown = peakEquity.minus(equity).dividedBy(peakEquity);
+            if (drawdown.isGreaterThan(maximumDrawdown)) {
+                maximumDrawdown = drawdown;
+            }
+        }
+    }
+
+    /**
+     * @return the number of closed positions
+     */
+    public synchronized int getNumberOfPositions() {
+        return numberOfPositions;
+    }
+
+    /**
+     * @return the number of positions with a profit
+     */
+    public synchronized int getNumberOfWinningPositions() {
+        return numberOfWinningPositions;
+    }
+
+    /**
+     * @return the number of positions with a loss
+     */
+    public synchronized int getNumberOfLosingPositions() {
+        return numberOfLosingPositions;
+    }
+
+    /**
+     * @return the number of positions without profit or loss
+     */
+    public synchronized int getNumberOfBreakEvenPositions() {
+        return numberOfBreakEvenPositions;
+    }
+
+    /**
+     * @return the sum of the profits of the winning positions
+     */
+    public synchronized Num getProfit() {
+        return profit;
+    }
+
+    /**
+     * @return the sum of the (negative) profits of the losing positions
+     */
+    public synchronized Num getLoss() {
+        return loss;
+    }
+
+    /**
+     * @return the sum of the profits of all positions
+     */
+    public synchronized Num getProfitLoss() {
+        return profit.plus(loss);
+    }
+
+    /**
+     * @return the sum of the profits of all positions in percentage of their entry
+     *         values
+     */
+    public synchronized Num getProfitLossPercentage() {
+        return profitLossPercentage;
+    }
+
+    /**
+     * @return the average profit of the positions
+     */
+    public synchronized Num getAverageProfitLoss() {
+        return meanProfit;
+    }
+
+    /**
+     * @return the (population) variance of the profits of the positions
+     */
+    public synchronized Num getProfitLossVariance() {
+        if (numberOfPositions == 0) {
+            return series.zero();
+        }
+        return squaredDeviations.dividedBy(series.numOf(numberOfPositions));
+    }
+
+    /**
+     * @return the system quality number, i.e. the average profit divided by the
+     *         standard deviation of the profits, multiplied by the square root of
+     *         the number of positions
+     */
+    public synchronized Num getSqn() {
+        Num standardDeviation = getProfitLossVariance().sqrt();
+        if (standardDeviation.isZero()) {
+            return series.zero();
+        }
+        return meanProfit.dividedBy(standardDeviation).multipliedBy(series.numOf(numberOfPositions).sqrt());
+    }
+
+    /**
+     * @return the equity (starting at one) compounded from the return of each
+     *         closed position
+     */
+    public synchronized Num getEquity() {
+        return equity;
+    }
+
+    /**
+     * @return the maximum drawdown of the equity, in decimal format
+     */
+    public synchronized Num getMaximumDrawdown() {
+        return maximumDrawdown;
+    }
+}
@@ -27,6 +27,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.analysis.CashFlow;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.num.Num;
 
 /**
@@ -57,6 +58,12 @@ public class MaximumDrawdownCriterion extends AbstractAnalysisCriterion {
         return calculateMaximumDrawdown(series, tradingRecord, cashFlow);
     }
 
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        return analysis.getOrCalculate(MaximumDrawdownCriterion.class, a -> calculateMaximumDrawdown(
+                a.getBarSeries(), a.getTradingRecord(), a.getCashFlow()));
+    }
+
     /** The lower the criterion value, the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
@@ -26,6 +26,7 @@ package org.ta4j.core.criteria;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.num.Num;
 
 /**
@@ -48,6 +49,17 @@ public class NumberOfBreakEvenPositionsCriterion extends AbstractAnalysisCriteri
         return series.numOf(numberOfBreakEvenTrades);
     }
 
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        long numberOfBreakEvenTrades = 0;
+        for (Num profit : analysis.getProfits()) {
+            if (profit.isZero()) {
+                numberOfBreakEvenTrades++;
+            }
+        }
+        return analysis.getBarSeries().numOf(numberOfBreakEvenTrades);
+    }
+
     private boolean isBreakEvenPosition(Position position) {
         return position.isClosed() && position.getProfit().isZero();
     }
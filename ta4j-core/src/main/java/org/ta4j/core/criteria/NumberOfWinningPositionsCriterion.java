@@ -26,6 +26,7 @@ package org.ta4j.core.criteria;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.num.Num;
 
 /**
@@ -44,6 +45,17 @@ public class NumberOfWinningPositionsCriterion extends AbstractAnalysisCriterion
         return series.numOf(numberOfWinningPositions);
     }
 
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        long numberOfWinningPositions = 0;
+        for (Num profit : analysis.getProfits()) {
+            if (profit.isPositive()) {
+                numberOfWinningPositions++;
+            }
+        }
+        return analysis.getBarSeries().numOf(numberOfWinningPositions);
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
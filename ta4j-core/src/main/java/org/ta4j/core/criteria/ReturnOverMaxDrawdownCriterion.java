@@ -27,6 +27,7 @@ import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.criteria.pnl.ReturnCriterion;
 import org.ta4j.core.num.NaN;
 import org.ta4j.core.num.Num;
@@ -66,6 +67,17 @@ public class ReturnOverMaxDrawdownCriterion extends AbstractAnalysisCriterion {
         }
     }
 
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        final Num maxDrawdown = maxDrawdownCriterion.calculate(analysis);
+        if (maxDrawdown.isZero()) {
+            return NaN.NaN;
+        } else {
+            final Num totalProfit = grossReturnCriterion.calculate(analysis);
+            return totalProfit.dividedBy(maxDrawdown);
+        }
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
@@ -23,13 +23,13 @@
  */
 package org.ta4j.core.criteria;
 
-import java.util.Collections;
 import java.util.List;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.analysis.Returns;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.num.Num;
 
 /**
@@ -58,26 +58,32 @@ public class ValueAtRiskCriterion extends AbstractAnalysisCriterion {
             return series.zero();
         }
         Returns returns = new Returns(series, position, Returns.ReturnType.LOG);
-        return calculateVaR(returns, confidence);
+        // select non-NaN returns
+        List<Num> returnRates = returns.getSortedValues(1, returns.getSize());
+        return calculateVaR(returnRates, series.zero(), confidence);
     }
 
     @Override
     public Num calculate(BarSeries series, TradingRecord tradingRecord) {
-        Returns returns = new Returns(series, tradingRecord, Returns.ReturnType.LOG);
-        return calculateVaR(returns, confidence);
+        return calculate(new TradingRecordAnalysis(series, tradingRecord));
+    }
+
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        return calculateVaR(analysis.getSortedReturnRates(Returns.ReturnType.LOG), analysis.getBarSeries().zero(),
+                confidence);
     }
 
     /**
-     * Calculates the VaR on the return series.
+     * Calculates the VaR on the return rates.
      *
-     * @param returns    the corresponding returns
-     * @param confidence the confidence level
+     * @param returnRates the return rates (without NaN), sorted in ascending
+     *                    order
+     * @param zero        the Num of 0
+     * @param confidence  the confidence level
      * @return the relative Value at Risk
      */
-    private static Num calculateVaR(Returns returns, double confidence) {
-        Num zero = returns.zero();
-        // select non-NaN returns
-        List<Num> returnRates = returns.getValues().subList(1, returns.getSize() + 1);
+    private static Num calculateVaR(List<Num> returnRates, Num zero, double confidence) {
         if (returnRates.isEmpty()) {
             return zero;
         }
@@ -85,11 +91,10 @@ public class ValueAtRiskCriterion extends AbstractAnalysisCriterion {
         Num valueAtRisk = zero;
         if (!returnRates.isEmpty()) {
             // F(x_var) >= alpha (=1-confidence)
-            int nInBody = (int) (returns.getSize() * confidence);
-            int nInTail = returns.getSize() - nInBody;
+            int nInBody = (int) (returnRates.size() * confidence);
+            int nInTail = returnRates.size() - nInBody;
 
             // The series is not empty, nInTail > 0
-            Collections.sort(returnRates);
             valueAtRisk = returnRates.get(nInTail - 1);
 
             // VaR is non-positive
@@ -26,6 +26,7 @@ package org.ta4j.core.criteria.pnl;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
 import org.ta4j.core.num.Num;
 
@@ -75,6 +76,17 @@ public class LossCriterion extends AbstractAnalysisCriterion {
                 .reduce(series.zero(), Num::plus);
     }
 
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        Num totalLoss = analysis.getBarSeries().zero();
+        for (Num loss : excludeCosts ? analysis.getGrossProfits() : analysis.getProfits()) {
+            if (loss.isNegative()) {
+                totalLoss = totalLoss.plus(loss);
+            }
+        }
+        return totalLoss;
+    }
+
     /** The higher the criterion value (= the less the loss), the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
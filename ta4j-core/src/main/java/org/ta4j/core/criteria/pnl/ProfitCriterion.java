@@ -26,6 +26,7 @@ package org.ta4j.core.criteria.pnl;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
 import org.ta4j.core.num.Num;
 
@@ -75,6 +76,17 @@ public class ProfitCriterion extends AbstractAnalysisCriterion {
                 .reduce(series.zero(), Num::plus);
     }
 
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        Num totalProfit = analysis.getBarSeries().zero();
+        for (Num profit : excludeCosts ? analysis.getGrossProfits() : analysis.getProfits()) {
+            if (profit.isPositive()) {
+                totalProfit = totalProfit.plus(profit);
+            }
+        }
+        return totalProfit;
+    }
+
     /** The higher the criterion value (= the higher the profit), the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
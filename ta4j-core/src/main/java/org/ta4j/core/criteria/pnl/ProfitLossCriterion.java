@@ -26,6 +26,7 @@ package org.ta4j.core.criteria.pnl;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
 import org.ta4j.core.num.Num;
 
@@ -51,6 +52,15 @@ public class ProfitLossCriterion extends AbstractAnalysisCriterion {
                 .reduce(series.zero(), Num::plus);
     }
 
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        Num profitLoss = analysis.getBarSeries().zero();
+        for (Num profit : analysis.getProfits()) {
+            profitLoss = profitLoss.plus(profit);
+        }
+        return profitLoss;
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
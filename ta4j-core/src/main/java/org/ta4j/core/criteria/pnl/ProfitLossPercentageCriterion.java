@@ -23,9 +23,12 @@
  */
 package org.ta4j.core.criteria.pnl;
 
+import java.util.List;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
 import org.ta4j.core.num.Num;
 
@@ -58,6 +61,22 @@ public class ProfitLossPercentageCriterion extends AbstractAnalysisCriterion {
                 .reduce(series.zero(), Num::plus);
     }
 
+    @Override
+    public Num calculate(TradingRecordAnalysis analysis) {
+        final BarSeries series = analysis.getBarSeries();
+        final List<Position> positions = analysis.getTradingRecord().getPositions();
+        final List<Num> profits = analysis.getProfits();
+        Num percentage = series.zero();
+        for (int i = 0; i < positions.size(); i++) {
+            Position position = positions.get(i);
+            if (position.isClosed()) {
+                Num entryPrice = position.getEntry().getValue();
+                percentage = percentage.plus(profits.get(i).dividedBy(entryPrice).multipliedBy(series.hundred()));
+            }
+        }
+        return percentage;
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(Num criterionValue1, Num criterionValue2) {
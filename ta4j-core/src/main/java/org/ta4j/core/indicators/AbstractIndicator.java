@@ -27,9 +27,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
 
 /**
  * Abstract {@link Indicator indicator}.
+ *
+ * <p>
+ * The constants {@link #zero()}, {@link #one()} and {@link #hundred()} are
+ * created once, with the {@link BarSeries#num() num type} of the bar series.
  */
 public abstract class AbstractIndicator<T> implements Indicator<T> {
 
@@ -38,6 +43,10 @@ public abstract class AbstractIndicator<T> implements Indicator<T> {
 
     private final BarSeries series;
 
+    private final Num zero;
+    private final Num one;
+    private final Num hundred;
+
     /**
      * Constructor.
      *
@@ -45,6 +54,9 @@ public abstract class AbstractIndicator<T> implements Indicator<T> {
      */
     protected AbstractIndicator(BarSeries series) {
         this.series = series;
+        this.zero = series == null ? null : series.zero();
+        this.one = series == null ? null : series.one();
+        this.hundred = series == null ? null : series.hundred();
     }
 
     @Override
@@ -52,6 +64,26 @@ public abstract class AbstractIndicator<T> implements Indicator<T> {
         return series;
     }
 
+    @Override
+    public Num zero() {
+        return zero;
+    }
+
+    @Override
+    public Num one() {
+        return one;
+    }
+
+    @Override
+    public Num hundred() {
+        return hundred;
+    }
+
+    @Override
+    public Num numOf(Number number) {
+        return series.num().numOf(number);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
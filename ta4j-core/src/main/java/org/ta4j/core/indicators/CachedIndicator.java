@@ -23,12 +23,12 @@
  */
 package org.ta4j.core.indicators;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.function.ObjIntConsumer;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.cache.ConcurrentRingBufferCache;
+import org.ta4j.core.indicators.cache.IndicatorCache;
 
 /**
  * Cached {@link Indicator indicator}.
@@ -40,17 +40,55 @@ import org.ta4j.core.Indicator;
  * their values based on the values of other indicators. Such nested indicators
  * can call {@link #getValue(int)} multiple times without the need to
  * {@link #calculate(int)} again.
+ *
+ * <p>
+ * The results are kept in an {@link IndicatorCache}, by default a
+ * {@link ConcurrentRingBufferCache} limited to the
+ * {@link BarSeries#getMaximumBarCount() maximum bar count} of the bar series.
+ * Cached results are read without locking, so that an indicator can be shared
+ * by strategies that run in parallel (e.g. in a
+ * {@link org.ta4j.core.backtest.BacktestExecutor BacktestExecutor}). Missing
+ * results are calculated once, under the lock of the indicator.
+ *
+ * <p>
+ * The result of the last bar may still change (e.g. by
+ * {@link BarSeries#addTrade(org.ta4j.core.num.Num, org.ta4j.core.num.Num)
+ * addTrade}). It is cached together with the
+ * {@link BarSeries#getModificationCount() modification count} of the series
+ * and reused until this count changes; it is not cached for series that do not
+ * track the count. An owner of the series that knows when the last bar changes
+ * (e.g. a {@link org.ta4j.core.live.LiveEngine LiveEngine}) can instead
+ * {@link #setLastBarCached(boolean) cache} it regardless of the count and
+ * {@link #invalidateLastBar() invalidate} it on each change.
  */
 public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
-    /** List of cached results. */
-    private final List<T> results;
+    /** The cached results. */
+    private final IndicatorCache<T> results;
 
     /**
      * Should always be the index of the last (calculated) result in
      * {@link #results}.
      */
-    protected int highestResultIndex = -1;
+    protected volatile int highestResultIndex = -1;
+
+    /**
+     * The maximum bar count of the series the maximum size of {@link #results}
+     * has been set for, -1 if it has not been set yet.
+     */
+    private int maximumResultCount = -1;
+
+    /** The result returned for bars that have already been removed. */
+    private T removedBarsResult;
+
+    /** The removed bars count for which {@link #removedBarsResult} is valid. */
+    private int removedBarsResultCount = -1;
+
+    /** True if the result of the last bar is cached until it is invalidated. */
+    private volatile boolean lastBarCached;
+
+    /** The cached result of the last bar, null if there is none. */
+    private volatile LastBarResult<T> lastBarResult;
 
     /**
      * Constructor.
@@ -58,9 +96,18 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      * @param series the bar series
      */
     protected CachedIndicator(BarSeries series) {
+        this(series, new ConcurrentRingBufferCache<>(series.getMaximumBarCount()));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series
+     * @param cache  the cache backend for the calculated results
+     */
+    protected CachedIndicator(BarSeries series, IndicatorCache<T> cache) {
         super(series);
-        int limit = series.getMaximumBarCount();
-        this.results = limit == Integer.MAX_VALUE ? new ArrayList<>() : new ArrayList<>(limit);
+        this.results = cache;
     }
 
     /**
@@ -79,7 +126,7 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
     protected abstract T calculate(int index);
 
     @Override
-    public synchronized T getValue(int index) {
+    public T getValue(int index) {
         BarSeries series = getBarSeries();
         if (series == null) {
             // Series is null; the indicator doesn't need cache.
@@ -92,10 +139,119 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
             return result;
         }
 
-        // Series is not null
+        if (index == series.getEndIndex()) {
+            // Lock-free read of the result of the last bar, if it is still valid
+            LastBarResult<T> lastBar = lastBarResult;
+            if (lastBar != null && lastBar.index == index && isValid(lastBar, series.getModificationCount())) {
+                if (log.isTraceEnabled()) {
+                    log.trace("{}({}): {}", this, index, lastBar.value);
+                }
+                return lastBar.value;
+            }
+        } else if (results.isConcurrent() && index >= series.getRemovedBarsCount()) {
+            // Lock-free read of an already calculated result
+            T result = results.get(index);
+            if (result != null) {
+                if (log.isTraceEnabled()) {
+                    log.trace("{}({}): {}", this, index, result);
+                }
+                return result;
+            }
+        }
+        return getOrCalculate(series, index);
+    }
+
+    /**
+     * Calculates the missing results up to the bar before the last one in
+     * ascending order while holding the lock once, then passes the (cached)
+     * results of the range to {@code sink}.
+     */
+    @Override
+    public void getValues(int beginIndex, int endIndex, ObjIntConsumer<? super T> sink) {
+        final BarSeries series = getBarSeries();
+        if (series != null) {
+            final int lastCachedIndex = Math.min(endIndex, series.getEndIndex() - 1);
+            if (lastCachedIndex > highestResultIndex) {
+                calculateUpTo(series, lastCachedIndex);
+            }
+        }
+        for (int i = beginIndex; i <= endIndex; i++) {
+            sink.accept(getValue(i), i);
+        }
+    }
+
+    /**
+     * Calculates and caches the missing results up to {@code index} in ascending
+     * order.
+     *
+     * @param series the bar series
+     * @param index  the bar index (inclusive)
+     */
+    private synchronized void calculateUpTo(BarSeries series, int index) {
+        for (int i = Math.max(highestResultIndex + 1, series.getRemovedBarsCount()); i <= index; i++) {
+            getOrCalculate(series, i);
+        }
+    }
 
+    /**
+     * @param lastBarCached true to cache the result of the last bar until
+     *                      {@link #invalidateLastBar()} is called, false to cache
+     *                      it until the
+     *                      {@link BarSeries#getModificationCount() modification
+     *                      count} of the series changes (the default)
+     */
+    public void setLastBarCached(boolean lastBarCached) {
+        this.lastBarCached = lastBarCached;
+        if (!lastBarCached) {
+            invalidateLastBar();
+        }
+    }
+
+    /**
+     * @return true if the result of the last bar is cached until
+     *         {@link #invalidateLastBar()} is called
+     */
+    public boolean isLastBarCached() {
+        return lastBarCached;
+    }
+
+    /**
+     * Discards the cached result of the last bar, e.g. because the last bar has
+     * been updated by a trade.
+     */
+    public synchronized void invalidateLastBar() {
+        lastBarResult = null;
+    }
+
+    /**
+     * @param lastBar           the cached result of the last bar
+     * @param modificationCount the current modification count of the series
+     * @return true if {@code lastBar} may still be used
+     */
+    private boolean isValid(LastBarResult<T> lastBar, long modificationCount) {
+        return lastBarCached || (modificationCount >= 0 && lastBar.modificationCount == modificationCount);
+    }
+
+    /**
+     * Returns the cached result of {@code index} or calculates it.
+     *
+     * <p>
+     * Calculations are serialized per indicator, so that each missing result is
+     * calculated only once even if several threads ask for it, and so that
+     * {@link #calculate(int)} implementations can safely keep state between
+     * calls.
+     *
+     * @param series the bar series
+     * @param index  the bar index
+     * @return the value of the indicator
+     */
+    private synchronized T getOrCalculate(BarSeries series, int index) {
         final int removedBarsCount = series.getRemovedBarsCount();
-        final int maximumResultCount = series.getMaximumBarCount();
+        final int maximumBarCount = series.getMaximumBarCount();
+        if (maximumResultCount != maximumBarCount) {
+            results.setMaximumSize(maximumBarCount);
+            maximumResultCount = maximumBarCount;
+        }
 
         T result;
         if (index < removedBarsCount) {
@@ -104,38 +260,47 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
                 log.trace("{}: result from bar {} already removed from cache, use {}-th instead",
                         getClass().getSimpleName(), index, removedBarsCount);
             }
-            increaseLengthTo(removedBarsCount, maximumResultCount);
-            highestResultIndex = removedBarsCount;
-            result = results.get(0);
-            if (result == null) {
+            if (removedBarsResultCount != removedBarsCount) {
                 // It should be "result = calculate(removedBarsCount);".
                 // We use "result = calculate(0);" as a workaround
                 // to fix issue #120 (https://github.com/mdeverdelhan/ta4j/issues/120).
-                result = calculate(0);
-                results.set(0, result);
+                removedBarsResult = calculate(0);
+                removedBarsResultCount = removedBarsCount;
             }
-        } else {
-            if (index == series.getEndIndex()) {
+            result = removedBarsResult;
+        } else if (index == series.getEndIndex()) {
+            final long modificationCount = series.getModificationCount();
+            if (lastBarCached || modificationCount >= 0) {
+                LastBarResult<T> lastBar = lastBarResult;
+                if (lastBar != null && lastBar.index == index && isValid(lastBar, modificationCount)) {
+                    result = lastBar.value;
+                } else {
+                    if (lastBar != null && lastBar.index >= removedBarsCount && lastBar.index < index
+                            && isValid(lastBar, modificationCount) && results.get(lastBar.index) == null) {
+                        // The previous last bar result is still valid once a new bar has been added
+                        results.put(lastBar.index, lastBar.value);
+                        highestResultIndex = results.getHighestIndex();
+                    }
+                    result = calculate(index);
+                    lastBarResult = new LastBarResult<>(index, modificationCount, result);
+                }
+            } else {
                 // Don't cache result if last bar
                 result = calculate(index);
-            } else {
-                increaseLengthTo(index, maximumResultCount);
-                if (index > highestResultIndex) {
-                    // Result not calculated yet
-                    highestResultIndex = index;
-                    result = calculate(index);
-                    results.set(results.size() - 1, result);
+            }
+        } else {
+            result = results.get(index);
+            if (result == null) {
+                LastBarResult<T> lastBar = lastBarResult;
+                if (lastBar != null && lastBar.index == index
+                        && isValid(lastBar, series.getModificationCount())) {
+                    result = lastBar.value;
                 } else {
-                    // Result covered by current cache
-                    int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
-                    result = results.get(resultInnerIndex);
-                    if (result == null) {
-                        result = calculate(index);
-                        results.set(resultInnerIndex, result);
-                    }
+                    result = calculate(index);
                 }
+                results.put(index, result);
+                highestResultIndex = results.getHighestIndex();
             }
-
         }
         if (log.isTraceEnabled()) {
             log.trace("{}({}): {}", this, index, result);
@@ -144,44 +309,19 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
     }
 
     /**
-     * Increases the size of the cached results buffer.
-     *
-     * @param index     the index to increase length to
-     * @param maxLength the maximum length of the results buffer
+     * The result of the last bar together with the modification count of the
+     * series it has been calculated for.
      */
-    private void increaseLengthTo(int index, int maxLength) {
-        if (highestResultIndex > -1) {
-            int newResultsCount = Math.min(index - highestResultIndex, maxLength);
-            if (newResultsCount == maxLength) {
-                results.clear();
-                results.addAll(Collections.nCopies(maxLength, null));
-            } else if (newResultsCount > 0) {
-                results.addAll(Collections.nCopies(newResultsCount, null));
-                removeExceedingResults(maxLength);
-            }
-        } else {
-            // First use of cache
-            assert results.isEmpty() : "Cache results list should be empty";
-            results.addAll(Collections.nCopies(Math.min(index + 1, maxLength), null));
-        }
-    }
+    private static final class LastBarResult<T> {
 
-    /**
-     * Removes the N first results which exceed the maximum bar count. (i.e. keeps
-     * only the last maximumResultCount results)
-     *
-     * @param maximumResultCount the number of results to keep
-     */
-    private void removeExceedingResults(int maximumResultCount) {
-        int resultCount = results.size();
-        if (resultCount > maximumResultCount) {
-            // Removing old results
-            final int nbResultsToRemove = resultCount - maximumResultCount;
-            if (nbResultsToRemove == 1) {
-                results.remove(0);
-            } else {
-                results.subList(0, nbResultsToRemove).clear();
-            }
+        private final int index;
+        private final long modificationCount;
+        private final T value;
+
+        private LastBarResult(int index, long modificationCount, T value) {
+            this.index = index;
+            this.modificationCount = modificationCount;
+            this.value = value;
         }
     }
 }
@@ -56,6 +56,8 @@ public class FisherIndicator extends RecursiveCachedIndicator<Num> {
     private final Num gamma;
     private final Num delta;
     private final Num one;
+    private final Num valueMax;
+    private final Num valueMin;
 
     /**
      * Constructor.
@@ -145,9 +147,12 @@ public class FisherIndicator extends RecursiveCachedIndicator<Num> {
         this.delta = numOf(deltaD);
         this.densityFactor = numOf(densityFactorD);
         this.one = one();
+        this.valueMax = numOf(VALUE_MAX);
+        this.valueMin = numOf(VALUE_MIN);
 
-        Num alpha = numOf(alphaD);
-        Num beta = numOf(betaD);
+        final Num twoAlpha = numOf(alphaD).multipliedBy(numOf(2));
+        final Num beta = numOf(betaD);
+        final Num half = numOf(ZERO_DOT_FIVE);
         final Indicator<Num> periodHigh = new HighestValueIndicator(
                 isPriceIndicator ? new HighPriceIndicator(ref.getBarSeries()) : ref, barCount);
         final Indicator<Num> periodLow = new LowestValueIndicator(
@@ -166,8 +171,8 @@ public class FisherIndicator extends RecursiveCachedIndicator<Num> {
                 Num currentRef = FisherIndicator.this.ref.getValue(index);
                 Num minL = periodLow.getValue(index);
                 Num maxH = periodHigh.getValue(index);
-                Num term1 = currentRef.minus(minL).dividedBy(maxH.minus(minL)).minus(numOf(ZERO_DOT_FIVE));
-                Num term2 = alpha.multipliedBy(numOf(2)).multipliedBy(term1);
+                Num term1 = currentRef.minus(minL).dividedBy(maxH.minus(minL)).minus(half);
+                Num term2 = twoAlpha.multipliedBy(term1);
                 Num term3 = term2.plus(beta.multipliedBy(getValue(index - 1)));
                 return term3.dividedBy(FisherIndicator.this.densityFactor);
             }
@@ -187,10 +192,10 @@ public class FisherIndicator extends RecursiveCachedIndicator<Num> {
 
         Num value = intermediateValue.getValue(index);
 
-        if (value.isGreaterThan(numOf(VALUE_MAX))) {
-            value = numOf(VALUE_MAX);
-        } else if (value.isLessThan(numOf(VALUE_MIN))) {
-            value = numOf(VALUE_MIN);
+        if (value.isGreaterThan(valueMax)) {
+            value = valueMax;
+        } else if (value.isLessThan(valueMin)) {
+            value = valueMin;
         }
 
         // Fisher = gamma * Log((1 + Value) / (1 - Value)) + delta * priorFisher
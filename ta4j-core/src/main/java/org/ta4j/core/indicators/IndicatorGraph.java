@@ -0,0 +1,356 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Position;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.cache.IndicatorCache;
+import org.ta4j.core.num.Num;
+
+/**
+ * The graph of the indicators that strategies, rules or indicators depend on.
+ *
+ * <p>
+ * The graph is discovered through the fields of the given objects: a strategy,
+ * rule or indicator depends on all indicators that its fields refer to,
+ * directly, in arrays and collections, or through other ta4j objects (e.g. the
+ * rules of a strategy or the helpers of an indicator). Indicators that are only
+ * created on the fly (e.g. inside {@code calculate}) are not part of the graph.
+ *
+ * <p>
+ * {@link #getIndicators()} lists the indicators in topological order, i.e.
+ * each indicator after the indicators it depends on (apart from cyclic
+ * references, e.g. between an indicator and its anonymous inner indicator).
+ * Evaluating an index in this order calculates the inputs of each indicator
+ * before the indicator itself.
+ *
+ * <p>
+ * {@link #precompute()} uses this order to fill the caches of the indicators
+ * before a backtest: each {@link CachedIndicator} calculates all values of its
+ * bar series in one forward pass, so that recursive indicators (e.g. EMA of
+ * EMA chains) never recurse more than one bar deep.
+ * {@link #precompute(Executor)} calculates independent branches of the graph
+ * in parallel.
+ */
+public final class IndicatorGraph {
+
+    /** The indicators, in topological order. */
+    private final List<Indicator<?>> indicators;
+
+    /** The direct dependencies of the indicators. */
+    private final Map<Indicator<?>, List<Indicator<?>>> dependencies;
+
+    private IndicatorGraph(List<Indicator<?>> indicators, Map<Indicator<?>, List<Indicator<?>>> dependencies) {
+        this.indicators = Collections.unmodifiableList(indicators);
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * @param strategies the strategies
+     * @return the graph of the indicators that the rules of {@code strategies}
+     *         depend on
+     */
+    public static IndicatorGraph of(Strategy... strategies) {
+        return of(Arrays.asList(strategies));
+    }
+
+    /**
+     * @param roots the strategies, rules and indicators
+     * @return the graph of the indicators that {@code roots} depend on (including
+     *         the indicators in {@code roots})
+     */
+    public static IndicatorGraph of(Collection<?> roots) {
+        return new Builder().build(roots);
+    }
+
+    /**
+     * @return the indicators, each after the indicators it depends on
+     */
+    public List<Indicator<?>> getIndicators() {
+        return indicators;
+    }
+
+    /**
+     * @param indicator an indicator of the graph
+     * @return the indicators that {@code indicator} directly depends on (empty if
+     *         {@code indicator} is not part of the graph)
+     */
+    public List<Indicator<?>> getDependencies(Indicator<?> indicator) {
+        return dependencies.getOrDefault(indicator, Collections.emptyList());
+    }
+
+    /**
+     * @return the number of indicators
+     */
+    public int size() {
+        return indicators.size();
+    }
+
+    /**
+     * Calculates all values of the {@link CachedIndicator cached indicators}
+     * over their bar series, in topological order.
+     */
+    public void precompute() {
+        for (Indicator<?> indicator : indicators) {
+            precompute(indicator);
+        }
+    }
+
+    /**
+     * Calculates all values of the {@link CachedIndicator cached indicators}
+     * over their bar series, each indicator as soon as the indicators it depends
+     * on have been calculated. Indicators that do not depend on each other are
+     * calculated in parallel.
+     *
+     * @param executor the executor to calculate the indicators with (e.g. a
+     *                 {@link java.util.concurrent.ForkJoinPool})
+     * @throws RuntimeException the first exception thrown by the calculation of
+     *                          an indicator
+     */
+    public void precompute(Executor executor) {
+        final Map<Indicator<?>, CompletableFuture<Void>> tasks = new IdentityHashMap<>();
+        for (Indicator<?> indicator : indicators) {
+            final List<CompletableFuture<Void>> inputs = new ArrayList<>();
+            for (Indicator<?> dependency : getDependencies(indicator)) {
+                // missing for cyclic references only
+                final CompletableFuture<Void> input = tasks.get(dependency);
+                if (input != null) {
+                    inputs.add(input);
+                }
+            }
+            final CompletableFuture<Void> allInputs = CompletableFuture
+                    .allOf(inputs.toArray(new CompletableFuture<?>[0]));
+            tasks.put(indicator, indicator instanceof CachedIndicator
+                    ? allInputs.thenRunAsync(() -> precompute(indicator), executor)
+                    : allInputs);
+        }
+        try {
+            CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Calculates all values of a cached indicator over its bar series.
+     *
+     * @param indicator the indicator
+     */
+    private static void precompute(Indicator<?> indicator) {
+        final BarSeries series = indicator.getBarSeries();
+        if (indicator instanceof CachedIndicator && series != null && !series.isEmpty()) {
+            // CachedIndicator#getValues calculates all missing results up to the
+            // end index in one pass, whatever the begin index
+            final int endIndex = series.getEndIndex();
+            indicator.getValues(endIndex, endIndex, (value, index) -> {
+            });
+        }
+    }
+
+    /** Discovers the graph with a depth-first search. */
+    private static final class Builder {
+
+        private final Map<Indicator<?>, List<Indicator<?>>> dependencies = new IdentityHashMap<>();
+        private final List<Indicator<?>> indicators = new ArrayList<>();
+        private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+
+        private IndicatorGraph build(Collection<?> roots) {
+            for (Object root : roots) {
+                if (root instanceof Indicator) {
+                    visit((Indicator<?>) root);
+                } else {
+                    for (Indicator<?> indicator : referencedIndicators(root)) {
+                        visit(indicator);
+                    }
+                }
+            }
+            return new IndicatorGraph(indicators, dependencies);
+        }
+
+        /**
+         * Adds {@code root} and its dependencies in post-order, iteratively (deep
+         * indicator chains would overflow the stack otherwise).
+         */
+        private void visit(Indicator<?> root) {
+            if (dependencies.containsKey(root)) {
+                return;
+            }
+            final Deque<Frame> stack = new ArrayDeque<>();
+            stack.push(enter(root));
+            while (!stack.isEmpty()) {
+                final Frame frame = stack.peek();
+                if (frame.next < frame.dependencies.size()) {
+                    final Indicator<?> dependency = frame.dependencies.get(frame.next++);
+                    if (!dependencies.containsKey(dependency)) {
+                        stack.push(enter(dependency));
+                    }
+                } else {
+                    stack.pop();
+                    indicators.add(frame.indicator);
+                }
+            }
+        }
+
+        private Frame enter(Indicator<?> indicator) {
+            final List<Indicator<?>> direct = referencedIndicators(indicator);
+            direct.remove(indicator);
+            dependencies.put(indicator, Collections.unmodifiableList(direct));
+            return new Frame(indicator, direct);
+        }
+
+        /**
+         * @param object a strategy, rule or indicator
+         * @return the indicators that the fields of {@code object} refer to
+         */
+        private List<Indicator<?>> referencedIndicators(Object object) {
+            final Set<Object> found = Collections.newSetFromMap(new IdentityHashMap<>());
+            final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            final List<Indicator<?>> result = new ArrayList<>();
+            visited.add(object);
+            collectFields(object, found, visited, result);
+            return result;
+        }
+
+        private void collectFields(Object object, Set<Object> found, Set<Object> visited,
+                List<Indicator<?>> result) {
+            for (Field field : fields.computeIfAbsent(object.getClass(), this::referenceFields)) {
+                try {
+                    collect(field.get(object), found, visited, result);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        private void collect(Object value, Set<Object> found, Set<Object> visited, List<Indicator<?>> result) {
+            if (value == null || isValue(value)) {
+                return;
+            }
+            if (value instanceof Indicator) {
+                if (found.add(value)) {
+                    result.add((Indicator<?>) value);
+                }
+                return;
+            }
+            if (!visited.add(value)) {
+                return;
+            }
+            final Class<?> type = value.getClass();
+            if (type.isArray()) {
+                if (!isValueType(type.getComponentType())) {
+                    for (int i = 0; i < Array.getLength(value); i++) {
+                        collect(Array.get(value, i), found, visited, result);
+                    }
+                }
+            } else if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    collect(element, found, visited, result);
+                }
+            } else if (value instanceof Map) {
+                for (Object element : ((Map<?, ?>) value).values()) {
+                    collect(element, found, visited, result);
+                }
+            } else if (type.getName().startsWith("org.ta4j.")) {
+                collectFields(value, found, visited, result);
+            }
+        }
+
+        /**
+         * @param type the class
+         * @return the fields of {@code type} (see {@link ReflectedFields}) that may
+         *         refer to indicators, i.e. without fields of value types
+         */
+        private List<Field> referenceFields(Class<?> type) {
+            final List<Field> referenceFields = new ArrayList<>();
+            for (Field field : ReflectedFields.of(type)) {
+                if (!isValueType(field.getType())) {
+                    referenceFields.add(field);
+                }
+            }
+            return referenceFields;
+        }
+
+        private static boolean isValue(Object value) {
+            return value instanceof Num || value instanceof Number || value instanceof CharSequence
+                    || value instanceof Boolean || value instanceof Character || value instanceof Enum
+                    || value instanceof Class || value instanceof BarSeries || value instanceof Bar
+                    || value instanceof TradingRecord || value instanceof Position || value instanceof Trade
+                    || value instanceof IndicatorCache || value instanceof Logger;
+        }
+
+        /**
+         * @return true if the values of {@code type} cannot refer to indicators
+         */
+        private static boolean isValueType(Class<?> type) {
+            return type.isPrimitive() || Num.class.isAssignableFrom(type) || Number.class.isAssignableFrom(type)
+                    || CharSequence.class.isAssignableFrom(type) || Boolean.class == type
+                    || Character.class == type || type.isEnum() || BarSeries.class.isAssignableFrom(type)
+                    || Bar.class.isAssignableFrom(type) || IndicatorCache.class.isAssignableFrom(type)
+                    || Logger.class.isAssignableFrom(type) || type.getName().startsWith("java.time.")
+                    || (type.isArray() && isValueType(type.getComponentType()));
+        }
+    }
+
+    /** An indicator whose dependencies are being visited. */
+    private static final class Frame {
+
+        private final Indicator<?> indicator;
+        private final List<Indicator<?>> dependencies;
+        private int next;
+
+        private Frame(Indicator<?> indicator, List<Indicator<?>> dependencies) {
+            this.indicator = indicator;
+            this.dependencies = dependencies;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Pool of structurally distinct indicators.
+ *
+ * <p>
+ * {@link #share(Indicator)} returns the pooled indicator that is structurally
+ * equal to the given one, or pools the given one. Two indicators are
+ * structurally equal if they are of the same class and all their fields are
+ * equal, recursively: numbers, strings and other values by
+ * {@link Object#equals(Object) equals}, indicators and other ta4j objects by
+ * structure, bar series and all other objects (e.g. lambdas) by identity. The
+ * results cached by a {@link CachedIndicator} are not part of its structure.
+ *
+ * <p>
+ * Strategy variants that share their indicators through a pool (e.g. the
+ * variants of a parameter grid) form a single indicator graph, in which each
+ * distinct indicator calculates its values once for all variants. The inputs of
+ * an indicator should be shared before the indicator itself, so that
+ * structurally equal inputs are shared as well:
+ *
+ * <pre>
+ * ClosePriceIndicator closePrice = pool.share(new ClosePriceIndicator(series));
+ * SMAIndicator sma = pool.share(new SMAIndicator(closePrice, barCount));
+ * </pre>
+ *
+ * <p>
+ * The structure of an indicator is determined when it is shared, so an
+ * indicator must be shared before its first value is calculated.
+ */
+public class IndicatorPool {
+
+    /** The pooled indicators, by structure. */
+    private final Map<Structure, Indicator<?>> indicators = new HashMap<>();
+
+    /** The structures of the pooled indicators. */
+    private final Map<Indicator<?>, Structure> structures = new IdentityHashMap<>();
+
+    /** The structural fields, by class. */
+    private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+
+    /**
+     * Returns the pooled indicator that is structurally equal to
+     * {@code indicator}, or pools {@code indicator}.
+     *
+     * @param <I>       the type of the indicator
+     * @param indicator the indicator
+     * @return the pooled indicator
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <I extends Indicator<?>> I share(I indicator) {
+        if (structures.containsKey(indicator)) {
+            return indicator;
+        }
+        final Structure structure = (Structure) structureOf(indicator, new IdentityHashMap<>());
+        final Indicator<?> pooled = indicators.putIfAbsent(structure, indicator);
+        if (pooled != null) {
+            return (I) pooled;
+        }
+        structures.put(indicator, structure);
+        return indicator;
+    }
+
+    /**
+     * @return the number of pooled (i.e. distinct) indicators
+     */
+    public synchronized int size() {
+        return indicators.size();
+    }
+
+    /**
+     * @param value    the value
+     * @param visiting the objects whose structure is being determined (to break
+     *                 cycles)
+     * @return the structure of {@code value}, i.e. an object that is equal to the
+     *         structure of all structurally equal values
+     */
+    private Object structureOf(Object value, Map<Object, Boolean> visiting) {
+        if (value == null || value instanceof Num || value instanceof Number || value instanceof CharSequence
+                || value instanceof Boolean || value instanceof Character || value instanceof Enum
+                || value instanceof Class) {
+            return value instanceof CharSequence ? value.toString() : value;
+        }
+        if (value instanceof Indicator) {
+            final Structure pooled = structures.get(value);
+            if (pooled != null) {
+                return pooled;
+            }
+        }
+        final Class<?> type = value.getClass();
+        if (type.isArray()) {
+            final List<Object> elements = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elements.add(structureOf(Array.get(value, i), visiting));
+            }
+            return elements;
+        }
+        if (value instanceof BarSeries || type.isSynthetic() || !isTa4jClass(type)
+                || visiting.put(value, Boolean.TRUE) != null) {
+            return new Identity(value);
+        }
+        final List<Field> structuralFields = fields.computeIfAbsent(type, ReflectedFields::of);
+        final Object[] values = new Object[structuralFields.size()];
+        for (int i = 0; i < values.length; i++) {
+            try {
+                values[i] = structureOf(structuralFields.get(i).get(value), visiting);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        visiting.remove(value);
+        return new Structure(type, values);
+    }
+
+    private static boolean isTa4jClass(Class<?> type) {
+        return type.getName().startsWith("org.ta4j.") || Indicator.class.isAssignableFrom(type);
+    }
+
+    /** The structure of an object: its class and the structures of its fields. */
+    private static final class Structure {
+
+        private final Class<?> type;
+        private final Object[] values;
+        private final int hashCode;
+
+        private Structure(Class<?> type, Object[] values) {
+            this.type = type;
+            this.values = values;
+            this.hashCode = 31 * type.hashCode() + Arrays.hashCode(values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Structure))
+                return false;
+            final Structure other = (Structure) obj;
+            return type == other.type && hashCode == other.hashCode && Arrays.equals(values, other.values);
+        }
+    }
+
+    /** An object that is only equal to itself. */
+    private static final class Identity {
+
+        private final Object value;
+
+        private Identity(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Identity && ((Identity) obj).value == value;
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toString(value);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.helpers.LowestValueIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Registry of shared indicators of a {@link BarSeries bar series}.
+ *
+ * <p>
+ * Rules and indicators that need a derived indicator (e.g. the highest value
+ * of a reference indicator) can look it up here instead of creating their own
+ * instance. All users of the same derived indicator then share a single cache,
+ * so each value is calculated only once.
+ *
+ * <p>
+ * The registry doesn't keep anything alive: the registry of a bar series lives
+ * as long as the series is (strongly) reachable and is discarded with it, and
+ * shared indicators are held weakly as long as nobody else uses them. A
+ * {@code null} bar series has no registry (see {@link #of(BarSeries)}).
+ *
+ * <p>
+ * The registries are spread over several locks by the hash code of their bar
+ * series, so that rules built concurrently on different series rarely contend.
+ */
+public final class IndicatorRegistry {
+
+    /** The number of lock stripes of the registries (a power of two). */
+    private static final int STRIPES = 16;
+
+    /** The registries, weakly keyed by their bar series, in lock stripes. */
+    @SuppressWarnings("unchecked")
+    private static final Map<BarSeries, IndicatorRegistry>[] REGISTRIES = new Map[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            REGISTRIES[i] = Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    }
+
+    /** The shared indicators, by source indicator and key. */
+    private final Map<Indicator<?>, Map<Object, WeakReference<Indicator<?>>>> indicators = new WeakHashMap<>();
+
+    private IndicatorRegistry() {
+    }
+
+    /**
+     * Returns the registry of a bar series.
+     *
+     * <p>
+     * A {@code null} bar series is not registered (as the key of a
+     * {@link WeakHashMap}, it would never be discarded): a new, unshared registry
+     * is returned instead.
+     *
+     * @param series the bar series
+     * @return the registry of {@code series}
+     */
+    public static IndicatorRegistry of(BarSeries series) {
+        if (series == null) {
+            return new IndicatorRegistry();
+        }
+        final int hash = series.hashCode();
+        return REGISTRIES[(hash ^ (hash >>> 16)) & (STRIPES - 1)].computeIfAbsent(series,
+                s -> new IndicatorRegistry());
+    }
+
+    /**
+     * Returns the shared indicator registered for {@code source} and
+     * {@code key}, or creates and registers it.
+     *
+     * @param <I>     the type of the shared indicator
+     * @param source  the indicator the shared indicator is derived from
+     * @param key     the key of the shared indicator, e.g. its type and
+     *                parameters (must not reference {@code source} or its bar
+     *                series)
+     * @param factory the factory of the shared indicator
+     * @return the shared indicator
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <I extends Indicator<?>> I getOrCreate(Indicator<?> source, Object key,
+            Supplier<I> factory) {
+        final Map<Object, WeakReference<Indicator<?>>> derived = indicators.computeIfAbsent(source,
+                s -> new HashMap<>());
+        final WeakReference<Indicator<?>> reference = derived.get(key);
+        Indicator<?> indicator = reference == null ? null : reference.get();
+        if (indicator == null) {
+            indicator = factory.get();
+            derived.put(key, new WeakReference<>(indicator));
+        }
+        return (I) indicator;
+    }
+
+    /**
+     * @param indicator the {@link Indicator}
+     * @param barCount  the time frame
+     * @return the shared {@link HighestValueIndicator} of {@code indicator}
+     */
+    public HighestValueIndicator highestValue(Indicator<Num> indicator, int barCount) {
+        return getOrCreate(indicator, List.of(HighestValueIndicator.class, barCount),
+                () -> new HighestValueIndicator(indicator, barCount));
+    }
+
+    /**
+     * @param indicator the {@link Indicator}
+     * @param barCount  the time frame
+     * @return the shared {@link LowestValueIndicator} of {@code indicator}
+     */
+    public LowestValueIndicator lowestValue(Indicator<Num> indicator, int barCount) {
+        return getOrCreate(indicator, List.of(LowestValueIndicator.class, barCount),
+                () -> new LowestValueIndicator(indicator, barCount));
+    }
+}
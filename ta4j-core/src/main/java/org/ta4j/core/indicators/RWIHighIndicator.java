@@ -55,7 +55,7 @@ public class RWIHighIndicator extends CachedIndicator<Num> {
             return NaN.NaN;
         }
 
-        Num maxRWIH = numOf(0);
+        Num maxRWIH = zero();
         for (int n = 2; n <= barCount; n++) {
             maxRWIH = maxRWIH.max(calcRWIHFor(index, n));
         }
@@ -44,6 +44,7 @@ public class TripleEMAIndicator extends CachedIndicator<Num> {
     private final EMAIndicator ema;
     private final EMAIndicator emaEma;
     private final EMAIndicator emaEmaEma;
+    private final Num three;
 
     /**
      * Constructor.
@@ -57,12 +58,13 @@ public class TripleEMAIndicator extends CachedIndicator<Num> {
         this.ema = new EMAIndicator(indicator, barCount);
         this.emaEma = new EMAIndicator(ema, barCount);
         this.emaEmaEma = new EMAIndicator(emaEma, barCount);
+        this.three = numOf(3);
     }
 
     @Override
     protected Num calculate(int index) {
         // trix = 3 * ( ema - emaEma ) + emaEmaEma
-        return numOf(3).multipliedBy(ema.getValue(index).minus(emaEma.getValue(index))).plus(emaEmaEma.getValue(index));
+        return three.multipliedBy(ema.getValue(index).minus(emaEma.getValue(index))).plus(emaEmaEma.getValue(index));
     }
 
     @Override
@@ -0,0 +1,190 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.cache;
+
+/**
+ * Index bookkeeping of a circular buffer keyed by the absolute bar index.
+ *
+ * <p>
+ * The buffer covers the window {@code [lowestIndex, highestIndex]}, where index
+ * {@code i} is stored in slot {@code i % capacity}. Appending a new highest
+ * index and evicting the oldest one are {@code O(1)}. The buffer grows lazily
+ * until it reaches {@link #getMaximumSize()}, from then on it wraps around.
+ */
+abstract class AbstractRingBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int maximumSize;
+    private int lowestIndex = -1;
+    private int highestIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of entries to keep
+     */
+    AbstractRingBuffer(int maximumSize) {
+        checkMaximumSize(maximumSize);
+        this.maximumSize = maximumSize;
+    }
+
+    /** @return the length of the underlying array */
+    abstract int capacity();
+
+    /**
+     * Replaces the underlying array by one of {@code newCapacity}, keeping the
+     * entries from {@code from} to {@code to} (inclusive).
+     *
+     * @param newCapacity the new length of the underlying array
+     * @param from        the lowest index to keep
+     * @param to          the highest index to keep
+     */
+    abstract void resize(int newCapacity, int from, int to);
+
+    /**
+     * Marks the slot as empty.
+     *
+     * @param slot the slot in the underlying array
+     */
+    abstract void clearSlot(int slot);
+
+    /** Marks all slots as empty. */
+    abstract void clearSlots();
+
+    /**
+     * @return the highest index that has been stored, or {@code -1} if the buffer
+     *         is empty
+     */
+    public int getHighestIndex() {
+        return highestIndex;
+    }
+
+    /**
+     * @return the lowest index that is covered by the buffer, or {@code -1} if the
+     *         buffer is empty
+     */
+    public int getLowestIndex() {
+        return lowestIndex;
+    }
+
+    /** @return the maximum number of entries kept by the buffer */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of entries. Exceeding entries are evicted, starting
+     * with the lowest index.
+     *
+     * @param maximumSize the maximum number of entries (strictly positive)
+     */
+    public void setMaximumSize(int maximumSize) {
+        checkMaximumSize(maximumSize);
+        this.maximumSize = maximumSize;
+        if (highestIndex >= 0 && capacity() > maximumSize) {
+            lowestIndex = Math.max(lowestIndex, highestIndex - maximumSize + 1);
+            resize(maximumSize, lowestIndex, highestIndex);
+        }
+    }
+
+    /** Removes all entries. */
+    public void clear() {
+        clearSlots();
+        lowestIndex = -1;
+        highestIndex = -1;
+    }
+
+    /**
+     * @param index the bar index
+     * @return true if {@code index} is within the window covered by the buffer
+     */
+    final boolean covers(int index) {
+        return index >= lowestIndex && index <= highestIndex && highestIndex >= 0;
+    }
+
+    /**
+     * @param index the bar index (not negative)
+     * @return the slot of {@code index} in the underlying array
+     */
+    final int slot(int index) {
+        return index % capacity();
+    }
+
+    /**
+     * Moves the window so that it covers {@code index}, evicting the entries that
+     * no longer fit into it.
+     *
+     * @param index the bar index to store
+     * @return the slot of {@code index}, or {@code -1} if {@code index} is too old
+     *         to be stored
+     */
+    final int acquire(int index) {
+        if (index < 0) {
+            return -1;
+        }
+        if (highestIndex < 0) {
+            ensureCapacity(1);
+            lowestIndex = index;
+            highestIndex = index;
+            return slot(index);
+        }
+        if (index > highestIndex) {
+            final int newLowestIndex = Math.max(lowestIndex, index - maximumSize + 1);
+            ensureCapacity(index - newLowestIndex + 1);
+            final int from = Math.max(highestIndex + 1, index - capacity() + 1);
+            for (int i = from; i < index; i++) {
+                clearSlot(slot(i));
+            }
+            highestIndex = index;
+            lowestIndex = newLowestIndex;
+        } else if (index < lowestIndex) {
+            if (index <= highestIndex - maximumSize) {
+                return -1;
+            }
+            ensureCapacity(highestIndex - index + 1);
+            for (int i = index + 1; i < lowestIndex; i++) {
+                clearSlot(slot(i));
+            }
+            lowestIndex = index;
+        }
+        return slot(index);
+    }
+
+    private void ensureCapacity(int size) {
+        final int capacity = capacity();
+        if (size <= capacity) {
+            return;
+        }
+        final int grown = capacity < INITIAL_CAPACITY ? INITIAL_CAPACITY : capacity << 1;
+        final int newCapacity = Math.min(maximumSize, Math.max(size, grown < 0 ? Integer.MAX_VALUE - 8 : grown));
+        resize(newCapacity, lowestIndex, highestIndex);
+    }
+
+    private static void checkMaximumSize(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be strictly positive");
+        }
+    }
+}
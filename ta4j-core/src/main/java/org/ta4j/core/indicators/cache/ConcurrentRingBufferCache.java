@@ -0,0 +1,167 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Thread-safe {@link IndicatorCache} backed by a circular array.
+ *
+ * <p>
+ * {@link #get(int)} is lock-free: each slot holds a result and its bar index in
+ * parallel arrays, without a wrapper object per result. A writer first marks
+ * the slot as empty, then publishes the result and finally its index (with
+ * release semantics); a reader reads the index, the result and the index again,
+ * and only accepts the result if both reads of the index match. A reader thus
+ * never has to look at the window bookkeeping and never sees the result of
+ * another index, even while a writer wraps the buffer around or resizes it. All
+ * other operations are synchronized.
+ *
+ * @param <T> the type of the cached results
+ */
+public class ConcurrentRingBufferCache<T> extends AbstractRingBuffer implements IndicatorCache<T> {
+
+    /** The index of an empty slot. */
+    private static final int EMPTY = -1;
+
+    private volatile Slots<T> slots = new Slots<>(0);
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of results to keep, e.g. the
+     *                    {@link org.ta4j.core.BarSeries#getMaximumBarCount()
+     *                    maximum bar count} of the bar series
+     */
+    public ConcurrentRingBufferCache(int maximumSize) {
+        super(maximumSize);
+    }
+
+    @Override
+    public T get(int index) {
+        final Slots<T> current = slots;
+        final int capacity = current.capacity();
+        if (capacity == 0 || index < 0) {
+            return null;
+        }
+        final int slot = index % capacity;
+        if (current.indexes.get(slot) != index) {
+            return null;
+        }
+        final T result = current.results.get(slot);
+        // The slot may have been overwritten while reading the result
+        return current.indexes.get(slot) == index ? result : null;
+    }
+
+    @Override
+    public synchronized void put(int index, T result) {
+        final int slot = acquire(index);
+        if (slot >= 0) {
+            final Slots<T> current = slots;
+            current.indexes.lazySet(slot, EMPTY);
+            current.results.lazySet(slot, result);
+            current.indexes.lazySet(slot, index);
+        }
+    }
+    @Override
+    public synchronized int getHighestIndex() {
+        return super.getHighestIndex();
+    }
+
+    @Override
+    public synchronized int getLowestIndex() {
+        return super.getLowestIndex();
+    }
+
+    @Override
+    public synchronized int getMaximumSize() {
+        return super.getMaximumSize();
+    }
+
+    @Override
+    public synchronized void setMaximumSize(int maximumSize) {
+        super.setMaximumSize(maximumSize);
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    @Override
+    int capacity() {
+        return slots.capacity();
+    }
+
+    @Override
+    void resize(int newCapacity, int from, int to) {
+        final Slots<T> current = slots;
+        final Slots<T> newSlots = new Slots<>(newCapacity);
+        for (int i = Math.max(from, to - newCapacity + 1); i <= to && i >= 0; i++) {
+            final int slot = slot(i);
+            if (current.indexes.get(slot) == i) {
+                newSlots.results.set(i % newCapacity, current.results.get(slot));
+                newSlots.indexes.set(i % newCapacity, i);
+            }
+        }
+        slots = newSlots;
+    }
+
+    @Override
+    void clearSlot(int slot) {
+        final Slots<T> current = slots;
+        current.indexes.set(slot, EMPTY);
+        current.results.set(slot, null);
+    }
+
+    @Override
+    void clearSlots() {
+        slots = new Slots<>(slots.capacity());
+    }
+
+    /** The indexes and the results of the slots, replaced on resize. */
+    private static final class Slots<T> {
+
+        private final AtomicIntegerArray indexes;
+        private final AtomicReferenceArray<T> results;
+
+        private Slots(int capacity) {
+            indexes = new AtomicIntegerArray(capacity);
+            results = new AtomicReferenceArray<>(capacity);
+            for (int slot = 0; slot < capacity; slot++) {
+                indexes.lazySet(slot, EMPTY);
+            }
+        }
+
+        private int capacity() {
+            return indexes.length();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.cache;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * {@link IndicatorCache} for {@link DoubleNum} results backed by a
+ * {@link DoubleRingBuffer}.
+ *
+ * <p>
+ * Stores 8 bytes per result instead of a reference to a {@code DoubleNum}
+ * object, which reduces the heap footprint and the number of long-lived objects
+ * of indicators on long bar series. In exchange, each cache hit materializes a
+ * new (short-lived) {@code DoubleNum}. Results are stored as their
+ * {@link Num#doubleValue() double value}, so this cache must only be used for
+ * bar series based on {@code DoubleNum}.
+ */
+public class DoubleNumCache implements IndicatorCache<Num> {
+
+    private final DoubleRingBuffer values;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of results to keep
+     */
+    public DoubleNumCache(int maximumSize) {
+        this.values = new DoubleRingBuffer(maximumSize);
+    }
+
+    @Override
+    public Num get(int index) {
+        if (!values.contains(index)) {
+            return null;
+        }
+        final double value = values.get(index);
+        return Double.isNaN(value) ? NaN : DoubleNum.valueOf(value);
+    }
+
+    @Override
+    public void put(int index, Num result) {
+        values.put(index, result.doubleValue());
+    }
+
+    @Override
+    public int getHighestIndex() {
+        return values.getHighestIndex();
+    }
+
+    @Override
+    public int getMaximumSize() {
+        return values.getMaximumSize();
+    }
+
+    @Override
+    public void setMaximumSize(int maximumSize) {
+        values.setMaximumSize(maximumSize);
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.cache;
+
+import java.util.Arrays;
+
+/**
+ * Circular {@code double[]} keyed by the absolute bar index.
+ *
+ * <p>
+ * Primitive counterpart of {@link RingBufferCache}: neither storing nor reading
+ * a value allocates. Empty slots are marked with a dedicated {@code NaN} bit
+ * pattern, so {@link Double#NaN} itself can be stored as a regular value.
+ */
+public class DoubleRingBuffer extends AbstractRingBuffer {
+
+    /** A NaN with a payload that is never produced by arithmetic operations. */
+    private static final long EMPTY_BITS = 0x7ff8_dead_beef_0000L;
+    private static final double EMPTY = Double.longBitsToDouble(EMPTY_BITS);
+
+    private double[] values = new double[0];
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of values to keep
+     */
+    public DoubleRingBuffer(int maximumSize) {
+        super(maximumSize);
+    }
+
+    /**
+     * @param index the bar index
+     * @return true if a value is stored for {@code index}
+     */
+    public boolean contains(int index) {
+        return covers(index) && Double.doubleToRawLongBits(values[slot(index)]) != EMPTY_BITS;
+    }
+
+    /**
+     * Returns the value stored for {@code index}. Check {@link #contains(int)}
+     * first: the result is undefined if no value is stored.
+     *
+     * @param index the bar index
+     * @return the stored value
+     */
+    public double get(int index) {
+        return values[slot(index)];
+    }
+
+    /**
+     * Stores the value of the {@code index}. Values that are too old to fit into
+     * the buffer are ignored.
+     *
+     * @param index the bar index
+     * @param value the value to store
+     */
+    public void put(int index, double value) {
+        final int slot = acquire(index);
+        if (slot >= 0) {
+            values[slot] = value;
+        }
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void resize(int newCapacity, int from, int to) {
+        final double[] newValues = new double[newCapacity];
+        Arrays.fill(newValues, EMPTY);
+        for (int i = Math.max(from, to - newCapacity + 1); i <= to && i >= 0; i++) {
+            newValues[i % newCapacity] = values[slot(i)];
+        }
+        values = newValues;
+    }
+
+    @Override
+    void clearSlot(int slot) {
+        values[slot] = EMPTY;
+    }
+
+    @Override
+    void clearSlots() {
+        Arrays.fill(values, EMPTY);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.cache;
+
+/**
+ * A cache for indicator results, keyed by the absolute bar index.
+ *
+ * <p>
+ * A cache keeps at most {@link #getMaximumSize()} results. Storing a result for
+ * a new highest index evicts the results that fall out of that window, i.e.
+ * the results of bars that have been removed from a bar series with a
+ * {@link org.ta4j.core.BarSeries#getMaximumBarCount() maximum bar count}.
+ *
+ * @param <T> the type of the cached results
+ */
+public interface IndicatorCache<T> {
+
+    /**
+     * @param index the bar index
+     * @return the cached result, or {@code null} if no result is cached for
+     *         {@code index}
+     */
+    T get(int index);
+
+    /**
+     * Stores the result of the {@code index}. Results that are too old to fit into
+     * the cache are ignored.
+     *
+     * @param index  the bar index
+     * @param result the result to cache (not {@code null})
+     */
+    void put(int index, T result);
+
+    /**
+     * @return the highest bar index that has been stored, or {@code -1} if the
+     *         cache is empty
+     */
+    int getHighestIndex();
+
+    /**
+     * @return the maximum number of results kept by the cache
+     */
+    int getMaximumSize();
+
+    /**
+     * Sets the maximum number of results kept by the cache. Exceeding results are
+     * evicted, starting with the lowest index.
+     *
+     * @param maximumSize the maximum number of results (strictly positive)
+     */
+    void setMaximumSize(int maximumSize);
+
+    /**
+     * Removes all results.
+     */
+    void clear();
+
+    /**
+     * @return true if {@link #get(int)} may be called by several threads
+     *         concurrently with the other methods, without holding a lock
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
+}
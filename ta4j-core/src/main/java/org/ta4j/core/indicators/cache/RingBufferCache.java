@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.cache;
+
+import java.util.Arrays;
+
+/**
+ * {@link IndicatorCache} backed by a circular {@code Object[]}.
+ *
+ * <p>
+ * Storing the result of a new highest index and evicting the oldest result are
+ * both {@code O(1)}; no results are shifted when bars are removed from a moving
+ * bar series.
+ *
+ * @param <T> the type of the cached results
+ */
+public class RingBufferCache<T> extends AbstractRingBuffer implements IndicatorCache<T> {
+
+    private Object[] results = new Object[0];
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of results to keep, e.g. the
+     *                    {@link org.ta4j.core.BarSeries#getMaximumBarCount()
+     *                    maximum bar count} of the bar series
+     */
+    public RingBufferCache(int maximumSize) {
+        super(maximumSize);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return covers(index) ? (T) results[slot(index)] : null;
+    }
+
+    @Override
+    public void put(int index, T result) {
+        final int slot = acquire(index);
+        if (slot >= 0) {
+            results[slot] = result;
+        }
+    }
+
+    @Override
+    int capacity() {
+        return results.length;
+    }
+
+    @Override
+    void resize(int newCapacity, int from, int to) {
+        final Object[] newResults = new Object[newCapacity];
+        for (int i = Math.max(from, to - newCapacity + 1); i <= to && i >= 0; i++) {
+            newResults[i % newCapacity] = results[slot(i)];
+        }
+        results = newResults;
+    }
+
+    @Override
+    void clearSlot(int slot) {
+        results[slot] = null;
+    }
+
+    @Override
+    void clearSlots() {
+        Arrays.fill(results, null);
+    }
+}
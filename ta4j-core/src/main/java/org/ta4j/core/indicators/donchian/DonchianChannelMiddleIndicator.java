@@ -35,6 +35,7 @@ public class DonchianChannelMiddleIndicator extends CachedIndicator<Num> {
     private final int barCount;
     private final DonchianChannelLowerIndicator lower;
     private final DonchianChannelUpperIndicator upper;
+    private final Num two;
 
     /**
      * Constructor.
@@ -47,11 +48,12 @@ public class DonchianChannelMiddleIndicator extends CachedIndicator<Num> {
         this.barCount = barCount;
         this.lower = new DonchianChannelLowerIndicator(series, barCount);
         this.upper = new DonchianChannelUpperIndicator(series, barCount);
+        this.two = numOf(2);
     }
 
     @Override
     protected Num calculate(int index) {
-        return (this.lower.getValue(index).plus(this.upper.getValue(index))).dividedBy(numOf(2));
+        return (this.lower.getValue(index).plus(this.upper.getValue(index))).dividedBy(two);
     }
 
     @Override
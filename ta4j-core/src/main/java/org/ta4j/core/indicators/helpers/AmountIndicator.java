@@ -46,7 +46,7 @@ public class AmountIndicator extends CachedIndicator<Num> {
 
     @Override
     protected Num calculate(int index) {
-        return getBarSeries().getBar(index).getAmount();
+        return getBarSeries().getAmount(index);
     }
 
     /** @return {@code 0} */
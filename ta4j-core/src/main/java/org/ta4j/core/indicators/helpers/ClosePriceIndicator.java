@@ -46,7 +46,7 @@ public class ClosePriceIndicator extends AbstractIndicator<Num> {
 
     @Override
     public Num getValue(int index) {
-        return getBarSeries().getBar(index).getClosePrice();
+        return getBarSeries().getClosePrice(index);
     }
 
     /** @return {@code 0} */
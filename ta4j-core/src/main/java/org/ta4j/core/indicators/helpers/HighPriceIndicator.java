@@ -46,7 +46,7 @@ public class HighPriceIndicator extends AbstractIndicator<Num> {
 
     @Override
     public Num getValue(int index) {
-        return getBarSeries().getBar(index).getHighPrice();
+        return getBarSeries().getHighPrice(index);
     }
 
     /** @return {@code 0} */
@@ -32,11 +32,16 @@ import org.ta4j.core.num.Num;
  * 
  * <p>
  * Returns the highest indicator value from the bar series within the bar count.
+ * {@code NaN} values are skipped.
+ *
+ * <p>
+ * Serial access is amortized {@code O(1)} per bar, independent of the bar
+ * count.
  */
 public class HighestValueIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator;
     private final int barCount;
+    private final SlidingExtremum extremum;
 
     /**
      * Constructor.
@@ -46,23 +51,13 @@ public class HighestValueIndicator extends CachedIndicator<Num> {
      */
     public HighestValueIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
         this.barCount = barCount;
+        this.extremum = new SlidingExtremum(indicator, barCount, true);
     }
 
     @Override
     protected Num calculate(int index) {
-        if (indicator.getValue(index).isNaN() && barCount != 1) {
-            return new HighestValueIndicator(indicator, barCount - 1).getValue(index - 1);
-        }
-        int end = Math.max(0, index - barCount + 1);
-        Num highest = indicator.getValue(index);
-        for (int i = index - 1; i >= end; i--) {
-            if (highest.isLessThan(indicator.getValue(i))) {
-                highest = indicator.getValue(i);
-            }
-        }
-        return highest;
+        return extremum.getValue(index);
     }
 
     /** @return {@link #barCount} */
@@ -46,7 +46,7 @@ public class LowPriceIndicator extends AbstractIndicator<Num> {
 
     @Override
     public Num getValue(int index) {
-        return getBarSeries().getBar(index).getLowPrice();
+        return getBarSeries().getLowPrice(index);
     }
 
     /** @return {@code 0} */
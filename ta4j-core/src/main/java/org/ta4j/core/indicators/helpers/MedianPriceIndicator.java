@@ -23,7 +23,6 @@
  */
 package org.ta4j.core.indicators.helpers;
 
-import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -40,6 +39,8 @@ import org.ta4j.core.num.Num;
  */
 public class MedianPriceIndicator extends CachedIndicator<Num> {
 
+    private final Num two;
+
     /**
      * Constructor.
      * 
@@ -47,12 +48,13 @@ public class MedianPriceIndicator extends CachedIndicator<Num> {
      */
     public MedianPriceIndicator(BarSeries series) {
         super(series);
+        this.two = numOf(2);
     }
 
     @Override
     protected Num calculate(int index) {
-        final Bar bar = getBarSeries().getBar(index);
-        return bar.getHighPrice().plus(bar.getLowPrice()).dividedBy(numOf(2));
+        final BarSeries series = getBarSeries();
+        return series.getHighPrice(index).plus(series.getLowPrice(index)).dividedBy(two);
     }
 
     /** @return {@code 0} */
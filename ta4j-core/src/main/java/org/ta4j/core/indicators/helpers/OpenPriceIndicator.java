@@ -46,7 +46,7 @@ public class OpenPriceIndicator extends AbstractIndicator<Num> {
 
     @Override
     public Num getValue(int index) {
-        return getBarSeries().getBar(index).getOpenPrice();
+        return getBarSeries().getOpenPrice(index);
     }
 
     /** @return {@code 0} */
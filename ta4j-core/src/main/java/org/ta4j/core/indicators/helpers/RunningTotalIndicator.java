@@ -36,10 +36,13 @@ import org.ta4j.core.num.Num;
 public class RunningTotalIndicator extends CachedIndicator<Num> {
     private final Indicator<Num> indicator;
     private final int barCount;
-    private Num previousSum = zero();
 
-    // serial access detection
+    // serial access detection: the sum of previousIndex and the sum of its
+    // window without its newest value, so that a recalculation of previousIndex
+    // (e.g. of an updated last bar) doesn't need to sum up the window again
     private int previousIndex = -1;
+    private Num previousSum;
+    private Num previousBaseSum;
 
     public RunningTotalIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
@@ -50,42 +53,35 @@ public class RunningTotalIndicator extends CachedIndicator<Num> {
     @Override
     protected Num calculate(int index) {
         // serial access can benefit from previous partial sums
-        // which saves a lot of CPU work for very long barCounts
-        if (previousIndex != -1 && previousIndex == index - 1) {
-            return fastPath(index);
+        // which saves a lot of CPU work for very long barCounts;
+        // every barCount-th index is summed up from scratch to keep
+        // the rounding errors of the partial sums bounded
+        final Num baseSum;
+        if (previousIndex != -1 && previousIndex == index) {
+            baseSum = previousBaseSum;
+        } else if (previousIndex != -1 && previousIndex == index - 1 && index % barCount != 0) {
+            baseSum = index >= barCount ? previousSum.minus(indicator.getValue(index - barCount)) : previousSum;
+        } else {
+            baseSum = partialSum(index);
         }
 
-        return slowPath(index);
-    }
-
-    private Num fastPath(final int index) {
-        var newSum = partialSum(index);
-        updatePartialSum(index, newSum);
-        return newSum;
-    }
-
-    private Num slowPath(final int index) {
-        Num sum = zero();
-        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
-            sum = sum.plus(indicator.getValue(i));
-        }
-
-        updatePartialSum(index, sum);
-        return sum;
-    }
-
-    private void updatePartialSum(final int index, final Num sum) {
+        final Num sum = baseSum.plus(indicator.getValue(index));
         previousIndex = index;
         previousSum = sum;
+        previousBaseSum = baseSum;
+        return sum;
     }
 
+    /**
+     * @param index the bar index
+     * @return the sum of the values of the window of {@code index} without the
+     *         value of {@code index}
+     */
     private Num partialSum(int index) {
-        var sum = this.previousSum.plus(indicator.getValue(index));
-
-        if (index >= barCount) {
-            return sum.minus(indicator.getValue(index - barCount));
+        Num sum = zero();
+        for (int i = Math.max(0, index - barCount + 1); i < index; i++) {
+            sum = sum.plus(indicator.getValue(i));
         }
-
         return sum;
     }
 
@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Highest or lowest value of an indicator within a sliding window of
+ * {@code barCount} values.
+ *
+ * <p>
+ * Keeps a monotonic deque of the candidates of the window: the values that are
+ * not dominated by a later value (i.e. for the highest value, each candidate is
+ * greater than all the candidates after it). The front of the deque is the
+ * extremum of the window. On serial access, each value is added and removed at
+ * most once, so sliding the window is amortized {@code O(1)}. The deque before
+ * offering the newest value can be restored, so that recalculating the same
+ * index (e.g. of an updated last bar) is amortized {@code O(1)} too. Random
+ * access rebuilds the deque from the window in {@code O(barCount)}.
+ *
+ * <p>
+ * {@code NaN} values are skipped. If the window only holds {@code NaN} values,
+ * {@code NaN} is returned.
+ */
+final class SlidingExtremum {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Indicator<Num> indicator;
+    private final int barCount;
+    private final boolean highest;
+
+    // circular deque of the candidates (indexes and values)
+    private int[] indexes = new int[0];
+    private Num[] values = new Num[0];
+    private int head;
+    private int size;
+
+    // the deque before offering the value of previousIndex: its head, its size
+    // and the candidate overwritten by the value (slot -1 if none)
+    private int baseHead;
+    private int baseSize;
+    private int overwrittenSlot = -1;
+    private int overwrittenIndex;
+    private Num overwrittenValue;
+
+    // serial access detection
+    private int previousIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link Indicator}
+     * @param barCount  the time frame
+     * @param highest   true for the highest value, false for the lowest value
+     */
+    SlidingExtremum(Indicator<Num> indicator, int barCount, boolean highest) {
+        this.indicator = indicator;
+        this.barCount = barCount;
+        this.highest = highest;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the extremum of the window ending at {@code index}
+     */
+    Num getValue(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        if (previousIndex != -1 && previousIndex == index) {
+            restore();
+            offer(index);
+        } else if (previousIndex != -1 && previousIndex == index - 1) {
+            offer(index);
+        } else {
+            head = 0;
+            size = 0;
+            for (int i = startIndex; i <= index; i++) {
+                offer(i);
+            }
+        }
+        while (size > 0 && indexes[head] < startIndex) {
+            head = (head + 1) % indexes.length;
+            size--;
+        }
+        previousIndex = index;
+        return size == 0 ? NaN : values[head];
+    }
+
+    /**
+     * Adds the value of {@code index} to the back of the deque, removing all the
+     * candidates it dominates.
+     *
+     * @param index the bar index
+     */
+    private void offer(int index) {
+        baseHead = head;
+        baseSize = size;
+        overwrittenSlot = -1;
+        final Num value = indicator.getValue(index);
+        if (value.isNaN()) {
+            return;
+        }
+        while (size > 0 && isDominated(values[(head + size - 1) % values.length], value)) {
+            size--;
+        }
+        if (size == indexes.length) {
+            grow();
+        }
+        final int tail = (head + size) % indexes.length;
+        if (size < baseSize) {
+            // the slot of a removed candidate
+            overwrittenSlot = tail;
+            overwrittenIndex = indexes[tail];
+            overwrittenValue = values[tail];
+        }
+        indexes[tail] = index;
+        values[tail] = value;
+        size++;
+    }
+
+    /**
+     * Restores the deque before the last {@link #offer(int)}.
+     */
+    private void restore() {
+        if (overwrittenSlot >= 0) {
+            indexes[overwrittenSlot] = overwrittenIndex;
+            values[overwrittenSlot] = overwrittenValue;
+        }
+        head = baseHead;
+        size = baseSize;
+    }
+
+    private boolean isDominated(Num candidate, Num value) {
+        return highest ? candidate.isLessThanOrEqual(value) : candidate.isGreaterThanOrEqual(value);
+    }
+
+    private void grow() {
+        final int capacity = indexes.length == 0 ? INITIAL_CAPACITY : indexes.length << 1;
+        final int[] newIndexes = new int[capacity];
+        final Num[] newValues = new Num[capacity];
+        for (int i = 0; i < size; i++) {
+            newIndexes[i] = indexes[(head + i) % indexes.length];
+            newValues[i] = values[(head + i) % values.length];
+        }
+        indexes = newIndexes;
+        values = newValues;
+        head = 0;
+        // only grown if no candidate has been removed by the offered value
+        baseHead = 0;
+    }
+}
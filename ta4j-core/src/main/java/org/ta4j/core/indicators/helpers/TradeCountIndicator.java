@@ -45,7 +45,7 @@ public class TradeCountIndicator extends CachedIndicator<Long> {
 
     @Override
     protected Long calculate(int index) {
-        return getBarSeries().getBar(index).getTrades();
+        return getBarSeries().getTrades(index);
     }
 
     /** @return {@code 0} */
@@ -23,7 +23,6 @@
  */
 package org.ta4j.core.indicators.helpers;
 
-import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -40,6 +39,8 @@ import org.ta4j.core.num.Num;
  */
 public class TypicalPriceIndicator extends CachedIndicator<Num> {
 
+    private final Num three;
+
     /**
      * Constructor.
      * 
@@ -47,15 +48,16 @@ public class TypicalPriceIndicator extends CachedIndicator<Num> {
      */
     public TypicalPriceIndicator(BarSeries series) {
         super(series);
+        this.three = numOf(3);
     }
 
     @Override
     protected Num calculate(int index) {
-        final Bar bar = getBarSeries().getBar(index);
-        final Num highPrice = bar.getHighPrice();
-        final Num lowPrice = bar.getLowPrice();
-        final Num closePrice = bar.getClosePrice();
-        return highPrice.plus(lowPrice).plus(closePrice).dividedBy(numOf(3));
+        final BarSeries series = getBarSeries();
+        final Num highPrice = series.getHighPrice(index);
+        final Num lowPrice = series.getLowPrice(index);
+        final Num closePrice = series.getClosePrice(index);
+        return highPrice.plus(lowPrice).plus(closePrice).dividedBy(three);
     }
 
     /** @return {@code 0} */
@@ -47,6 +47,8 @@ public class IchimokuLineIndicator extends CachedIndicator<Num> {
     /** The period low. */
     private final Indicator<Num> periodLow;
 
+    private final Num two;
+
     /**
      * Contructor.
      *
@@ -57,11 +59,12 @@ public class IchimokuLineIndicator extends CachedIndicator<Num> {
         super(series);
         this.periodHigh = new HighestValueIndicator(new HighPriceIndicator(series), barCount);
         this.periodLow = new LowestValueIndicator(new LowPriceIndicator(series), barCount);
+        this.two = numOf(2);
     }
 
     @Override
     protected Num calculate(int index) {
-        return periodHigh.getValue(index).plus(periodLow.getValue(index)).dividedBy(numOf(2));
+        return periodHigh.getValue(index).plus(periodLow.getValue(index)).dividedBy(two);
     }
 
     @Override
@@ -46,6 +46,8 @@ public class IchimokuSenkouSpanAIndicator extends CachedIndicator<Num> {
     /** The cloud offset. */
     private final int offset;
 
+    private final Num two;
+
     /**
      * Constructor with {@code offset} = 26.
      *
@@ -82,6 +84,7 @@ public class IchimokuSenkouSpanAIndicator extends CachedIndicator<Num> {
         this.conversionLine = conversionLine;
         this.baseLine = baseLine;
         this.offset = offset;
+        this.two = numOf(2);
     }
 
     @Override
@@ -89,7 +92,7 @@ public class IchimokuSenkouSpanAIndicator extends CachedIndicator<Num> {
         // at index=7 we need index=3 when offset=5
         int spanIndex = index - offset + 1;
         if (spanIndex >= getBarSeries().getBeginIndex()) {
-            return conversionLine.getValue(spanIndex).plus(baseLine.getValue(spanIndex)).dividedBy(numOf(2));
+            return conversionLine.getValue(spanIndex).plus(baseLine.getValue(spanIndex)).dividedBy(two);
         } else {
             return NaN.NaN;
         }
@@ -48,7 +48,7 @@ public class BinaryOperation implements Indicator<Num> {
      * @see Num#plus
      */
     public static BinaryOperation sum(Indicator<Num> left, Indicator<Num> right) {
-        return new BinaryOperation(Num::plus, left, right);
+        return new BinaryOperation(Operator.SUM, left, right);
     }
 
     /**
@@ -60,7 +60,7 @@ public class BinaryOperation implements Indicator<Num> {
      * @see Num#minus
      */
     public static BinaryOperation difference(Indicator<Num> left, Indicator<Num> right) {
-        return new BinaryOperation(Num::minus, left, right);
+        return new BinaryOperation(Operator.DIFFERENCE, left, right);
     }
 
     /**
@@ -72,7 +72,7 @@ public class BinaryOperation implements Indicator<Num> {
      * @see Num#multipliedBy
      */
     public static BinaryOperation product(Indicator<Num> left, Indicator<Num> right) {
-        return new BinaryOperation(Num::multipliedBy, left, right);
+        return new BinaryOperation(Operator.PRODUCT, left, right);
     }
 
     /**
@@ -84,7 +84,7 @@ public class BinaryOperation implements Indicator<Num> {
      * @see Num#dividedBy
      */
     public static BinaryOperation quotient(Indicator<Num> left, Indicator<Num> right) {
-        return new BinaryOperation(Num::dividedBy, left, right);
+        return new BinaryOperation(Operator.QUOTIENT, left, right);
     }
 
     /**
@@ -98,7 +98,7 @@ public class BinaryOperation implements Indicator<Num> {
      * @see Num#min
      */
     public static BinaryOperation min(Indicator<Num> left, Indicator<Num> right) {
-        return new BinaryOperation(Num::min, left, right);
+        return new BinaryOperation(Operator.MIN, left, right);
     }
 
     /**
@@ -112,14 +112,30 @@ public class BinaryOperation implements Indicator<Num> {
      * @see Num#max
      */
     public static BinaryOperation max(Indicator<Num> left, Indicator<Num> right) {
-        return new BinaryOperation(Num::max, left, right);
+        return new BinaryOperation(Operator.MAX, left, right);
     }
 
-    private final BinaryOperator<Num> operator;
+    /** The operators, with their {@link Num} function. */
+    enum Operator {
+        SUM(Num::plus), DIFFERENCE(Num::minus), PRODUCT(Num::multipliedBy), QUOTIENT(Num::dividedBy), MIN(Num::min),
+        MAX(Num::max);
+
+        private final BinaryOperator<Num> function;
+
+        Operator(BinaryOperator<Num> function) {
+            this.function = function;
+        }
+
+        Num apply(Num left, Num right) {
+            return function.apply(left, right);
+        }
+    }
+
+    private final Operator operator;
     private final Indicator<Num> left;
     private final Indicator<Num> right;
 
-    private BinaryOperation(BinaryOperator<Num> operator, Indicator<Num> left, Indicator<Num> right) {
+    private BinaryOperation(Operator operator, Indicator<Num> left, Indicator<Num> right) {
         this.operator = operator;
         this.left = left;
         this.right = right;
@@ -132,6 +148,18 @@ public class BinaryOperation implements Indicator<Num> {
         return operator.apply(n1, n2);
     }
 
+    Operator getOperator() {
+        return operator;
+    }
+
+    Indicator<Num> getLeft() {
+        return left;
+    }
+
+    Indicator<Num> getRight() {
+        return right;
+    }
+
     @Override
     public int getUnstableBars() {
         return 0;
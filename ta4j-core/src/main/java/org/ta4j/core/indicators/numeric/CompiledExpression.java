@@ -0,0 +1,396 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.numeric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.helpers.ConstantIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * An expression of {@link NumericIndicator}, {@link BinaryOperation} and
+ * {@link UnaryOperation} indicators compiled into a flat list of operations.
+ *
+ * <p>
+ * The expression tree is replaced by an array of nodes in evaluation order:
+ * <ul>
+ * <li>identical subexpressions (same operator on the same operands, the same
+ * indicator or equal constants) are evaluated once per index
+ * <li>the other indicators of the expression (e.g. an SMA) are evaluated once
+ * per index, by their own cache if they have one
+ * <li>the intermediate results are not cached, only the result of the whole
+ * expression (as by any {@link CachedIndicator})
+ * </ul>
+ *
+ * <p>
+ * The expression can also be evaluated in {@code double} precision, for a
+ * single index ({@link #getDouble(int)}) or for a range of indexes
+ * ({@link #getDoubles(int, int)}), where each operation is applied in a loop
+ * over the whole range.
+ */
+public class CompiledExpression extends CachedIndicator<Num> implements DoubleIndicator {
+
+    private static final byte LEAF = 0;
+    private static final byte CONSTANT = 1;
+    private static final byte BINARY = 2;
+    private static final byte UNARY = 3;
+
+    /** The kind of each node. */
+    private final byte[] kinds;
+
+    /** The leaf index (leaves), or the (first) operand node of each node. */
+    private final int[] operands;
+
+    /** The second operand node of each binary node. */
+    private final int[] secondOperands;
+
+    private final BinaryOperation.Operator[] binaryOperators;
+    private final UnaryOperation.Operator[] unaryOperators;
+
+    /** The value of each constant node. */
+    private final Num[] constants;
+
+    /** The last node using each node as operand (for range evaluation). */
+    private final int[] lastUses;
+
+    /** The indicators which are not part of the expression. */
+    private final List<Indicator<Num>> leaves;
+    private final DoubleIndicator[] doubleLeaves;
+
+    /** The node of the whole expression. */
+    private final int root;
+
+    private final int unstableBars;
+
+    private CompiledExpression(Indicator<Num> expression, Compiler compiler, int root) {
+        super(expression);
+        this.root = root;
+        int nodeCount = compiler.kinds.size();
+        this.kinds = new byte[nodeCount];
+        this.operands = new int[nodeCount];
+        this.secondOperands = new int[nodeCount];
+        this.lastUses = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            kinds[node] = compiler.kinds.get(node);
+            operands[node] = compiler.operands.get(node);
+            secondOperands[node] = compiler.secondOperands.get(node);
+            lastUses[node] = node;
+            if (kinds[node] == BINARY) {
+                lastUses[operands[node]] = node;
+                lastUses[secondOperands[node]] = node;
+            } else if (kinds[node] == UNARY) {
+                lastUses[operands[node]] = node;
+            }
+        }
+        this.binaryOperators = compiler.binaryOperators.toArray(new BinaryOperation.Operator[0]);
+        this.unaryOperators = compiler.unaryOperators.toArray(new UnaryOperation.Operator[0]);
+        this.constants = compiler.constants.toArray(new Num[0]);
+        this.leaves = compiler.leaves;
+        this.doubleLeaves = new DoubleIndicator[leaves.size()];
+        int maxUnstableBars = 0;
+        for (int i = 0; i < leaves.size(); i++) {
+            doubleLeaves[i] = DoubleIndicator.of(leaves.get(i));
+            maxUnstableBars = Math.max(maxUnstableBars, leaves.get(i).getUnstableBars());
+        }
+        this.unstableBars = maxUnstableBars;
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @param expression the expression (e.g. built by {@link NumericIndicator})
+     * @return the compiled expression
+     */
+    public static CompiledExpression compile(Indicator<Num> expression) {
+        Compiler compiler = new Compiler();
+        int root = compiler.add(expression);
+        return new CompiledExpression(expression, compiler, root);
+    }
+
+    @Override
+    protected Num calculate(int index) {
+        Num[] values = new Num[kinds.length];
+        for (int node = 0; node < kinds.length; node++) {
+            switch (kinds[node]) {
+            case LEAF:
+                values[node] = leaves.get(operands[node]).getValue(index);
+                break;
+            case CONSTANT:
+                values[node] = constants[node];
+                break;
+            case BINARY:
+                values[node] = binaryOperators[node].apply(values[operands[node]], values[secondOperands[node]]);
+                break;
+            default:
+                values[node] = unaryOperators[node].apply(values[operands[node]]);
+            }
+        }
+        return values[root];
+    }
+
+    @Override
+    public double getDouble(int index) {
+        double[] values = new double[kinds.length];
+        for (int node = 0; node < kinds.length; node++) {
+            switch (kinds[node]) {
+            case LEAF:
+                values[node] = doubleLeaves[operands[node]].getDouble(index);
+                break;
+            case CONSTANT:
+                values[node] = constants[node].doubleValue();
+                break;
+            case BINARY:
+                values[node] = apply(binaryOperators[node], values[operands[node]], values[secondOperands[node]]);
+                break;
+            default:
+                values[node] = apply(unaryOperators[node], values[operands[node]]);
+            }
+        }
+        return values[root];
+    }
+
+    /**
+     * Evaluates the expression in {@code double} precision over a range of
+     * indexes, applying each operation to the whole range at once.
+     *
+     * @param beginIndex the first index (inclusive)
+     * @param endIndex   the last index (inclusive)
+     * @return the values from {@code beginIndex} to {@code endIndex}
+     */
+    @Override
+    public double[] getDoubles(int beginIndex, int endIndex) {
+        int length = Math.max(endIndex - beginIndex + 1, 0);
+        double[][] columns = new double[kinds.length][];
+        for (int node = 0; node < kinds.length; node++) {
+            double[] column = new double[length];
+            switch (kinds[node]) {
+            case LEAF:
+                doubleLeaves[operands[node]].getDoubles(beginIndex, endIndex, column, 0);
+                break;
+            case CONSTANT:
+                Arrays.fill(column, constants[node].doubleValue());
+                break;
+            case BINARY:
+                apply(binaryOperators[node], columns[operands[node]], columns[secondOperands[node]], column);
+                release(columns, operands[node], node);
+                release(columns, secondOperands[node], node);
+                break;
+            default:
+                apply(unaryOperators[node], columns[operands[node]], column);
+                release(columns, operands[node], node);
+            }
+            columns[node] = column;
+        }
+        return columns[root];
+    }
+
+    @Override
+    public void getDoubles(int beginIndex, int endIndex, double[] values, int offset) {
+        double[] result = getDoubles(beginIndex, endIndex);
+        System.arraycopy(result, 0, values, offset, result.length);
+    }
+
+    /**
+     * Releases the values of an operand after its last use.
+     */
+    private void release(double[][] columns, int operand, int node) {
+        if (lastUses[operand] == node && operand != root) {
+            columns[operand] = null;
+        }
+    }
+
+    private static double apply(BinaryOperation.Operator operator, double left, double right) {
+        switch (operator) {
+        case SUM:
+            return left + right;
+        case DIFFERENCE:
+            return left - right;
+        case PRODUCT:
+            return left * right;
+        case QUOTIENT:
+            return right == 0 ? Double.NaN : left / right;
+        case MIN:
+            return Math.min(left, right);
+        default:
+            return Math.max(left, right);
+        }
+    }
+
+    private static double apply(UnaryOperation.Operator operator, double operand) {
+        return operator == UnaryOperation.Operator.SQRT ? Math.sqrt(operand) : Math.abs(operand);
+    }
+
+    private static void apply(BinaryOperation.Operator operator, double[] left, double[] right, double[] result) {
+        switch (operator) {
+        case SUM:
+            for (int i = 0; i < result.length; i++) {
+                result[i] = left[i] + right[i];
+            }
+            break;
+        case DIFFERENCE:
+            for (int i = 0; i < result.length; i++) {
+                result[i] = left[i] - right[i];
+            }
+            break;
+        case PRODUCT:
+            for (int i = 0; i < result.length; i++) {
+                result[i] = left[i] * right[i];
+            }
+            break;
+        case QUOTIENT:
+            for (int i = 0; i < result.length; i++) {
+                result[i] = right[i] == 0 ? Double.NaN : left[i] / right[i];
+            }
+            break;
+        case MIN:
+            for (int i = 0; i < result.length; i++) {
+                result[i] = Math.min(left[i], right[i]);
+            }
+            break;
+        default:
+            for (int i = 0; i < result.length; i++) {
+                result[i] = Math.max(left[i], right[i]);
+            }
+        }
+    }
+
+    private static void apply(UnaryOperation.Operator operator, double[] operand, double[] result) {
+        if (operator == UnaryOperation.Operator.SQRT) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = Math.sqrt(operand[i]);
+            }
+        } else {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = Math.abs(operand[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the number of nodes (operations, constants and other indicators)
+     *         after the elimination of common subexpressions
+     */
+    public int getNodeCount() {
+        return kinds.length;
+    }
+
+    /** @return the maximum unstable bars of the indicators of the expression */
+    @Override
+    public int getUnstableBars() {
+        return unstableBars;
+    }
+
+    /**
+     * Builds the nodes of an expression in evaluation order, reusing the nodes of
+     * identical subexpressions.
+     */
+    private static class Compiler {
+
+        private final List<Byte> kinds = new ArrayList<>();
+        private final List<Integer> operands = new ArrayList<>();
+        private final List<Integer> secondOperands = new ArrayList<>();
+        private final List<BinaryOperation.Operator> binaryOperators = new ArrayList<>();
+        private final List<UnaryOperation.Operator> unaryOperators = new ArrayList<>();
+        private final List<Num> constants = new ArrayList<>();
+        private final List<Indicator<Num>> leaves = new ArrayList<>();
+
+        private final Map<Indicator<Num>, Integer> leafNodes = new IdentityHashMap<>();
+        private final Map<Indicator<Num>, Integer> operationNodes = new IdentityHashMap<>();
+        private final Map<List<Object>, Integer> nodes = new HashMap<>();
+
+        /**
+         * @param indicator the (sub)expression
+         * @return the node of the (sub)expression
+         */
+        int add(Indicator<Num> indicator) {
+            if (indicator instanceof NumericIndicator) {
+                return add(((NumericIndicator) indicator).delegate());
+            }
+            Integer existing = operationNodes.get(indicator);
+            if (existing != null) {
+                return existing;
+            }
+            int node;
+            if (indicator instanceof BinaryOperation) {
+                BinaryOperation operation = (BinaryOperation) indicator;
+                int left = add(operation.getLeft());
+                int right = add(operation.getRight());
+                BinaryOperation.Operator operator = operation.getOperator();
+                if (operator != BinaryOperation.Operator.DIFFERENCE && operator != BinaryOperation.Operator.QUOTIENT
+                        && right < left) {
+                    // commutative operators
+                    int swap = left;
+                    left = right;
+                    right = swap;
+                }
+                node = node(Arrays.asList(operator, left, right), BINARY, left, right, operator, null, null);
+            } else if (indicator instanceof UnaryOperation) {
+                UnaryOperation operation = (UnaryOperation) indicator;
+                int operand = add(operation.getOperand());
+                node = node(Arrays.asList(operation.getOperator(), operand), UNARY, operand, -1, null,
+                        operation.getOperator(), null);
+            } else if (indicator instanceof ConstantIndicator && indicator.getValue(0) instanceof Num) {
+                Num value = indicator.getValue(0);
+                node = node(Arrays.asList(CONSTANT, value), CONSTANT, -1, -1, null, null, value);
+            } else {
+                Integer leafNode = leafNodes.get(indicator);
+                if (leafNode != null) {
+                    return leafNode;
+                }
+                leaves.add(indicator);
+                node = node(null, LEAF, leaves.size() - 1, -1, null, null, null);
+                leafNodes.put(indicator, node);
+                return node;
+            }
+            operationNodes.put(indicator, node);
+            return node;
+        }
+
+        private int node(List<Object> key, byte kind, int operand, int secondOperand,
+                BinaryOperation.Operator binaryOperator, UnaryOperation.Operator unaryOperator, Num constant) {
+            if (key != null) {
+                Integer existing = nodes.get(key);
+                if (existing != null) {
+                    return existing;
+                }
+                nodes.put(key, kinds.size());
+            }
+            kinds.add(kind);
+            operands.add(operand);
+            secondOperands.add(secondOperand);
+            binaryOperators.add(binaryOperator);
+            unaryOperators.add(unaryOperator);
+            constants.add(constant);
+            return kinds.size() - 1;
+        }
+    }
+}
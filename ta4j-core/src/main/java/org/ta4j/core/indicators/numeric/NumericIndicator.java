@@ -352,6 +352,17 @@ public class NumericIndicator implements Indicator<Num> {
         return isLessThan(createConstant(n));
     }
 
+    /**
+     * Compiles {@code this} expression (e.g. {@code plus}, {@code sqrt}) into a
+     * flat list of operations, evaluating identical subexpressions once.
+     *
+     * @return the compiled expression
+     * @see CompiledExpression
+     */
+    public CompiledExpression compile() {
+        return CompiledExpression.compile(this);
+    }
+
     private Indicator<Num> createConstant(Number n) {
         return new ConstantIndicator<>(getBarSeries(), numOf(n));
     }
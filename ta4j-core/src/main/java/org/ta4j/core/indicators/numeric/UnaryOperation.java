@@ -44,7 +44,7 @@ public class UnaryOperation implements Indicator<Num> {
      * @see Num#sqrt
      */
     public static UnaryOperation sqrt(Indicator<Num> operand) {
-        return new UnaryOperation(Num::sqrt, operand);
+        return new UnaryOperation(Operator.SQRT, operand);
     }
 
     /**
@@ -56,13 +56,28 @@ public class UnaryOperation implements Indicator<Num> {
      * @see Num#abs
      */
     public static UnaryOperation abs(Indicator<Num> operand) {
-        return new UnaryOperation(Num::abs, operand);
+        return new UnaryOperation(Operator.ABS, operand);
     }
 
-    private final UnaryOperator<Num> operator;
+    /** The operators, with their {@link Num} function. */
+    enum Operator {
+        SQRT(Num::sqrt), ABS(Num::abs);
+
+        private final UnaryOperator<Num> function;
+
+        Operator(UnaryOperator<Num> function) {
+            this.function = function;
+        }
+
+        Num apply(Num operand) {
+            return function.apply(operand);
+        }
+    }
+
+    private final Operator operator;
     private final Indicator<Num> operand;
 
-    private UnaryOperation(UnaryOperator<Num> operator, Indicator<Num> operand) {
+    private UnaryOperation(Operator operator, Indicator<Num> operand) {
         this.operator = operator;
         this.operand = operand;
     }
@@ -73,6 +88,14 @@ public class UnaryOperation implements Indicator<Num> {
         return operator.apply(n);
     }
 
+    Operator getOperator() {
+        return operator;
+    }
+
+    Indicator<Num> getOperand() {
+        return operand;
+    }
+
     @Override
     public int getUnstableBars() {
         return 0;
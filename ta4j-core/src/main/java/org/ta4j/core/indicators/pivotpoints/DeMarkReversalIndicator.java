@@ -43,6 +43,7 @@ public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Num> {
     private final DeMarkPivotPointIndicator pivotPointIndicator;
     private final DeMarkPivotLevel level;
     private final Num two;
+    private final Num four;
 
     public enum DeMarkPivotLevel {
         RESISTANCE, SUPPORT,
@@ -63,11 +64,12 @@ public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Num> {
         this.pivotPointIndicator = pivotPointIndicator;
         this.level = level;
         this.two = numOf(2);
+        this.four = numOf(4);
     }
 
     @Override
     protected Num calculate(int index) {
-        Num x = pivotPointIndicator.getValue(index).multipliedBy(numOf(4));
+        Num x = pivotPointIndicator.getValue(index).multipliedBy(four);
         Num result;
 
         if (level == DeMarkPivotLevel.SUPPORT) {
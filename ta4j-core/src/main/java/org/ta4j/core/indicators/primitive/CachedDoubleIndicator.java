@@ -0,0 +1,207 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.indicators.cache.DoubleRingBuffer;
+
+/**
+ * Cached {@link DoubleIndicator primitive indicator}.
+ *
+ * <p>
+ * Caches the calculated results in a {@link DoubleRingBuffer}, so that neither
+ * the computation nor the cache allocates per bar. Missing values are always
+ * computed in a forward pass from the last cached index up to the requested
+ * index. Recursive indicators (e.g. an EMA) can therefore call
+ * {@link #getDouble(int)} with {@code index - 1} without risking a
+ * {@link StackOverflowError}.
+ *
+ * <p>
+ * As for {@link org.ta4j.core.indicators.CachedIndicator CachedIndicator}, the
+ * value of the last bar of the series may still change: it is only reused until
+ * the {@link BarSeries#getModificationCount() modification count} of the series
+ * changes, and never cached for series that do not track this count.
+ */
+public abstract class CachedDoubleIndicator extends AbstractDoubleIndicator {
+
+    /** The cached results. */
+    private final DoubleRingBuffer results;
+
+    /**
+     * The maximum bar count of the series the maximum size of {@link #results}
+     * has been set for, -1 if it has not been set yet.
+     */
+    private int maximumResultCount = -1;
+
+    /** The index of {@link #lastBarValue}, -1 if there is none. */
+    private int lastBarIndex = -1;
+
+    /** The modification count of the series {@link #lastBarValue} is valid for. */
+    private long lastBarModificationCount = -1;
+
+    /** The cached value of the last bar. */
+    private double lastBarValue;
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series
+     */
+    protected CachedDoubleIndicator(BarSeries series) {
+        super(series);
+        this.results = new DoubleRingBuffer(series.getMaximumBarCount());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator a related indicator (with a bar series)
+     */
+    protected CachedDoubleIndicator(DoubleIndicator indicator) {
+        this(indicator.getBarSeries());
+    }
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator
+     */
+    protected abstract double calculate(int index);
+
+    @Override
+    public synchronized double getDouble(int index) {
+        final BarSeries series = getBarSeries();
+        final int firstIndex = getFirstIndex();
+        if (index < firstIndex) {
+            // Result already removed: use the first available bar instead
+            index = firstIndex;
+        }
+        updateMaximumSize(series);
+        if (index == series.getEndIndex()) {
+            final long modificationCount = series.getModificationCount();
+            if (modificationCount < 0) {
+                // Don't cache result if last bar
+                fillTo(index - 1, firstIndex);
+                return calculate(index);
+            }
+            if (lastBarModificationCount == modificationCount) {
+                if (lastBarIndex == index) {
+                    return lastBarValue;
+                }
+                if (lastBarIndex == results.getHighestIndex() + 1 && lastBarIndex >= firstIndex
+                        && lastBarIndex < index) {
+                    // The previous last bar value is still valid once a new bar has been added
+                    results.put(lastBarIndex, lastBarValue);
+                }
+            }
+            fillTo(index - 1, firstIndex);
+            lastBarValue = calculate(index);
+            lastBarIndex = index;
+            lastBarModificationCount = modificationCount;
+            return lastBarValue;
+        }
+        fillTo(index, firstIndex);
+        return results.contains(index) ? results.get(index) : calculate(index);
+    }
+
+    /**
+     * Calculates and caches the missing values up to the bar before the last one
+     * in a single pass (see {@link #calculate(int, int, double[])}), then copies
+     * the values of the range.
+     */
+    @Override
+    public synchronized void getDoubles(int beginIndex, int endIndex, double[] values, int offset) {
+        final BarSeries series = getBarSeries();
+        final int firstIndex = getFirstIndex();
+        updateMaximumSize(series);
+        final int lastCachedIndex = Math.min(endIndex, series.getEndIndex() - 1);
+        final int fromIndex = Math.max(results.getHighestIndex() + 1, firstIndex);
+        if (fromIndex <= lastCachedIndex) {
+            final double[] calculated = new double[lastCachedIndex - fromIndex + 1];
+            calculate(fromIndex, lastCachedIndex, calculated);
+            for (int i = 0; i < calculated.length; i++) {
+                results.put(fromIndex + i, calculated[i]);
+            }
+        }
+        for (int i = beginIndex; i <= endIndex; i++) {
+            final int index = Math.max(i, firstIndex);
+            values[offset + i - beginIndex] = index <= lastCachedIndex && results.contains(index) ? results.get(index)
+                    : getDouble(index);
+        }
+    }
+
+    /**
+     * Calculates the values of a range of indexes, in which all values before
+     * {@code beginIndex} are already cached.
+     *
+     * <p>
+     * Called by {@link #getDoubles(int, int, double[], int)}. Override it to
+     * calculate the range in a loop over the (batch) values of the
+     * sub-indicators; by default, it calls {@link #calculate(int)} for each index
+     * and caches its value at once, as it may depend on the previous values.
+     *
+     * @param beginIndex the first index (inclusive)
+     * @param endIndex   the last index (inclusive)
+     * @param values     the array receiving the values, starting at position 0
+     */
+    protected void calculate(int beginIndex, int endIndex, double[] values) {
+        for (int i = beginIndex; i <= endIndex; i++) {
+            final double value = calculate(i);
+            results.put(i, value);
+            values[i - beginIndex] = value;
+        }
+    }
+
+    /**
+     * @return the first bar index for which a value can be calculated, i.e. the
+     *         index of the first bar that has not been removed from the series
+     */
+    protected int getFirstIndex() {
+        return getBarSeries().getRemovedBarsCount();
+    }
+
+    /**
+     * Follows the maximum bar count of the series, checked against the last seen
+     * value rather than the cache.
+     */
+    private void updateMaximumSize(BarSeries series) {
+        final int maximumBarCount = series.getMaximumBarCount();
+        if (maximumResultCount != maximumBarCount) {
+            results.setMaximumSize(maximumBarCount);
+            maximumResultCount = maximumBarCount;
+        }
+    }
+
+    /**
+     * Calculates and caches all missing results up to {@code index}.
+     *
+     * @param index      the bar index (inclusive)
+     * @param firstIndex the first available bar index
+     */
+    private void fillTo(int index, int firstIndex) {
+        for (int i = Math.max(results.getHighestIndex() + 1, firstIndex); i <= index; i++) {
+            results.put(i, calculate(i));
+        }
+    }
+}
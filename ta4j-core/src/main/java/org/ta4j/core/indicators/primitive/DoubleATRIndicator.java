@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.BarSeries;
+
+/**
+ * Primitive average true range indicator.
+ *
+ * @see org.ta4j.core.indicators.ATRIndicator
+ */
+public class DoubleATRIndicator extends AbstractDoubleIndicator {
+
+    private final DoubleMMAIndicator averageTrueRangeIndicator;
+
+    /**
+     * Constructor.
+     *
+     * @param series   the bar series
+     * @param barCount the time frame
+     */
+    public DoubleATRIndicator(BarSeries series, int barCount) {
+        super(series);
+        this.averageTrueRangeIndicator = new DoubleMMAIndicator(new DoubleTRIndicator(series), barCount);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return averageTrueRangeIndicator.getDouble(index);
+    }
+
+    @Override
+    public int getUnstableBars() {
+        return getBarCount();
+    }
+
+    /** @return the bar count of {@link #averageTrueRangeIndicator} */
+    public int getBarCount() {
+        return averageTrueRangeIndicator.getBarCount();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + getBarCount();
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Primitive exponential moving average indicator.
+ *
+ * @see org.ta4j.core.indicators.EMAIndicator
+ */
+public class DoubleEMAIndicator extends CachedDoubleIndicator {
+
+    private final DoubleIndicator indicator;
+    private final int barCount;
+    private final double multiplier;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator an indicator
+     * @param barCount  the EMA time frame
+     */
+    public DoubleEMAIndicator(DoubleIndicator indicator, int barCount) {
+        this(indicator, barCount, 2.0 / (barCount + 1));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator  the {@link DoubleIndicator}
+     * @param barCount   the time frame
+     * @param multiplier the multiplier
+     */
+    protected DoubleEMAIndicator(DoubleIndicator indicator, int barCount, double multiplier) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    protected double calculate(int index) {
+        if (index <= getFirstIndex()) {
+            return indicator.getDouble(index);
+        }
+        double prevValue = getDouble(index - 1);
+        return (indicator.getDouble(index) - prevValue) * multiplier + prevValue;
+    }
+
+    @Override
+    protected void calculate(int beginIndex, int endIndex, double[] values) {
+        indicator.getDoubles(beginIndex, endIndex, values, 0);
+        final int firstIndex = getFirstIndex();
+        double prevValue = beginIndex > firstIndex ? getDouble(beginIndex - 1) : 0;
+        for (int i = beginIndex; i <= endIndex; i++) {
+            final int k = i - beginIndex;
+            if (i > firstIndex) {
+                values[k] = (values[k] - prevValue) * multiplier + prevValue;
+            }
+            prevValue = values[k];
+        }
+    }
+
+    @Override
+    public int getUnstableBars() {
+        return barCount;
+    }
+
+    /** @return the time frame */
+    public int getBarCount() {
+        return barCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Primitive lowest value indicator.
+ *
+ * <p>
+ * Returns the lowest indicator value from the bar series within the bar count.
+ * {@link Double#NaN} values are skipped; if all values within the bar count are
+ * {@code NaN}, {@code NaN} is returned.
+ *
+ * <p>
+ * Serial access is amortized {@code O(1)} per bar, independent of the bar
+ * count.
+ *
+ * @see org.ta4j.core.indicators.helpers.LowestValueIndicator
+ */
+public class DoubleLowestValueIndicator extends CachedDoubleIndicator {
+
+    private final int barCount;
+    private final DoubleSlidingExtremum extremum;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link DoubleIndicator}
+     * @param barCount  the time frame
+     */
+    public DoubleLowestValueIndicator(DoubleIndicator indicator, int barCount) {
+        super(indicator);
+        this.barCount = barCount;
+        this.extremum = new DoubleSlidingExtremum(indicator, barCount, false);
+    }
+
+    @Override
+    protected double calculate(int index) {
+        return extremum.getDouble(index);
+    }
+
+    /** @return {@link #barCount} */
+    @Override
+    public int getUnstableBars() {
+        return barCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Primitive moving average convergence divergence (MACD) indicator.
+ *
+ * @see org.ta4j.core.indicators.MACDIndicator
+ */
+public class DoubleMACDIndicator extends AbstractDoubleIndicator {
+
+    private final DoubleEMAIndicator shortTermEma;
+    private final DoubleEMAIndicator longTermEma;
+
+    /**
+     * Constructor with:
+     *
+     * <ul>
+     * <li>{@code shortBarCount} = 12
+     * <li>{@code longBarCount} = 26
+     * </ul>
+     *
+     * @param indicator the {@link DoubleIndicator}
+     */
+    public DoubleMACDIndicator(DoubleIndicator indicator) {
+        this(indicator, 12, 26);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator     the {@link DoubleIndicator}
+     * @param shortBarCount the short time frame (normally 12)
+     * @param longBarCount  the long time frame (normally 26)
+     */
+    public DoubleMACDIndicator(DoubleIndicator indicator, int shortBarCount, int longBarCount) {
+        super(indicator.getBarSeries());
+        if (shortBarCount > longBarCount) {
+            throw new IllegalArgumentException("Long term period count must be greater than short term period count");
+        }
+        this.shortTermEma = new DoubleEMAIndicator(indicator, shortBarCount);
+        this.longTermEma = new DoubleEMAIndicator(indicator, longBarCount);
+    }
+
+    /**
+     * @return the Short term EMA indicator
+     */
+    public DoubleEMAIndicator getShortTermEma() {
+        return shortTermEma;
+    }
+
+    /**
+     * @return the Long term EMA indicator
+     */
+    public DoubleEMAIndicator getLongTermEma() {
+        return longTermEma;
+    }
+
+    /**
+     * @param barCount of signal line
+     * @return signal line for this MACD indicator
+     */
+    public DoubleEMAIndicator getSignalLine(int barCount) {
+        return new DoubleEMAIndicator(this, barCount);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return shortTermEma.getDouble(index) - longTermEma.getDouble(index);
+    }
+
+    @Override
+    public int getUnstableBars() {
+        return 0;
+    }
+}
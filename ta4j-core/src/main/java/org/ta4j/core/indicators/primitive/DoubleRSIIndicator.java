@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Primitive relative strength index indicator.
+ *
+ * <p>
+ * Computed using original Welles Wilder formula.
+ *
+ * @see org.ta4j.core.indicators.RSIIndicator
+ */
+public class DoubleRSIIndicator extends CachedDoubleIndicator {
+
+    private final DoubleMMAIndicator averageGainIndicator;
+    private final DoubleMMAIndicator averageLossIndicator;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link DoubleIndicator}
+     * @param barCount  the time frame
+     */
+    public DoubleRSIIndicator(DoubleIndicator indicator, int barCount) {
+        super(indicator);
+        this.averageGainIndicator = new DoubleMMAIndicator(new Change(indicator, true), barCount);
+        this.averageLossIndicator = new DoubleMMAIndicator(new Change(indicator, false), barCount);
+    }
+
+    @Override
+    protected double calculate(int index) {
+        double averageGain = averageGainIndicator.getDouble(index);
+        double averageLoss = averageLossIndicator.getDouble(index);
+        if (averageLoss == 0) {
+            return averageGain == 0 ? 0 : 100;
+        }
+        double relativeStrength = averageGain / averageLoss;
+        return 100 - 100 / (1 + relativeStrength);
+    }
+
+    @Override
+    protected void calculate(int beginIndex, int endIndex, double[] values) {
+        final double[] averageGains = averageGainIndicator.getDoubles(beginIndex, endIndex);
+        final double[] averageLosses = averageLossIndicator.getDoubles(beginIndex, endIndex);
+        for (int k = 0; k < values.length; k++) {
+            final double averageGain = averageGains[k];
+            final double averageLoss = averageLosses[k];
+            if (averageLoss == 0) {
+                values[k] = averageGain == 0 ? 0 : 100;
+            } else {
+                values[k] = 100 - 100 / (1 + averageGain / averageLoss);
+            }
+        }
+    }
+
+    @Override
+    public int getUnstableBars() {
+        return 0;
+    }
+
+    /**
+     * The gain (or loss) of an indicator compared to its previous bar.
+     */
+    private static class Change extends AbstractDoubleIndicator {
+
+        private final DoubleIndicator indicator;
+        private final boolean gain;
+
+        private Change(DoubleIndicator indicator, boolean gain) {
+            super(indicator.getBarSeries());
+            this.indicator = indicator;
+            this.gain = gain;
+        }
+
+        @Override
+        public double getDouble(int index) {
+            if (index <= getBarSeries().getRemovedBarsCount()) {
+                return 0;
+            }
+            double change = indicator.getDouble(index) - indicator.getDouble(index - 1);
+            return gain ? Math.max(change, 0) : Math.max(-change, 0);
+        }
+
+        @Override
+        public void getDoubles(int beginIndex, int endIndex, double[] values, int offset) {
+            final int removedBarsCount = getBarSeries().getRemovedBarsCount();
+            final int firstIndex = Math.max(beginIndex - 1, removedBarsCount);
+            final double[] prices = indicator.getDoubles(firstIndex, endIndex);
+            for (int i = beginIndex; i <= endIndex; i++) {
+                double change = i <= removedBarsCount ? 0 : prices[i - firstIndex] - prices[i - 1 - firstIndex];
+                values[offset + i - beginIndex] = gain ? Math.max(change, 0) : Math.max(-change, 0);
+            }
+        }
+
+        @Override
+        public int getUnstableBars() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Primitive running total (moving sum) indicator.
+ *
+ * <p>
+ * Returns the sum of the last {@code barCount} values. Each value is derived
+ * from the previous one in {@code O(1)}; the sum is recalculated from scratch
+ * every {@code barCount} bars to bound the accumulated floating point error.
+ *
+ * @see org.ta4j.core.indicators.helpers.RunningTotalIndicator
+ */
+public class DoubleRunningTotalIndicator extends CachedDoubleIndicator {
+
+    private final DoubleIndicator indicator;
+    private final int barCount;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link DoubleIndicator}
+     * @param barCount  the time frame
+     */
+    public DoubleRunningTotalIndicator(DoubleIndicator indicator, int barCount) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+    }
+
+    @Override
+    protected double calculate(int index) {
+        if (index <= getFirstIndex() || index % barCount == 0) {
+            double sum = 0;
+            for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+                sum += indicator.getDouble(i);
+            }
+            return sum;
+        }
+        double sum = getDouble(index - 1) + indicator.getDouble(index);
+        return index >= barCount ? sum - indicator.getDouble(index - barCount) : sum;
+    }
+
+    /** @return {@link #barCount} */
+    @Override
+    public int getUnstableBars() {
+        return barCount;
+    }
+
+    /** @return the time frame */
+    public int getBarCount() {
+        return barCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Primitive simple moving average (SMA) indicator.
+ *
+ * @see org.ta4j.core.indicators.SMAIndicator
+ */
+public class DoubleSMAIndicator extends CachedDoubleIndicator {
+
+    private final DoubleRunningTotalIndicator sum;
+    private final int barCount;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link DoubleIndicator}
+     * @param barCount  the time frame
+     */
+    public DoubleSMAIndicator(DoubleIndicator indicator, int barCount) {
+        super(indicator);
+        this.sum = new DoubleRunningTotalIndicator(indicator, barCount);
+        this.barCount = barCount;
+    }
+
+    @Override
+    protected double calculate(int index) {
+        return sum.getDouble(index) / Math.min(barCount, index + 1);
+    }
+
+    @Override
+    protected void calculate(int beginIndex, int endIndex, double[] values) {
+        sum.getDoubles(beginIndex, endIndex, values, 0);
+        for (int i = beginIndex; i <= endIndex; i++) {
+            values[i - beginIndex] /= Math.min(barCount, i + 1);
+        }
+    }
+
+    /** @return {@link #barCount} */
+    @Override
+    public int getUnstableBars() {
+        return barCount;
+    }
+
+    /** @return the time frame */
+    public int getBarCount() {
+        return barCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Highest or lowest value of a {@link DoubleIndicator} within a sliding window
+ * of {@code barCount} values.
+ *
+ * <p>
+ * Primitive counterpart of the {@code SlidingExtremum} of the
+ * {@link org.ta4j.core.indicators.helpers helpers}: keeps a monotonic deque of
+ * the candidates of the window, so that sliding the window (and recalculating
+ * the same index) is amortized {@code O(1)}, and random access rebuilds the
+ * deque from the window in {@code O(barCount)}.
+ *
+ * <p>
+ * {@code NaN} values are skipped. If the window only holds {@code NaN} values,
+ * {@code NaN} is returned.
+ */
+final class DoubleSlidingExtremum {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final DoubleIndicator indicator;
+    private final int barCount;
+    private final boolean highest;
+
+    // circular deque of the candidates (indexes and values)
+    private int[] indexes = new int[0];
+    private double[] values = new double[0];
+    private int head;
+    private int size;
+
+    // the deque before offering the value of previousIndex: its head, its size
+    // and the candidate overwritten by the value (slot -1 if none)
+    private int baseHead;
+    private int baseSize;
+    private int overwrittenSlot = -1;
+    private int overwrittenIndex;
+    private double overwrittenValue;
+
+    // serial access detection
+    private int previousIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link DoubleIndicator}
+     * @param barCount  the time frame
+     * @param highest   true for the highest value, false for the lowest value
+     */
+    DoubleSlidingExtremum(DoubleIndicator indicator, int barCount, boolean highest) {
+        this.indicator = indicator;
+        this.barCount = barCount;
+        this.highest = highest;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the extremum of the window ending at {@code index}
+     */
+    double getDouble(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        if (previousIndex != -1 && previousIndex == index) {
+            restore();
+            offer(index);
+        } else if (previousIndex != -1 && previousIndex == index - 1) {
+            offer(index);
+        } else {
+            head = 0;
+            size = 0;
+            for (int i = startIndex; i <= index; i++) {
+                offer(i);
+            }
+        }
+        while (size > 0 && indexes[head] < startIndex) {
+            head = (head + 1) % indexes.length;
+            size--;
+        }
+        previousIndex = index;
+        return size == 0 ? Double.NaN : values[head];
+    }
+
+    /**
+     * Adds the value of {@code index} to the back of the deque, removing all the
+     * candidates it dominates.
+     *
+     * @param index the bar index
+     */
+    private void offer(int index) {
+        baseHead = head;
+        baseSize = size;
+        overwrittenSlot = -1;
+        final double value = indicator.getDouble(index);
+        if (Double.isNaN(value)) {
+            return;
+        }
+        while (size > 0 && isDominated(values[(head + size - 1) % values.length], value)) {
+            size--;
+        }
+        if (size == indexes.length) {
+            grow();
+        }
+        final int tail = (head + size) % indexes.length;
+        if (size < baseSize) {
+            // the slot of a removed candidate
+            overwrittenSlot = tail;
+            overwrittenIndex = indexes[tail];
+            overwrittenValue = values[tail];
+        }
+        indexes[tail] = index;
+        values[tail] = value;
+        size++;
+    }
+
+    /**
+     * Restores the deque before the last {@link #offer(int)}.
+     */
+    private void restore() {
+        if (overwrittenSlot >= 0) {
+            indexes[overwrittenSlot] = overwrittenIndex;
+            values[overwrittenSlot] = overwrittenValue;
+        }
+        head = baseHead;
+        size = baseSize;
+    }
+
+    private boolean isDominated(double candidate, double value) {
+        return highest ? candidate <= value : candidate >= value;
+    }
+
+    private void grow() {
+        final int capacity = indexes.length == 0 ? INITIAL_CAPACITY : indexes.length << 1;
+        final int[] newIndexes = new int[capacity];
+        final double[] newValues = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            newIndexes[i] = indexes[(head + i) % indexes.length];
+            newValues[i] = values[(head + i) % values.length];
+        }
+        indexes = newIndexes;
+        values = newValues;
+        head = 0;
+        // only grown if no candidate has been removed by the offered value
+        baseHead = 0;
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Primitive standard deviation indicator.
+ *
+ * <p>
+ * Returns the population standard deviation of the last {@code barCount}
+ * values. It is derived in {@code O(1)} from the running totals of the values
+ * and of their squares (see {@link DoubleRunningTotalIndicator}).
+ *
+ * @see org.ta4j.core.indicators.statistics.StandardDeviationIndicator
+ */
+public class DoubleStandardDeviationIndicator extends CachedDoubleIndicator {
+
+    private final int barCount;
+    private final DoubleRunningTotalIndicator sum;
+    private final DoubleRunningTotalIndicator sumOfSquares;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator
+     * @param barCount  the time frame
+     */
+    public DoubleStandardDeviationIndicator(DoubleIndicator indicator, int barCount) {
+        super(indicator);
+        this.barCount = barCount;
+        this.sum = new DoubleRunningTotalIndicator(indicator, barCount);
+        this.sumOfSquares = new DoubleRunningTotalIndicator(new Square(indicator), barCount);
+    }
+
+    @Override
+    protected double calculate(int index) {
+        return deviation(sum.getDouble(index), sumOfSquares.getDouble(index), Math.min(barCount, index + 1));
+    }
+
+    @Override
+    protected void calculate(int beginIndex, int endIndex, double[] values) {
+        final double[] squares = sumOfSquares.getDoubles(beginIndex, endIndex);
+        sum.getDoubles(beginIndex, endIndex, values, 0);
+        for (int i = beginIndex; i <= endIndex; i++) {
+            values[i - beginIndex] = deviation(values[i - beginIndex], squares[i - beginIndex],
+                    Math.min(barCount, i + 1));
+        }
+    }
+
+    private static double deviation(double sum, double sumOfSquares, int count) {
+        final double average = sum / count;
+        // Clamped, as rounding errors may make a zero variance slightly negative
+        return Math.sqrt(Math.max(sumOfSquares / count - average * average, 0));
+    }
+
+    @Override
+    public int getUnstableBars() {
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+
+    /**
+     * The square of the values of an indicator.
+     */
+    private static class Square extends AbstractDoubleIndicator {
+
+        private final DoubleIndicator indicator;
+
+        private Square(DoubleIndicator indicator) {
+            super(indicator.getBarSeries());
+            this.indicator = indicator;
+        }
+
+        @Override
+        public double getDouble(int index) {
+            final double value = indicator.getDouble(index);
+            return value * value;
+        }
+
+        @Override
+        public int getUnstableBars() {
+            return 0;
+        }
+    }
+}
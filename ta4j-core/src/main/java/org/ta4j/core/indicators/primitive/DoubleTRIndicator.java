@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+
+/**
+ * Primitive true range indicator.
+ *
+ * <pre>
+ * TrueRange = MAX(high - low, high - previousClose, previousClose - low)
+ * </pre>
+ *
+ * @see org.ta4j.core.indicators.helpers.TRIndicator
+ */
+public class DoubleTRIndicator extends AbstractDoubleIndicator {
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series
+     */
+    public DoubleTRIndicator(BarSeries series) {
+        super(series);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        Bar bar = getBarSeries().getBar(index);
+        double high = bar.getHighPrice().doubleValue();
+        double low = bar.getLowPrice().doubleValue();
+        double hl = Math.abs(high - low);
+        if (index <= getBarSeries().getRemovedBarsCount()) {
+            return hl;
+        }
+        double previousClose = getBarSeries().getBar(index - 1).getClosePrice().doubleValue();
+        return Math.max(hl, Math.max(Math.abs(high - previousClose), Math.abs(previousClose - low)));
+    }
+
+    /** @return {@code 1} */
+    @Override
+    public int getUnstableBars() {
+        return 1;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.util.function.ObjIntConsumer;
+
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Adapts a {@link DoubleIndicator} to an {@link Indicator Indicator&lt;Num&gt;}.
+ *
+ * <p>
+ * Converts each value into the {@link Num} type of the bar series;
+ * {@link Double#NaN} is returned as {@link org.ta4j.core.num.NaN NaN}. The
+ * values are not cached; the wrapped indicator is expected to cache them
+ * itself.
+ */
+public class DoubleToNumIndicator extends AbstractIndicator<Num> {
+
+    private final DoubleIndicator indicator;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link DoubleIndicator} to adapt
+     */
+    public DoubleToNumIndicator(DoubleIndicator indicator) {
+        super(indicator.getBarSeries());
+        this.indicator = indicator;
+    }
+
+    @Override
+    public Num getValue(int index) {
+        double value = indicator.getDouble(index);
+        return Double.isNaN(value) ? NaN : numOf(value);
+    }
+
+    @Override
+    public void getValues(int beginIndex, int endIndex, ObjIntConsumer<? super Num> sink) {
+        double[] values = indicator.getDoubles(beginIndex, endIndex);
+        for (int i = 0; i < values.length; i++) {
+            sink.accept(Double.isNaN(values[i]) ? NaN : numOf(values[i]), beginIndex + i);
+        }
+    }
+
+    @Override
+    public int getUnstableBars() {
+        return indicator.getUnstableBars();
+    }
+
+    /** @return the adapted {@link DoubleIndicator} */
+    public DoubleIndicator getDoubleIndicator() {
+        return indicator;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + indicator;
+    }
+}
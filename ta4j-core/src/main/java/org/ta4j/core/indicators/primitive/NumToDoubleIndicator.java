@@ -0,0 +1,81 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Adapts an {@link Indicator Indicator&lt;Num&gt;} to a {@link DoubleIndicator}.
+ *
+ * <p>
+ * Returns {@link Num#doubleValue()} of the wrapped indicator, i.e.
+ * {@link Double#NaN} for {@link org.ta4j.core.num.NaN NaN}. The values are not
+ * cached; the wrapped indicator is expected to cache them itself.
+ */
+public class NumToDoubleIndicator extends AbstractDoubleIndicator {
+
+    private final Indicator<Num> indicator;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the {@link Indicator} to adapt
+     */
+    public NumToDoubleIndicator(Indicator<Num> indicator) {
+        super(indicator.getBarSeries());
+        this.indicator = indicator;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return indicator.getValue(index).doubleValue();
+    }
+
+    @Override
+    public void getDoubles(int beginIndex, int endIndex, double[] values, int offset) {
+        indicator.getValues(beginIndex, endIndex, (value, index) -> values[offset + index - beginIndex] = value.doubleValue());
+    }
+
+    @Override
+    public int getUnstableBars() {
+        return indicator.getUnstableBars();
+    }
+
+    @Override
+    public Indicator<Num> toNumIndicator() {
+        return indicator;
+    }
+
+    /** @return the adapted {@link Indicator} */
+    public Indicator<Num> getIndicator() {
+        return indicator;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + indicator;
+    }
+}
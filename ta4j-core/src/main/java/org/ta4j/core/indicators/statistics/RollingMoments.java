@@ -0,0 +1,222 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * Rolling co-moment of two indicators over a window of {@code barCount}
+ * values.
+ *
+ * <p>
+ * Serial access slides the window in {@code O(1)} by removing the oldest value
+ * and adding the newest one. The moments before adding the newest value are
+ * kept, so that recalculating the same index (e.g. of an updated last bar) is
+ * {@code O(1)} too. Random access, and every {@code barCount}-th index,
+ * recomputes the window from scratch, so that the rounding errors of the
+ * rolling updates stay bounded.
+ *
+ * <p>
+ * The rolling update depends on the {@link Num} type:
+ * <ul>
+ * <li>{@link DoubleNum}: Welford's update of the means and the co-moment, which
+ * avoids the cancellation of {@code sum(x*y) - sum(x)*sum(y)/n} in floating
+ * point.
+ * <li>Other types (e.g. {@code DecimalNum}): running sums of {@code x},
+ * {@code y} and {@code x*y}. Additions and subtractions are exact within the
+ * precision of a decimal number, so the result doesn't depend on the access
+ * pattern and doesn't accumulate rounding errors of divisions.
+ * </ul>
+ *
+ * <p>
+ * For the variance of a single indicator, use the same indicator twice.
+ */
+final class RollingMoments {
+
+    private final Indicator<Num> indicator1;
+    private final Indicator<Num> indicator2;
+    private final int barCount;
+    private final boolean welford;
+
+    /** The mean of indicator1 (Welford) or the sum of its values. */
+    private Num first;
+
+    /** The mean of indicator2 (Welford) or the sum of its values. */
+    private Num second;
+
+    /** The co-moment (Welford) or the sum of the products of both values. */
+    private Num mixed;
+
+    // the moments of the window of previousIndex without its newest value
+    private Num baseFirst;
+    private Num baseSecond;
+    private Num baseMixed;
+
+    // serial access detection
+    private int previousIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator1 the first indicator
+     * @param indicator2 the second indicator
+     * @param barCount   the time frame
+     */
+    RollingMoments(Indicator<Num> indicator1, Indicator<Num> indicator2, int barCount) {
+        this.indicator1 = indicator1;
+        this.indicator2 = indicator2;
+        this.barCount = barCount;
+        this.welford = indicator1.zero() instanceof DoubleNum;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the (population) covariance of the window ending at {@code index}
+     */
+    Num covariance(int index) {
+        update(index);
+        final Num n = indicator1.numOf(numberOfObservations(index));
+        final Num comoment = welford ? mixed : mixed.minus(first.multipliedBy(second).dividedBy(n));
+        final Num covariance = comoment.dividedBy(n);
+        if (indicator1 == indicator2 && covariance.isNegative()) {
+            // a variance can only become negative by rounding errors
+            return indicator1.zero();
+        }
+        return covariance;
+    }
+
+    private void update(int index) {
+        if (previousIndex != -1 && previousIndex == index && !isNaN(baseFirst, baseSecond, baseMixed)) {
+            first = baseFirst;
+            second = baseSecond;
+            mixed = baseMixed;
+        } else if (previousIndex != -1 && previousIndex == index - 1 && index % barCount != 0
+                && !isNaN(first, second, mixed)) {
+            if (index >= barCount) {
+                if (welford) {
+                    remove(index - barCount, barCount - 1);
+                } else {
+                    removeFromSums(index - barCount);
+                }
+            }
+        } else {
+            recompute(index);
+        }
+        baseFirst = first;
+        baseSecond = second;
+        baseMixed = mixed;
+        if (welford) {
+            add(index, numberOfObservations(index));
+        } else {
+            addToSums(index);
+        }
+        previousIndex = index;
+    }
+
+    private static boolean isNaN(Num first, Num second, Num mixed) {
+        return first.isNaN() || second.isNaN() || mixed.isNaN();
+    }
+
+    /**
+     * Adds the values of {@code index} to the window (Welford).
+     *
+     * @param index the bar index
+     * @param count the number of values after adding
+     */
+    private void add(int index, int count) {
+        final Num n = indicator1.numOf(count);
+        final Num value1 = indicator1.getValue(index);
+        final Num value2 = indicator2.getValue(index);
+        final Num delta1 = value1.minus(first);
+        first = first.plus(delta1.dividedBy(n));
+        second = indicator1 == indicator2 ? first : second.plus(value2.minus(second).dividedBy(n));
+        mixed = mixed.plus(delta1.multipliedBy(value2.minus(second)));
+    }
+
+    /**
+     * Removes the values of {@code index} from the window (Welford).
+     *
+     * @param index the bar index
+     * @param count the number of values after removing (strictly positive)
+     */
+    private void remove(int index, int count) {
+        final Num n = indicator1.numOf(count);
+        final Num value1 = indicator1.getValue(index);
+        final Num value2 = indicator2.getValue(index);
+        final Num delta1 = value1.minus(first);
+        first = first.minus(delta1.dividedBy(n));
+        second = indicator1 == indicator2 ? first : second.minus(value2.minus(second).dividedBy(n));
+        mixed = mixed.minus(delta1.multipliedBy(value2.minus(second)));
+    }
+
+    private void addToSums(int index) {
+        final Num value1 = indicator1.getValue(index);
+        final Num value2 = indicator2.getValue(index);
+        first = first.plus(value1);
+        second = indicator1 == indicator2 ? first : second.plus(value2);
+        mixed = mixed.plus(value1.multipliedBy(value2));
+    }
+
+    private void removeFromSums(int index) {
+        final Num value1 = indicator1.getValue(index);
+        final Num value2 = indicator2.getValue(index);
+        first = first.minus(value1);
+        second = indicator1 == indicator2 ? first : second.minus(value2);
+        mixed = mixed.minus(value1.multipliedBy(value2));
+    }
+
+    /**
+     * Recomputes the moments of the window ending at {@code index} without its
+     * newest value.
+     *
+     * @param index the bar index
+     */
+    private void recompute(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        first = indicator1.zero();
+        second = indicator1.zero();
+        mixed = indicator1.zero();
+        for (int i = startIndex; i < index; i++) {
+            addToSums(i);
+        }
+        if (welford && index > startIndex) {
+            // two-pass: co-moment around the means of the window
+            final Num n = indicator1.numOf(index - startIndex);
+            first = first.dividedBy(n);
+            second = second.dividedBy(n);
+            Num comoment = indicator1.zero();
+            for (int i = startIndex; i < index; i++) {
+                comoment = comoment.plus(
+                        indicator1.getValue(i).minus(first).multipliedBy(indicator2.getValue(i).minus(second)));
+            }
+            mixed = comoment;
+        }
+    }
+
+    private int numberOfObservations(int index) {
+        return Math.min(barCount, index + 1);
+    }
+}
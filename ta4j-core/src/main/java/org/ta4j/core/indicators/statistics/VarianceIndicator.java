@@ -25,17 +25,19 @@ package org.ta4j.core.indicators.statistics;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Variance indicator.
+ *
+ * <p>
+ * Consecutive indexes are calculated in {@code O(1)} with rolling updates
+ * instead of a scan over the whole window.
  */
 public class VarianceIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator;
     private final int barCount;
-    private final SMAIndicator sma;
+    private final RollingMoments moments;
 
     /**
      * Constructor.
@@ -45,23 +47,13 @@ public class VarianceIndicator extends CachedIndicator<Num> {
      */
     public VarianceIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
         this.barCount = barCount;
-        this.sma = new SMAIndicator(indicator, barCount);
+        this.moments = new RollingMoments(indicator, indicator, barCount);
     }
 
     @Override
     protected Num calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Num variance = zero();
-        Num average = sma.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Num pow = indicator.getValue(i).minus(average).pow(2);
-            variance = variance.plus(pow);
-        }
-        variance = variance.dividedBy(numOf(numberOfObservations));
-        return variance;
+        return moments.covariance(index);
     }
 
     @Override
@@ -26,8 +26,10 @@ package org.ta4j.core.indicators.volume;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.helpers.RunningTotalIndicator;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
+import org.ta4j.core.indicators.numeric.BinaryOperation;
 import org.ta4j.core.num.Num;
 
 /**
@@ -46,8 +48,8 @@ public class VWAPIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
     private final Indicator<Num> typicalPrice;
-    private final Indicator<Num> volume;
-    private final Num zero;
+    private final RunningTotalIndicator cumulativeTPV;
+    private final RunningTotalIndicator cumulativeVolume;
 
     /**
      * Constructor.
@@ -59,8 +61,9 @@ public class VWAPIndicator extends CachedIndicator<Num> {
         super(series);
         this.barCount = barCount;
         this.typicalPrice = new TypicalPriceIndicator(series);
-        this.volume = new VolumeIndicator(series);
-        this.zero = zero();
+        final Indicator<Num> volume = new VolumeIndicator(series);
+        this.cumulativeTPV = new RunningTotalIndicator(BinaryOperation.product(typicalPrice, volume), barCount);
+        this.cumulativeVolume = new RunningTotalIndicator(volume, barCount);
     }
 
     @Override
@@ -68,15 +71,7 @@ public class VWAPIndicator extends CachedIndicator<Num> {
         if (index <= 0) {
             return typicalPrice.getValue(index);
         }
-        int startIndex = Math.max(0, index - barCount + 1);
-        Num cumulativeTPV = zero;
-        Num cumulativeVolume = zero;
-        for (int i = startIndex; i <= index; i++) {
-            Num currentVolume = volume.getValue(i);
-            cumulativeTPV = cumulativeTPV.plus(typicalPrice.getValue(i).multipliedBy(currentVolume));
-            cumulativeVolume = cumulativeVolume.plus(currentVolume);
-        }
-        return cumulativeTPV.dividedBy(cumulativeVolume);
+        return cumulativeTPV.getValue(index).dividedBy(cumulativeVolume.getValue(index));
     }
 
     @Override
@@ -0,0 +1,295 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Position;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.IndicatorGraph;
+import org.ta4j.core.num.Num;
+
+/**
+ * Push-based evaluation of strategies on a live bar series.
+ *
+ * <p>
+ * New bars ({@link #onBar(Bar)}) and updates of the last bar
+ * ({@link #onBarUpdate(Bar)}, {@link #onTrade(Num, Num)},
+ * {@link #onPrice(Num)}) are pushed into the engine, which applies them to the
+ * series and evaluates the last bar:
+ *
+ * <ol>
+ * <li>each indicator of the strategies (see {@link IndicatorGraph}) calculates
+ * its value of the last bar once, after the indicators it depends on,
+ * <li>each strategy checks its entry rule (without an open position) or its
+ * exit rule (with an open position) against its trading record,
+ * <li>the {@link LiveEngineListener listeners} are notified of the resulting
+ * {@link LiveSignal signals}.
+ * </ol>
+ *
+ * <p>
+ * The {@link CachedIndicator cached indicators} of the strategies
+ * {@link CachedIndicator#setLastBarCached(boolean) cache the value of the last
+ * bar}, so that the rules reuse the values calculated in the first step, and
+ * the engine {@link CachedIndicator#invalidateLastBar() invalidates} only this
+ * value on an update of the last bar. A new bar or an update of the last bar
+ * thus costs one calculation per indicator, independently of the bar counts of
+ * the indicators: the sliding windows of running totals (e.g. of SMAs),
+ * variances and highest/lowest values recalculate an updated last bar from
+ * their state before it instead of from the whole window.
+ *
+ * <p>
+ * The series must only be modified through the engine (otherwise the cached
+ * values of the last bar are not invalidated). An engine is not thread-safe; it
+ * should be fed by a single thread (e.g. one engine per symbol).
+ */
+public class LiveEngine {
+
+    private final BarSeries series;
+    private final List<Strategy> strategies = new ArrayList<>();
+    private final List<TradingRecord> tradingRecords = new ArrayList<>();
+    private final List<LiveEngineListener> listeners = new ArrayList<>();
+
+    /** The indicators of the series, in topological order. */
+    private List<Indicator<?>> indicators = Collections.emptyList();
+
+    /** The cached indicators of the series. */
+    private List<CachedIndicator<?>> cachedIndicators = Collections.emptyList();
+
+    /** The signal types of the strategies of the current evaluation. */
+    private LiveSignal.Type[] signalTypes = new LiveSignal.Type[0];
+
+    private long evaluationCount;
+    private long lastLatencyNanos;
+    private long maxLatencyNanos;
+    private long totalLatencyNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series, which must only be modified through this
+     *               engine
+     */
+    public LiveEngine(BarSeries series) {
+        this.series = series;
+    }
+
+    /**
+     * Adds a strategy with a new trading record.
+     *
+     * @param strategy the strategy
+     * @return the trading record of the strategy
+     */
+    public TradingRecord addStrategy(Strategy strategy) {
+        return addStrategy(strategy, new BaseTradingRecord());
+    }
+
+    /**
+     * Adds a strategy.
+     *
+     * @param strategy      the strategy
+     * @param tradingRecord the trading record of the strategy
+     * @return the trading record of the strategy
+     */
+    public TradingRecord addStrategy(Strategy strategy, TradingRecord tradingRecord) {
+        strategies.add(strategy);
+        tradingRecords.add(tradingRecord);
+        signalTypes = new LiveSignal.Type[strategies.size()];
+
+        final List<Indicator<?>> seriesIndicators = new ArrayList<>();
+        final List<CachedIndicator<?>> seriesCachedIndicators = new ArrayList<>();
+        for (Indicator<?> indicator : IndicatorGraph.of(strategies).getIndicators()) {
+            // Indicators of other series have other indices
+            if (indicator.getBarSeries() == series) {
+                seriesIndicators.add(indicator);
+                if (indicator instanceof CachedIndicator) {
+                    final CachedIndicator<?> cachedIndicator = (CachedIndicator<?>) indicator;
+                    cachedIndicator.invalidateLastBar();
+                    cachedIndicator.setLastBarCached(true);
+                    seriesCachedIndicators.add(cachedIndicator);
+                }
+            }
+        }
+        indicators = seriesIndicators;
+        cachedIndicators = seriesCachedIndicators;
+        return tradingRecord;
+    }
+
+    /**
+     * @param listener the listener to notify of the signals and evaluations
+     */
+    public void addListener(LiveEngineListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return the bar series
+     */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /**
+     * @return the indicators evaluated for each update, in evaluation order
+     */
+    public List<Indicator<?>> getIndicators() {
+        return Collections.unmodifiableList(indicators);
+    }
+
+    /**
+     * Adds a new bar to the series and evaluates it.
+     *
+     * @param bar the new bar
+     * @see BarSeries#addBar(Bar)
+     */
+    public void onBar(Bar bar) {
+        final long startNanos = System.nanoTime();
+        series.addBar(bar);
+        evaluate(startNanos, false);
+    }
+
+    /**
+     * Replaces the last bar of the series and evaluates it.
+     *
+     * @param bar the updated last bar
+     * @see BarSeries#addBar(Bar, boolean)
+     */
+    public void onBarUpdate(Bar bar) {
+        final long startNanos = System.nanoTime();
+        series.addBar(bar, true);
+        invalidateLastBar();
+        evaluate(startNanos, true);
+    }
+
+    /**
+     * Adds a trade to the last bar of the series and evaluates it.
+     *
+     * @param tradeVolume the traded volume
+     * @param tradePrice  the price
+     * @see BarSeries#addTrade(Num, Num)
+     */
+    public void onTrade(Num tradeVolume, Num tradePrice) {
+        final long startNanos = System.nanoTime();
+        series.addTrade(tradeVolume, tradePrice);
+        invalidateLastBar();
+        evaluate(startNanos, true);
+    }
+
+    /**
+     * Updates the close price of the last bar of the series and evaluates it.
+     *
+     * @param price the price
+     * @see BarSeries#addPrice(Num)
+     */
+    public void onPrice(Num price) {
+        final long startNanos = System.nanoTime();
+        series.addPrice(price);
+        invalidateLastBar();
+        evaluate(startNanos, true);
+    }
+
+    /**
+     * @return the number of evaluations
+     */
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    /**
+     * @return the latency of the last evaluation (from the update of the series
+     *         to the signals), in nanoseconds
+     */
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    /**
+     * @return the maximum latency of the evaluations, in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * @return the average latency of the evaluations, in nanoseconds
+     */
+    public double getAverageLatencyNanos() {
+        return evaluationCount == 0 ? 0 : (double) totalLatencyNanos / evaluationCount;
+    }
+
+    private void invalidateLastBar() {
+        for (CachedIndicator<?> indicator : cachedIndicators) {
+            indicator.invalidateLastBar();
+        }
+    }
+
+    private void evaluate(long startNanos, boolean intrabar) {
+        final int index = series.getEndIndex();
+        for (Indicator<?> indicator : indicators) {
+            indicator.getValue(index);
+        }
+        for (int i = 0; i < strategies.size(); i++) {
+            final Strategy strategy = strategies.get(i);
+            final TradingRecord tradingRecord = tradingRecords.get(i);
+            final Position position = tradingRecord.getCurrentPosition();
+            if (position.isNew() && strategy.shouldEnter(index, tradingRecord)) {
+                signalTypes[i] = LiveSignal.Type.ENTER;
+            } else if (position.isOpened() && strategy.shouldExit(index, tradingRecord)) {
+                signalTypes[i] = LiveSignal.Type.EXIT;
+            } else {
+                signalTypes[i] = null;
+            }
+        }
+        final long latencyNanos = System.nanoTime() - startNanos;
+        evaluationCount++;
+        lastLatencyNanos = latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+        totalLatencyNanos += latencyNanos;
+
+        if (listeners.isEmpty()) {
+            return;
+        }
+        final Bar bar = series.getBar(index);
+        for (int i = 0; i < strategies.size(); i++) {
+            if (signalTypes[i] != null) {
+                final LiveSignal signal = new LiveSignal(strategies.get(i), tradingRecords.get(i), signalTypes[i],
+                        index, bar, intrabar, latencyNanos);
+                for (LiveEngineListener listener : listeners) {
+                    listener.onSignal(signal);
+                }
+            }
+        }
+        for (LiveEngineListener listener : listeners) {
+            listener.onEvaluated(index, intrabar, latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+/**
+ * Listener of the events of a {@link LiveEngine}.
+ */
+public interface LiveEngineListener {
+
+    /**
+     * Called for each signal of a strategy.
+     *
+     * <p>
+     * The listener may operate the trading record of the signal (e.g.
+     * {@link org.ta4j.core.TradingRecord#enter(int, org.ta4j.core.num.Num, org.ta4j.core.num.Num)
+     * enter} a position), which the next evaluation takes into account.
+     *
+     * @param signal the signal
+     */
+    void onSignal(LiveSignal signal);
+
+    /**
+     * Called after each evaluation of the last bar, after the signals.
+     *
+     * @param index        the index of the last bar
+     * @param intrabar     true if the evaluation was caused by an update of the
+     *                     last bar, false if by a new bar
+     * @param latencyNanos the time from the update to the end of the
+     *                     evaluation, in nanoseconds
+     */
+    default void onEvaluated(int index, boolean intrabar, long latencyNanos) {
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * A signal of a strategy evaluated by a {@link LiveEngine}, i.e. the
+ * recommendation to enter or to exit a position at the last bar.
+ */
+public class LiveSignal {
+
+    /** The type of a signal. */
+    public enum Type {
+        /** The strategy recommends to enter a position. */
+        ENTER,
+        /** The strategy recommends to exit the current position. */
+        EXIT
+    }
+
+    private final Strategy strategy;
+    private final TradingRecord tradingRecord;
+    private final Type type;
+    private final int index;
+    private final Bar bar;
+    private final boolean intrabar;
+    private final long latencyNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param strategy      the strategy
+     * @param tradingRecord the trading record of the strategy
+     * @param type          the type of the signal
+     * @param index         the index of the last bar
+     * @param bar           the last bar
+     * @param intrabar      true if the signal was caused by an update of the last
+     *                      bar, false if by a new bar
+     * @param latencyNanos  the time from the update to the signal, in nanoseconds
+     */
+    public LiveSignal(Strategy strategy, TradingRecord tradingRecord, Type type, int index, Bar bar,
+            boolean intrabar, long latencyNanos) {
+        this.strategy = strategy;
+        this.tradingRecord = tradingRecord;
+        this.type = type;
+        this.index = index;
+        this.bar = bar;
+        this.intrabar = intrabar;
+        this.latencyNanos = latencyNanos;
+    }
+
+    /**
+     * @return the strategy
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the trading record of the strategy
+     */
+    public TradingRecord getTradingRecord() {
+        return tradingRecord;
+    }
+
+    /**
+     * @return the type of the signal
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the index of the last bar
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the last bar
+     */
+    public Bar getBar() {
+        return bar;
+    }
+
+    /**
+     * @return true if the signal was caused by an update of the last bar, false
+     *         if by a new bar
+     */
+    public boolean isIntrabar() {
+        return intrabar;
+    }
+
+    /**
+     * @return the time from the update of the series to the signal, in
+     *         nanoseconds
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LiveSignal{" + "strategy=" + strategy.getName() + ", type=" + type + ", index=" + index
+                + ", intrabar=" + intrabar + ", latencyNanos=" + latencyNanos + '}';
+    }
+}
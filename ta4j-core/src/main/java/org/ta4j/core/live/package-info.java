@@ -0,0 +1,10 @@
+/**
+ * Live evaluation.
+ *
+ * <p>
+ * This package can be used to evaluate {@link org.ta4j.core.Strategy
+ * strategies} on a live {@link org.ta4j.core.BarSeries bar series}, i.e. a
+ * series that is continuously updated by new bars and trades, e.g. by the
+ * {@link org.ta4j.core.live.LiveEngine LiveEngine}.
+ */
+package org.ta4j.core.live;
@@ -31,7 +31,9 @@ import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -54,10 +56,38 @@ public final class DecimalNum implements Num {
     private static final int DEFAULT_PRECISION = 32;
     private static final Logger log = LoggerFactory.getLogger(DecimalNum.class);
 
+    /** The shared math context of {@link #DEFAULT_PRECISION}. */
+    private static final MathContext DEFAULT_MATH_CONTEXT = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+
+    /** The shared math contexts of all other precisions. */
+    private static final Map<Integer, MathContext> MATH_CONTEXTS = new ConcurrentHashMap<>();
+
     public static final DecimalNum ZERO = DecimalNum.valueOf(0);
     private static final DecimalNum ONE = DecimalNum.valueOf(1);
     private static final DecimalNum HUNDRED = DecimalNum.valueOf(100);
 
+    /** The range of the cached integer constants. */
+    private static final int MIN_CACHED_INTEGER = -128;
+    private static final int MAX_CACHED_INTEGER = 1024;
+
+    /**
+     * The cached constants of {@link #DEFAULT_PRECISION}: the integers from
+     * {@link #MIN_CACHED_INTEGER} to {@link #MAX_CACHED_INTEGER} and the
+     * hundredths from -1 to 1 (e.g. {@code 0.5}, {@code 0.02}).
+     */
+    private static final DecimalNum[] CACHED_INTEGERS = new DecimalNum[MAX_CACHED_INTEGER - MIN_CACHED_INTEGER + 1];
+    private static final DecimalNum[] CACHED_HUNDREDTHS = new DecimalNum[201];
+    static {
+        for (int i = MIN_CACHED_INTEGER; i <= MAX_CACHED_INTEGER; i++) {
+            CACHED_INTEGERS[i - MIN_CACHED_INTEGER] = valueOf(Integer.toString(i), DEFAULT_PRECISION);
+        }
+        for (int i = -100; i <= 100; i++) {
+            CACHED_HUNDREDTHS[i + 100] = valueOf(Double.toString(i / 100d), DEFAULT_PRECISION);
+        }
+    }
+
+    private static final Function<Number, Num> DEFAULT_FUNCTION = ZERO::numOf;
+
     private final MathContext mathContext;
     private final BigDecimal delegate;
 
@@ -74,7 +104,7 @@ public final class DecimalNum implements Num {
     private DecimalNum(String val) {
         delegate = new BigDecimal(val);
         int precision = Math.max(delegate.precision(), DEFAULT_PRECISION);
-        mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+        mathContext = mathContextOf(precision);
     }
 
     /**
@@ -89,37 +119,41 @@ public final class DecimalNum implements Num {
      * @param precision the int precision of the Num value
      */
     private DecimalNum(String val, int precision) {
-        mathContext = new MathContext(precision, RoundingMode.HALF_UP);
-        delegate = new BigDecimal(val, new MathContext(precision, RoundingMode.HALF_UP));
+        mathContext = mathContextOf(precision);
+        delegate = new BigDecimal(val, mathContext);
     }
 
     private DecimalNum(short val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = DEFAULT_MATH_CONTEXT;
         delegate = new BigDecimal(val, mathContext);
     }
 
     private DecimalNum(int val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = DEFAULT_MATH_CONTEXT;
         delegate = BigDecimal.valueOf(val);
     }
 
     private DecimalNum(long val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = DEFAULT_MATH_CONTEXT;
         delegate = BigDecimal.valueOf(val);
     }
 
     private DecimalNum(float val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = DEFAULT_MATH_CONTEXT;
         delegate = new BigDecimal(val, mathContext);
     }
 
     private DecimalNum(double val) {
-        mathContext = new MathContext(DEFAULT_PRECISION, RoundingMode.HALF_UP);
+        mathContext = DEFAULT_MATH_CONTEXT;
         delegate = BigDecimal.valueOf(val);
     }
 
     private DecimalNum(BigDecimal val, int precision) {
-        mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+        this(val, mathContextOf(precision));
+    }
+
+    private DecimalNum(BigDecimal val, MathContext mathContext) {
+        this.mathContext = mathContext;
         delegate = Objects.requireNonNull(val);
     }
 
@@ -301,7 +335,23 @@ public final class DecimalNum implements Num {
 
     @Override
     public Function<Number, Num> function() {
-        return (number -> DecimalNum.valueOf(number.toString(), mathContext.getPrecision()));
+        return mathContext.getPrecision() == DEFAULT_PRECISION ? DEFAULT_FUNCTION : this::numOf;
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code Number} with the precision
+     * of this {@code Num}. Small integers and hundredths (e.g. {@code 2},
+     * {@code 100} or {@code 0.5}) of {@link #DEFAULT_PRECISION} are cached.
+     */
+    @Override
+    public Num numOf(Number value) {
+        if (mathContext.getPrecision() == DEFAULT_PRECISION) {
+            final DecimalNum constant = cachedConstant(value);
+            if (constant != null) {
+                return constant;
+            }
+        }
+        return DecimalNum.valueOf(value.toString(), mathContext.getPrecision());
     }
 
     @Override
@@ -338,10 +388,9 @@ public final class DecimalNum implements Num {
         if (augend.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) augend).delegate;
-        int precision = mathContext.getPrecision();
+        BigDecimal bigDecimal = delegateOf(augend);
         BigDecimal result = delegate.add(bigDecimal, mathContext);
-        return new DecimalNum(result, precision);
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -355,10 +404,9 @@ public final class DecimalNum implements Num {
         if (subtrahend.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) subtrahend).delegate;
-        int precision = mathContext.getPrecision();
+        BigDecimal bigDecimal = delegateOf(subtrahend);
         BigDecimal result = delegate.subtract(bigDecimal, mathContext);
-        return new DecimalNum(result, precision);
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -372,10 +420,9 @@ public final class DecimalNum implements Num {
         if (multiplicand.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) multiplicand).delegate;
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.multiply(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
-        return new DecimalNum(result, precision);
+        BigDecimal bigDecimal = delegateOf(multiplicand);
+        BigDecimal result = delegate.multiply(bigDecimal, mathContext);
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -389,10 +436,9 @@ public final class DecimalNum implements Num {
         if (divisor.isNaN() || divisor.isZero()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) divisor).delegate;
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.divide(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
-        return new DecimalNum(result, precision);
+        BigDecimal bigDecimal = delegateOf(divisor);
+        BigDecimal result = delegate.divide(bigDecimal, mathContext);
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -406,10 +452,9 @@ public final class DecimalNum implements Num {
         if (divisor.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) divisor).delegate;
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.remainder(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
-        return new DecimalNum(result, precision);
+        BigDecimal bigDecimal = delegateOf(divisor);
+        BigDecimal result = delegate.remainder(bigDecimal, mathContext);
+        return new DecimalNum(result, mathContext);
     }
 
     @Override
@@ -429,9 +474,8 @@ public final class DecimalNum implements Num {
      */
     @Override
     public Num pow(int n) {
-        int precision = mathContext.getPrecision();
-        BigDecimal result = delegate.pow(n, new MathContext(precision, RoundingMode.HALF_UP));
-        return new DecimalNum(result, precision);
+        BigDecimal result = delegate.pow(n, mathContext);
+        return new DecimalNum(result, mathContext);
     }
 
     /**
@@ -458,7 +502,7 @@ public final class DecimalNum implements Num {
 
         // Direct implementation of the example in:
         // https://en.wikipedia.org/wiki/Methods_of_computing_square_roots#Babylonian_method
-        MathContext precisionContext = new MathContext(precision, RoundingMode.HALF_UP);
+        MathContext precisionContext = mathContextOf(precision);
         BigDecimal estimate = new BigDecimal(delegate.toString(), precisionContext);
         String string = String.format(Locale.ROOT, "%1.1e", estimate);
         log.trace("scientific notation {}", string);
@@ -548,12 +592,12 @@ public final class DecimalNum implements Num {
 
     @Override
     public Num abs() {
-        return new DecimalNum(delegate.abs(), mathContext.getPrecision());
+        return new DecimalNum(delegate.abs(), mathContext);
     }
 
     @Override
     public Num negate() {
-        return new DecimalNum(delegate.negate(), mathContext.getPrecision());
+        return new DecimalNum(delegate.negate(), mathContext);
     }
 
     @Override
@@ -644,12 +688,12 @@ public final class DecimalNum implements Num {
 
     @Override
     public boolean isLessThanOrEqual(Num other) {
-        return !other.isNaN() && delegate.compareTo(((DecimalNum) other).delegate) < 1;
+        return !other.isNaN() && delegate.compareTo(delegateOf(other)) < 1;
     }
 
     @Override
     public int compareTo(Num other) {
-        return other.isNaN() ? 0 : delegate.compareTo(((DecimalNum) other).delegate);
+        return other.isNaN() ? 0 : delegate.compareTo(delegateOf(other));
     }
 
     /**
@@ -716,7 +760,7 @@ public final class DecimalNum implements Num {
         // As suggested: https://stackoverflow.com/a/3590314
 
         // get n = a+b, same precision as n
-        BigDecimal aplusb = (((DecimalNum) n).delegate);
+        BigDecimal aplusb = delegateOf(n);
         // get the remainder 0 <= b < 1, looses precision as double
         BigDecimal b = aplusb.remainder(BigDecimal.ONE);
         // bDouble looses precision
@@ -734,4 +778,50 @@ public final class DecimalNum implements Num {
         return new DecimalNum(result.toString());
     }
 
+    /**
+     * @param num a {@code DecimalNum} or a {@link FixedNum} (e.g. an operand of a
+     *            promoted {@code FixedNum})
+     * @return the {@code BigDecimal} value of {@code num}
+     * @throws ClassCastException if {@code num} is of any other type
+     */
+    private static BigDecimal delegateOf(Num num) {
+        if (num instanceof FixedNum) {
+            return num.bigDecimalValue();
+        }
+        return ((DecimalNum) num).delegate;
+    }
+
+    /**
+     * @param precision the precision
+     * @return the shared {@link MathContext} of {@code precision}, rounding
+     *         {@link RoundingMode#HALF_UP half up}
+     */
+    static MathContext mathContextOf(int precision) {
+        if (precision == DEFAULT_PRECISION) {
+            return DEFAULT_MATH_CONTEXT;
+        }
+        return MATH_CONTEXTS.computeIfAbsent(precision, p -> new MathContext(p, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * @param value the number
+     * @return the cached constant of {@link #DEFAULT_PRECISION} that is equal to
+     *         {@code value}, or null
+     */
+    private static DecimalNum cachedConstant(Number value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            final long longValue = value.longValue();
+            if (longValue >= MIN_CACHED_INTEGER && longValue <= MAX_CACHED_INTEGER) {
+                return CACHED_INTEGERS[(int) longValue - MIN_CACHED_INTEGER];
+            }
+        } else if (value instanceof Double) {
+            final double doubleValue = value.doubleValue();
+            final long hundredths = Math.round(doubleValue * 100);
+            if (hundredths >= -100 && hundredths <= 100 && hundredths / 100d == doubleValue) {
+                return CACHED_HUNDREDTHS[(int) hundredths + 100];
+            }
+        }
+        return null;
+    }
+
 }
@@ -157,6 +157,11 @@ public class DoubleNum implements Num {
         return delegate;
     }
 
+    @Override
+    public double doubleValue() {
+        return delegate;
+    }
+
     @Override
     public BigDecimal bigDecimalValue() {
         return Double.isNaN(delegate) || Double.isInfinite(delegate) ? null : BigDecimal.valueOf(delegate);
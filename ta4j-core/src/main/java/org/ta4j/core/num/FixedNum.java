@@ -0,0 +1,650 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.Function;
+
+/**
+ * Representation of a fixed-point decimal number: an unscaled {@code long} and
+ * a scale, i.e. the number {@code unscaledValue / 10^scale}. Exact for all
+ * numbers with up to {@code scale} fraction digits (e.g. prices and amounts),
+ * and much faster than {@link DecimalNum}.
+ *
+ * <p>
+ * The result of an operation has the greater scale of its operands and is
+ * rounded {@link RoundingMode#HALF_UP half up} to it. A result that does not fit
+ * into a {@code long} at that scale does not overflow, but is promoted to a
+ * {@link DecimalNum}; all further operations on it are {@code DecimalNum}
+ * operations. With the {@link #DEFAULT_SCALE default scale} of 8, numbers up
+ * to about {@code 9.2E10} fit into a {@code long}. Multiplications and
+ * divisions use a 128-bit intermediate result, so that only a result (not an
+ * intermediate product) that does not fit is promoted.
+ *
+ * <p>
+ * {@link #sqrt()} and {@link #pow(Num)} are calculated in decimal arithmetic,
+ * {@link #log()} in {@code double} precision.
+ *
+ * @see DecimalNum
+ * @see Num
+ */
+public final class FixedNum implements Num {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The default scale, i.e. number of fraction digits. */
+    public static final int DEFAULT_SCALE = 8;
+
+    /** The maximum scale. */
+    public static final int MAX_SCALE = 18;
+
+    /** Returned by {@link #divideHalfUp(long, long, long)} on overflow. */
+    private static final long OVERFLOW = Long.MIN_VALUE;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * The largest scaled {@code double} that is converted directly, with an
+     * {@link Math#ulp(double) ulp} far below the rounding unit.
+     */
+    private static final double MAX_DIRECT_DOUBLE = 0x1p50;
+
+    /** The precision of the calculations in decimal arithmetic. */
+    private static final MathContext MATH_CONTEXT = new MathContext(40, RoundingMode.HALF_UP);
+
+    public static final FixedNum ZERO = new FixedNum(0, DEFAULT_SCALE);
+    private static final FixedNum ONE = new FixedNum(POWERS_OF_TEN[DEFAULT_SCALE], DEFAULT_SCALE);
+    private static final FixedNum HUNDRED = new FixedNum(100 * POWERS_OF_TEN[DEFAULT_SCALE], DEFAULT_SCALE);
+
+    private final long unscaledValue;
+    private final int scale;
+
+    private FixedNum(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code String} with the
+     * {@link #DEFAULT_SCALE default scale}.
+     *
+     * @param val the number
+     * @return the {@code Num}, a {@code DecimalNum} if {@code val} is too large
+     * @throws NumberFormatException if {@code val} is not a number
+     */
+    public static Num valueOf(String val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code String}.
+     *
+     * @param val   the number
+     * @param scale the scale, between 0 and {@link #MAX_SCALE}
+     * @return the {@code Num}, a {@code DecimalNum} if {@code val} is too large
+     * @throws NumberFormatException if {@code val} is not a number
+     */
+    public static Num valueOf(String val, int scale) {
+        return valueOf(new BigDecimal(val), scale);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code Number} with the
+     * {@link #DEFAULT_SCALE default scale}.
+     *
+     * @param val the number
+     * @return the {@code Num}, a {@code DecimalNum} if {@code val} is too large
+     * @throws NumberFormatException if {@code val} is {@code NaN} or infinite
+     */
+    public static Num valueOf(Number val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code Number}.
+     *
+     * <p>
+     * A {@code double} (or {@code float}) is converted like its shortest decimal
+     * representation (see {@link Double#toString(double)}), i.e. {@code 0.1} is
+     * converted to exactly {@code 0.1}.
+     *
+     * @param val   the number
+     * @param scale the scale, between 0 and {@link #MAX_SCALE}
+     * @return the {@code Num}, a {@code DecimalNum} if {@code val} is too large
+     * @throws NumberFormatException if {@code val} is {@code NaN} or infinite
+     */
+    public static Num valueOf(Number val, int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE + ": " + scale);
+        }
+        if (val instanceof Integer || val instanceof Long || val instanceof Short || val instanceof Byte) {
+            final long longValue = val.longValue();
+            final long power = POWERS_OF_TEN[scale];
+            final long high = Math.multiplyHigh(longValue, power);
+            final long low = longValue * power;
+            return high == (low >> 63) ? new FixedNum(low, scale) : DecimalNum.valueOf(longValue);
+        }
+        if (val instanceof Double || val instanceof Float) {
+            final double doubleValue = val.doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                throw new NumberFormatException("Not a finite number: " + doubleValue);
+            }
+            final double scaled = doubleValue * POWERS_OF_TEN[scale];
+            if (Math.abs(scaled) < MAX_DIRECT_DOUBLE) {
+                // scaled differs from the scaled decimal representation by less than
+                // two ulps, so both round to the same long unless they are close to a tie
+                final long rounded = Math.round(scaled);
+                if (Math.abs(Math.abs(scaled - rounded) - 0.5) > 2 * Math.ulp(scaled)) {
+                    return new FixedNum(rounded, scale);
+                }
+            }
+            return valueOf(BigDecimal.valueOf(doubleValue), scale);
+        }
+        final BigDecimal decimal = val instanceof BigDecimal ? (BigDecimal) val : new BigDecimal(val.toString());
+        final BigDecimal rounded = decimal.setScale(scale, RoundingMode.HALF_UP);
+        if (rounded.unscaledValue().bitLength() < Long.SIZE) {
+            return new FixedNum(rounded.unscaledValue().longValue(), scale);
+        }
+        return DecimalNum.valueOf(decimal.toString());
+    }
+
+    /**
+     * Returns the {@code FixedNum} of the given unscaled value, i.e.
+     * {@code unscaledValue / 10^scale}.
+     *
+     * @param unscaledValue the unscaled value
+     * @param scale         the scale, between 0 and {@link #MAX_SCALE}
+     * @return the {@code FixedNum}
+     */
+    public static FixedNum ofUnscaled(long unscaledValue, int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE + ": " + scale);
+        }
+        return new FixedNum(unscaledValue, scale);
+    }
+
+    @Override
+    public Num zero() {
+        return scale == DEFAULT_SCALE ? ZERO : new FixedNum(0, scale);
+    }
+
+    @Override
+    public Num one() {
+        return scale == DEFAULT_SCALE ? ONE : new FixedNum(POWERS_OF_TEN[scale], scale);
+    }
+
+    @Override
+    public Num hundred() {
+        return scale == DEFAULT_SCALE ? HUNDRED : valueOf(100, scale);
+    }
+
+    @Override
+    public Function<Number, Num> function() {
+        final int scale = this.scale;
+        return number -> valueOf(number, scale);
+    }
+
+    @Override
+    public Num numOf(Number value) {
+        return valueOf(value, scale);
+    }
+
+    @Override
+    public String getName() {
+        return this.getClass().getSimpleName();
+    }
+
+    /**
+     * Returns the value as a {@link BigDecimal}; the delegate itself is the
+     * {@link #getUnscaledValue() unscaled value}.
+     *
+     * @return the value
+     */
+    @Override
+    public BigDecimal getDelegate() {
+        return bigDecimalValue();
+    }
+
+    /**
+     * @return the unscaled value, i.e. {@code this * 10^scale}
+     */
+    public long getUnscaledValue() {
+        return unscaledValue;
+    }
+
+    /**
+     * @return the scale, i.e. number of fraction digits
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    @Override
+    public BigDecimal bigDecimalValue() {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return unscaledValue / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return unscaledValue / (double) POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public Num plus(Num augend) {
+        if (augend instanceof FixedNum) {
+            final FixedNum other = (FixedNum) augend;
+            if (scale == other.scale) {
+                final long sum = unscaledValue + other.unscaledValue;
+                // overflow iff both operands have a different sign than the sum
+                if (((unscaledValue ^ sum) & (other.unscaledValue ^ sum)) >= 0) {
+                    return new FixedNum(sum, scale);
+                }
+            }
+            return valueOf(bigDecimalValue().add(other.bigDecimalValue()), Math.max(scale, other.scale));
+        }
+        return augend.isNaN() ? NaN : promoted().plus(augend);
+    }
+
+    @Override
+    public Num minus(Num subtrahend) {
+        if (subtrahend instanceof FixedNum) {
+            final FixedNum other = (FixedNum) subtrahend;
+            if (scale == other.scale) {
+                final long difference = unscaledValue - other.unscaledValue;
+                // overflow iff the operands have different signs and the difference
+                // has a different sign than the minuend
+                if (((unscaledValue ^ other.unscaledValue) & (unscaledValue ^ difference)) >= 0) {
+                    return new FixedNum(difference, scale);
+                }
+            }
+            return valueOf(bigDecimalValue().subtract(other.bigDecimalValue()), Math.max(scale, other.scale));
+        }
+        return subtrahend.isNaN() ? NaN : promoted().minus(subtrahend);
+    }
+
+    @Override
+    public Num multipliedBy(Num multiplicand) {
+        if (multiplicand instanceof FixedNum) {
+            final FixedNum other = (FixedNum) multiplicand;
+            if (scale == other.scale) {
+                // 128-bit product, rescaled by 10^scale
+                final long result = divideHalfUp(Math.multiplyHigh(unscaledValue, other.unscaledValue),
+                        unscaledValue * other.unscaledValue, POWERS_OF_TEN[scale]);
+                if (result != OVERFLOW) {
+                    return new FixedNum(result, scale);
+                }
+            }
+            return valueOf(bigDecimalValue().multiply(other.bigDecimalValue()), Math.max(scale, other.scale));
+        }
+        return multiplicand.isNaN() ? NaN : promoted().multipliedBy(multiplicand);
+    }
+
+    @Override
+    public Num dividedBy(Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        if (divisor instanceof FixedNum) {
+            final FixedNum other = (FixedNum) divisor;
+            if (scale == other.scale && other.unscaledValue != Long.MIN_VALUE) {
+                // 128-bit dividend, scaled by 10^scale
+                final long power = POWERS_OF_TEN[scale];
+                final long result = divideHalfUp(Math.multiplyHigh(unscaledValue, power), unscaledValue * power,
+                        other.unscaledValue);
+                if (result != OVERFLOW) {
+                    return new FixedNum(result, scale);
+                }
+            }
+            final int resultScale = Math.max(scale, other.scale);
+            return valueOf(bigDecimalValue().divide(other.bigDecimalValue(), resultScale, RoundingMode.HALF_UP),
+                    resultScale);
+        }
+        return promoted().dividedBy(divisor);
+    }
+
+    @Override
+    public Num remainder(Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        if (divisor instanceof FixedNum) {
+            final FixedNum other = (FixedNum) divisor;
+            if (scale == other.scale) {
+                return new FixedNum(unscaledValue % other.unscaledValue, scale);
+            }
+            return valueOf(bigDecimalValue().remainder(other.bigDecimalValue()), Math.max(scale, other.scale));
+        }
+        return promoted().remainder(divisor);
+    }
+
+    @Override
+    public Num floor() {
+        final long remainder = Math.floorMod(unscaledValue, POWERS_OF_TEN[scale]);
+        if (remainder == 0) {
+            return this;
+        }
+        if (unscaledValue >= Long.MIN_VALUE + remainder) {
+            return new FixedNum(unscaledValue - remainder, scale);
+        }
+        return valueOf(bigDecimalValue().setScale(0, RoundingMode.FLOOR), scale);
+    }
+
+    @Override
+    public Num ceil() {
+        final long remainder = Math.floorMod(unscaledValue, POWERS_OF_TEN[scale]);
+        if (remainder == 0) {
+            return this;
+        }
+        final long increment = POWERS_OF_TEN[scale] - remainder;
+        if (unscaledValue <= Long.MAX_VALUE - increment) {
+            return new FixedNum(unscaledValue + increment, scale);
+        }
+        return valueOf(bigDecimalValue().setScale(0, RoundingMode.CEILING), scale);
+    }
+
+    @Override
+    public Num pow(int n) {
+        switch (n) {
+        case 0:
+            return one();
+        case 1:
+            return this;
+        case 2:
+            return multipliedBy(this);
+        default:
+            if (n < 0 && isZero()) {
+                return NaN;
+            }
+            return valueOf(bigDecimalValue().pow(n, MATH_CONTEXT), scale);
+        }
+    }
+
+    @Override
+    public Num pow(Num n) {
+        if (n.isNaN()) {
+            return NaN;
+        }
+        return valueOf(promoted().pow(n).bigDecimalValue(), scale);
+    }
+
+    @Override
+    public Num log() {
+        if (unscaledValue <= 0) {
+            return NaN;
+        }
+        return valueOf(Math.log(doubleValue()), scale);
+    }
+
+    @Override
+    public Num sqrt() {
+        if (unscaledValue < 0) {
+            return NaN;
+        }
+        return valueOf(bigDecimalValue().sqrt(MATH_CONTEXT), scale);
+    }
+
+    /**
+     * Returns a {@code Num} whose value is {@code √(this)}, rounded to the scale
+     * of this {@code Num} (regardless of {@code precision}).
+     */
+    @Override
+    public Num sqrt(int precision) {
+        return sqrt();
+    }
+
+    @Override
+    public Num abs() {
+        return unscaledValue < 0 ? negate() : this;
+    }
+
+    @Override
+    public Num negate() {
+        if (unscaledValue == Long.MIN_VALUE) {
+            return valueOf(bigDecimalValue().negate(), scale);
+        }
+        return new FixedNum(-unscaledValue, scale);
+    }
+
+    @Override
+    public boolean isZero() {
+        return unscaledValue == 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return unscaledValue > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return unscaledValue >= 0;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return unscaledValue < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return unscaledValue <= 0;
+    }
+
+    @Override
+    public boolean isEqual(Num other) {
+        return !other.isNaN() && compareTo(other) == 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(Num other) {
+        return !other.isNaN() && compareTo(other) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqual(Num other) {
+        return !other.isNaN() && compareTo(other) > -1;
+    }
+
+    @Override
+    public boolean isLessThan(Num other) {
+        return !other.isNaN() && compareTo(other) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqual(Num other) {
+        return !other.isNaN() && compareTo(other) < 1;
+    }
+
+    @Override
+    public int compareTo(Num other) {
+        if (other instanceof FixedNum) {
+            final FixedNum fixedOther = (FixedNum) other;
+            if (scale == fixedOther.scale) {
+                return Long.compare(unscaledValue, fixedOther.unscaledValue);
+            }
+            return bigDecimalValue().compareTo(fixedOther.bigDecimalValue());
+        }
+        return other.isNaN() ? 0 : -other.compareTo(this);
+    }
+
+    /**
+     * @return the {@code Num} whose value is the smaller of this {@code Num} and
+     *         {@code other}. If they are equal, as defined by the
+     *         {@link #compareTo(Num) compareTo} method, {@code this} is returned.
+     */
+    @Override
+    public Num min(Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) <= 0 ? this : other);
+    }
+
+    /**
+     * @return the {@code Num} whose value is the greater of this {@code Num} and
+     *         {@code other}. If they are equal, as defined by the
+     *         {@link #compareTo(Num) compareTo} method, {@code this} is returned.
+     */
+    @Override
+    public Num max(Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) >= 0 ? this : other);
+    }
+
+    @Override
+    public int hashCode() {
+        // equal numbers of different scales have the same hash code
+        long normalized = unscaledValue;
+        int normalizedScale = scale;
+        while (normalizedScale > 0 && normalized % 10 == 0) {
+            normalized /= 10;
+            normalizedScale--;
+        }
+        return 31 * Long.hashCode(normalized) + normalizedScale;
+    }
+
+    /**
+     * @return true if {@code obj} is a {@code FixedNum} with the same value, as
+     *         defined by the {@link #compareTo(Num) compareTo} method (i.e.
+     *         regardless of the scale); false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FixedNum)) {
+            return false;
+        }
+        return compareTo((FixedNum) obj) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return bigDecimalValue().stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * @return this {@code Num} promoted to a {@link DecimalNum}, for operations
+     *         with an already promoted {@code Num}
+     */
+    private DecimalNum promoted() {
+        return DecimalNum.valueOf(bigDecimalValue().toString());
+    }
+
+    /**
+     * Divides a signed 128-bit dividend by a {@code long}, rounding half up.
+     *
+     * @param high     the high 64 bits of the dividend
+     * @param low      the low 64 bits of the dividend
+     * @param divisor  the divisor, not 0 or {@link Long#MIN_VALUE}
+     * @return the quotient, or {@link #OVERFLOW} if it does not fit into a
+     *         {@code long} (other than {@code Long.MIN_VALUE})
+     */
+    private static long divideHalfUp(long high, long low, long divisor) {
+        final boolean negative = (high < 0) != (divisor < 0);
+        if (high < 0) {
+            // two's complement negation of the 128-bit value
+            high = ~high + (low == 0 ? 1 : 0);
+            low = -low;
+        }
+        final long absDivisor = Math.abs(divisor);
+        if (high < 0 || high >= absDivisor) {
+            return OVERFLOW;
+        }
+        long quotient = divideUnsigned(high, low, absDivisor);
+        if (quotient < 0) {
+            return OVERFLOW;
+        }
+        final long remainder = low - quotient * absDivisor;
+        if (remainder >= absDivisor - remainder) {
+            quotient++;
+            if (quotient < 0) {
+                return OVERFLOW;
+            }
+        }
+        return negative ? -quotient : quotient;
+    }
+
+    /**
+     * Divides an unsigned 128-bit value by a 64-bit value (Knuth's algorithm D
+     * with two 32-bit digits, see Hacker's Delight, {@code divlu}).
+     *
+     * @param high    the high 64 bits of the dividend, less than {@code divisor}
+     * @param low     the low 64 bits of the dividend
+     * @param divisor the divisor, positive
+     * @return the unsigned quotient
+     */
+    private static long divideUnsigned(long high, long low, long divisor) {
+        final long base = 1L << 32;
+        final int shift = Long.numberOfLeadingZeros(divisor);
+        final long v = divisor << shift;
+        final long vHigh = v >>> 32;
+        final long vLow = v & 0xFFFFFFFFL;
+        final long u32 = shift == 0 ? high : (high << shift) | (low >>> (64 - shift));
+        final long u10 = low << shift;
+        final long u1 = u10 >>> 32;
+        final long u0 = u10 & 0xFFFFFFFFL;
+
+        long q1 = Long.divideUnsigned(u32, vHigh);
+        long rhat = Long.remainderUnsigned(u32, vHigh);
+        while (Long.compareUnsigned(q1, base) >= 0 || Long.compareUnsigned(q1 * vLow, base * rhat + u1) > 0) {
+            q1--;
+            rhat += vHigh;
+            if (Long.compareUnsigned(rhat, base) >= 0) {
+                break;
+            }
+        }
+
+        final long u21 = u32 * base + u1 - q1 * v;
+        long q0 = Long.divideUnsigned(u21, vHigh);
+        rhat = Long.remainderUnsigned(u21, vHigh);
+        while (Long.compareUnsigned(q0, base) >= 0 || Long.compareUnsigned(q0 * vLow, base * rhat + u0) > 0) {
+            q0--;
+            rhat += vHigh;
+            if (Long.compareUnsigned(rhat, base) >= 0) {
+                break;
+            }
+        }
+        return q1 * base + q0;
+    }
+}
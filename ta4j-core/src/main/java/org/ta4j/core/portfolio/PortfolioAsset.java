@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.portfolio;
+
+import java.util.Objects;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.analysis.cost.CostModel;
+import org.ta4j.core.analysis.cost.ZeroCostModel;
+
+/**
+ * An asset of a portfolio: the bar series of the asset, the strategy trading it
+ * and its cost models.
+ */
+public class PortfolioAsset {
+
+    private final BarSeries series;
+    private final Strategy strategy;
+    private final CostModel transactionCostModel;
+    private final CostModel holdingCostModel;
+
+    /**
+     * Constructor without trading costs.
+     *
+     * @param series   the bar series of the asset
+     * @param strategy the strategy trading the asset
+     */
+    public PortfolioAsset(BarSeries series, Strategy strategy) {
+        this(series, strategy, new ZeroCostModel(), new ZeroCostModel());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param series               the bar series of the asset
+     * @param strategy             the strategy trading the asset
+     * @param transactionCostModel the cost model for transactions of the asset
+     * @param holdingCostModel     the cost model for holding the asset (e.g.
+     *                             borrowing)
+     */
+    public PortfolioAsset(BarSeries series, Strategy strategy, CostModel transactionCostModel,
+            CostModel holdingCostModel) {
+        this.series = Objects.requireNonNull(series, "series must not be null");
+        this.strategy = Objects.requireNonNull(strategy, "strategy must not be null");
+        this.transactionCostModel = transactionCostModel;
+        this.holdingCostModel = holdingCostModel;
+    }
+
+    /** @return {@link #series} */
+    public BarSeries getSeries() {
+        return series;
+    }
+
+    /** @return {@link #strategy} */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /** @return {@link #transactionCostModel} */
+    public CostModel getTransactionCostModel() {
+        return transactionCostModel;
+    }
+
+    /** @return {@link #holdingCostModel} */
+    public CostModel getHoldingCostModel() {
+        return holdingCostModel;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{series: %s, strategy: %s}", series.getName(), strategy.getName());
+    }
+}
@@ -0,0 +1,375 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.portfolio;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Position;
+import org.ta4j.core.Trade;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.backtest.BarSeriesManager;
+import org.ta4j.core.backtest.TradeExecutionModel;
+import org.ta4j.core.backtest.TradeOnNextOpenModel;
+import org.ta4j.core.num.Num;
+
+/**
+ * Backtests a portfolio of assets sharing the same cash.
+ *
+ * <p>
+ * Unlike the {@link BarSeriesManager}, which runs one strategy on one bar
+ * series, the portfolio manager steps all the bar series of its
+ * {@link PortfolioAsset assets} together on their merged timeline (the sorted
+ * end times of all their bars; an asset without a bar at a time keeps its last
+ * price). At each time, the strategies of the assets with a bar are asked to
+ * exit their open positions first, and then to enter new positions, which are
+ * sized by a {@link PositionSizer} and limited by the available cash (for long
+ * positions, including the transaction cost at the
+ * {@link TradeExecutionModel#getExecutionPrice(int, BarSeries) execution
+ * price}). Each asset has its own trading record and cost models.
+ *
+ * <p>
+ * The cash, the positions and the equity of the portfolio are kept in
+ * primitive arrays, so that apart from the evaluation of the strategies and
+ * the (rare) trades, stepping the timeline does not allocate.
+ */
+public class PortfolioManager {
+
+    /** The logger */
+    private static final Logger log = LoggerFactory.getLogger(PortfolioManager.class);
+
+    private final List<PortfolioAsset> assets;
+    private final double initialCash;
+    private final PositionSizer positionSizer;
+    private final TradeExecutionModel tradeExecutionModel;
+
+    /**
+     * Constructor investing an equal fraction of the equity in each position and
+     * executing the trades on the open price of the next bar.
+     *
+     * @param assets      the assets of the portfolio
+     * @param initialCash the initial cash of the portfolio
+     */
+    public PortfolioManager(List<PortfolioAsset> assets, double initialCash) {
+        this(assets, initialCash, PositionSizer.fractionOfEquity(1d / Math.max(1, assets.size())),
+                new TradeOnNextOpenModel());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param assets              the assets of the portfolio
+     * @param initialCash         the initial cash of the portfolio
+     * @param positionSizer       the sizer of the positions
+     * @param tradeExecutionModel the trade execution model
+     */
+    public PortfolioManager(List<PortfolioAsset> assets, double initialCash, PositionSizer positionSizer,
+            TradeExecutionModel tradeExecutionModel) {
+        if (assets.isEmpty()) {
+            throw new IllegalArgumentException("A portfolio needs at least one asset");
+        }
+        this.assets = Collections.unmodifiableList(new ArrayList<>(assets));
+        this.initialCash = initialCash;
+        this.positionSizer = Objects.requireNonNull(positionSizer, "positionSizer must not be null");
+        this.tradeExecutionModel = Objects.requireNonNull(tradeExecutionModel,
+                "tradeExecutionModel must not be null");
+    }
+
+    /**
+     * @return the assets of the portfolio
+     */
+    public List<PortfolioAsset> getAssets() {
+        return assets;
+    }
+
+    /**
+     * Runs the strategies of the assets, opening the positions with a
+     * {@link TradeType#BUY BUY} trade.
+     *
+     * @return the result of the run
+     */
+    public PortfolioResult run() {
+        return run(TradeType.BUY);
+    }
+
+    /**
+     * Runs the strategies of the assets over the merged timeline of their bar
+     * series.
+     *
+     * @param tradeType the {@link TradeType} used to open the positions
+     * @return the result of the run
+     */
+    public PortfolioResult run(TradeType tradeType) {
+        final int assetCount = assets.size();
+        final long[][] endTimes = new long[assetCount][];
+        final double[][] closePrices = new double[assetCount][];
+        final int[] beginIndexes = new int[assetCount];
+        final TradingRecord[] tradingRecords = new TradingRecord[assetCount];
+        int barCount = 0;
+        for (int a = 0; a < assetCount; a++) {
+            PortfolioAsset asset = assets.get(a);
+            BarSeries series = asset.getSeries();
+            int beginIndex = Math.max(series.getBeginIndex(), 0);
+            int size = series.isEmpty() ? 0 : series.getEndIndex() - beginIndex + 1;
+            beginIndexes[a] = beginIndex;
+            endTimes[a] = new long[size];
+            closePrices[a] = new double[size];
+            for (int k = 0; k < size; k++) {
+                endTimes[a][k] = toEpochNanos(series.getBar(beginIndex + k).getEndTime());
+                closePrices[a][k] = series.getClosePrice(beginIndex + k).doubleValue();
+            }
+            barCount += size;
+            tradingRecords[a] = new BaseTradingRecord(tradeType, asset.getTransactionCostModel(),
+                    asset.getHoldingCostModel());
+        }
+        final long[] timeline = mergeTimelines(endTimes, barCount);
+        final int stepCount = timeline.length;
+        final ZonedDateTime[] stepEndTimes = new ZonedDateTime[stepCount];
+        final Duration[] stepTimePeriods = new Duration[stepCount];
+        if (log.isTraceEnabled()) {
+            log.trace("Running portfolio of {} assets over {} steps", assetCount, stepCount);
+        }
+
+        final double[] cash = new double[stepCount];
+        final double[] equity = new double[stepCount];
+        final double[] amounts = new double[assetCount];
+        final double[] lastPrices = new double[assetCount];
+        final int[] cursors = new int[assetCount];
+        final int[] indexes = new int[assetCount];
+        final Trade[] pendingTrades = new Trade[assetCount];
+        final Position[] pendingExits = new Position[assetCount];
+        // The cash that pending buy trades will take once they are booked
+        final double[] committedCash = new double[assetCount];
+        Arrays.fill(indexes, -1);
+
+        double currentCash = initialCash;
+        double currentEquity = initialCash;
+        double pendingCash = 0;
+        for (int step = 0; step < stepCount; step++) {
+            final long time = timeline[step];
+            // Moves the assets with a bar at this time to their bar
+            for (int a = 0; a < assetCount; a++) {
+                final int k = cursors[a];
+                if (k < endTimes[a].length && endTimes[a][k] == time) {
+                    indexes[a] = beginIndexes[a] + k;
+                    lastPrices[a] = closePrices[a][k];
+                    cursors[a] = k + 1;
+                    if (stepEndTimes[step] == null) {
+                        Bar bar = assets.get(a).getSeries().getBar(indexes[a]);
+                        stepEndTimes[step] = bar.getEndTime();
+                        stepTimePeriods[step] = bar.getTimePeriod();
+                    }
+                    // Books the trade executed on this bar (e.g. on its open price)
+                    if (pendingTrades[a] != null && pendingTrades[a].getIndex() == indexes[a]) {
+                        currentCash = book(a, pendingTrades[a], pendingExits[a], currentCash, amounts);
+                        pendingTrades[a] = null;
+                        pendingExits[a] = null;
+                        pendingCash -= committedCash[a];
+                        committedCash[a] = 0;
+                    }
+                } else {
+                    // No bar of the asset at this time
+                    indexes[a] = -1;
+                }
+            }
+
+            // Exits first, so that their cash can be used by the entries
+            for (int a = 0; a < assetCount; a++) {
+                final int index = indexes[a];
+                final TradingRecord tradingRecord = tradingRecords[a];
+                if (index >= 0 && pendingTrades[a] == null && tradingRecord.getCurrentPosition().isOpened()
+                        && assets.get(a).getStrategy().shouldExit(index, tradingRecord)) {
+                    Trade entry = tradingRecord.getCurrentPosition().getEntry();
+                    currentCash = execute(a, index, tradingRecord, entry.getAmount().doubleValue(), currentCash,
+                            amounts, pendingTrades, pendingExits);
+                    pendingCash += commit(a, pendingTrades, committedCash);
+                }
+            }
+            for (int a = 0; a < assetCount; a++) {
+                final int index = indexes[a];
+                final TradingRecord tradingRecord = tradingRecords[a];
+                if (index >= 0 && pendingTrades[a] == null && !tradingRecord.getCurrentPosition().isOpened()) {
+                    final PortfolioAsset asset = assets.get(a);
+                    final Num price = asset.getStrategy().shouldEnter(index, tradingRecord)
+                            ? tradeExecutionModel.getExecutionPrice(index, asset.getSeries())
+                            : null;
+                    if (price != null) {
+                        final double availableCash = Math.max(currentCash - pendingCash, 0);
+                        double amount = positionSizer.getAmount(a, index, lastPrices[a], availableCash,
+                                equity(currentCash, amounts, lastPrices));
+                        if (tradeType == TradeType.BUY) {
+                            amount = capToCash(asset, price, amount, availableCash);
+                        }
+                        if (amount > 0) {
+                            currentCash = execute(a, index, tradingRecord, amount, currentCash, amounts,
+                                    pendingTrades, pendingExits);
+                            pendingCash += commit(a, pendingTrades, committedCash);
+                        }
+                    }
+                }
+            }
+
+            currentEquity = equity(currentCash, amounts, lastPrices);
+            cash[step] = currentCash;
+            equity[step] = currentEquity;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Portfolio of {} assets over {} steps: equity {} -> {}", assetCount, stepCount, initialCash,
+                    currentEquity);
+        }
+        return new PortfolioResult(assets, Arrays.asList(tradingRecords), initialCash, stepEndTimes, stepTimePeriods,
+                cash, equity);
+    }
+
+    /**
+     * Executes a trade of an asset and books it if it has been executed on the
+     * current bar.
+     *
+     * @return the cash after the trade
+     */
+    private double execute(int a, int index, TradingRecord tradingRecord, double amount, double cash,
+            double[] amounts, Trade[] pendingTrades, Position[] pendingExits) {
+        final BarSeries series = assets.get(a).getSeries();
+        final Trade lastTrade = tradingRecord.getLastTrade();
+        final boolean exit = tradingRecord.getCurrentPosition().isOpened();
+        tradeExecutionModel.execute(index, tradingRecord, series, series.numOf(amount));
+        final Trade trade = tradingRecord.getLastTrade();
+        if (trade == null || trade == lastTrade) {
+            // Not executed (e.g. no next bar)
+            return cash;
+        }
+        final Position closedPosition = exit ? tradingRecord.getLastPosition() : null;
+        if (trade.getIndex() > index) {
+            // Executed on a later bar: booked when the timeline reaches it
+            pendingTrades[a] = trade;
+            pendingExits[a] = closedPosition;
+            return cash;
+        }
+        return book(a, trade, closedPosition, cash, amounts);
+    }
+
+    /**
+     * Caps the amount of a buy trade of an asset so that its value plus its
+     * transaction cost at the execution price do not exceed the cash.
+     *
+     * @return the capped amount
+     */
+    private static double capToCash(PortfolioAsset asset, Num price, double amount, double cash) {
+        final double pricePerAsset = price.doubleValue();
+        final double cappedAmount = Math.min(amount, cash / pricePerAsset);
+        if (cappedAmount <= 0) {
+            return 0;
+        }
+        final double cost = asset.getTransactionCostModel()
+                .calculate(price, asset.getSeries().numOf(cappedAmount))
+                .doubleValue();
+        if (pricePerAsset * cappedAmount + cost <= cash) {
+            return cappedAmount;
+        }
+        // Leaves room for the cost, which does not increase for a smaller amount
+        return Math.max((cash - cost) / pricePerAsset, 0);
+    }
+
+    /**
+     * Commits the cash of the pending trade of an asset, if it is a buy trade.
+     *
+     * @return the cash committed
+     */
+    private static double commit(int a, Trade[] pendingTrades, double[] committedCash) {
+        final Trade trade = pendingTrades[a];
+        if (trade == null || !trade.isBuy()) {
+            return 0;
+        }
+        committedCash[a] = trade.getNetPrice().doubleValue() * trade.getAmount().doubleValue();
+        return committedCash[a];
+    }
+
+    /**
+     * Books a trade: updates the cash and the amount held of the asset.
+     *
+     * @return the cash after the trade
+     */
+    private static double book(int a, Trade trade, Position closedPosition, double cash, double[] amounts) {
+        final double amount = trade.getAmount().doubleValue();
+        final double value = trade.getNetPrice().doubleValue() * amount;
+        if (trade.isBuy()) {
+            cash -= value;
+            amounts[a] += amount;
+        } else {
+            cash += value;
+            amounts[a] -= amount;
+        }
+        if (closedPosition != null) {
+            cash -= closedPosition.getHoldingCost().doubleValue();
+            amounts[a] = 0;
+        }
+        return cash;
+    }
+
+    /**
+     * @return the cash plus the value of the positions at their last prices
+     */
+    private static double equity(double cash, double[] amounts, double[] lastPrices) {
+        double equity = cash;
+        for (int a = 0; a < amounts.length; a++) {
+            equity += amounts[a] * lastPrices[a];
+        }
+        return equity;
+    }
+
+    /**
+     * @return the sorted distinct end times of all series
+     */
+    private static long[] mergeTimelines(long[][] endTimes, int barCount) {
+        final long[] all = new long[barCount];
+        int position = 0;
+        for (long[] times : endTimes) {
+            System.arraycopy(times, 0, all, position, times.length);
+            position += times.length;
+        }
+        Arrays.sort(all);
+        int distinct = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[distinct - 1]) {
+                all[distinct++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, distinct);
+    }
+
+    private static long toEpochNanos(ZonedDateTime time) {
+        return time.toEpochSecond() * 1_000_000_000L + time.getNano();
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.portfolio;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.ColumnarBarSeries;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.CashFlow;
+import org.ta4j.core.analysis.Returns;
+import org.ta4j.core.analysis.Returns.ReturnType;
+import org.ta4j.core.num.Num;
+
+/**
+ * The result of a {@link PortfolioManager} run: the trading record of each
+ * asset and the cash and equity of the portfolio at each step of the merged
+ * timeline.
+ */
+public class PortfolioResult {
+
+    private final List<PortfolioAsset> assets;
+    private final List<TradingRecord> tradingRecords;
+    private final double initialCash;
+    private final ZonedDateTime[] endTimes;
+    private final Duration[] timePeriods;
+    private final double[] cash;
+    private final double[] equity;
+
+    /** The equity as a bar series, created on first use. */
+    private BarSeries equitySeries;
+
+    /**
+     * Constructor.
+     *
+     * @param assets         the assets of the portfolio
+     * @param tradingRecords the trading records of the assets
+     * @param initialCash    the initial cash of the portfolio
+     * @param endTimes       the end time of each step
+     * @param timePeriods    the time period of each step
+     * @param cash           the cash at the end of each step
+     * @param equity         the equity at the end of each step
+     */
+    PortfolioResult(List<PortfolioAsset> assets, List<TradingRecord> tradingRecords, double initialCash,
+            ZonedDateTime[] endTimes, Duration[] timePeriods, double[] cash, double[] equity) {
+        this.assets = assets;
+        this.tradingRecords = tradingRecords;
+        this.initialCash = initialCash;
+        this.endTimes = endTimes;
+        this.timePeriods = timePeriods;
+        this.cash = cash;
+        this.equity = equity;
+    }
+
+    /** @return {@link #assets} */
+    public List<PortfolioAsset> getAssets() {
+        return assets;
+    }
+
+    /**
+     * @return the trading records of the assets, in the order of
+     *         {@link #getAssets()}
+     */
+    public List<TradingRecord> getTradingRecords() {
+        return tradingRecords;
+    }
+
+    /** @return {@link #initialCash} */
+    public double getInitialCash() {
+        return initialCash;
+    }
+
+    /**
+     * @return the number of steps of the merged timeline
+     */
+    public int getStepCount() {
+        return equity.length;
+    }
+
+    /**
+     * @param step the step of the merged timeline
+     * @return the end time of the step
+     */
+    public ZonedDateTime getEndTime(int step) {
+        return endTimes[step];
+    }
+
+    /**
+     * @param step the step of the merged timeline
+     * @return the cash at the end of the step
+     */
+    public double getCash(int step) {
+        return cash[step];
+    }
+
+    /**
+     * @param step the step of the merged timeline
+     * @return the equity (cash and value of the positions at their last close
+     *         price) at the end of the step
+     */
+    public double getEquity(int step) {
+        return equity[step];
+    }
+
+    /**
+     * @return the equity at the end of the last step, or the initial cash if
+     *         there is no step
+     */
+    public double getFinalEquity() {
+        return equity.length == 0 ? initialCash : equity[equity.length - 1];
+    }
+
+    /**
+     * Returns the equity of the portfolio as a bar series, with one bar per step
+     * whose prices are the equity at the end of the step. Its {@link Num} type is
+     * the one of the first asset.
+     *
+     * @return the equity series
+     */
+    public synchronized BarSeries getEquitySeries() {
+        if (equitySeries == null) {
+            BarSeries firstSeries = assets.get(0).getSeries();
+            ColumnarBarSeries series = new ColumnarBarSeries("portfolio equity", firstSeries.num());
+            for (int step = 0; step < equity.length; step++) {
+                Num value = firstSeries.numOf(equity[step]);
+                series.addBar(timePeriods[step], endTimes[step], value, value, value, value, firstSeries.zero());
+            }
+            equitySeries = series;
+        }
+        return equitySeries;
+    }
+
+    /**
+     * @return the cash flow of the portfolio, i.e. its equity relative to its
+     *         initial cash
+     */
+    public CashFlow getCashFlow() {
+        BarSeries series = getEquitySeries();
+        return new CashFlow(series, series.numOf(initialCash));
+    }
+
+    /**
+     * @param type the return type
+     * @return the returns of the portfolio from step to step (the first one from
+     *         the initial cash)
+     */
+    public Returns getReturns(ReturnType type) {
+        BarSeries series = getEquitySeries();
+        return new Returns(series, series.numOf(initialCash), type);
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.portfolio;
+
+/**
+ * Sizes the positions opened by a {@link PortfolioManager}.
+ *
+ * <p>
+ * It is called with primitive values only, so that sizing a position does not
+ * allocate.
+ */
+@FunctionalInterface
+public interface PositionSizer {
+
+    /**
+     * @param asset  the index of the asset in the portfolio
+     * @param index  the bar index in the series of the asset
+     * @param price  the current (close) price of the asset
+     * @param cash   the available cash of the portfolio
+     * @param equity the current equity (cash and value of the positions) of the
+     *               portfolio
+     * @return the amount (i.e. the number of assets) of the position to open, 0
+     *         to not open it
+     */
+    double getAmount(int asset, int index, double price, double cash, double equity);
+
+    /**
+     * @param amount the amount of each position
+     * @return a sizer opening all positions with the same amount
+     */
+    static PositionSizer fixedAmount(double amount) {
+        return (asset, index, price, cash, equity) -> amount;
+    }
+
+    /**
+     * @param fraction the fraction of the equity (e.g. 0.1 for 10%)
+     * @return a sizer investing a fraction of the current equity in each position
+     */
+    static PositionSizer fractionOfEquity(double fraction) {
+        return (asset, index, price, cash, equity) -> fraction * equity / price;
+    }
+}
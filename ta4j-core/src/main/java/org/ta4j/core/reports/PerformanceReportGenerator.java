@@ -26,6 +26,7 @@ package org.ta4j.core.reports;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.criteria.pnl.LossCriterion;
 import org.ta4j.core.criteria.pnl.ProfitCriterion;
 import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
@@ -38,12 +39,28 @@ import org.ta4j.core.num.Num;
  */
 public class PerformanceReportGenerator implements ReportGenerator<PerformanceReport> {
 
+    private final ProfitLossCriterion profitLossCriterion = new ProfitLossCriterion();
+    private final ProfitLossPercentageCriterion profitLossPercentageCriterion = new ProfitLossPercentageCriterion();
+    private final ProfitCriterion profitCriterion = new ProfitCriterion(false);
+    private final LossCriterion lossCriterion = new LossCriterion(false);
+
     @Override
     public PerformanceReport generate(Strategy strategy, TradingRecord tradingRecord, BarSeries series) {
-        final Num pnl = new ProfitLossCriterion().calculate(series, tradingRecord);
-        final Num pnlPercentage = new ProfitLossPercentageCriterion().calculate(series, tradingRecord);
-        final Num netProfit = new ProfitCriterion(false).calculate(series, tradingRecord);
-        final Num netLoss = new LossCriterion(false).calculate(series, tradingRecord);
+        return generate(strategy, new TradingRecordAnalysis(series, tradingRecord));
+    }
+
+    /**
+     * Generates the report from a shared analysis of the trading record.
+     *
+     * @param strategy the strategy
+     * @param analysis the analysis of the trading record
+     * @return the generated report
+     */
+    public PerformanceReport generate(Strategy strategy, TradingRecordAnalysis analysis) {
+        final Num pnl = profitLossCriterion.calculate(analysis);
+        final Num pnlPercentage = profitLossPercentageCriterion.calculate(analysis);
+        final Num netProfit = profitCriterion.calculate(analysis);
+        final Num netLoss = lossCriterion.calculate(analysis);
         return new PerformanceReport(pnl, pnlPercentage, netProfit, netLoss);
     }
 }
@@ -26,6 +26,7 @@ package org.ta4j.core.reports;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 import org.ta4j.core.criteria.NumberOfBreakEvenPositionsCriterion;
 import org.ta4j.core.criteria.NumberOfLosingPositionsCriterion;
 import org.ta4j.core.criteria.NumberOfWinningPositionsCriterion;
@@ -37,11 +38,26 @@ import org.ta4j.core.num.Num;
  */
 public class PositionStatsReportGenerator implements ReportGenerator<PositionStatsReport> {
 
+    private final NumberOfWinningPositionsCriterion winningCriterion = new NumberOfWinningPositionsCriterion();
+    private final NumberOfLosingPositionsCriterion losingCriterion = new NumberOfLosingPositionsCriterion();
+    private final NumberOfBreakEvenPositionsCriterion breakEvenCriterion = new NumberOfBreakEvenPositionsCriterion();
+
     @Override
     public PositionStatsReport generate(Strategy strategy, TradingRecord tradingRecord, BarSeries series) {
-        final Num winningPositions = new NumberOfWinningPositionsCriterion().calculate(series, tradingRecord);
-        final Num losingPositions = new NumberOfLosingPositionsCriterion().calculate(series, tradingRecord);
-        final Num breakEvenPositions = new NumberOfBreakEvenPositionsCriterion().calculate(series, tradingRecord);
+        return generate(strategy, new TradingRecordAnalysis(series, tradingRecord));
+    }
+
+    /**
+     * Generates the report from a shared analysis of the trading record.
+     *
+     * @param strategy the strategy
+     * @param analysis the analysis of the trading record
+     * @return the generated report
+     */
+    public PositionStatsReport generate(Strategy strategy, TradingRecordAnalysis analysis) {
+        final Num winningPositions = winningCriterion.calculate(analysis);
+        final Num losingPositions = losingCriterion.calculate(analysis);
+        final Num breakEvenPositions = breakEvenCriterion.calculate(analysis);
         return new PositionStatsReport(winningPositions, losingPositions, breakEvenPositions);
     }
 }
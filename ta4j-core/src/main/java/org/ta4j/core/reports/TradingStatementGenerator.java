@@ -26,6 +26,7 @@ package org.ta4j.core.reports;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.TradingRecordAnalysis;
 
 /**
  * Generates a {@link TradingStatement} based on the provided trading record and
@@ -58,10 +59,21 @@ public class TradingStatementGenerator implements ReportGenerator<TradingStateme
 
     @Override
     public TradingStatement generate(Strategy strategy, TradingRecord tradingRecord, BarSeries series) {
-        final PerformanceReport performanceReport = performanceReportGenerator.generate(strategy, tradingRecord,
-                series);
-        final PositionStatsReport positionStatsReport = positionStatsReportGenerator.generate(strategy, tradingRecord,
-                series);
+        return generate(strategy, new TradingRecordAnalysis(series, tradingRecord));
+    }
+
+    /**
+     * Generates the statement from a shared analysis of the trading record, so
+     * that both reports reuse its intermediate results (e.g. the profit of each
+     * position).
+     *
+     * @param strategy the strategy
+     * @param analysis the analysis of the trading record
+     * @return the generated statement
+     */
+    public TradingStatement generate(Strategy strategy, TradingRecordAnalysis analysis) {
+        final PerformanceReport performanceReport = performanceReportGenerator.generate(strategy, analysis);
+        final PositionStatsReport positionStatsReport = positionStatsReportGenerator.generate(strategy, analysis);
         return new TradingStatement(strategy, positionStatsReport, performanceReport);
     }
 }
@@ -34,12 +34,14 @@ import org.ta4j.core.TradingRecord;
  *
  * <p>
  * <b>Warning:</b> The second rule is not tested if the first rule is not
- * satisfied.
+ * satisfied. With an {@link #setAdaptiveOrder(boolean) adaptive order}, the
+ * second rule may be tested first.
  */
 public class AndRule extends AbstractRule {
 
     private final Rule rule1;
     private final Rule rule2;
+    private volatile EvaluationOrder evaluationOrder;
 
     /**
      * Constructor.
@@ -54,11 +56,37 @@ public class AndRule extends AbstractRule {
 
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        final boolean satisfied = rule1.isSatisfied(index, tradingRecord) && rule2.isSatisfied(index, tradingRecord);
+        final EvaluationOrder order = evaluationOrder;
+        final boolean satisfied = order == null
+                ? rule1.isSatisfied(index, tradingRecord) && rule2.isSatisfied(index, tradingRecord)
+                : order.isSatisfied(rule1, rule2, index, tradingRecord);
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
 
+    /**
+     * Enables or disables the adaptive evaluation order.
+     *
+     * <p>
+     * If enabled, the rule which is the cheaper one to decide the result (i.e.
+     * which is often not satisfied and fast to evaluate) is evaluated first, based on
+     * statistics of the previous evaluations. Only for rules without side effects
+     * (e.g. not for a {@link JustOnceRule}), as the other rule may no longer be
+     * evaluated.
+     *
+     * @param adaptiveOrder true to order the rules by measured cost and
+     *                      selectivity, false to evaluate them in declaration
+     *                      order (the default)
+     */
+    public void setAdaptiveOrder(boolean adaptiveOrder) {
+        this.evaluationOrder = adaptiveOrder ? new EvaluationOrder(false) : null;
+    }
+
+    /** @return true if the rules are ordered by measured cost and selectivity */
+    public boolean isAdaptiveOrder() {
+        return evaluationOrder != null;
+    }
+
     /** @return the first rule */
     public Rule getRule1() {
         return rule1;
@@ -35,6 +35,12 @@ import org.ta4j.core.rules.helper.ChainLink;
  * list of {@link ChainLink chain links} are evaluated. If the initial rule is
  * satisfied, each rule in {@link ChainRule#rulesInChain chain links} has to be
  * satisfied within a specified "number of bars (= threshold)".
+ *
+ * <p>
+ * The rules of the chain links are evaluated for up to "threshold" bars before
+ * each index, i.e. several times for the same index over the following bars.
+ * Expensive rules which do not use the trading record should therefore be
+ * {@link MemoizedRule memoized}.
  */
 public class ChainRule extends AbstractRule {
 
@@ -0,0 +1,70 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * One if the value of an indicator rose (or fell) since the previous bar,
+ * otherwise zero.
+ *
+ * <p>
+ * Its running total is the number of rising (or falling) bars counted by
+ * {@link IsRisingRule} (or {@link IsFallingRule}).
+ */
+class DirectionIndicator extends CachedIndicator<Num> {
+
+    private final Indicator<Num> indicator;
+
+    /** True to indicate rising values, false to indicate falling values. */
+    private final boolean rising;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator
+     * @param rising    true to indicate rising values, false to indicate falling
+     *                  values
+     */
+    DirectionIndicator(Indicator<Num> indicator, boolean rising) {
+        super(indicator);
+        this.indicator = indicator;
+        this.rising = rising;
+    }
+
+    @Override
+    protected Num calculate(int index) {
+        Num value = indicator.getValue(index);
+        Num previousValue = indicator.getValue(Math.max(0, index - 1));
+        boolean moved = rising ? value.isGreaterThan(previousValue) : value.isLessThan(previousValue);
+        return moved ? one() : zero();
+    }
+
+    @Override
+    public int getUnstableBars() {
+        return 0;
+    }
+}
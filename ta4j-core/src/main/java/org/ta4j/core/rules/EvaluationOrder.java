@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import org.ta4j.core.Rule;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * Adaptive evaluation order of the two rules of a short-circuiting combination
+ * ({@link AndRule}, {@link OrRule}).
+ *
+ * <p>
+ * Counts how often each rule decides the result on its own (AND: not
+ * satisfied, OR: satisfied) and samples its evaluation time. Every
+ * {@link #REORDER_INTERVAL} evaluations the rule with the higher probability
+ * of deciding the result per nanosecond is moved first.
+ *
+ * <p>
+ * The statistics are updated without synchronization: concurrent evaluations
+ * may lose some updates, which only affects the chosen order, never the
+ * result.
+ */
+final class EvaluationOrder {
+
+    /** The number of evaluations between two decisions on the order. */
+    static final int REORDER_INTERVAL = 256;
+
+    /** Every 16th evaluation of a rule is timed. */
+    private static final int SAMPLE_MASK = 15;
+
+    /** The result which decides the combination on its own. */
+    private final boolean decidingResult;
+
+    private final long[] evaluations = new long[2];
+    private final long[] decisions = new long[2];
+    private final long[] sampledNanos = new long[2];
+    private final long[] samples = new long[2];
+    private int evaluationsUntilReorder = REORDER_INTERVAL;
+
+    /** True if the second rule is evaluated first. */
+    private volatile boolean swapped;
+
+    /**
+     * @param decidingResult false for an AND combination, true for an OR
+     *                       combination
+     */
+    EvaluationOrder(boolean decidingResult) {
+        this.decidingResult = decidingResult;
+    }
+
+    /**
+     * @param rule1         the first rule
+     * @param rule2         the second rule
+     * @param index         the bar index
+     * @param tradingRecord the potentially needed trading history
+     * @return the result of the combination
+     */
+    boolean isSatisfied(Rule rule1, Rule rule2, int index, TradingRecord tradingRecord) {
+        final boolean secondFirst = swapped;
+        boolean result = evaluate(secondFirst ? 1 : 0, secondFirst ? rule2 : rule1, index, tradingRecord);
+        if (result != decidingResult) {
+            result = evaluate(secondFirst ? 0 : 1, secondFirst ? rule1 : rule2, index, tradingRecord);
+        }
+        if (--evaluationsUntilReorder <= 0) {
+            evaluationsUntilReorder = REORDER_INTERVAL;
+            swapped = score(1) > score(0);
+        }
+        return result;
+    }
+
+    /** @return true if the second rule is currently evaluated first */
+    boolean isSwapped() {
+        return swapped;
+    }
+
+    private boolean evaluate(int rule, Rule r, int index, TradingRecord tradingRecord) {
+        final boolean sampled = (evaluations[rule]++ & SAMPLE_MASK) == 0;
+        final long start = sampled ? System.nanoTime() : 0;
+        final boolean result = r.isSatisfied(index, tradingRecord);
+        if (sampled) {
+            sampledNanos[rule] += System.nanoTime() - start;
+            samples[rule]++;
+        }
+        if (result == decidingResult) {
+            decisions[rule]++;
+        }
+        return result;
+    }
+
+    /**
+     * @param rule the rule (0 or 1)
+     * @return the estimated probability that the rule decides the result divided
+     *         by its mean evaluation time
+     */
+    private double score(int rule) {
+        // Laplace smoothing, so that a rule which has not been evaluated yet
+        // still has a chance to be moved first
+        final double probability = (decisions[rule] + 1d) / (evaluations[rule] + 2d);
+        final double nanos = samples[rule] == 0 ? 1d : Math.max(1d, (double) sampledNanos[rule] / samples[rule]);
+        return probability / nanos;
+    }
+}
@@ -42,18 +42,13 @@ public class FixedRule extends AbstractRule {
      */
     public FixedRule(int... indexes) {
         this.indexes = Arrays.copyOf(indexes, indexes.length);
+        Arrays.sort(this.indexes);
     }
 
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        boolean satisfied = false;
-        for (int idx : indexes) {
-            if (idx == index) {
-                satisfied = true;
-                break;
-            }
-        }
+        boolean satisfied = Arrays.binarySearch(indexes, index) >= 0;
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
@@ -41,11 +41,8 @@ import org.ta4j.core.num.Num;
  */
 public class InSlopeRule extends AbstractRule {
 
-    /** The actual indicator. */
-    private final Indicator<Num> ref;
-
-    /** The previous n-th value of ref. */
-    private final PreviousValueIndicator prev;
+    /** The difference between the indicator and its previous n-th value. */
+    private final CombineIndicator diff;
 
     /** The minimum slope between ref and prev. */
     private final Num minSlope;
@@ -99,8 +96,7 @@ public class InSlopeRule extends AbstractRule {
      *                    indicator
      */
     public InSlopeRule(Indicator<Num> ref, int nthPrevious, Num minSlope, Num maxSlope) {
-        this.ref = ref;
-        this.prev = new PreviousValueIndicator(ref, nthPrevious);
+        this.diff = CombineIndicator.minus(ref, new PreviousValueIndicator(ref, nthPrevious));
         this.minSlope = minSlope;
         this.maxSlope = maxSlope;
     }
@@ -108,7 +104,6 @@ public class InSlopeRule extends AbstractRule {
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        CombineIndicator diff = CombineIndicator.minus(ref, prev);
         Num val = diff.getValue(index);
         boolean minSlopeSatisfied = minSlope.isNaN() || val.isGreaterThanOrEqual(minSlope);
         boolean maxSlopeSatisfied = maxSlope.isNaN() || val.isLessThanOrEqual(maxSlope);
@@ -25,6 +25,7 @@ package org.ta4j.core.rules;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.helpers.RunningTotalIndicator;
 import org.ta4j.core.num.Num;
 
 /**
@@ -33,15 +34,15 @@ import org.ta4j.core.num.Num;
  */
 public class IsFallingRule extends AbstractRule {
 
-    /** The actual indicator */
-    private final Indicator<Num> ref;
-
     /** The barCount */
     private final int barCount;
 
     /** The minimum required strenght of the falling */
     private final double minStrength;
 
+    /** The number of falling bars within the barCount. */
+    private final RunningTotalIndicator fallingCount;
+
     /**
      * Constructor.
      *
@@ -61,23 +62,19 @@ public class IsFallingRule extends AbstractRule {
      *                    '1', e.g. '1' for strict falling)
      */
     public IsFallingRule(Indicator<Num> ref, int barCount, double minStrenght) {
-        this.ref = ref;
         this.barCount = barCount;
         this.minStrength = minStrenght >= 1 ? 0.99 : minStrenght;
+        this.fallingCount = new RunningTotalIndicator(new DirectionIndicator(ref, false), barCount);
     }
 
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+        // the number of falling bars within the barCount, updated in O(1) on serial
+        // access
+        double count = fallingCount.getValue(index).doubleValue();
 
-        int count = 0;
-        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
-            if (ref.getValue(i).isLessThan(ref.getValue(Math.max(0, i - 1)))) {
-                count += 1;
-            }
-        }
-
-        double ratio = count / (double) barCount;
+        double ratio = count / barCount;
 
         final boolean satisfied = ratio >= minStrength;
         traceIsSatisfied(index, satisfied);
@@ -25,20 +25,25 @@ package org.ta4j.core.rules;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Satisfied when the value of the {@link Indicator indicator} is the highest
  * within the {@code barCount}.
+ *
+ * <p>
+ * The highest value is taken from the {@link HighestValueIndicator} shared
+ * through the {@link IndicatorRegistry} of the bar series.
  */
 public class IsHighestRule extends AbstractRule {
 
     /** The actual indicator. */
     private final Indicator<Num> ref;
 
-    /** The barCount. */
-    private final int barCount;
+    /** The highest value within the barCount. */
+    private final HighestValueIndicator highest;
 
     /**
      * Constructor.
@@ -48,13 +53,12 @@ public class IsHighestRule extends AbstractRule {
      */
     public IsHighestRule(Indicator<Num> ref, int barCount) {
         this.ref = ref;
-        this.barCount = barCount;
+        this.highest = IndicatorRegistry.of(ref.getBarSeries()).highestValue(ref, barCount);
     }
 
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        HighestValueIndicator highest = new HighestValueIndicator(ref, barCount);
         Num highestVal = highest.getValue(index);
         Num refVal = ref.getValue(index);
 
@@ -25,20 +25,25 @@ package org.ta4j.core.rules;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Satisfied when the value of the {@link Indicator indicator} is the lowest
  * within the {@code barCount}.
+ *
+ * <p>
+ * The lowest value is taken from the {@link LowestValueIndicator} shared
+ * through the {@link IndicatorRegistry} of the bar series.
  */
 public class IsLowestRule extends AbstractRule {
 
     /** The actual indicator. */
     private final Indicator<Num> ref;
 
-    /** The barCount. */
-    private final int barCount;
+    /** The lowest value within the barCount. */
+    private final LowestValueIndicator lowest;
 
     /**
      * Constructor.
@@ -48,13 +53,12 @@ public class IsLowestRule extends AbstractRule {
      */
     public IsLowestRule(Indicator<Num> ref, int barCount) {
         this.ref = ref;
-        this.barCount = barCount;
+        this.lowest = IndicatorRegistry.of(ref.getBarSeries()).lowestValue(ref, barCount);
     }
 
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        LowestValueIndicator lowest = new LowestValueIndicator(ref, barCount);
         Num lowestVal = lowest.getValue(index);
         Num refVal = ref.getValue(index);
 
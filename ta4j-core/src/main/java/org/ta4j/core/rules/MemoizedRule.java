@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Rule;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.CachedIndicator;
+
+/**
+ * Remembers the result of a {@link Rule rule} per bar index.
+ *
+ * <p>
+ * Useful for expensive rules which are evaluated several times for the same
+ * index, e.g. the links of a {@link ChainRule} (evaluated over overlapping
+ * windows) or a sub-rule shared by the entry and exit rules of a strategy. The
+ * results are cached like the values of a {@link CachedIndicator}: the result
+ * of the last bar is recalculated once the last bar has changed.
+ *
+ * <p>
+ * <b>Warning:</b> Only for rules which do not depend on the
+ * {@code tradingRecord}: the wrapped rule is always evaluated without it.
+ */
+public class MemoizedRule extends AbstractRule {
+
+    private final Rule rule;
+    private final RuleResultIndicator results;
+
+    /**
+     * Constructor.
+     *
+     * @param rule   the trading rule (which must not use the trading record)
+     * @param series the bar series the rule is evaluated on
+     */
+    public MemoizedRule(Rule rule, BarSeries series) {
+        this.rule = rule;
+        this.results = new RuleResultIndicator(rule, series);
+    }
+
+    /** This rule does not use the {@code tradingRecord}. */
+    @Override
+    public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+        final boolean satisfied = results.getValue(index);
+        traceIsSatisfied(index, satisfied);
+        return satisfied;
+    }
+
+    /** @return the memoized rule */
+    public Rule getRule() {
+        return rule;
+    }
+
+    /**
+     * The results of a rule evaluated without trading record.
+     */
+    private static final class RuleResultIndicator extends CachedIndicator<Boolean> {
+
+        private final Rule rule;
+
+        private RuleResultIndicator(Rule rule, BarSeries series) {
+            super(series);
+            this.rule = rule;
+        }
+
+        @Override
+        protected Boolean calculate(int index) {
+            return rule.isSatisfied(index, null);
+        }
+
+        @Override
+        public int getUnstableBars() {
+            return 0;
+        }
+    }
+}
@@ -36,14 +36,14 @@ import org.ta4j.core.num.Num;
  */
 public class StopGainRule extends AbstractRule {
 
-    /** The constant value for 100. */
-    private final Num HUNDRED;
-
     /** The close price indicator. */
     private final ClosePriceIndicator closePrice;
 
-    /** The gain percentage. */
-    private final Num gainPercentage;
+    /** The ratio of the threshold to the entry price of long positions. */
+    private final Num buyRatioThreshold;
+
+    /** The ratio of the threshold to the entry price of short positions. */
+    private final Num sellRatioThreshold;
 
     /**
      * Constructor.
@@ -63,8 +63,9 @@ public class StopGainRule extends AbstractRule {
      */
     public StopGainRule(ClosePriceIndicator closePrice, Num gainPercentage) {
         this.closePrice = closePrice;
-        this.gainPercentage = gainPercentage;
-        HUNDRED = closePrice.numOf(100);
+        Num hundred = closePrice.numOf(100);
+        this.buyRatioThreshold = hundred.plus(gainPercentage).dividedBy(hundred);
+        this.sellRatioThreshold = hundred.minus(gainPercentage).dividedBy(hundred);
     }
 
     /** This rule uses the {@code tradingRecord}. */
@@ -91,14 +92,12 @@ public class StopGainRule extends AbstractRule {
     }
 
     private boolean isBuyGainSatisfied(Num entryPrice, Num currentPrice) {
-        Num lossRatioThreshold = HUNDRED.plus(gainPercentage).dividedBy(HUNDRED);
-        Num threshold = entryPrice.multipliedBy(lossRatioThreshold);
+        Num threshold = entryPrice.multipliedBy(buyRatioThreshold);
         return currentPrice.isGreaterThanOrEqual(threshold);
     }
 
     private boolean isSellGainSatisfied(Num entryPrice, Num currentPrice) {
-        Num lossRatioThreshold = HUNDRED.minus(gainPercentage).dividedBy(HUNDRED);
-        Num threshold = entryPrice.multipliedBy(lossRatioThreshold);
+        Num threshold = entryPrice.multipliedBy(sellRatioThreshold);
         return currentPrice.isLessThanOrEqual(threshold);
     }
 }
@@ -36,14 +36,14 @@ import org.ta4j.core.num.Num;
  */
 public class StopLossRule extends AbstractRule {
 
-    /** The constant value for 100. */
-    private final Num HUNDRED;
-
     /** The close price indicator. */
     private final ClosePriceIndicator closePrice;
 
-    /** The loss percentage. */
-    private final Num lossPercentage;
+    /** The ratio of the threshold to the entry price of long positions. */
+    private final Num buyRatioThreshold;
+
+    /** The ratio of the threshold to the entry price of short positions. */
+    private final Num sellRatioThreshold;
 
     /**
      * Constructor.
@@ -63,8 +63,9 @@ public class StopLossRule extends AbstractRule {
      */
     public StopLossRule(ClosePriceIndicator closePrice, Num lossPercentage) {
         this.closePrice = closePrice;
-        this.lossPercentage = lossPercentage;
-        this.HUNDRED = closePrice.numOf(100);
+        Num hundred = closePrice.numOf(100);
+        this.buyRatioThreshold = hundred.minus(lossPercentage).dividedBy(hundred);
+        this.sellRatioThreshold = hundred.plus(lossPercentage).dividedBy(hundred);
     }
 
     /** This rule uses the {@code tradingRecord}. */
@@ -91,14 +92,12 @@ public class StopLossRule extends AbstractRule {
     }
 
     private boolean isBuyStopSatisfied(Num entryPrice, Num currentPrice) {
-        Num lossRatioThreshold = HUNDRED.minus(lossPercentage).dividedBy(HUNDRED);
-        Num threshold = entryPrice.multipliedBy(lossRatioThreshold);
+        Num threshold = entryPrice.multipliedBy(buyRatioThreshold);
         return currentPrice.isLessThanOrEqual(threshold);
     }
 
     private boolean isSellStopSatisfied(Num entryPrice, Num currentPrice) {
-        Num lossRatioThreshold = HUNDRED.plus(lossPercentage).dividedBy(HUNDRED);
-        Num threshold = entryPrice.multipliedBy(lossRatioThreshold);
+        Num threshold = entryPrice.multipliedBy(sellRatioThreshold);
         return currentPrice.isGreaterThanOrEqual(threshold);
     }
 }
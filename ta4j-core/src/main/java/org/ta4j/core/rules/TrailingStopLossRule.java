@@ -23,9 +23,12 @@
  */
 package org.ta4j.core.rules;
 
+import static org.ta4j.core.num.NaN.NaN;
+
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 import org.ta4j.core.num.Num;
@@ -44,8 +47,17 @@ public class TrailingStopLossRule extends AbstractRule {
     /** The barCount. */
     private final int barCount;
 
-    /** the loss-distance as percentage. */
-    private final Num lossPercentage;
+    /** The ratio of the stop to the highest price of long positions. */
+    private final Num buyRatioThreshold;
+
+    /** The ratio of the stop to the lowest price of short positions. */
+    private final Num sellRatioThreshold;
+
+    /** The highest price within the barCount. */
+    private final HighestValueIndicator highestPrice;
+
+    /** The lowest price within the barCount. */
+    private final LowestValueIndicator lowestPrice;
 
     /**
      * Constructor.
@@ -57,7 +69,12 @@ public class TrailingStopLossRule extends AbstractRule {
     public TrailingStopLossRule(Indicator<Num> indicator, Num lossPercentage, int barCount) {
         this.priceIndicator = indicator;
         this.barCount = barCount;
-        this.lossPercentage = lossPercentage;
+        final Num hundred = lossPercentage.numOf(100);
+        this.buyRatioThreshold = hundred.minus(lossPercentage).dividedBy(hundred);
+        this.sellRatioThreshold = hundred.plus(lossPercentage).dividedBy(hundred);
+        final IndicatorRegistry registry = IndicatorRegistry.of(indicator.getBarSeries());
+        this.highestPrice = registry.highestValue(indicator, barCount);
+        this.lowestPrice = registry.lowestValue(indicator, barCount);
     }
 
     /**
@@ -93,23 +110,41 @@ public class TrailingStopLossRule extends AbstractRule {
     }
 
     private boolean isBuySatisfied(Num currentPrice, int index, int positionIndex) {
-        HighestValueIndicator highest = new HighestValueIndicator(priceIndicator,
-                getValueIndicatorBarCount(index, positionIndex));
-        Num highestCloseNum = highest.getValue(index);
-        Num lossRatioThreshold = highestCloseNum.numOf(100).minus(lossPercentage).dividedBy(highestCloseNum.numOf(100));
-        Num currentStopLossLimitActivation = highestCloseNum.multipliedBy(lossRatioThreshold);
+        Num highestCloseNum = extremePrice(index, positionIndex, true);
+        Num currentStopLossLimitActivation = highestCloseNum.multipliedBy(buyRatioThreshold);
         return currentPrice.isLessThanOrEqual(currentStopLossLimitActivation);
     }
 
     private boolean isSellSatisfied(Num currentPrice, int index, int positionIndex) {
-        LowestValueIndicator lowest = new LowestValueIndicator(priceIndicator,
-                getValueIndicatorBarCount(index, positionIndex));
-        Num lowestCloseNum = lowest.getValue(index);
-        Num lossRatioThreshold = lowestCloseNum.numOf(100).plus(lossPercentage).dividedBy(lowestCloseNum.numOf(100));
-        Num currentStopLossLimitActivation = lowestCloseNum.multipliedBy(lossRatioThreshold);
+        Num lowestCloseNum = extremePrice(index, positionIndex, false);
+        Num currentStopLossLimitActivation = lowestCloseNum.multipliedBy(sellRatioThreshold);
         return currentPrice.isGreaterThanOrEqual(currentStopLossLimitActivation);
     }
 
+    /**
+     * @param index         the bar index
+     * @param positionIndex the entry index of the current position
+     * @param highest       true for the highest price, false for the lowest
+     *                      price
+     * @return the highest (or lowest) price since the entry, within the barCount
+     */
+    private Num extremePrice(int index, int positionIndex, boolean highest) {
+        final int valueBarCount = getValueIndicatorBarCount(index, positionIndex);
+        if (valueBarCount == barCount) {
+            return highest ? highestPrice.getValue(index) : lowestPrice.getValue(index);
+        }
+        // window still starts at the entry: scan it instead of creating an indicator
+        Num extreme = NaN;
+        for (int i = index - valueBarCount + 1; i <= index; i++) {
+            final Num price = priceIndicator.getValue(i);
+            if (!price.isNaN() && (extreme.isNaN()
+                    || (highest ? price.isGreaterThan(extreme) : price.isLessThan(extreme)))) {
+                extreme = price;
+            }
+        }
+        return extreme;
+    }
+
     private int getValueIndicatorBarCount(int index, int positionIndex) {
         return Math.min(index - positionIndex + 1, this.barCount);
     }
@@ -0,0 +1,199 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.num.Num;
+
+public class ColumnarBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.of("Europe/Paris"));
+
+    private List<Bar> bars;
+
+    public ColumnarBarSeriesTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        bars = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            double close = 100 + 10 * Math.sin(i / 5d);
+            bars.add(new MockBar(START.plusDays(i), close - 0.5, close, close + 1.25, close - 1.75, close * 10, 10 + i,
+                    i, numFunction));
+        }
+    }
+
+    @Test
+    public void copiesBarsIntoColumns() {
+        BarSeries base = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withBars(bars).build();
+        ColumnarBarSeries columnar = new ColumnarBarSeries("columnar", bars);
+
+        assertEquals(base.getBarCount(), columnar.getBarCount());
+        assertEquals(base.getBeginIndex(), columnar.getBeginIndex());
+        assertEquals(base.getEndIndex(), columnar.getEndIndex());
+        assertEquals(base.num().getClass(), columnar.num().getClass());
+        for (int i = base.getBeginIndex(); i <= base.getEndIndex(); i++) {
+            Bar expected = base.getBar(i);
+            Bar actual = columnar.getBar(i);
+            assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+            assertEquals(expected.getBeginTime(), actual.getBeginTime());
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertNumEquals(expected.getOpenPrice(), actual.getOpenPrice());
+            assertNumEquals(expected.getHighPrice(), actual.getHighPrice());
+            assertNumEquals(expected.getLowPrice(), actual.getLowPrice());
+            assertNumEquals(expected.getClosePrice(), actual.getClosePrice());
+            assertNumEquals(expected.getVolume(), actual.getVolume());
+            assertNumEquals(expected.getAmount(), actual.getAmount());
+            assertEquals(expected.getTrades(), actual.getTrades());
+            assertNumEquals(expected.getClosePrice(), columnar.getClosePrice(i));
+        }
+        assertEquals(base.getBarData().size(), columnar.getBarData().size());
+        assertEquals(columnar.getBar(3), columnar.getBarData().get(3));
+        assertNotEquals(columnar.getBar(3), columnar.getBar(4));
+        assertEquals(base.getSeriesPeriodDescription(), columnar.getSeriesPeriodDescription());
+    }
+
+    @Test
+    public void indicatorsMatchBaseBarSeries() {
+        BarSeries base = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withBars(bars).build();
+        BarSeries columnar = new ColumnarBarSeries("columnar", bars);
+
+        SMAIndicator baseSma = new SMAIndicator(new ClosePriceIndicator(base), 10);
+        SMAIndicator columnarSma = new SMAIndicator(new ClosePriceIndicator(columnar), 10);
+        ATRIndicator baseAtr = new ATRIndicator(base, 14);
+        ATRIndicator columnarAtr = new ATRIndicator(columnar, 14);
+        TypicalPriceIndicator baseTypicalPrice = new TypicalPriceIndicator(base);
+        TypicalPriceIndicator columnarTypicalPrice = new TypicalPriceIndicator(columnar);
+        for (int i = base.getBeginIndex(); i <= base.getEndIndex(); i++) {
+            assertNumEquals(baseSma.getValue(i), columnarSma.getValue(i));
+            assertNumEquals(baseAtr.getValue(i), columnarAtr.getValue(i));
+            assertNumEquals(baseTypicalPrice.getValue(i), columnarTypicalPrice.getValue(i));
+        }
+    }
+
+    @Test
+    public void maximumBarCountRemovesFirstBars() {
+        ColumnarBarSeries series = new ColumnarBarSeries("columnar", numOf(0));
+        series.setMaximumBarCount(10);
+        for (int i = 0; i < 1000; i++) {
+            series.addBar(START.plusMinutes(i), numOf(i), numOf(i + 1), numOf(i - 1), numOf(i), numOf(1));
+        }
+
+        assertEquals(10, series.getBarCount());
+        assertEquals(990, series.getRemovedBarsCount());
+        assertEquals(990, series.getBeginIndex());
+        assertEquals(999, series.getEndIndex());
+        assertEquals(10, series.getBarData().size());
+        for (int i = 990; i <= 999; i++) {
+            assertNumEquals(i, series.getClosePrice(i));
+            assertEquals(START.plusMinutes(i), series.getBar(i).getEndTime());
+        }
+        // removed bars return the first remaining bar
+        assertNumEquals(990, series.getClosePrice(0));
+        assertNumEquals(990, series.getBar(5).getClosePrice());
+    }
+
+    @Test
+    public void addTradeAndPriceUpdateLastBar() {
+        ColumnarBarSeries series = new ColumnarBarSeries("columnar", numOf(0));
+        series.addBar(Duration.ofMinutes(1), START);
+        assertTrue(series.getLastBar().getClosePrice().isNaN());
+
+        series.addTrade(numOf(2), numOf(10));
+        series.addTrade(numOf(3), numOf(12));
+        series.addPrice(numOf(9));
+        series.getLastBar().addTrade(numOf(1), numOf(11));
+
+        Bar bar = series.getLastBar();
+        assertNumEquals(10, bar.getOpenPrice());
+        assertNumEquals(12, bar.getHighPrice());
+        assertNumEquals(9, bar.getLowPrice());
+        assertNumEquals(11, bar.getClosePrice());
+        assertNumEquals(6, bar.getVolume());
+        assertNumEquals(67, bar.getAmount());
+        assertEquals(3, bar.getTrades());
+        assertEquals(START.minusMinutes(1), bar.getBeginTime());
+        assertEquals(START, bar.getEndTime());
+    }
+
+    @Test
+    public void replaceLastBar() {
+        ColumnarBarSeries series = new ColumnarBarSeries("columnar", bars.subList(0, 3));
+        series.addBar(bars.get(3), true);
+
+        assertEquals(3, series.getBarCount());
+        assertEquals(bars.get(3).getEndTime(), series.getLastBar().getEndTime());
+        assertNumEquals(bars.get(3).getClosePrice(), series.getLastBar().getClosePrice());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addBarBeforeEndTime() {
+        ColumnarBarSeries series = new ColumnarBarSeries("columnar", bars.subList(0, 3));
+        series.addBar(bars.get(1));
+    }
+
+    @Test
+    public void subSeries() {
+        ColumnarBarSeries series = new ColumnarBarSeries("columnar", bars);
+        ColumnarBarSeries subSeries = series.getSubSeries(10, 20);
+
+        assertEquals(10, subSeries.getBarCount());
+        assertEquals(0, subSeries.getBeginIndex());
+        assertEquals(9, subSeries.getEndIndex());
+        for (int i = 0; i < 10; i++) {
+            assertNumEquals(series.getClosePrice(10 + i), subSeries.getClosePrice(i));
+            assertEquals(series.getBar(10 + i).getEndTime(), subSeries.getBar(i).getEndTime());
+        }
+
+        // the sub-series is a copy
+        subSeries.addPrice(numOf(1000));
+        assertNumEquals(bars.get(19).getClosePrice(), series.getClosePrice(19));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getBarAfterEndIndex() {
+        new ColumnarBarSeries("columnar", bars).getBar(50);
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.num.Num;
+
+public class MappedBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.of("Europe/Paris"));
+
+    private BarSeries series;
+
+    private Path file;
+
+    public MappedBarSeriesTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withName("mapped").build();
+        for (int i = 0; i < 50; i++) {
+            double close = 100 + 10 * Math.sin(i / 5d);
+            series.addBar(new MockBar(START.plusDays(i), close - 0.5, close, close + 1.25, close - 1.75, close * 10,
+                    10 + i, i, numFunction));
+        }
+        file = Files.createTempFile("ta4j", ".bars");
+        MappedBarSeries.write(series, file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void readsWrittenBars() throws IOException {
+        MappedBarSeries mapped = MappedBarSeries.open(file, series.num());
+
+        assertEquals("mapped", mapped.getName());
+        assertEquals(series.getBarCount(), mapped.getBarCount());
+        assertEquals(series.getBeginIndex(), mapped.getBeginIndex());
+        assertEquals(series.getEndIndex(), mapped.getEndIndex());
+        assertEquals(series.getBarCount(), mapped.getBarData().size());
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            Bar expected = series.getBar(i);
+            Bar actual = mapped.getBar(i);
+            assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+            assertEquals(expected.getBeginTime(), actual.getBeginTime());
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertNumEquals(expected.getOpenPrice(), actual.getOpenPrice());
+            assertNumEquals(expected.getHighPrice(), actual.getHighPrice());
+            assertNumEquals(expected.getLowPrice(), actual.getLowPrice());
+            assertNumEquals(expected.getClosePrice(), actual.getClosePrice());
+            assertNumEquals(expected.getVolume(), actual.getVolume());
+            assertNumEquals(expected.getAmount(), actual.getAmount());
+            assertEquals(expected.getTrades(), actual.getTrades());
+        }
+
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 10);
+        SMAIndicator mappedSma = new SMAIndicator(new ClosePriceIndicator(mapped), 10);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertNumEquals(sma.getValue(i), mappedSma.getValue(i));
+        }
+    }
+
+    @Test
+    public void subSeriesSharesColumns() throws IOException {
+        MappedBarSeries mapped = MappedBarSeries.open(file, series.num());
+        MappedBarSeries subSeries = mapped.getSubSeries(10, 20);
+
+        assertEquals(10, subSeries.getBarCount());
+        assertEquals(0, subSeries.getBeginIndex());
+        assertEquals(9, subSeries.getEndIndex());
+        for (int i = 0; i < 10; i++) {
+            assertNumEquals(series.getClosePrice(10 + i), subSeries.getClosePrice(i));
+            assertEquals(series.getBar(10 + i).getEndTime(), subSeries.getBar(i).getEndTime());
+            assertEquals(mapped.getBar(10 + i), subSeries.getBar(i));
+        }
+        assertEquals(5, subSeries.getSubSeries(5, 100).getBarCount());
+        assertNumEquals(series.getClosePrice(15), subSeries.getSubSeries(5, 100).getClosePrice(0));
+    }
+
+    @Test
+    public void writesSeriesWithRemovedBars() throws IOException {
+        series.setMaximumBarCount(20);
+        MappedBarSeries.write(series, file);
+        MappedBarSeries mapped = MappedBarSeries.open(file, series.num());
+
+        assertEquals(20, mapped.getBarCount());
+        for (int i = 0; i < 20; i++) {
+            assertNumEquals(series.getClosePrice(30 + i), mapped.getClosePrice(i));
+        }
+    }
+
+    @Test
+    public void writesUnsetPricesAsNaN() throws IOException {
+        BarSeries empty = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        empty.addBar(Duration.ofMinutes(1), START);
+        MappedBarSeries.write(empty, file);
+        MappedBarSeries mapped = MappedBarSeries.open(file, empty.num());
+
+        assertEquals(1, mapped.getBarCount());
+        assertTrue(mapped.getClosePrice(0).isNaN());
+        assertNumEquals(0, mapped.getVolume(0));
+        assertEquals(START, mapped.getBar(0).getEndTime());
+    }
+
+    @Test
+    public void serializationMapsFileAgain() throws IOException, ClassNotFoundException {
+        MappedBarSeries subSeries = MappedBarSeries.open(file, series.num()).getSubSeries(10, 20);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(subSeries);
+        }
+        BarSeries deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (BarSeries) in.readObject();
+        }
+
+        assertEquals(10, deserialized.getBarCount());
+        assertNumEquals(subSeries.getClosePrice(3), deserialized.getClosePrice(3));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void isReadOnly() throws IOException {
+        MappedBarSeries.open(file, series.num()).addPrice(numOf(1));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFiles() throws IOException {
+        Files.write(file, "Date,Open,High,Low,Close,Volume\n2014-06-13,1,2,0.5,1.5,100\n".getBytes());
+        MappedBarSeries.open(file, series.num());
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.aggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.num.Num;
+
+public class StreamingBarAggregatorTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private final ZonedDateTime time = ZonedDateTime.of(2023, 3, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    public StreamingBarAggregatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    private BarSeries newSeries() {
+        return new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+    }
+
+    private Bar minuteBar(ZonedDateTime endTime, double open, double high, double low, double close, double volume,
+            double amount, long trades) {
+        return new BaseBar(Duration.ofMinutes(1), endTime, open, high, low, close, volume, amount, trades,
+                numFunction);
+    }
+
+    @Test
+    public void aggregateTicksByDuration() {
+        BarSeries series = newSeries();
+        StreamingBarAggregator aggregator = StreamingBarAggregator.ofDuration(series, Duration.ofMinutes(5));
+
+        aggregator.addTrade(time.plusSeconds(30), 10, 1);
+        aggregator.addTrade(time.plusMinutes(2), 12, 2);
+        assertEquals(1, series.getBarCount());
+        aggregator.addTrade(time.plusMinutes(4), 9, 1);
+
+        Bar bar = series.getBar(0);
+        assertEquals(time, bar.getBeginTime());
+        assertEquals(time.plusMinutes(5), bar.getEndTime());
+        assertNumEquals(10, bar.getOpenPrice());
+        assertNumEquals(12, bar.getHighPrice());
+        assertNumEquals(9, bar.getLowPrice());
+        assertNumEquals(9, bar.getClosePrice());
+        assertNumEquals(4, bar.getVolume());
+        assertNumEquals(43, bar.getAmount());
+        assertEquals(3, bar.getTrades());
+
+        // a tick at the end of the period begins the next bar, empty periods are
+        // skipped
+        aggregator.addTrade(time.plusMinutes(5), 11, 1);
+        aggregator.addTrade(time.plusMinutes(17), 13, 1);
+        assertEquals(3, series.getBarCount());
+        assertEquals(time.plusMinutes(20), series.getBar(2).getEndTime());
+        assertNumEquals(11, series.getBar(1).getClosePrice());
+        assertNumEquals(13, series.getBar(2).getClosePrice());
+    }
+
+    @Test
+    public void aggregateBarsByDuration() {
+        BarSeries series = newSeries();
+        StreamingBarAggregator aggregator = StreamingBarAggregator.ofDuration(series, Duration.ofMinutes(2));
+
+        aggregator.addBar(minuteBar(time.plusMinutes(1), 1, 5, 1, 2, 10, 20, 3));
+        aggregator.addBar(minuteBar(time.plusMinutes(2), 2, 4, 0.5, 3, 5, 10, 2));
+        aggregator.addBar(minuteBar(time.plusMinutes(3), 3, 6, 2, 4, 1, 1, 1));
+
+        assertEquals(2, series.getBarCount());
+        Bar bar = series.getBar(0);
+        assertEquals(Duration.ofMinutes(2), bar.getTimePeriod());
+        assertEquals(time.plusMinutes(2), bar.getEndTime());
+        assertNumEquals(1, bar.getOpenPrice());
+        assertNumEquals(5, bar.getHighPrice());
+        assertNumEquals(0.5, bar.getLowPrice());
+        assertNumEquals(3, bar.getClosePrice());
+        assertNumEquals(15, bar.getVolume());
+        assertNumEquals(30, bar.getAmount());
+        assertEquals(5, bar.getTrades());
+        assertNumEquals(4, series.getBar(1).getClosePrice());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectBarsAcrossPeriods() {
+        BarSeries series = newSeries();
+        StreamingBarAggregator aggregator = StreamingBarAggregator.ofDuration(series, Duration.ofMinutes(2));
+        aggregator.addBar(minuteBar(time.plusMinutes(2).plusSeconds(30), 1, 5, 1, 2, 10, 20, 3));
+    }
+
+    @Test
+    public void aggregateTicksByTickCount() {
+        BarSeries series = newSeries();
+        StreamingBarAggregator aggregator = StreamingBarAggregator.ofTickCount(series, 2);
+
+        aggregator.addTrade(time, 10, 1);
+        assertFalse(aggregator.isBarComplete());
+        aggregator.addTrade(time.plusSeconds(1), 11, 1);
+        assertTrue(aggregator.isBarComplete());
+        // simultaneous ticks still create bars with distinct end times
+        aggregator.addTrade(time.plusSeconds(1), 12, 1);
+
+        assertEquals(2, series.getBarCount());
+        assertEquals(time.plusSeconds(1), series.getBar(0).getEndTime());
+        assertEquals(Duration.ofSeconds(1), series.getBar(0).getTimePeriod());
+        assertNumEquals(11, series.getBar(0).getClosePrice());
+        assertTrue(series.getBar(1).getEndTime().isAfter(series.getBar(0).getEndTime()));
+        assertNumEquals(12, series.getBar(1).getOpenPrice());
+    }
+
+    @Test
+    public void aggregateTicksByVolumeAndAmount() {
+        BarSeries volumeSeries = newSeries();
+        BarSeries amountSeries = newSeries();
+        StreamingBarAggregator volumeAggregator = StreamingBarAggregator.ofVolume(volumeSeries, 5);
+        StreamingBarAggregator amountAggregator = StreamingBarAggregator.ofAmount(amountSeries, 100);
+
+        for (int i = 0; i < 6; i++) {
+            volumeAggregator.addTrade(time.plusSeconds(i), 10, 2);
+            amountAggregator.addTrade(time.plusSeconds(i), 10, 2);
+        }
+
+        // volumes of 6 (3 trades) and 6 (3 trades)
+        assertEquals(2, volumeSeries.getBarCount());
+        assertNumEquals(6, volumeSeries.getBar(0).getVolume());
+        assertEquals(3, volumeSeries.getBar(1).getTrades());
+        // amounts of 100 (5 trades) and 20 (1 trade, pending)
+        assertEquals(2, amountSeries.getBarCount());
+        assertNumEquals(100, amountSeries.getBar(0).getAmount());
+        assertNumEquals(20, amountSeries.getBar(1).getAmount());
+        assertFalse(amountAggregator.isBarComplete());
+    }
+}
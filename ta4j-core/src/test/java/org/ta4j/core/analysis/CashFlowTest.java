@@ -27,6 +27,7 @@ import static org.junit.Assert.assertEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 import org.junit.Test;
@@ -90,6 +91,26 @@ public class CashFlowTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
         assertNumEquals("-2.8", cashFlow.getValue(6));
     }
 
+    @Test
+    public void cashFlowOverRange() {
+        BarSeries sampleBarSeries = new MockBarSeries(numFunction, 1, 2, 4, 8, 16, 32, 64);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(1, sampleBarSeries),
+                Trade.sellAt(2, sampleBarSeries), Trade.buyAt(4, sampleBarSeries), Trade.sellAt(5, sampleBarSeries));
+
+        CashFlow cashFlow = new CashFlow(sampleBarSeries, tradingRecord);
+
+        List<Num> values = cashFlow.getValues(0, 6);
+        assertEquals(7, values.size());
+        assertNumEquals(1, values.get(0));
+        assertNumEquals(1, values.get(1));
+        assertNumEquals(2, values.get(2));
+        assertNumEquals(2, values.get(3));
+        assertNumEquals(2, values.get(4));
+        assertNumEquals(4, values.get(5));
+        assertNumEquals(4, values.get(6));
+        assertEquals(2, cashFlow.getValues(3, 4).size());
+    }
+
     @Test
     public void cashFlowSell() {
         BarSeries sampleBarSeries = new MockBarSeries(numFunction, 1, 2, 4, 8, 16, 32);
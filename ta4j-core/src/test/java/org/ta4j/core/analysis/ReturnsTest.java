@@ -26,6 +26,7 @@ package org.ta4j.core.analysis;
 import static org.junit.Assert.assertEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.util.List;
 import java.util.function.Function;
 
 import org.junit.Test;
@@ -85,6 +86,31 @@ public class ReturnsTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
         assertNumEquals(1 - (20d / 3), strategyReturns.getValue(6));
     }
 
+    @Test
+    public void returnsOverRange() {
+        BarSeries sampleBarSeries = new MockBarSeries(numFunction, 2, 1, 3, 5, 6, 3, 20);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, sampleBarSeries),
+                Trade.sellAt(1, sampleBarSeries), Trade.buyAt(3, sampleBarSeries), Trade.sellAt(4, sampleBarSeries));
+
+        Returns strategyReturns = new Returns(sampleBarSeries, tradingRecord, Returns.ReturnType.ARITHMETIC);
+
+        List<Num> values = strategyReturns.getValues(1, 4);
+        assertEquals(4, values.size());
+        assertNumEquals(-0.5, values.get(0));
+        assertNumEquals(0, values.get(1));
+        assertNumEquals(0, values.get(2));
+        assertNumEquals(1d / 5, values.get(3));
+        assertEquals(7, strategyReturns.getValues().size());
+
+        List<Num> sortedValues = strategyReturns.getSortedValues(1, 6);
+        assertEquals(6, sortedValues.size());
+        assertNumEquals(-0.5, sortedValues.get(0));
+        for (int i = 1; i < 5; i++) {
+            assertNumEquals(0, sortedValues.get(i));
+        }
+        assertNumEquals(1d / 5, sortedValues.get(5));
+    }
+
     @Test
     public void returnsWithGaps() {
         BarSeries sampleBarSeries = new MockBarSeries(numFunction, 1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d, 10d, 11d, 12d);
@@ -0,0 +1,119 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.Returns.ReturnType;
+import org.ta4j.core.analysis.cost.LinearTransactionCostModel;
+import org.ta4j.core.analysis.cost.ZeroCostModel;
+import org.ta4j.core.criteria.ExpectedShortfallCriterion;
+import org.ta4j.core.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.criteria.NumberOfBreakEvenPositionsCriterion;
+import org.ta4j.core.criteria.NumberOfLosingPositionsCriterion;
+import org.ta4j.core.criteria.NumberOfPositionsCriterion;
+import org.ta4j.core.criteria.NumberOfWinningPositionsCriterion;
+import org.ta4j.core.criteria.ReturnOverMaxDrawdownCriterion;
+import org.ta4j.core.criteria.ValueAtRiskCriterion;
+import org.ta4j.core.criteria.pnl.LossCriterion;
+import org.ta4j.core.criteria.pnl.ProfitCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossPercentageCriterion;
+import org.ta4j.core.criteria.pnl.ReturnCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class TradingRecordAnalysisTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public TradingRecordAnalysisTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void calculatesCriteriaLikeOneByOne() {
+        BarSeries series = new MockBarSeries(numFunction, 100, 105, 98, 110, 107, 95, 99, 120, 118, 112, 112, 125);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.TradeType.BUY,
+                new LinearTransactionCostModel(0.001), new ZeroCostModel());
+        tradingRecord.enter(0, series.getClosePrice(0), numOf(10));
+        tradingRecord.exit(2, series.getClosePrice(2), numOf(10));
+        tradingRecord.enter(3, series.getClosePrice(3), numOf(10));
+        tradingRecord.exit(7, series.getClosePrice(7), numOf(10));
+        tradingRecord.enter(9, series.getClosePrice(9), numOf(10));
+        tradingRecord.exit(10, series.getClosePrice(10), numOf(10));
+
+        List<AnalysisCriterion> criteria = Arrays.asList(new MaximumDrawdownCriterion(),
+                new ReturnOverMaxDrawdownCriterion(), new ValueAtRiskCriterion(0.9),
+                new ExpectedShortfallCriterion(0.9), new ProfitLossCriterion(), new ProfitLossPercentageCriterion(),
+                new ProfitCriterion(false), new ProfitCriterion(true), new LossCriterion(false),
+                new LossCriterion(true), new NumberOfWinningPositionsCriterion(),
+                new NumberOfLosingPositionsCriterion(), new NumberOfBreakEvenPositionsCriterion(),
+                new NumberOfPositionsCriterion(), new ReturnCriterion());
+
+        TradingRecordAnalysis analysis = new TradingRecordAnalysis(series, tradingRecord);
+        List<Num> values = analysis.calculate(criteria);
+
+        assertEquals(criteria.size(), values.size());
+        for (int i = 0; i < criteria.size(); i++) {
+            assertNumEquals(criteria.get(i).calculate(series, tradingRecord), values.get(i));
+        }
+    }
+
+    @Test
+    public void buildsIntermediateResultsOnce() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3, 2, 4);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(2, series),
+                Trade.buyAt(3, series), Trade.sellAt(4, series));
+        TradingRecordAnalysis analysis = new TradingRecordAnalysis(series, tradingRecord);
+
+        assertSame(analysis.getCashFlow(), analysis.getCashFlow());
+        assertSame(analysis.getReturns(ReturnType.LOG), analysis.getReturns(ReturnType.LOG));
+        assertSame(analysis.getProfits(), analysis.getProfits());
+        assertEquals(2, analysis.getProfits().size());
+
+        List<Num> sortedRates = analysis.getSortedReturnRates(ReturnType.ARITHMETIC);
+        assertEquals(4, sortedRates.size());
+        for (int i = 1; i < sortedRates.size(); i++) {
+            assertEquals(true, sortedRates.get(i - 1).isLessThanOrEqual(sortedRates.get(i)));
+        }
+        // the returns themselves are not sorted
+        assertNumEquals(1, analysis.getReturns(ReturnType.ARITHMETIC).getValue(1));
+
+        Num maximumDrawdown = new MaximumDrawdownCriterion().calculate(analysis);
+        assertSame(maximumDrawdown, new MaximumDrawdownCriterion().calculate(analysis));
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.criteria.pnl.ReturnCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.IndicatorPool;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+public class ParameterOptimizerTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    public ParameterOptimizerTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    private static Strategy crossOver(BarSeries series, int[] barCounts, IndicatorPool pool) {
+        Indicator<Num> closePrice = pool.share(new ClosePriceIndicator(series));
+        Indicator<Num> shortSma = pool.share(new SMAIndicator(closePrice, barCounts[0]));
+        Indicator<Num> longSma = pool.share(new SMAIndicator(closePrice, barCounts[1]));
+        return new BaseStrategy("Sma(" + barCounts[0] + ", " + barCounts[1] + ")",
+                new CrossedUpIndicatorRule(shortSma, longSma), new CrossedDownIndicatorRule(shortSma, longSma));
+    }
+
+    @Test
+    public void ranksVariantsSharingIndicators() {
+        Random random = new Random(42);
+        double[] prices = new double[300];
+        prices[0] = 100;
+        for (int i = 1; i < prices.length; i++) {
+            prices[i] = Math.max(1, prices[i - 1] + random.nextGaussian());
+        }
+        BarSeries series = new MockBarSeries(numFunction, prices);
+
+        List<int[]> grid = new ArrayList<>();
+        for (int shortBarCount = 2; shortBarCount <= 10; shortBarCount++) {
+            for (int longBarCount = 12; longBarCount <= 30; longBarCount += 2) {
+                grid.add(new int[] { shortBarCount, longBarCount });
+            }
+        }
+        AtomicInteger poolSize = new AtomicInteger();
+        AnalysisCriterion criterion = new ReturnCriterion();
+        List<OptimizationResult<int[]>> results = new ParameterOptimizer(series).optimize(grid,
+                (barCounts, pool) -> {
+                    Strategy strategy = crossOver(series, barCounts, pool);
+                    poolSize.set(pool.size());
+                    return strategy;
+                }, criterion);
+
+        assertEquals(grid.size(), results.size());
+        // 1 close price, 9 short and 10 long moving averages
+        assertEquals(20, poolSize.get());
+        for (int i = 1; i < results.size(); i++) {
+            assertFalse(criterion.betterThan(results.get(i).getValue(), results.get(i - 1).getValue()));
+        }
+        BarSeriesManager manager = new BarSeriesManager(series);
+        for (OptimizationResult<int[]> result : results) {
+            Strategy strategy = crossOver(series, result.getParameters(), new IndicatorPool());
+            assertNumEquals(criterion.calculate(series, manager.run(strategy)), result.getValue());
+            assertEquals(strategy.getName(), result.getStrategy().getName());
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.backtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.criteria.pnl.ReturnCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+public class PortfolioBacktestExecutorTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private ForkJoinPool pool;
+
+    private List<BarSeries> universe;
+
+    public PortfolioBacktestExecutorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(3);
+        Random random = new Random(42);
+        universe = new ArrayList<>();
+        for (int s = 0; s < 5; s++) {
+            double[] prices = new double[200];
+            prices[0] = 100;
+            for (int i = 1; i < prices.length; i++) {
+                prices[i] = Math.max(1, prices[i - 1] + random.nextGaussian());
+            }
+            universe.add(new MockBarSeries(numFunction, prices));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private static List<Strategy> crossOvers(BarSeries series) {
+        Indicator<Num> closePrice = new ClosePriceIndicator(series);
+        List<Strategy> strategies = new ArrayList<>();
+        for (int shortBarCount = 2; shortBarCount <= 5; shortBarCount++) {
+            Indicator<Num> shortSma = new SMAIndicator(closePrice, shortBarCount);
+            Indicator<Num> longSma = new SMAIndicator(closePrice, 3 * shortBarCount);
+            strategies.add(new BaseStrategy("Sma(" + shortBarCount + ")", new CrossedUpIndicatorRule(shortSma, longSma),
+                    new CrossedDownIndicatorRule(shortSma, longSma)));
+        }
+        return strategies;
+    }
+
+    @Test
+    public void backtestsAllSeriesAndStrategies() {
+        Map<BarSeries, List<BacktestResult>> results = new ConcurrentHashMap<>();
+        AtomicLong lastProgress = new AtomicLong();
+        BacktestRun run = new PortfolioBacktestExecutor(pool, 2).execute(
+                PortfolioBacktestExecutor.tasks(universe, PortfolioBacktestExecutorTest::crossOvers), 1,
+                new BacktestListener() {
+                    @Override
+                    public void onResult(BacktestResult result) {
+                        results.computeIfAbsent(result.getTask().getSeries(),
+                                series -> Collections.synchronizedList(new ArrayList<>())).add(result);
+                    }
+
+                    @Override
+                    public void onProgress(long finished, long submitted) {
+                        assertTrue(finished <= submitted);
+                        lastProgress.set(finished);
+                    }
+                });
+
+        assertTrue(run.isDone());
+        assertFalse(run.isCancelled());
+        assertEquals(20, run.getSubmittedCount());
+        assertEquals(20, run.getFinishedCount());
+        assertEquals(0, run.getFailedCount());
+        assertEquals(20, lastProgress.get());
+        assertEquals(universe.size(), results.size());
+
+        ReturnCriterion criterion = new ReturnCriterion();
+        for (BarSeries series : universe) {
+            BarSeriesManager manager = new BarSeriesManager(series);
+            List<BacktestResult> seriesResults = results.get(series);
+            assertEquals(4, seriesResults.size());
+            for (BacktestResult result : seriesResults) {
+                assertTrue(result.getDurationNanos() >= 0);
+                assertNotNull(result.getTradingStatement());
+                assertSame(result.getTask().getStrategy(), result.getTradingStatement().getStrategy());
+                Strategy strategy = result.getTask().getStrategy();
+                assertNumEquals(criterion.calculate(series, manager.run(strategy)),
+                        criterion.calculate(series, result.getTradingRecord()));
+            }
+        }
+    }
+
+    @Test
+    public void failedTasksAreReported() {
+        BarSeries series = universe.get(0);
+        Strategy failing = new BaseStrategy("failing", (index, tradingRecord) -> {
+            throw new IllegalStateException("failing rule");
+        }, (index, tradingRecord) -> false);
+        List<BacktestTask> tasks = new ArrayList<>();
+        for (Strategy strategy : crossOvers(series)) {
+            tasks.add(new BacktestTask(series, strategy));
+        }
+        tasks.add(1, new BacktestTask(series, failing));
+
+        AtomicInteger resultCount = new AtomicInteger();
+        List<BacktestTask> failedTasks = Collections.synchronizedList(new ArrayList<>());
+        BacktestRun run = new PortfolioBacktestExecutor(pool, 1).execute(tasks, 1, new BacktestListener() {
+            @Override
+            public void onResult(BacktestResult result) {
+                resultCount.incrementAndGet();
+            }
+
+            @Override
+            public void onFailure(BacktestTask task, Throwable error) {
+                assertTrue(error instanceof IllegalStateException);
+                failedTasks.add(task);
+            }
+        });
+
+        assertEquals(4, resultCount.get());
+        assertEquals(Arrays.asList(tasks.get(1)), failedTasks);
+        assertEquals(5, run.getFinishedCount());
+        assertEquals(1, run.getFailedCount());
+    }
+
+    @Test
+    public void errorsAreReported() {
+        BarSeries series = universe.get(0);
+        Strategy failing = new BaseStrategy("failing", (index, tradingRecord) -> {
+            throw new StackOverflowError("failing rule");
+        }, (index, tradingRecord) -> false);
+        List<BacktestTask> tasks = Arrays.asList(new BacktestTask(series, failing),
+                new BacktestTask(series, crossOvers(series).get(0)));
+
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        BacktestRun run = new PortfolioBacktestExecutor(pool, 1).execute(tasks, 1, new BacktestListener() {
+            @Override
+            public void onResult(BacktestResult result) {
+            }
+
+            @Override
+            public void onFailure(BacktestTask task, Throwable error) {
+                errors.add(error);
+            }
+        });
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof StackOverflowError);
+        assertEquals(2, run.getFinishedCount());
+        assertEquals(1, run.getFailedCount());
+    }
+
+    @Test
+    public void cancelStopsSubmittingTasks() throws InterruptedException {
+        CountDownLatch firstResult = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        AtomicInteger resultCount = new AtomicInteger();
+        BacktestRun run = new PortfolioBacktestExecutor(pool, 1).start(
+                PortfolioBacktestExecutor.tasks(universe, PortfolioBacktestExecutorTest::crossOvers), 1,
+                result -> {
+                    resultCount.incrementAndGet();
+                    firstResult.countDown();
+                    try {
+                        cancelled.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        assertTrue(firstResult.await(10, TimeUnit.SECONDS));
+        run.cancel();
+        // the task passing its result is still running
+        assertFalse(run.await(100, TimeUnit.MILLISECONDS));
+        assertFalse(run.isDone());
+        cancelled.countDown();
+        assertTrue(run.await(10, TimeUnit.SECONDS));
+        assertTrue(run.isCancelled());
+        assertTrue(run.isDone());
+        assertEquals(1, resultCount.get());
+        assertTrue(run.getSubmittedCount() < 20);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.criteria.pnl.LossCriterion;
+import org.ta4j.core.criteria.pnl.ProfitCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossPercentageCriterion;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class IncrementalCriteriaTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    public IncrementalCriteriaTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void updatesWithEachClosedPosition() {
+        BarSeries series = new MockBarSeries(numFunction, 100, 195, 100, 80, 85, 70, 90, 90);
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        IncrementalCriteria criteria = new IncrementalCriteria(series, tradingRecord);
+
+        enterAndExit(series, tradingRecord, 0, 1);
+        assertEquals(1, criteria.getNumberOfPositions());
+        assertNumEquals(95, criteria.getProfitLoss());
+        assertNumEquals(0, criteria.getMaximumDrawdown());
+
+        tradingRecord.enter(2, series.getBar(2).getClosePrice(), series.one());
+        assertEquals(1, criteria.getNumberOfPositions());
+        tradingRecord.exit(5, series.getBar(5).getClosePrice(), series.one());
+        enterAndExit(series, tradingRecord, 6, 7);
+
+        assertCriteria(series, tradingRecord, criteria);
+        assertNumEquals(0.3, criteria.getMaximumDrawdown());
+    }
+
+    @Test
+    public void addsExistingPositions() {
+        BarSeries series = new MockBarSeries(numFunction, 100, 105, 110, 100, 95, 105);
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        enterAndExit(series, tradingRecord, 0, 2);
+        IncrementalCriteria criteria = new IncrementalCriteria(series, tradingRecord);
+        enterAndExit(series, tradingRecord, 3, 5);
+
+        assertCriteria(series, tradingRecord, criteria);
+    }
+
+    private static void enterAndExit(BarSeries series, TradingRecord tradingRecord, int entryIndex, int exitIndex) {
+        tradingRecord.enter(entryIndex, series.getBar(entryIndex).getClosePrice(), series.one());
+        tradingRecord.exit(exitIndex, series.getBar(exitIndex).getClosePrice(), series.one());
+    }
+
+    private static void assertCriteria(BarSeries series, TradingRecord tradingRecord, IncrementalCriteria criteria) {
+        assertEquals(tradingRecord.getPositionCount(), criteria.getNumberOfPositions());
+        assertNumEquals(new NumberOfWinningPositionsCriterion().calculate(series, tradingRecord),
+                series.numOf(criteria.getNumberOfWinningPositions()));
+        assertNumEquals(new NumberOfLosingPositionsCriterion().calculate(series, tradingRecord),
+                series.numOf(criteria.getNumberOfLosingPositions()));
+        assertNumEquals(new NumberOfBreakEvenPositionsCriterion().calculate(series, tradingRecord),
+                series.numOf(criteria.getNumberOfBreakEvenPositions()));
+        assertNumEquals(new ProfitLossCriterion().calculate(series, tradingRecord), criteria.getProfitLoss());
+        assertNumEquals(new ProfitCriterion().calculate(series, tradingRecord), criteria.getProfit());
+        assertNumEquals(new LossCriterion().calculate(series, tradingRecord), criteria.getLoss());
+        assertNumEquals(new ProfitLossPercentageCriterion().calculate(series, tradingRecord),
+                criteria.getProfitLossPercentage());
+        assertNumEquals(new SqnCriterion().calculate(series, tradingRecord), criteria.getSqn());
+    }
+}
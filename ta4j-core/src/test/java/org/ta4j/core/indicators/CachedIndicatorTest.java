@@ -30,8 +30,18 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -40,8 +50,10 @@ import org.ta4j.core.BaseBarSeriesBuilder;
 import org.ta4j.core.BaseStrategy;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Strategy;
+import org.ta4j.core.indicators.cache.RingBufferCache;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
+import org.ta4j.core.mocks.MockBar;
 import org.ta4j.core.mocks.MockBarSeries;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.rules.OverIndicatorRule;
@@ -184,4 +196,185 @@ public class CachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, N
 
     }
 
+    @Test
+    public void cacheLastBarUntilSeriesIsModified() {
+        BarSeries barSeries = new MockBarSeries(numFunction, 1, 2, 3);
+        Indicator<Num> closePrice = new ClosePriceIndicator(barSeries);
+        AtomicInteger calculations = new AtomicInteger();
+        CachedIndicator<Num> counting = new CachedIndicator<>(barSeries) {
+            @Override
+            protected Num calculate(int index) {
+                calculations.incrementAndGet();
+                return closePrice.getValue(index);
+            }
+
+            @Override
+            public int getUnstableBars() {
+                return 0;
+            }
+        };
+        assertFalse(counting.isLastBarCached());
+
+        assertNumEquals(3, counting.getValue(2));
+        assertNumEquals(3, counting.getValue(2));
+        assertEquals(1, calculations.get());
+
+        long modificationCount = barSeries.getModificationCount();
+        barSeries.addPrice(numOf(5));
+        assertTrue(barSeries.getModificationCount() > modificationCount);
+        assertNumEquals(5, counting.getValue(2));
+        assertNumEquals(5, counting.getValue(2));
+        assertEquals(2, calculations.get());
+
+        barSeries.addTrade(numOf(1), numOf(4));
+        assertNumEquals(4, counting.getValue(2));
+        assertEquals(3, calculations.get());
+
+        barSeries.addBar(new MockBar(barSeries.getLastBar().getEndTime(), 7, numFunction), true);
+        assertNumEquals(7, counting.getValue(2));
+        assertEquals(4, calculations.get());
+
+        // The last bar result is cached once the bar is no longer the last one
+        barSeries.addBar(new MockBar(barSeries.getLastBar().getEndTime().plusDays(1), 8, numFunction));
+        assertNumEquals(7, counting.getValue(2));
+        assertNumEquals(8, counting.getValue(3));
+        assertNumEquals(8, counting.getValue(3));
+        assertEquals(5, calculations.get());
+    }
+
+    @Test
+    public void cacheLastBarUntilInvalidated() {
+        BarSeries barSeries = new MockBarSeries(numFunction, 1, 2, 3);
+        Indicator<Num> closePrice = new ClosePriceIndicator(barSeries);
+        AtomicInteger calculations = new AtomicInteger();
+        CachedIndicator<Num> counting = new CachedIndicator<>(barSeries) {
+            @Override
+            protected Num calculate(int index) {
+                calculations.incrementAndGet();
+                return closePrice.getValue(index);
+            }
+
+            @Override
+            public int getUnstableBars() {
+                return 0;
+            }
+        };
+        counting.setLastBarCached(true);
+        assertTrue(counting.isLastBarCached());
+
+        assertNumEquals(3, counting.getValue(2));
+        assertNumEquals(3, counting.getValue(2));
+        assertEquals(1, calculations.get());
+
+        barSeries.addPrice(numOf(5));
+        assertNumEquals(3, counting.getValue(2));
+        counting.invalidateLastBar();
+        assertNumEquals(5, counting.getValue(2));
+        assertEquals(2, calculations.get());
+
+        // The last bar result is cached once the bar is no longer the last one
+        barSeries.addBar(new MockBar(barSeries.getLastBar().getEndTime().plusDays(1), 6, numFunction));
+        assertNumEquals(5, counting.getValue(2));
+        assertNumEquals(6, counting.getValue(3));
+        assertEquals(3, calculations.get());
+
+        counting.setLastBarCached(false);
+        assertNumEquals(6, counting.getValue(3));
+        assertEquals(4, calculations.get());
+    }
+
+    @Test
+    public void customCacheBackend() {
+        BarSeries barSeries = new MockBarSeries(numFunction, 1, 2, 3, 4, 5, 6);
+        Indicator<Num> closePrice = new ClosePriceIndicator(barSeries);
+        CachedIndicator<Num> doubled = new CachedIndicator<>(barSeries, new RingBufferCache<>(2)) {
+            @Override
+            protected Num calculate(int index) {
+                return closePrice.getValue(index).multipliedBy(numOf(2));
+            }
+
+            @Override
+            public int getUnstableBars() {
+                return 0;
+            }
+        };
+        for (int i = 0; i <= barSeries.getEndIndex(); i++) {
+            assertNumEquals(2 * (i + 1), doubled.getValue(i));
+        }
+        assertEquals(4, doubled.highestResultIndex);
+    }
+
+    @Test
+    public void movingSeriesKeepsCacheBounded() {
+        BarSeries barSeries = new MockBarSeries(numFunction, 0, 1, 2);
+        barSeries.setMaximumBarCount(3);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(barSeries), 2);
+        ZonedDateTime endTime = barSeries.getLastBar().getEndTime();
+        for (int i = 3; i < 1000; i++) {
+            barSeries.addBar(new MockBar(endTime.plusMinutes(i), i, numFunction));
+            int endIndex = barSeries.getEndIndex();
+            assertNumEquals((i - 1 + i) / 2d, sma.getValue(endIndex));
+            assertNumEquals((i - 2 + i - 1) / 2d, sma.getValue(endIndex - 1));
+        }
+    }
+
+    @Test
+    public void concurrentReadsCalculateEachResultOnce() throws Exception {
+        BarSeries barSeries = new MockBarSeries(numFunction);
+        Indicator<Num> closePrice = new ClosePriceIndicator(barSeries);
+        AtomicInteger calculations = new AtomicInteger();
+        CachedIndicator<Num> counting = new CachedIndicator<>(barSeries) {
+            @Override
+            protected Num calculate(int index) {
+                calculations.incrementAndGet();
+                return closePrice.getValue(index);
+            }
+
+            @Override
+            public int getUnstableBars() {
+                return 0;
+            }
+        };
+        int endIndex = barSeries.getEndIndex();
+        Callable<Num> readAll = () -> {
+            Num sum = numOf(0);
+            for (int i = 0; i < endIndex; i++) {
+                sum = sum.plus(counting.getValue(i));
+            }
+            return sum;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Num>> sums = executor
+                    .invokeAll(IntStream.range(0, 8).mapToObj(i -> readAll).collect(Collectors.toList()));
+            Num expected = readAll.call();
+            for (Future<Num> sum : sums) {
+                assertNumEquals(expected, sum.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(endIndex, calculations.get());
+    }
+
+    @Test
+    public void getValues() {
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        SMAIndicator expected = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        List<Num> values = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        sma.getValues(2, series.getEndIndex(), (value, index) -> {
+            values.add(value);
+            indexes.add(index);
+        });
+
+        assertEquals(series.getEndIndex() - 1, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(i + 2, (int) indexes.get(i));
+            assertNumEquals(expected.getValue(i + 2), values.get(i));
+        }
+        // All results but the one of the last bar have been cached
+        assertEquals(series.getEndIndex() - 1, sma.highestResultIndex);
+    }
 }
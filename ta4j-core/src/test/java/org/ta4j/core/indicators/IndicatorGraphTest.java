@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighPriceIndicator;
+import org.ta4j.core.indicators.helpers.LowPriceIndicator;
+import org.ta4j.core.indicators.helpers.PreviousValueIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+
+public class IndicatorGraphTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public IndicatorGraphTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void listsIndicatorsOfStrategiesInTopologicalOrder() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3, 4, 5);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, 2);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 4);
+        RSIIndicator rsi = new RSIIndicator(closePrice, 3);
+        Strategy strategy = new BaseStrategy(
+                new CrossedUpIndicatorRule(shortSma, longSma).and(new OverIndicatorRule(rsi, 50)),
+                new CrossedDownIndicatorRule(shortSma, longSma));
+
+        IndicatorGraph graph = IndicatorGraph.of(strategy);
+        List<Indicator<?>> indicators = graph.getIndicators();
+        assertTrue(indicators.containsAll(Arrays.asList(closePrice, shortSma, longSma, rsi)));
+        assertEquals(indicators.size(), graph.size());
+        for (int i = 0; i < indicators.size(); i++) {
+            for (Indicator<?> dependency : graph.getDependencies(indicators.get(i))) {
+                assertTrue(indicators.indexOf(dependency) < i);
+            }
+        }
+        assertTrue(indicators.indexOf(closePrice) < indicators.indexOf(shortSma));
+        assertEquals(1, indicators.stream().filter(indicator -> indicator == closePrice).count());
+    }
+
+    @Test
+    public void includesIndicatorsOfArraysAndHelpers() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3, 4, 5);
+        HighPriceIndicator high = new HighPriceIndicator(series);
+        LowPriceIndicator low = new LowPriceIndicator(series);
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        StochasticOscillatorKIndicator k = new StochasticOscillatorKIndicator(close, 3, high, low);
+
+        List<Indicator<?>> indicators = IndicatorGraph.of(Arrays.asList(k)).getIndicators();
+        assertTrue(indicators.containsAll(Arrays.asList(high, low, close)));
+        assertEquals(k, indicators.get(indicators.size() - 1));
+    }
+
+    @Test
+    public void handlesDeepIndicatorChains() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3);
+        Indicator<Num> indicator = new ClosePriceIndicator(series);
+        for (int i = 0; i < 10_000; i++) {
+            indicator = new PreviousValueIndicator(indicator);
+        }
+
+        IndicatorGraph graph = IndicatorGraph.of(Arrays.asList(indicator));
+        assertEquals(10_001, graph.size());
+        assertEquals(indicator, graph.getIndicators().get(10_000));
+    }
+
+    @Test
+    public void precompute() {
+        BarSeries series = longSeries();
+        Indicator<Num> closePrice = new ClosePriceIndicator(series);
+        TripleEMAIndicator tema = new TripleEMAIndicator(closePrice, 20);
+        HMAIndicator hma = new HMAIndicator(closePrice, 9);
+        IndicatorGraph graph = IndicatorGraph.of(new BaseStrategy(new OverIndicatorRule(tema, hma),
+                new CrossedDownIndicatorRule(tema, hma)));
+
+        graph.precompute();
+        assertPrecomputed(graph, series);
+        assertNumEquals(new TripleEMAIndicator(closePrice, 20).getValue(1500), tema.getValue(1500));
+        assertNumEquals(new HMAIndicator(closePrice, 9).getValue(1500), hma.getValue(1500));
+    }
+
+    @Test
+    public void precomputeInParallel() {
+        BarSeries series = longSeries();
+        Indicator<Num> closePrice = new ClosePriceIndicator(series);
+        TripleEMAIndicator tema = new TripleEMAIndicator(closePrice, 20);
+        KSTIndicator kst = new KSTIndicator(closePrice);
+        RSIIndicator rsi = new RSIIndicator(closePrice, 14);
+        IndicatorGraph graph = IndicatorGraph.of(Arrays.asList(tema, kst, rsi));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            graph.precompute(pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertPrecomputed(graph, series);
+        assertNumEquals(new TripleEMAIndicator(closePrice, 20).getValue(1999), tema.getValue(1999));
+        assertNumEquals(new KSTIndicator(closePrice).getValue(1999), kst.getValue(1999));
+        assertNumEquals(new RSIIndicator(closePrice, 14).getValue(1999), rsi.getValue(1999));
+    }
+
+    private BarSeries longSeries() {
+        double[] closePrices = new double[2000];
+        for (int i = 0; i < closePrices.length; i++) {
+            closePrices[i] = 100 + 10 * Math.sin(i / 13.0) + (i % 7);
+        }
+        return new MockBarSeries(numFunction, closePrices);
+    }
+
+    /**
+     * Verifies that all results of the cached indicators of {@code graph} but
+     * the one of the last bar are cached.
+     */
+    private static void assertPrecomputed(IndicatorGraph graph, BarSeries series) {
+        for (Indicator<?> indicator : graph.getIndicators()) {
+            if (indicator instanceof CachedIndicator) {
+                assertEquals(indicator.toString(), series.getEndIndex() - 1,
+                        ((CachedIndicator<?>) indicator).highestResultIndex);
+            }
+        }
+    }
+}
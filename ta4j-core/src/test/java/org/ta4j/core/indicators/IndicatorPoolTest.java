@@ -0,0 +1,119 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.helpers.TransformIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class IndicatorPoolTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public IndicatorPoolTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void sharesStructurallyEqualIndicators() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 3, 2, 5, 4, 6, 8, 7);
+        IndicatorPool pool = new IndicatorPool();
+        ClosePriceIndicator closePrice = pool.share(new ClosePriceIndicator(series));
+        assertSame(closePrice, pool.share(new ClosePriceIndicator(series)));
+        assertSame(closePrice, pool.share(closePrice));
+
+        SMAIndicator sma = pool.share(new SMAIndicator(closePrice, 3));
+        assertSame(sma, pool.share(new SMAIndicator(closePrice, 3)));
+        assertSame(sma, pool.share(new SMAIndicator(new ClosePriceIndicator(series), 3)));
+        assertNotSame(sma, pool.share(new SMAIndicator(closePrice, 4)));
+        assertNotSame(sma, pool.share(new EMAIndicator(closePrice, 3)));
+
+        RSIIndicator rsi = pool.share(new RSIIndicator(closePrice, 3));
+        assertSame(rsi, pool.share(new RSIIndicator(closePrice, 3)));
+        HighestValueIndicator highest = pool.share(new HighestValueIndicator(closePrice, 3));
+        assertSame(highest, pool.share(new HighestValueIndicator(closePrice, 3)));
+
+        assertEquals(6, pool.size());
+    }
+
+    @Test
+    public void doesNotShareIndicatorsOfOtherSeries() {
+        BarSeries series1 = new MockBarSeries(numFunction, 1, 2, 3);
+        BarSeries series2 = new MockBarSeries(numFunction, 1, 2, 3);
+        IndicatorPool pool = new IndicatorPool();
+
+        assertNotSame(pool.share(new ClosePriceIndicator(series1)), pool.share(new ClosePriceIndicator(series2)));
+    }
+
+    @Test
+    public void doesNotShareCapturingLambdas() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3);
+        IndicatorPool pool = new IndicatorPool();
+        ClosePriceIndicator closePrice = pool.share(new ClosePriceIndicator(series));
+
+        assertNotSame(pool.share(TransformIndicator.multiply(closePrice, 2)),
+                pool.share(TransformIndicator.multiply(closePrice, 3)));
+    }
+
+    @Test
+    public void sharedIndicatorCalculatesOnce() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 3, 2, 5, 4, 6, 8, 7);
+        IndicatorPool pool = new IndicatorPool();
+        AtomicInteger calculations = new AtomicInteger();
+        Indicator<Num> counted = new CachedIndicator<Num>(series) {
+            @Override
+            protected Num calculate(int index) {
+                calculations.incrementAndGet();
+                return getBarSeries().getClosePrice(index);
+            }
+
+            @Override
+            public int getUnstableBars() {
+                return 0;
+            }
+        };
+        Indicator<Num> input = pool.share(counted);
+
+        SMAIndicator sma1 = pool.share(new SMAIndicator(input, 3));
+        SMAIndicator sma2 = pool.share(new SMAIndicator(input, 3));
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            sma1.getValue(i);
+            sma2.getValue(i);
+        }
+
+        assertSame(sma1, sma2);
+        // the last bar is cached until the series is modified
+        assertEquals(series.getBarCount(), calculations.get());
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.helpers.LowestValueIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class IndicatorRegistryTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public IndicatorRegistryTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void sharesIndicatorsBySourceAndParameters() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 3, 2, 5, 4);
+        Indicator<Num> closePrice = new ClosePriceIndicator(series);
+        IndicatorRegistry registry = IndicatorRegistry.of(series);
+        assertSame(registry, IndicatorRegistry.of(series));
+
+        HighestValueIndicator highest = registry.highestValue(closePrice, 3);
+        assertSame(highest, registry.highestValue(closePrice, 3));
+        assertNotSame(highest, registry.highestValue(closePrice, 4));
+        assertNotSame(highest, registry.highestValue(new ClosePriceIndicator(series), 3));
+        assertNumEquals(5, highest.getValue(4));
+
+        LowestValueIndicator lowest = registry.lowestValue(closePrice, 3);
+        assertSame(lowest, registry.lowestValue(closePrice, 3));
+        assertNumEquals(2, lowest.getValue(4));
+    }
+
+    @Test
+    public void registriesArePerSeries() {
+        BarSeries series1 = new MockBarSeries(numFunction, 1, 2, 3);
+        BarSeries series2 = new MockBarSeries(numFunction, 1, 2, 3);
+        assertNotSame(IndicatorRegistry.of(series1), IndicatorRegistry.of(series2));
+    }
+
+    @Test
+    public void nullSeriesIsNotRegistered() {
+        assertNotSame(IndicatorRegistry.of(null), IndicatorRegistry.of(null));
+    }
+}
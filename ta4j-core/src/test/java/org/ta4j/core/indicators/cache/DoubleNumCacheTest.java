@@ -0,0 +1,61 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.num.NaN.NaN;
+
+import org.junit.Test;
+import org.ta4j.core.num.DoubleNum;
+
+public class DoubleNumCacheTest {
+
+    @Test
+    public void doubleRingBuffer() {
+        DoubleRingBuffer buffer = new DoubleRingBuffer(3);
+        assertFalse(buffer.contains(0));
+        buffer.put(0, 1.5);
+        buffer.put(1, Double.NaN);
+        buffer.put(3, 4.5);
+        assertFalse(buffer.contains(0));
+        assertTrue(buffer.contains(1));
+        assertTrue(Double.isNaN(buffer.get(1)));
+        assertFalse(buffer.contains(2));
+        assertEquals(4.5, buffer.get(3), 0);
+    }
+
+    @Test
+    public void storesDoubleNumResults() {
+        DoubleNumCache cache = new DoubleNumCache(Integer.MAX_VALUE);
+        cache.put(0, DoubleNum.valueOf(1.25));
+        cache.put(1, NaN);
+        assertEquals(DoubleNum.valueOf(1.25), cache.get(0));
+        assertEquals(NaN, cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals(1, cache.getHighestIndex());
+    }
+}
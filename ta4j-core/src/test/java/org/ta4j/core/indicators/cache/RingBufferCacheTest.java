@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class RingBufferCacheTest {
+
+    @Test
+    public void putAndGet() {
+        RingBufferCache<String> cache = new RingBufferCache<>(Integer.MAX_VALUE);
+        assertEquals(-1, cache.getHighestIndex());
+        assertNull(cache.get(0));
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertEquals(99, cache.getHighestIndex());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("v" + i, cache.get(i));
+        }
+        assertNull(cache.get(100));
+        assertNull(cache.get(-1));
+    }
+
+    @Test
+    public void gapsAreEmpty() {
+        RingBufferCache<String> cache = new RingBufferCache<>(Integer.MAX_VALUE);
+        cache.put(5, "v5");
+        cache.put(20, "v20");
+        cache.put(2, "v2");
+        assertEquals("v2", cache.get(2));
+        assertEquals("v5", cache.get(5));
+        assertEquals("v20", cache.get(20));
+        for (int i = 0; i < 25; i++) {
+            if (i != 2 && i != 5 && i != 20) {
+                assertNull(cache.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void evictsOldestResults() {
+        RingBufferCache<String> cache = new RingBufferCache<>(10);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, "v" + i);
+        }
+        for (int i = 990; i < 1000; i++) {
+            assertEquals("v" + i, cache.get(i));
+        }
+        assertNull(cache.get(989));
+
+        // too old to be stored
+        cache.put(989, "v989");
+        assertNull(cache.get(989));
+
+        // a jump over the whole window leaves no stale results
+        cache.put(1015, "v1015");
+        for (int i = 1000; i < 1015; i++) {
+            assertNull(cache.get(i));
+        }
+        assertEquals("v1015", cache.get(1015));
+    }
+
+    @Test
+    public void setMaximumSize() {
+        RingBufferCache<String> cache = new RingBufferCache<>(Integer.MAX_VALUE);
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, "v" + i);
+        }
+        cache.setMaximumSize(5);
+        assertNull(cache.get(44));
+        for (int i = 45; i < 50; i++) {
+            assertEquals("v" + i, cache.get(i));
+        }
+        cache.put(50, "v50");
+        assertNull(cache.get(45));
+        assertEquals("v50", cache.get(50));
+
+        cache.clear();
+        assertEquals(-1, cache.getHighestIndex());
+        assertNull(cache.get(50));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maximumSizeMustBePositive() {
+        new RingBufferCache<String>(0);
+    }
+}
@@ -110,4 +110,25 @@ public class HighestValueIndicatorTest extends AbstractIndicatorTest<Indicator<N
                 assertEquals(series.getBar(i).getClosePrice().toString(), highestValue.getValue(i).toString());
         }
     }
+
+    @Test
+    public void slidingWindowMatchesWindowScan() {
+        double[] closes = new double[2000];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 100 + 10 * Math.sin(i / 3d) + (i * 7919 % 31);
+        }
+        Indicator<Num> closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, closes));
+        int barCount = 50;
+        HighestValueIndicator serial = new HighestValueIndicator(closePrice, barCount);
+        HighestValueIndicator random = new HighestValueIndicator(closePrice, barCount);
+        for (int i = 0; i < closes.length; i++) {
+            double expected = closes[i];
+            for (int j = Math.max(0, i - barCount + 1); j < i; j++) {
+                expected = Math.max(expected, closes[j]);
+            }
+            assertNumEquals(expected, serial.getValue(i));
+            int randomIndex = i * 7 % closes.length;
+            assertNumEquals(serial.getValue(randomIndex).doubleValue(), random.getValue(randomIndex));
+        }
+    }
 }
@@ -111,4 +111,25 @@ public class LowestValueIndicatorTest extends AbstractIndicatorTest<Indicator<Nu
                         lowestValue.getValue(i).toString());
         }
     }
+
+    @Test
+    public void slidingWindowMatchesWindowScan() {
+        double[] closes = new double[2000];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 100 + 10 * Math.sin(i / 3d) + (i * 7919 % 31);
+        }
+        Indicator<Num> closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, closes));
+        int barCount = 50;
+        LowestValueIndicator serial = new LowestValueIndicator(closePrice, barCount);
+        LowestValueIndicator random = new LowestValueIndicator(closePrice, barCount);
+        for (int i = 0; i < closes.length; i++) {
+            double expected = closes[i];
+            for (int j = Math.max(0, i - barCount + 1); j < i; j++) {
+                expected = Math.min(expected, closes[j]);
+            }
+            assertNumEquals(expected, serial.getValue(i));
+            int randomIndex = i * 7 % closes.length;
+            assertNumEquals(serial.getValue(randomIndex).doubleValue(), random.getValue(randomIndex));
+        }
+    }
 }
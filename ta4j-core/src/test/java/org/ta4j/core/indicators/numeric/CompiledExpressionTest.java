@@ -0,0 +1,93 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.numeric;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class CompiledExpressionTest extends AbstractIndicatorTest<NumericIndicator, Num> {
+
+    private final BarSeries series = new MockBarSeries(numFunction, 1, 2, 3, 4, 5, 6, 7, 8, 9, 8, 7, 6, 5, 4, 3, 2, 1,
+            0, -1, -2);
+    private final ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+    private final EMAIndicator ema = new EMAIndicator(closePrice, 3);
+
+    public CompiledExpressionTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    private NumericIndicator expression() {
+        NumericIndicator close = NumericIndicator.of(closePrice);
+        NumericIndicator spread = close.minus(ema);
+        NumericIndicator sum = close.plus(ema).plus(NumericIndicator.of(ema).plus(closePrice));
+        return spread.squared().plus(spread.abs()).plus(sum).dividedBy(close.sqrt().max(1));
+    }
+
+    @Test
+    public void sameValuesAsExpression() {
+        NumericIndicator expression = expression();
+        CompiledExpression compiled = expression.compile();
+
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertNumEquals(expression.getValue(i), compiled.getValue(i));
+        }
+    }
+
+    @Test
+    public void eliminateCommonSubexpressions() {
+        // close, ema, spread, spread², |spread|, spread² + |spread|, close + ema,
+        // (close + ema) + (ema + close), their sum, sqrt(close), 1, max, quotient
+        assertEquals(13, expression().compile().getNodeCount());
+        // close, 2, close * 2, (close * 2) + (close * 2)
+        assertEquals(4, NumericIndicator.of(closePrice)
+                .multipliedBy(2)
+                .plus(NumericIndicator.of(closePrice).multipliedBy(2))
+                .compile()
+                .getNodeCount());
+    }
+
+    @Test
+    public void doubleValues() {
+        NumericIndicator expression = expression();
+        CompiledExpression compiled = expression.compile();
+
+        double[] values = compiled.getDoubles(2, series.getEndIndex());
+        assertEquals(series.getEndIndex() - 1, values.length);
+        for (int i = 2; i <= series.getEndIndex(); i++) {
+            double expected = expression.getValue(i).doubleValue();
+            assertEquals(expected, values[i - 2], 1e-9);
+            assertEquals(expected, compiled.getDouble(i), 1e-9);
+        }
+    }
+}
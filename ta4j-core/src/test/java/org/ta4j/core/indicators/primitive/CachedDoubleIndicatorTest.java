@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.GENERAL_OFFSET;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.ConstantIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class CachedDoubleIndicatorTest extends AbstractIndicatorTest<DoubleIndicator, Num> {
+
+    private BarSeries series;
+
+    public CachedDoubleIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(numFunction, 1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+    }
+
+    @Test
+    public void ifCacheWorks() {
+        DoubleSMAIndicator sma = new DoubleSMAIndicator(new DoubleClosePriceIndicator(series), 3);
+        double firstTime = sma.getDouble(4);
+        double secondTime = sma.getDouble(4);
+        assertEquals(firstTime, secondTime, 0);
+    }
+
+    @Test
+    public void recursiveIndicatorDoesNotOverflowTheStack() {
+        BarSeries longSeries = new MockBarSeries(numFunction);
+        DoubleEMAIndicator ema = new DoubleEMAIndicator(new DoubleClosePriceIndicator(longSeries), 10);
+        Indicator<Num> expected = new EMAIndicator(new ClosePriceIndicator(longSeries), 10);
+        int index = longSeries.getEndIndex() - 1;
+        assertEquals(expected.getValue(index).doubleValue(), ema.getDouble(index), GENERAL_OFFSET);
+    }
+
+    @Test
+    public void lastBarIsNotCached() {
+        DoubleClosePriceIndicator closePrice = new DoubleClosePriceIndicator(series);
+        DoubleSMAIndicator sma = new DoubleSMAIndicator(closePrice, 2);
+        assertEquals(2.5, sma.getDouble(series.getEndIndex()), GENERAL_OFFSET);
+        series.addPrice(numOf(4));
+        assertEquals(3.5, sma.getDouble(series.getEndIndex()), GENERAL_OFFSET);
+    }
+
+    @Test
+    public void lastBarIsCachedUntilSeriesIsModified() {
+        AtomicInteger calculations = new AtomicInteger();
+        DoubleClosePriceIndicator closePrice = new DoubleClosePriceIndicator(series);
+        CachedDoubleIndicator counting = new CachedDoubleIndicator(series) {
+            @Override
+            protected double calculate(int index) {
+                calculations.incrementAndGet();
+                return closePrice.getDouble(index);
+            }
+
+            @Override
+            public int getUnstableBars() {
+                return 0;
+            }
+        };
+        int endIndex = series.getEndIndex();
+        assertEquals(2, counting.getDouble(endIndex), 0);
+        int calculated = calculations.get();
+        assertEquals(2, counting.getDouble(endIndex), 0);
+        assertEquals(calculated, calculations.get());
+
+        series.addPrice(numOf(4));
+        assertEquals(4, counting.getDouble(endIndex), 0);
+        assertEquals(calculated + 1, calculations.get());
+
+        // The last bar value is cached once the bar is no longer the last one
+        series.addBar(new MockBar(series.getLastBar().getEndTime().plusDays(1), 5, numFunction));
+        assertEquals(5, counting.getDouble(endIndex + 1), 0);
+        assertEquals(4, counting.getDouble(endIndex), 0);
+        assertEquals(calculated + 2, calculations.get());
+    }
+
+    @Test
+    public void movingSeries() {
+        series.setMaximumBarCount(5);
+        DoubleSMAIndicator sma = new DoubleSMAIndicator(new DoubleClosePriceIndicator(series), 2);
+        Indicator<Num> expected = new SMAIndicator(new ClosePriceIndicator(series), 2);
+        for (int i = 0; i < 200; i++) {
+            series.addBar(new MockBar(i % 7, numFunction));
+            int endIndex = series.getEndIndex();
+            assertEquals(expected.getValue(endIndex - 1).doubleValue(), sma.getDouble(endIndex - 1),
+                    GENERAL_OFFSET);
+            assertEquals(expected.getValue(endIndex).doubleValue(), sma.getDouble(endIndex), GENERAL_OFFSET);
+        }
+        // removed bars fall back to the first available one
+        assertEquals(sma.getDouble(series.getBeginIndex()), sma.getDouble(0), 0);
+    }
+
+    @Test
+    public void adapters() {
+        Indicator<Num> closePrice = new ClosePriceIndicator(series);
+        DoubleIndicator doubleClosePrice = DoubleIndicator.of(closePrice);
+        assertSame(closePrice, doubleClosePrice.toNumIndicator());
+        assertIndicatorEquals(closePrice, new DoubleClosePriceIndicator(series).toNumIndicator());
+
+        DoubleSMAIndicator sma = new DoubleSMAIndicator(doubleClosePrice, 3);
+        assertSame(sma, DoubleIndicator.of(sma.toNumIndicator()));
+        assertIndicatorEquals(new SMAIndicator(closePrice, 3), sma.toNumIndicator());
+    }
+
+    @Test
+    public void nanIsConvertedInBothDirections() {
+        DoubleIndicator nan = DoubleIndicator.of(new ConstantIndicator<>(series, NaN));
+        assertTrue(Double.isNaN(nan.getDouble(0)));
+        assertTrue(new DoubleSMAIndicator(nan, 2).toNumIndicator().getValue(3).isNaN());
+    }
+}
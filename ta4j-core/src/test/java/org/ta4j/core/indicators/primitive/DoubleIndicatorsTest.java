@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+
+import java.time.ZonedDateTime;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.MMAIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsLowerIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.helpers.LowestValueIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.num.Num;
+
+/**
+ * Verifies the primitive indicators against their {@code Num}-based
+ * counterparts.
+ */
+public class DoubleIndicatorsTest extends AbstractIndicatorTest<DoubleIndicator, Num> {
+
+    private BarSeries series;
+    private Indicator<Num> closePrice;
+    private DoubleIndicator doubleClosePrice;
+
+    public DoubleIndicatorsTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        ZonedDateTime time = ZonedDateTime.now().minusDays(500);
+        for (int i = 0; i < 300; i++) {
+            double close = 100 + 10 * Math.sin(i / 7.0) + (i % 5);
+            double open = close - Math.cos(i / 3.0);
+            double high = Math.max(open, close) + 1 + (i % 3);
+            double low = Math.min(open, close) - 1 - (i % 4);
+            series.addBar(new MockBar(time.plusDays(i), open, close, high, low, 1000 + i, 0, 0, numFunction));
+        }
+        closePrice = new ClosePriceIndicator(series);
+        doubleClosePrice = new DoubleClosePriceIndicator(series);
+    }
+
+    @Test
+    public void sma() {
+        for (int barCount : new int[] { 1, 3, 14, 50 }) {
+            assertIndicatorEquals(new SMAIndicator(closePrice, barCount),
+                    new DoubleSMAIndicator(doubleClosePrice, barCount).toNumIndicator());
+        }
+    }
+
+    @Test
+    public void emaAndMma() {
+        assertIndicatorEquals(new EMAIndicator(closePrice, 10),
+                new DoubleEMAIndicator(doubleClosePrice, 10).toNumIndicator());
+        assertIndicatorEquals(new MMAIndicator(closePrice, 10),
+                new DoubleMMAIndicator(doubleClosePrice, 10).toNumIndicator());
+    }
+
+    @Test
+    public void rsi() {
+        assertIndicatorEquals(new RSIIndicator(closePrice, 14),
+                new DoubleRSIIndicator(doubleClosePrice, 14).toNumIndicator());
+    }
+
+    @Test
+    public void atr() {
+        assertIndicatorEquals(new ATRIndicator(series, 14), new DoubleATRIndicator(series, 14).toNumIndicator());
+    }
+
+    @Test
+    public void macd() {
+        MACDIndicator macd = new MACDIndicator(closePrice, 12, 26);
+        DoubleMACDIndicator doubleMacd = new DoubleMACDIndicator(doubleClosePrice, 12, 26);
+        assertIndicatorEquals(macd, doubleMacd.toNumIndicator());
+        assertIndicatorEquals(macd.getSignalLine(9), doubleMacd.getSignalLine(9).toNumIndicator());
+    }
+
+    @Test
+    public void bollingerBands() {
+        BollingerBandsMiddleIndicator middle = new BollingerBandsMiddleIndicator(new SMAIndicator(closePrice, 20));
+        StandardDeviationIndicator deviation = new StandardDeviationIndicator(closePrice, 20);
+        DoubleSMAIndicator doubleMiddle = new DoubleSMAIndicator(doubleClosePrice, 20);
+        DoubleStandardDeviationIndicator doubleDeviation = new DoubleStandardDeviationIndicator(doubleClosePrice,
+                20);
+
+        assertIndicatorEquals(deviation, doubleDeviation.toNumIndicator());
+        assertIndicatorEquals(new BollingerBandsUpperIndicator(middle, deviation),
+                new DoubleBollingerBandsUpperIndicator(doubleMiddle, doubleDeviation).toNumIndicator());
+        assertIndicatorEquals(new BollingerBandsLowerIndicator(middle, deviation, numOf(1.5)),
+                new DoubleBollingerBandsLowerIndicator(doubleMiddle, doubleDeviation, 1.5).toNumIndicator());
+    }
+
+    @Test
+    public void highestAndLowestValue() {
+        for (int barCount : new int[] { 1, 5, 60 }) {
+            assertIndicatorEquals(new HighestValueIndicator(closePrice, barCount),
+                    new DoubleHighestValueIndicator(doubleClosePrice, barCount).toNumIndicator());
+            assertIndicatorEquals(new LowestValueIndicator(closePrice, barCount),
+                    new DoubleLowestValueIndicator(doubleClosePrice, barCount).toNumIndicator());
+        }
+    }
+
+    @Test
+    public void getDoubles() {
+        assertDoublesEqual(new DoubleSMAIndicator(doubleClosePrice, 14), new DoubleSMAIndicator(doubleClosePrice, 14));
+        assertDoublesEqual(new DoubleEMAIndicator(doubleClosePrice, 10), new DoubleEMAIndicator(doubleClosePrice, 10));
+        assertDoublesEqual(new DoubleMMAIndicator(doubleClosePrice, 10), new DoubleMMAIndicator(doubleClosePrice, 10));
+        assertDoublesEqual(new DoubleRSIIndicator(doubleClosePrice, 14), new DoubleRSIIndicator(doubleClosePrice, 14));
+        assertDoublesEqual(DoubleIndicator.of(new RSIIndicator(closePrice, 14)),
+                new DoubleRSIIndicator(doubleClosePrice, 14));
+        assertDoublesEqual(new DoubleStandardDeviationIndicator(doubleClosePrice, 20),
+                DoubleIndicator.of(new StandardDeviationIndicator(closePrice, 20)));
+        assertDoublesEqual(new DoubleHighestValueIndicator(doubleClosePrice, 5),
+                DoubleIndicator.of(new HighestValueIndicator(closePrice, 5)));
+        assertDoublesEqual(new DoubleLowestValueIndicator(doubleClosePrice, 5),
+                DoubleIndicator.of(new LowestValueIndicator(closePrice, 5)));
+    }
+
+    /**
+     * Verifies the range values of {@code batch} (in overlapping ranges) against
+     * the single values of {@code expected}.
+     */
+    private void assertDoublesEqual(DoubleIndicator batch, DoubleIndicator expected) {
+        double[] values = new double[series.getBarCount() + 1];
+        batch.getDoubles(0, 99, values, 1);
+        batch.getDoubles(50, series.getEndIndex(), values, 51);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(expected.getDouble(i), values[i + 1], 1e-10);
+            assertEquals(expected.getDouble(i), batch.getDouble(i), 1e-10);
+        }
+        assertArrayEquals(batch.getDoubles(10, 20), expected.getDoubles(10, 20), 1e-10);
+    }
+}
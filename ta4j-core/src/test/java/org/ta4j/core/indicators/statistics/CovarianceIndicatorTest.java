@@ -114,4 +114,35 @@ public class CovarianceIndicatorTest extends AbstractIndicatorTest<Indicator<Num
         assertNumEquals(0, covar.getValue(3));
         assertNumEquals(0, covar.getValue(8));
     }
+
+    @Test
+    public void rollingCovarianceMatchesWindowScan() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        double[] closes = new double[1000];
+        double[] volumes = new double[closes.length];
+        ZonedDateTime endTime = ZonedDateTime.now();
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 1000 + 50 * Math.sin(i / 7d) + i % 13;
+            volumes[i] = 500 + 100 * Math.cos(i / 5d) + i % 7;
+            series.addBar(new MockBar(endTime.plusMinutes(i), closes[i], volumes[i], numFunction));
+        }
+        int barCount = 200;
+        CovarianceIndicator covar = new CovarianceIndicator(new ClosePriceIndicator(series),
+                new VolumeIndicator(series), barCount);
+        for (int i = 0; i < closes.length; i++) {
+            int startIndex = Math.max(0, i - barCount + 1);
+            int n = i - startIndex + 1;
+            double mean1 = 0;
+            double mean2 = 0;
+            for (int j = startIndex; j <= i; j++) {
+                mean1 += closes[j] / n;
+                mean2 += volumes[j] / n;
+            }
+            double expected = 0;
+            for (int j = startIndex; j <= i; j++) {
+                expected += (closes[j] - mean1) * (volumes[j] - mean2) / n;
+            }
+            assertNumEquals(expected, covar.getValue(i));
+        }
+    }
 }
@@ -89,4 +89,31 @@ public class VarianceIndicatorTest extends AbstractIndicatorTest<Indicator<Num>,
         assertNumEquals(2.25, var.getValue(9));
         assertNumEquals(20.25, var.getValue(10));
     }
+
+    @Test
+    public void rollingVarianceMatchesWindowScan() {
+        double[] closes = new double[1000];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 1000 + 50 * Math.sin(i / 7d) + i % 13;
+        }
+        Indicator<Num> closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, closes));
+        int barCount = 200;
+        VarianceIndicator serial = new VarianceIndicator(closePrice, barCount);
+        VarianceIndicator random = new VarianceIndicator(closePrice, barCount);
+        for (int i = 0; i < closes.length; i++) {
+            int startIndex = Math.max(0, i - barCount + 1);
+            double mean = 0;
+            for (int j = startIndex; j <= i; j++) {
+                mean += closes[j] / (i - startIndex + 1);
+            }
+            double expected = 0;
+            for (int j = startIndex; j <= i; j++) {
+                expected += (closes[j] - mean) * (closes[j] - mean) / (i - startIndex + 1);
+            }
+            assertNumEquals(expected, serial.getValue(i));
+        }
+        for (int i = closes.length - 1; i >= 0; i--) {
+            assertNumEquals(serial.getValue(i).doubleValue(), random.getValue(i));
+        }
+    }
 }
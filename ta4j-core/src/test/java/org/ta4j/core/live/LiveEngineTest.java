@@ -0,0 +1,201 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.live;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.AbstractIndicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.helpers.LowestValueIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
+
+public class LiveEngineTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public LiveEngineTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void emitsSignalsOfNewBarsAndTrades() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 1, 1);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        Strategy strategy = new BaseStrategy(new OverIndicatorRule(closePrice, sma),
+                new UnderIndicatorRule(closePrice, sma));
+
+        LiveEngine engine = new LiveEngine(series);
+        TradingRecord tradingRecord = engine.addStrategy(strategy);
+        List<LiveSignal> signals = new ArrayList<>();
+        engine.addListener(signal -> {
+            signals.add(signal);
+            if (signal.getType() == LiveSignal.Type.ENTER) {
+                signal.getTradingRecord().enter(signal.getIndex(), signal.getBar().getClosePrice(), numOf(1));
+            } else {
+                signal.getTradingRecord().exit(signal.getIndex(), signal.getBar().getClosePrice(), numOf(1));
+            }
+        });
+
+        ZonedDateTime endTime = series.getLastBar().getEndTime();
+        engine.onBar(new MockBar(endTime.plusDays(1), 1, numFunction));
+        assertTrue(signals.isEmpty());
+
+        engine.onBar(new MockBar(endTime.plusDays(2), 4, numFunction));
+        assertEquals(1, signals.size());
+        assertEquals(LiveSignal.Type.ENTER, signals.get(0).getType());
+        assertEquals(4, signals.get(0).getIndex());
+        assertFalse(signals.get(0).isIntrabar());
+        assertTrue(tradingRecord.getCurrentPosition().isOpened());
+
+        // (1 + 1 + 0.5) / 3 > 0.5
+        engine.onPrice(numOf(0.5));
+        assertEquals(2, signals.size());
+        assertEquals(LiveSignal.Type.EXIT, signals.get(1).getType());
+        assertEquals(4, signals.get(1).getIndex());
+        assertTrue(signals.get(1).isIntrabar());
+        assertTrue(tradingRecord.getCurrentPosition().isNew());
+        assertEquals(1, tradingRecord.getPositionCount());
+
+        assertEquals(3, engine.getEvaluationCount());
+        assertTrue(engine.getMaxLatencyNanos() >= engine.getLastLatencyNanos());
+        assertTrue(engine.getAverageLatencyNanos() > 0);
+    }
+
+    @Test
+    public void calculatesEachIndicatorOncePerUpdate() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        AtomicInteger calculations = new AtomicInteger();
+        CachedIndicator<Num> counting = new CachedIndicator<>(series) {
+            @Override
+            protected Num calculate(int index) {
+                calculations.incrementAndGet();
+                return closePrice.getValue(index);
+            }
+
+            @Override
+            public int getUnstableBars() {
+                return 0;
+            }
+        };
+        SMAIndicator sma = new SMAIndicator(counting, 2);
+        Strategy strategy = new BaseStrategy(new OverIndicatorRule(counting, sma),
+                new UnderIndicatorRule(counting, sma).or(new UnderIndicatorRule(counting, 0)));
+
+        LiveEngine engine = new LiveEngine(series);
+        engine.addStrategy(strategy);
+        engine.addStrategy(new BaseStrategy(new UnderIndicatorRule(sma, counting), new OverIndicatorRule(sma, 1)));
+        // close price, counting, running total, SMA and the constants 0 and 1
+        assertEquals(6, engine.getIndicators().size());
+        assertTrue(counting.isLastBarCached());
+
+        ZonedDateTime endTime = series.getLastBar().getEndTime();
+        engine.onBar(new MockBar(endTime.plusDays(1), 4, numFunction));
+        int afterFirstBar = calculations.get();
+        engine.onBar(new MockBar(endTime.plusDays(2), 5, numFunction));
+        assertEquals(afterFirstBar + 1, calculations.get());
+
+        engine.onTrade(numOf(1), numOf(7));
+        assertEquals(afterFirstBar + 2, calculations.get());
+        assertNumEquals(7, counting.getValue(series.getEndIndex()));
+        assertNumEquals(5.5, sma.getValue(series.getEndIndex()));
+
+        engine.onBarUpdate(new MockBar(endTime.plusDays(2), 9, numFunction));
+        assertEquals(afterFirstBar + 3, calculations.get());
+        assertNumEquals(6.5, sma.getValue(series.getEndIndex()));
+    }
+
+    @Test
+    public void readsInputsIndependentlyOfTheBarCountPerUpdate() {
+        double[] closePrices = new double[1000];
+        for (int i = 0; i < closePrices.length; i++) {
+            closePrices[i] = 100 + (i % 17);
+        }
+        BarSeries series = new MockBarSeries(numFunction, closePrices);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        AtomicInteger reads = new AtomicInteger();
+        Indicator<Num> input = new AbstractIndicator<>(series) {
+            @Override
+            public Num getValue(int index) {
+                reads.incrementAndGet();
+                return closePrice.getValue(index);
+            }
+
+            @Override
+            public int getUnstableBars() {
+                return 0;
+            }
+        };
+        SMAIndicator sma = new SMAIndicator(input, 500);
+        StandardDeviationIndicator deviation = new StandardDeviationIndicator(input, 500);
+        HighestValueIndicator highest = new HighestValueIndicator(input, 500);
+        LowestValueIndicator lowest = new LowestValueIndicator(input, 500);
+        LiveEngine engine = new LiveEngine(series);
+        engine.addStrategy(new BaseStrategy(new OverIndicatorRule(sma, deviation),
+                new OverIndicatorRule(highest, lowest)));
+
+        ZonedDateTime endTime = series.getLastBar().getEndTime();
+        engine.onBar(new MockBar(endTime.plusDays(1), 110, numFunction));
+        for (int tick = 0; tick < 5; tick++) {
+            int before = reads.get();
+            engine.onPrice(numOf(120 + tick));
+            // a few reads of the newest and the oldest values per indicator
+            assertTrue(reads.get() - before < 20);
+        }
+        assertNumEquals(new SMAIndicator(closePrice, 500).getValue(series.getEndIndex()),
+                sma.getValue(series.getEndIndex()));
+        assertNumEquals(new StandardDeviationIndicator(closePrice, 500).getValue(series.getEndIndex()),
+                deviation.getValue(series.getEndIndex()));
+        assertNumEquals(124, highest.getValue(series.getEndIndex()));
+        assertNumEquals(100, lowest.getValue(series.getEndIndex()));
+
+        int before = reads.get();
+        engine.onBar(new MockBar(endTime.plusDays(2), 90, numFunction));
+        assertTrue(reads.get() - before < 20);
+        assertNumEquals(90, lowest.getValue(series.getEndIndex()));
+    }
+}
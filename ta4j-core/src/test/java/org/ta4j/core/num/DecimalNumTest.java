@@ -25,6 +25,8 @@ package org.ta4j.core.num;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.ta4j.core.TestUtils.assertIndicatorEquals;
 import static org.ta4j.core.TestUtils.assertIndicatorNotEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
@@ -310,4 +312,37 @@ public class DecimalNumTest {
         assertFalse(decimalNum.equals(doubleNum));
     }
 
+    @Test
+    public void testNumOfReturnsCachedConstants() {
+        final Num num = DecimalNum.valueOf(3);
+
+        assertSame(num.numOf(2), num.numOf(2));
+        assertSame(num.numOf(-100), num.function().apply(-100L));
+        assertSame(num.numOf(0.5), num.numOf(0.5));
+        assertSame(num.numOf(-0.02), num.numOf(-0.02));
+        assertNotSame(num.numOf(100_000), num.numOf(100_000));
+        assertNotSame(num.numOf(0.125), num.numOf(0.125));
+
+        // cached constants are equal to their uncached values
+        assertEquals(DecimalNum.valueOf("2", 32).toString(), num.numOf(2).toString());
+        assertEquals(DecimalNum.valueOf("0.5", 32).toString(), num.numOf(0.5).toString());
+        assertEquals(DecimalNum.valueOf("0.07", 32).toString(), num.numOf(0.07).toString());
+        assertNumEquals(0.125, num.numOf(0.125));
+
+        // other precisions are not cached
+        final Num highPrecision = DecimalNum.valueOf("3", 64);
+        assertNotSame(highPrecision.numOf(2), highPrecision.numOf(2));
+        assertEquals(64, ((DecimalNum) highPrecision.numOf(2)).getMathContext().getPrecision());
+    }
+
+    @Test
+    public void testMathContextIsShared() {
+        final DecimalNum a = DecimalNum.valueOf(1);
+        final DecimalNum b = DecimalNum.valueOf("2.5");
+
+        assertSame(a.getMathContext(), b.getMathContext());
+        assertSame(a.getMathContext(), ((DecimalNum) a.dividedBy(b)).getMathContext());
+        assertSame(DecimalNum.valueOf("1", 64).getMathContext(), DecimalNum.valueOf("2", 64).getMathContext());
+    }
+
 }
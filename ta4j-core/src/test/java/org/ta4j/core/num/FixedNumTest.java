@@ -0,0 +1,261 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+
+public class FixedNumTest {
+
+    @Test
+    public void valueOfIsExactUpToScale() {
+        assertEquals("0.1", FixedNum.valueOf(0.1).toString());
+        assertEquals("1.005", FixedNum.valueOf(1.005).toString());
+        assertEquals("1.01", FixedNum.valueOf(1.005, 2).toString());
+        assertEquals("-1.01", FixedNum.valueOf(-1.005, 2).toString());
+        assertEquals("123.45678901", FixedNum.valueOf("123.456789005").toString());
+        assertEquals("42", FixedNum.valueOf(42).toString());
+        assertEquals(12345000000L, ((FixedNum) FixedNum.valueOf(123.45)).getUnscaledValue());
+        assertEquals(FixedNum.DEFAULT_SCALE, ((FixedNum) FixedNum.valueOf(1)).getScale());
+        assertEquals(new BigDecimal("0.30000000"), FixedNum.valueOf(0.3).bigDecimalValue());
+        assertEquals(0.3, FixedNum.valueOf(0.3).doubleValue(), 0);
+        assertEquals(-2, FixedNum.valueOf(-2.7).intValue());
+    }
+
+    @Test
+    public void arithmeticIsExact() {
+        Num a = FixedNum.valueOf(0.1);
+        Num b = FixedNum.valueOf(0.2);
+
+        assertEquals(FixedNum.valueOf(0.3), a.plus(b));
+        assertEquals(FixedNum.valueOf(-0.1), a.minus(b));
+        assertEquals(FixedNum.valueOf(0.02), a.multipliedBy(b));
+        assertEquals(FixedNum.valueOf(0.5), a.dividedBy(b));
+        assertEquals(FixedNum.valueOf("0.33333333"), FixedNum.valueOf(1).dividedBy(FixedNum.valueOf(3)));
+        assertEquals(FixedNum.valueOf("0.66666667"), FixedNum.valueOf(2).dividedBy(FixedNum.valueOf(3)));
+        assertEquals(FixedNum.valueOf("-0.66666667"), FixedNum.valueOf(-2).dividedBy(FixedNum.valueOf(3)));
+        assertEquals(FixedNum.valueOf(0.1), FixedNum.valueOf(1.3).remainder(FixedNum.valueOf(0.4)));
+        assertEquals(FixedNum.valueOf(0.04), b.pow(2));
+        assertEquals(FixedNum.valueOf(0.008), b.pow(3));
+        assertEquals(FixedNum.valueOf(1.5), FixedNum.valueOf(2.25).sqrt());
+        assertEquals(FixedNum.valueOf("1.41421356"), FixedNum.valueOf(2).sqrt());
+        assertEquals(FixedNum.valueOf("0.69314718"), FixedNum.valueOf(2).log());
+        assertNumEquals(8, FixedNum.valueOf(4).pow(FixedNum.valueOf(1.5)));
+    }
+
+    @Test
+    public void roundingFunctions() {
+        assertEquals(FixedNum.valueOf(2), FixedNum.valueOf(2.5).floor());
+        assertEquals(FixedNum.valueOf(3), FixedNum.valueOf(2.5).ceil());
+        assertEquals(FixedNum.valueOf(-3), FixedNum.valueOf(-2.5).floor());
+        assertEquals(FixedNum.valueOf(-2), FixedNum.valueOf(-2.5).ceil());
+        assertEquals(FixedNum.valueOf(2.5), FixedNum.valueOf(-2.5).abs());
+        assertEquals(FixedNum.valueOf(-2.5), FixedNum.valueOf(2.5).negate());
+    }
+
+    @Test
+    public void comparisons() {
+        Num a = FixedNum.valueOf(1.5);
+        Num b = FixedNum.valueOf(2);
+
+        assertTrue(a.isLessThan(b));
+        assertTrue(a.isLessThanOrEqual(a));
+        assertTrue(b.isGreaterThan(a));
+        assertTrue(b.isGreaterThanOrEqual(b));
+        assertTrue(a.isEqual(FixedNum.valueOf("1.50")));
+        assertFalse(a.isEqual(NaN));
+        assertEquals(a, a.min(b));
+        assertEquals(b, a.max(b));
+        assertTrue(FixedNum.valueOf(0).isZero());
+        assertTrue(FixedNum.valueOf(-1).isNegative());
+    }
+
+    @Test
+    public void differentScales() {
+        Num a = FixedNum.valueOf(1.25, 2);
+        Num b = FixedNum.valueOf(0.125, 3);
+
+        assertEquals(FixedNum.valueOf(1.375, 3), a.plus(b));
+        assertEquals(3, ((FixedNum) a.plus(b)).getScale());
+        assertEquals(FixedNum.valueOf(0.156, 3), a.multipliedBy(b));
+        assertEquals(FixedNum.valueOf(10), a.dividedBy(b));
+        assertTrue(a.isGreaterThan(b));
+
+        // equal values of different scales are equal
+        assertEquals(FixedNum.valueOf(1.5, 1), FixedNum.valueOf(1.5, 4));
+        assertEquals(FixedNum.valueOf(1.5, 1).hashCode(), FixedNum.valueOf(1.5, 4).hashCode());
+        assertNotEquals(FixedNum.valueOf(1.5, 1), FixedNum.valueOf(1.6, 4));
+    }
+
+    @Test
+    public void realisticMagnitudesAreNotPromoted() {
+        Num price = FixedNum.valueOf("45000.12345678");
+        Num product = price.multipliedBy(FixedNum.valueOf("1234.5"));
+        assertTrue(product instanceof FixedNum);
+        assertEquals(new BigDecimal("45000.12345678").multiply(new BigDecimal("1234.5")).setScale(8,
+                RoundingMode.HALF_UP), product.bigDecimalValue());
+
+        Num quotient = FixedNum.valueOf(45_000).dividedBy(FixedNum.valueOf("3.7"));
+        assertTrue(quotient instanceof FixedNum);
+        assertEquals(new BigDecimal("12162.16216216"), quotient.bigDecimalValue());
+
+        Num negative = FixedNum.valueOf("-45000.5").dividedBy(FixedNum.valueOf("0.3"));
+        assertTrue(negative instanceof FixedNum);
+        assertEquals(new BigDecimal("-150001.66666667"), negative.bigDecimalValue());
+    }
+
+    @Test
+    public void multiplicationAndDivisionMatchBigDecimal() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal a = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), 8);
+            BigDecimal b = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), 8);
+            Num fixedA = FixedNum.valueOf(a);
+            Num fixedB = FixedNum.valueOf(b);
+
+            BigDecimal product = a.multiply(b).setScale(8, RoundingMode.HALF_UP);
+            assertEquals(product.stripTrailingZeros(),
+                    fixedA.multipliedBy(fixedB).bigDecimalValue().setScale(8, RoundingMode.HALF_UP)
+                            .stripTrailingZeros());
+            if (b.signum() != 0) {
+                BigDecimal quotient = a.divide(b, 8, RoundingMode.HALF_UP);
+                Num fixedQuotient = fixedA.dividedBy(fixedB);
+                assertEquals(quotient.unscaledValue().bitLength() < Long.SIZE, fixedQuotient instanceof FixedNum);
+                assertEquals(quotient.stripTrailingZeros(),
+                        fixedQuotient.bigDecimalValue().setScale(8, RoundingMode.HALF_UP).stripTrailingZeros());
+            }
+        }
+    }
+
+    @Test
+    public void overflowPromotesToDecimalNum() {
+        Num max = FixedNum.ofUnscaled(Long.MAX_VALUE, 0);
+        Num one = FixedNum.valueOf(1, 0);
+
+        Num sum = max.plus(one);
+        assertTrue(sum instanceof DecimalNum);
+        assertEquals(new BigDecimal("9223372036854775808"), sum.bigDecimalValue());
+        Num difference = max.negate().minus(one).minus(one);
+        assertTrue(difference instanceof DecimalNum);
+        assertEquals(new BigDecimal("-9223372036854775809"), difference.bigDecimalValue());
+
+        Num large = FixedNum.valueOf(50_000_000_000L);
+        assertTrue(large instanceof FixedNum);
+        Num product = large.multipliedBy(large);
+        assertTrue(product instanceof DecimalNum);
+        assertEquals(new BigDecimal("2500000000000000000000"), product.bigDecimalValue().stripTrailingZeros()
+                .setScale(0));
+
+        // promoted numbers interoperate with fixed-point numbers
+        assertNumEquals("2500000000000000000001", product.plus(FixedNum.valueOf(1)));
+        assertNumEquals("2500000000000000000001", FixedNum.valueOf(1).plus(product));
+        assertTrue(product.isGreaterThan(large));
+        assertTrue(large.isLessThan(product));
+        assertNumEquals(1, product.dividedBy(large).dividedBy(large));
+
+        // inputs that are too large are promoted as well
+        assertTrue(FixedNum.valueOf(1e12) instanceof DecimalNum);
+        assertTrue(FixedNum.valueOf(Long.MAX_VALUE) instanceof DecimalNum);
+    }
+
+    @Test
+    public void nan() {
+        Num a = FixedNum.valueOf(1);
+
+        assertEquals(NaN, a.plus(NaN));
+        assertEquals(NaN, a.minus(NaN));
+        assertEquals(NaN, a.multipliedBy(NaN));
+        assertEquals(NaN, a.dividedBy(NaN));
+        assertEquals(NaN, a.dividedBy(a.zero()));
+        assertEquals(NaN, a.remainder(a.zero()));
+        assertEquals(NaN, a.negate().sqrt());
+        assertEquals(NaN, a.zero().log());
+        assertEquals(NaN, a.min(NaN));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void valueOfNaN() {
+        FixedNum.valueOf(Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void valueOfInvalidScale() {
+        FixedNum.valueOf(1, FixedNum.MAX_SCALE + 1);
+    }
+
+    @Test
+    public void barSeriesUsesScaleOfNumType() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(FixedNum.valueOf(0, 4)).build();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        series.addBar(time, 1.23456, 2, 1, 1.5);
+        series.addBar(time.plusDays(1), 1.5, 2.5, 1.25, 2.25);
+
+        assertEquals(FixedNum.class, series.num().getClass());
+        assertEquals(4, ((FixedNum) series.getBar(0).getOpenPrice()).getScale());
+        assertEquals("1.2346", series.getBar(0).getOpenPrice().toString());
+        assertEquals(FixedNum.valueOf(1.875), new SMAIndicator(new ClosePriceIndicator(series), 2).getValue(1));
+        assertEquals(FixedNum.class, new BaseBarSeriesBuilder().withNumTypeOf(FixedNum.class).build().num().getClass());
+    }
+
+    @Test
+    public void indicatorsMatchDecimalNum() {
+        BarSeries fixedSeries = new BaseBarSeriesBuilder().withNumTypeOf(FixedNum::valueOf).build();
+        BarSeries decimalSeries = new BaseBarSeriesBuilder().withNumTypeOf(DecimalNum::valueOf).build();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 200; i++) {
+            double close = Math.round((100 + 10 * Math.sin(i / 7d)) * 100) / 100d;
+            fixedSeries.addBar(time.plusDays(i), close, close + 1, close - 1, close);
+            decimalSeries.addBar(time.plusDays(i), close, close + 1, close - 1, close);
+        }
+
+        SMAIndicator fixedSma = new SMAIndicator(new ClosePriceIndicator(fixedSeries), 20);
+        SMAIndicator decimalSma = new SMAIndicator(new ClosePriceIndicator(decimalSeries), 20);
+        RSIIndicator fixedRsi = new RSIIndicator(new ClosePriceIndicator(fixedSeries), 14);
+        RSIIndicator decimalRsi = new RSIIndicator(new ClosePriceIndicator(decimalSeries), 14);
+        for (int i = 0; i < 200; i++) {
+            // sums of prices are exact
+            assertEquals(0, fixedSma.getValue(i).bigDecimalValue().compareTo(decimalSma.getValue(i)
+                    .bigDecimalValue()
+                    .setScale(FixedNum.DEFAULT_SCALE, java.math.RoundingMode.HALF_UP)));
+            assertNumEquals(decimalRsi.getValue(i).doubleValue(), fixedRsi.getValue(i));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.portfolio;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.GENERAL_OFFSET;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.analysis.CashFlow;
+import org.ta4j.core.analysis.Returns;
+import org.ta4j.core.analysis.Returns.ReturnType;
+import org.ta4j.core.analysis.cost.LinearTransactionCostModel;
+import org.ta4j.core.analysis.cost.ZeroCostModel;
+import org.ta4j.core.backtest.TradeOnCurrentCloseModel;
+import org.ta4j.core.backtest.TradeOnNextOpenModel;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.FixedRule;
+
+public class PortfolioManagerTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    public PortfolioManagerTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    /**
+     * @param days   the days (from {@link #START}) of the bars
+     * @param prices the open and close prices of the bars
+     */
+    private BarSeries series(String name, int[] days, double... prices) {
+        BarSeries series = new BaseBarSeriesBuilder().withName(name).withNumTypeOf(numFunction).build();
+        for (int i = 0; i < days.length; i++) {
+            series.addBar(START.plusDays(days[i]), prices[i], prices[i], prices[i], prices[i]);
+        }
+        return series;
+    }
+
+    private static PortfolioAsset asset(BarSeries series, int entryIndex, int exitIndex) {
+        return new PortfolioAsset(series,
+                new BaseStrategy(series.getName(), new FixedRule(entryIndex), new FixedRule(exitIndex)));
+    }
+
+    @Test
+    public void stepsSeriesOnMergedTimeline() {
+        BarSeries a = series("a", new int[] { 1, 2, 3, 4, 5 }, 10, 11, 12, 13, 14);
+        // no bar on day 3
+        BarSeries b = series("b", new int[] { 1, 2, 4, 5 }, 20, 22, 21, 24);
+        PortfolioManager manager = new PortfolioManager(Arrays.asList(asset(a, 1, 3), asset(b, 0, 2)), 1000,
+                PositionSizer.fixedAmount(10), new TradeOnCurrentCloseModel());
+
+        PortfolioResult result = manager.run();
+
+        assertEquals(5, result.getStepCount());
+        assertEquals(START.plusDays(3), result.getEndTime(2));
+        double[] expectedCash = { 800, 690, 690, 1030, 1030 };
+        double[] expectedEquity = { 1000, 1020, 1030, 1030, 1030 };
+        for (int step = 0; step < result.getStepCount(); step++) {
+            assertEquals(expectedCash[step], result.getCash(step), GENERAL_OFFSET);
+            assertEquals(expectedEquity[step], result.getEquity(step), GENERAL_OFFSET);
+        }
+        assertEquals(1030, result.getFinalEquity(), GENERAL_OFFSET);
+        assertEquals(1, result.getTradingRecords().get(0).getPositionCount());
+        assertEquals(1, result.getTradingRecords().get(1).getPositionCount());
+
+        CashFlow cashFlow = result.getCashFlow();
+        assertNumEquals(1, cashFlow.getValue(0));
+        assertNumEquals(1.02, cashFlow.getValue(1));
+        assertNumEquals(1.03, cashFlow.getValue(4));
+        Returns returns = result.getReturns(ReturnType.ARITHMETIC);
+        assertNumEquals(0, returns.getValue(0));
+        assertNumEquals(0.02, returns.getValue(1));
+        assertNumEquals(0, returns.getValue(3));
+    }
+
+    @Test
+    public void entriesShareTheAvailableCash() {
+        BarSeries a = series("a", new int[] { 1, 2, 3 }, 10, 10, 10);
+        BarSeries b = series("b", new int[] { 1, 2, 3 }, 20, 20, 20);
+        PortfolioManager manager = new PortfolioManager(Arrays.asList(asset(a, 0, 2), asset(b, 0, 2)), 150,
+                PositionSizer.fixedAmount(10), new TradeOnCurrentCloseModel());
+
+        PortfolioResult result = manager.run();
+
+        // a takes 100, b gets the 50 left
+        assertNumEquals(10, result.getTradingRecords().get(0).getLastEntry().getAmount());
+        assertNumEquals(2.5, result.getTradingRecords().get(1).getLastEntry().getAmount());
+        assertEquals(0, result.getCash(0), GENERAL_OFFSET);
+        assertEquals(150, result.getEquity(2), GENERAL_OFFSET);
+    }
+
+    @Test
+    public void entriesOnNextOpenShareTheAvailableCash() {
+        BarSeries a = series("a", new int[] { 1, 2, 3 }, 10, 10, 10);
+        BarSeries b = series("b", new int[] { 1, 2, 3 }, 10, 10, 10);
+        PortfolioManager manager = new PortfolioManager(Arrays.asList(asset(a, 0, 2), asset(b, 0, 2)), 100,
+                PositionSizer.fixedAmount(10), new TradeOnNextOpenModel());
+
+        PortfolioResult result = manager.run();
+
+        // the pending entry of a commits all the cash, b cannot enter
+        assertNumEquals(10, result.getTradingRecords().get(0).getLastEntry().getAmount());
+        assertEquals(0, result.getTradingRecords().get(1).getTrades().size());
+        assertEquals(100, result.getCash(0), GENERAL_OFFSET);
+        assertEquals(0, result.getCash(1), GENERAL_OFFSET);
+        assertEquals(100, result.getEquity(1), GENERAL_OFFSET);
+    }
+
+    @Test
+    public void entriesOnNextOpenAreCappedAtTheOpenPriceAndCosts() {
+        BarSeries a = new BaseBarSeriesBuilder().withName("a").withNumTypeOf(numFunction).build();
+        a.addBar(START.plusDays(1), 10, 10, 10, 10, 0);
+        // gap-up: opens at 12 after closing at 10
+        a.addBar(START.plusDays(2), 12, 12, 12, 12, 0);
+        PortfolioAsset asset = new PortfolioAsset(a, new BaseStrategy(new FixedRule(0), new FixedRule(5)),
+                new LinearTransactionCostModel(0.01), new ZeroCostModel());
+        PortfolioManager manager = new PortfolioManager(Arrays.asList(asset), 100, PositionSizer.fixedAmount(10),
+                new TradeOnNextOpenModel());
+
+        PortfolioResult result = manager.run();
+
+        // 10 at 12 would cost 120 + 1.2: capped to (100 - 1) / 12 = 8.25 (cost 0.99)
+        assertNumEquals(8.25, result.getTradingRecords().get(0).getLastEntry().getAmount());
+        assertEquals(100 - 99 - 0.99, result.getCash(1), GENERAL_OFFSET);
+    }
+
+    @Test
+    public void tradesOnNextOpenWithCosts() {
+        BarSeries a = series("a", new int[] { 1, 2, 3, 4 }, 10, 12, 15, 16);
+        PortfolioAsset asset = new PortfolioAsset(a, new BaseStrategy(new FixedRule(0), new FixedRule(1)),
+                new LinearTransactionCostModel(0.01), new ZeroCostModel());
+        PortfolioManager manager = new PortfolioManager(Arrays.asList(asset), 1000,
+                PositionSizer.fractionOfEquity(0.5), new TradeOnNextOpenModel());
+
+        PortfolioResult result = manager.run();
+
+        // entry decided at 0 (50 at 10), executed at the open of 1 (50 at 12, cost 6)
+        assertEquals(1000, result.getEquity(0), GENERAL_OFFSET);
+        assertEquals(1000 - 600 - 6, result.getCash(1), GENERAL_OFFSET);
+        assertEquals(1000 - 6, result.getEquity(1), GENERAL_OFFSET);
+        // exit decided at 1, executed at the open of 2 (50 at 15, cost 7.5)
+        assertEquals(1000 - 606 + 750 - 7.5, result.getCash(2), GENERAL_OFFSET);
+        assertEquals(result.getCash(2), result.getFinalEquity(), GENERAL_OFFSET);
+    }
+}
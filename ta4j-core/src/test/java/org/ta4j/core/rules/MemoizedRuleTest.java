@@ -0,0 +1,104 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.helper.ChainLink;
+
+public class MemoizedRuleTest {
+
+    private BarSeries series;
+    private CountingRule overTwo;
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(DecimalNum::valueOf, 1, 3, 2, 4, 1, 5);
+        Indicator<Num> closePrice = new ClosePriceIndicator(series);
+        overTwo = new CountingRule(new OverIndicatorRule(closePrice, 2));
+    }
+
+    @Test
+    public void isSatisfied() {
+        Rule rule = overTwo.memoized(series);
+        boolean[] expected = { false, true, false, true, false, true };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], rule.isSatisfied(i));
+            assertEquals(expected[i], rule.isSatisfied(i));
+        }
+        assertEquals(expected.length, overTwo.count);
+    }
+
+    @Test
+    public void lastBarIsRecalculatedWhenModified() {
+        Rule rule = new MemoizedRule(overTwo, series);
+        assertTrue(rule.isSatisfied(5));
+        assertTrue(rule.isSatisfied(5));
+        assertEquals(1, overTwo.count);
+
+        series.addPrice(series.numOf(1));
+        assertFalse(rule.isSatisfied(5));
+        assertEquals(2, overTwo.count);
+    }
+
+    @Test
+    public void chainRuleEvaluatesEachIndexOnce() {
+        Rule chain = new ChainRule(BooleanRule.TRUE, new ChainLink(overTwo.memoized(series), 3));
+        for (int i = 0; i < series.getBarCount(); i++) {
+            chain.isSatisfied(i);
+        }
+        assertEquals(series.getBarCount(), overTwo.count);
+    }
+
+    /**
+     * Counts the evaluations of a rule.
+     */
+    static final class CountingRule implements Rule {
+
+        private final Rule rule;
+        int count;
+
+        CountingRule(Rule rule) {
+            this.rule = rule;
+        }
+
+        @Override
+        public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+            count++;
+            return rule.isSatisfied(index, tradingRecord);
+        }
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.rules;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -53,4 +54,22 @@ public class OrRuleTest {
         assertTrue(unsatisfiedRule.or(BooleanRule.TRUE).isSatisfied(10));
         assertTrue(BooleanRule.TRUE.or(unsatisfiedRule).isSatisfied(10));
     }
+
+    @Test
+    public void adaptiveOrder() {
+        MemoizedRuleTest.CountingRule first = new MemoizedRuleTest.CountingRule(BooleanRule.FALSE);
+        MemoizedRuleTest.CountingRule second = new MemoizedRuleTest.CountingRule(BooleanRule.TRUE);
+        OrRule rule = new OrRule(first, second);
+        assertFalse(rule.isAdaptiveOrder());
+        rule.setAdaptiveOrder(true);
+        assertTrue(rule.isAdaptiveOrder());
+
+        for (int i = 0; i < 4 * EvaluationOrder.REORDER_INTERVAL; i++) {
+            assertTrue(rule.isSatisfied(i));
+        }
+        // The second rule, which alone decides the result, is evaluated first after
+        // the first reordering
+        assertEquals(EvaluationOrder.REORDER_INTERVAL, first.count);
+        assertEquals(4 * EvaluationOrder.REORDER_INTERVAL, second.count);
+    }
 }
@@ -0,0 +1,106 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2023 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.backtesting;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.backtest.OptimizationResult;
+import org.ta4j.core.backtest.ParameterOptimizer;
+import org.ta4j.core.criteria.pnl.ReturnCriterion;
+import org.ta4j.core.indicators.IndicatorPool;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+import ta4jexamples.loaders.JsonBarsSerializer;
+
+/**
+ * Finds the best moving average cross-over of
+ * {@link MovingAverageCrossOverRangeBacktest} with a {@link ParameterOptimizer}:
+ * all variants share their moving averages, so each moving average is
+ * calculated once instead of once per variant.
+ */
+public class MovingAverageCrossOverOptimization {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MovingAverageCrossOverOptimization.class);
+
+    public static void main(String[] args) {
+        Path jsonFilePath = Paths.get(System.getProperty("user.dir"), "src", "main", "resources",
+                "ETH-USD-PT5M-2023-3-13_2023-3-15.json");
+        if (!Files.exists(jsonFilePath)) {
+            LOG.error("File not found: {}", jsonFilePath);
+            return;
+        }
+
+        BarSeries series = JsonBarsSerializer.loadSeries(jsonFilePath.toAbsolutePath().toString());
+
+        int barCountStart = 3;
+        int barCountStop = 200;
+        int barCountStep = 3;
+
+        List<int[]> barCounts = new ArrayList<>();
+        for (int shortBarCount = barCountStart; shortBarCount <= barCountStop; shortBarCount += barCountStep) {
+            for (int longBarCount = shortBarCount
+                    + barCountStep; longBarCount <= barCountStop; longBarCount += barCountStep) {
+                barCounts.add(new int[] { shortBarCount, longBarCount });
+            }
+        }
+
+        Instant startInstant = Instant.now();
+        List<OptimizationResult<int[]>> results = new ParameterOptimizer(series).optimize(barCounts,
+                (parameters, pool) -> createSmaCrossStrategy(series, parameters[0], parameters[1], pool),
+                new ReturnCriterion());
+
+        LOG.debug("Optimized {} strategies on {}-bar series in {}", results.size(), series.getBarCount(),
+                Duration.between(startInstant, Instant.now()));
+        for (OptimizationResult<int[]> result : results.subList(0, Math.min(10, results.size()))) {
+            LOG.info("{}: return {}", result.getStrategy().getName(), result.getValue());
+        }
+    }
+
+    private static Strategy createSmaCrossStrategy(BarSeries series, int shortBarCount, int longBarCount,
+            IndicatorPool pool) {
+        Indicator<Num> closePrice = pool.share(new ClosePriceIndicator(series));
+        SMAIndicator smaShort = pool.share(new SMAIndicator(closePrice, shortBarCount));
+        SMAIndicator smaLong = pool.share(new SMAIndicator(closePrice, longBarCount));
+
+        String strategyName = String.format("Sma(%d) CrossOver Sma(%d)", shortBarCount, longBarCount);
+        return new BaseStrategy(strategyName, new CrossedUpIndicatorRule(smaShort, smaLong),
+                new CrossedDownIndicatorRule(smaShort, smaLong));
+    }
+}
@@ -43,6 +43,7 @@ import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedNum;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.rules.IsEqualRule;
 import org.ta4j.core.rules.UnderIndicatorRule;
@@ -59,6 +60,9 @@ public class CompareNumTypes {
         BarSeries seriesP = barSeriesBuilder.withName("Sample Series DecimalNum 32")
                 .withNumTypeOf(DecimalNum::valueOf)
                 .build();
+        BarSeries seriesF = barSeriesBuilder.withName("Sample Series FixedNum 8  ")
+                .withNumTypeOf(FixedNum::valueOf)
+                .build();
         BarSeries seriesPH = barSeriesBuilder.withName("Sample Series DecimalNum 256")
                 .withNumTypeOf(number -> DecimalNum.valueOf(number.toString(), 256))
                 .build();
@@ -68,15 +72,19 @@ public class CompareNumTypes {
             ZonedDateTime date = ZonedDateTime.now().minusSeconds(NUMBARS - i);
             seriesD.addBar(date, randoms[i], randoms[i] + 21, randoms[i] - 21, randoms[i] - 5);
             seriesP.addBar(date, randoms[i], randoms[i] + 21, randoms[i] - 21, randoms[i] - 5);
+            seriesF.addBar(date, randoms[i], randoms[i] + 21, randoms[i] - 21, randoms[i] - 5);
             seriesPH.addBar(date, randoms[i], randoms[i] + 21, randoms[i] - 21, randoms[i] - 5);
         }
         Num D = DecimalNum.valueOf(test(seriesD).toString(), 256);
         Num P = DecimalNum.valueOf(test(seriesP).toString(), 256);
+        Num F = DecimalNum.valueOf(test(seriesF).toString(), 256);
         Num standard = DecimalNum.valueOf(test(seriesPH).toString(), 256);
         System.out.println(seriesD.getName() + " error: "
                 + D.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
         System.out.println(seriesP.getName() + " error: "
                 + P.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
+        System.out.println(seriesF.getName() + " error: "
+                + F.minus(standard).dividedBy(standard).multipliedBy(DecimalNum.valueOf(100)));
     }
 
     public static Num test(BarSeries series) {